@@ -1,5 +1,6 @@
 package com.donut.client.api;
 
+import com.donut.client.metrics.Profiler;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import org.slf4j.Logger;
@@ -97,10 +98,13 @@ public class HypixelAPI {
             return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
                     .thenApply(response -> {
                         if (response.statusCode() == 200) {
+                            Profiler.push("api:parse");
                             try {
                                 return JsonParser.parseString(response.body()).getAsJsonObject();
                             } catch (Exception e) {
                                 return null;
+                            } finally {
+                                Profiler.pop();
                             }
                         }
                         return null;
@@ -0,0 +1,61 @@
+package com.donut.client.benchmarks;
+
+import com.donut.client.api.HypixelAPI;
+import com.donut.client.macros.economy.BazaarAnalyzer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bazaar payload parsing and flip analysis
+ * - parse: raw response string to a JsonObject
+ * - products: JsonObject to HypixelAPI.BazaarProduct for every product
+ * - flips: BazaarAnalyzer.getProfitableFlips over a loaded market
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BazaarBenchmark {
+
+    @Param({"100", "1500"})
+    public int products;
+
+    private String payload;
+    private JsonObject parsed;
+    private BazaarAnalyzer analyzer;
+
+    @Setup
+    public void setup() {
+        payload = BenchmarkData.bazaarPayload(products, 42);
+        parsed = JsonParser.parseString(payload).getAsJsonObject();
+
+        analyzer = new BazaarAnalyzer();
+        analyzer.loadBazaar(parsed);
+    }
+
+    @Benchmark
+    public JsonObject parse() {
+        return JsonParser.parseString(payload).getAsJsonObject();
+    }
+
+    @Benchmark
+    public void products(Blackhole blackhole) {
+        for (Map.Entry<String, JsonElement> entry : parsed.getAsJsonObject("products").entrySet()) {
+            blackhole.consume(new HypixelAPI.BazaarProduct(entry.getKey(), entry.getValue().getAsJsonObject()));
+        }
+    }
+
+    @Benchmark
+    public List<BazaarAnalyzer.FlipOpportunity> flips() {
+        return analyzer.getProfitableFlips();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,226 @@
+package com.donut.client.benchmarks;
+
+import com.donut.client.world.BlockRegion;
+import com.donut.client.world.EntityTimeline;
+import com.donut.client.world.EntityView;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.CropBlock;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.Random;
+
+/**
+ * Deterministic synthetic inputs for the benchmarks
+ * - Same seed, same data, so runs before and after a change are comparable
+ */
+public final class BenchmarkData {
+
+    private static final String[] PREFIXES = {
+            "ENCHANTED_", "FLAWED_", "FINE_", "FLAWLESS_", "PERFECT_", ""
+    };
+
+    private static final String[] ITEMS = {
+            "DIAMOND", "GOLD", "IRON", "COAL", "EMERALD", "REDSTONE", "LAPIS", "QUARTZ",
+            "MITHRIL", "TITANIUM", "HARD_STONE", "WHEAT", "CARROT", "POTATO", "SUGAR_CANE",
+            "CACTUS", "ROTTEN_FLESH", "BONE", "STRING", "ENDER_PEARL", "BLAZE_ROD",
+            "RUBY_GEM", "AMBER_GEM", "SAPPHIRE_GEM", "JADE_GEM", "AMETHYST_GEM", "TOPAZ_GEM"
+    };
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private BenchmarkData() {}
+
+    /**
+     * A /skyblock/bazaar response with the given number of products, shaped like the real one:
+     * quick_status plus short buy/sell order summaries
+     */
+    public static String bazaarPayload(int productCount, long seed) {
+        Random random = new Random(seed);
+        StringBuilder json = new StringBuilder(productCount * 900);
+
+        json.append("{\"success\":true,\"lastUpdated\":1700000000000,\"products\":{");
+        for (int i = 0; i < productCount; i++) {
+            String id = productId(i);
+            double buy = 100 + random.nextDouble() * 2_000_000;
+            double sell = buy * (1.0 + random.nextDouble() * 0.08);
+            long buyVolume = 100 + random.nextInt(500_000);
+            long sellVolume = 100 + random.nextInt(500_000);
+
+            if (i > 0) json.append(',');
+            json.append('"').append(id).append("\":{\"product_id\":\"").append(id).append('"');
+
+            json.append(",\"sell_summary\":");
+            appendSummary(json, random, buy, -1);
+            json.append(",\"buy_summary\":");
+            appendSummary(json, random, sell, 1);
+
+            json.append(",\"quick_status\":{\"productId\":\"").append(id).append('"')
+                    .append(",\"sellPrice\":").append(sell)
+                    .append(",\"sellVolume\":").append(sellVolume)
+                    .append(",\"sellMovingWeek\":").append(sellVolume * 40)
+                    .append(",\"sellOrders\":").append(1 + random.nextInt(400))
+                    .append(",\"buyPrice\":").append(buy)
+                    .append(",\"buyVolume\":").append(buyVolume)
+                    .append(",\"buyMovingWeek\":").append(buyVolume * 40)
+                    .append(",\"buyOrders\":").append(1 + random.nextInt(400))
+                    .append("}}");
+        }
+        json.append("}}");
+
+        return json.toString();
+    }
+
+    /**
+     * Flat stone floor up to y=64 with air above; the player stands at (0, 65, 0)
+     */
+    public static BlockRegion flatRegion(int radius) {
+        BlockRegion region = new BlockRegion(new BlockPos(-radius, 56, -radius), new BlockPos(radius, 96, radius));
+        region.fill(new BlockPos(-radius, 56, -radius), new BlockPos(radius, 64, radius), Blocks.STONE.getDefaultState());
+        return region;
+    }
+
+    /**
+     * Flat floor with two-high stone walls and one-block steps scattered over it, for path searches
+     * between opposite corners. The corners themselves are kept clear
+     */
+    public static BlockRegion obstacleRegion(int radius, long seed) {
+        Random random = new Random(seed);
+        BlockRegion region = flatRegion(radius);
+
+        for (int wall = 0; wall < radius * 2; wall++) {
+            int x = random.nextInt(radius * 2 - 7) - radius + 4;
+            int z = random.nextInt(radius * 2 - 7) - radius + 4;
+            int length = 3 + random.nextInt(8);
+            boolean alongX = random.nextBoolean();
+            BlockPos end = alongX ? new BlockPos(Math.min(x + length, radius - 4), 66, z)
+                    : new BlockPos(x, 66, Math.min(z + length, radius - 4));
+            region.fill(new BlockPos(x, 65, z), end, Blocks.STONE.getDefaultState());
+        }
+
+        for (int step = 0; step < radius; step++) {
+            region.setBlockState(new BlockPos(random.nextInt(radius * 2 - 7) - radius + 4, 65,
+                    random.nextInt(radius * 2 - 7) - radius + 4), Blocks.STONE.getDefaultState());
+        }
+        return region;
+    }
+
+    /**
+     * Stone cave with scattered red stained glass veins (Crystal Hollows ruby)
+     */
+    public static BlockRegion gemstoneRegion(long seed) {
+        Random random = new Random(seed);
+        BlockRegion region = flatRegion(40);
+
+        for (int vein = 0; vein < 60; vein++) {
+            BlockPos pos = new BlockPos(random.nextInt(72) - 36, 65 + random.nextInt(8), random.nextInt(72) - 36);
+            int size = 3 + random.nextInt(12);
+            for (int i = 0; i < size; i++) {
+                region.setBlockState(pos, random.nextBoolean()
+                        ? Blocks.RED_STAINED_GLASS.getDefaultState()
+                        : Blocks.RED_STAINED_GLASS_PANE.getDefaultState());
+                pos = pos.offset(DIRECTIONS[random.nextInt(DIRECTIONS.length)]);
+            }
+        }
+        return region;
+    }
+
+    /**
+     * Stone floor with mithril patches (prismarine, light blue wool and concrete) and some titanium
+     */
+    public static BlockRegion mithrilRegion(long seed) {
+        Random random = new Random(seed);
+        BlockRegion region = flatRegion(40);
+        BlockState[] ores = {
+                Blocks.PRISMARINE.getDefaultState(), Blocks.LIGHT_BLUE_WOOL.getDefaultState(),
+                Blocks.LIGHT_BLUE_CONCRETE.getDefaultState(), Blocks.WHITE_CONCRETE.getDefaultState()
+        };
+
+        for (int patch = 0; patch < 200; patch++) {
+            BlockPos pos = new BlockPos(random.nextInt(76) - 38, 56 + random.nextInt(9), random.nextInt(76) - 38);
+            BlockState ore = ores[random.nextInt(ores.length)];
+            int size = 2 + random.nextInt(7);
+            for (int i = 0; i < size; i++) {
+                region.setBlockState(pos, ore);
+                pos = pos.offset(DIRECTIONS[random.nextInt(DIRECTIONS.length)]);
+            }
+        }
+        return region;
+    }
+
+    /**
+     * Oak and dark oak trunks on the stone floor, some with a branch log or two
+     */
+    public static BlockRegion forestRegion(long seed) {
+        Random random = new Random(seed);
+        BlockRegion region = flatRegion(40);
+
+        for (int tree = 0; tree < 120; tree++) {
+            int x = random.nextInt(76) - 38;
+            int z = random.nextInt(76) - 38;
+            int height = 4 + random.nextInt(4);
+            BlockState log = (random.nextBoolean() ? Blocks.OAK_LOG : Blocks.DARK_OAK_LOG).getDefaultState();
+            region.fill(new BlockPos(x, 65, z), new BlockPos(x, 64 + height, z), log);
+
+            for (int branch = random.nextInt(3); branch > 0; branch--) {
+                // Indices 2-5 are the horizontal directions
+                Direction side = DIRECTIONS[2 + random.nextInt(4)];
+                region.setBlockState(new BlockPos(x, 64 + height - branch, z).offset(side), log);
+            }
+        }
+        return region;
+    }
+
+    /**
+     * Farmland rows of fully grown wheat around the player
+     */
+    public static BlockRegion cropRegion(int radius) {
+        BlockRegion region = flatRegion(radius + 4);
+        for (int x = -radius; x <= radius; x++) {
+            if (Math.floorMod(x, 4) == 0) continue;   // Walkway every fourth row
+            region.fill(new BlockPos(x, 64, -radius), new BlockPos(x, 64, radius), Blocks.FARMLAND.getDefaultState());
+            region.fill(new BlockPos(x, 65, -radius), new BlockPos(x, 65, radius),
+                    Blocks.WHEAT.getDefaultState().with(CropBlock.AGE, CropBlock.MAX_AGE));
+        }
+        return region;
+    }
+
+    /**
+     * Zombies that spawn around the player every two seconds and die four seconds later
+     */
+    public static EntityTimeline mobTimeline(int ticks, long seed) {
+        Random random = new Random(seed);
+        EntityTimeline timeline = new EntityTimeline();
+
+        int id = 1;
+        for (int tick = 0; tick < ticks; tick += 40, id++) {
+            Vec3d pos = new Vec3d(random.nextInt(24) - 12 + 0.5, 65, random.nextInt(24) - 12 + 0.5);
+            timeline.spawn(tick, id, EntityView.Kind.HOSTILE, "Zombie", pos, 20);
+            timeline.move(tick + 20, id, pos.add(random.nextInt(3) - 1, 0, random.nextInt(3) - 1));
+            timeline.damage(tick + 60, id, 8);
+            timeline.damage(tick + 80, id, 12);
+            timeline.damage(tick + 30, 0, 1);
+        }
+        return timeline;
+    }
+
+    private static void appendSummary(StringBuilder json, Random random, double price, int direction) {
+        json.append('[');
+        for (int i = 0; i < 5; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"amount\":").append(1 + random.nextInt(10_000))
+                    .append(",\"pricePerUnit\":").append(price * (1.0 + direction * i * 0.001))
+                    .append(",\"orders\":").append(1 + random.nextInt(20))
+                    .append('}');
+        }
+        json.append(']');
+    }
+
+    private static String productId(int index) {
+        String base = PREFIXES[index % PREFIXES.length] + ITEMS[(index / PREFIXES.length) % ITEMS.length];
+        int variant = index / (PREFIXES.length * ITEMS.length);
+        return variant == 0 ? base : base + "_" + variant;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.donut.client.benchmarks;
+
+import com.donut.client.macros.foraging.TreeIndex;
+import com.donut.client.macros.mining.GemstoneVeinIndex;
+import com.donut.client.macros.mining.ResourceIndex;
+import com.donut.client.world.HeadlessWorld;
+import com.donut.client.world.WorldProvider;
+import net.minecraft.util.math.Vec3d;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Block index chunk scans over a HeadlessWorld installed through WorldProvider
+ * - gemstones: GemstoneVeinIndex clustering the ruby veins of the synthetic cave
+ * - mithril: ResourceIndex bucketing the mithril and titanium patches
+ * - trees: TreeIndex clustering the logs of the synthetic forest
+ * Each op restarts the index and flushes every queued chunk at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexBenchmark {
+
+    private static final Vec3d SPAWN = new Vec3d(0.5, 65, 0.5);
+
+    private HeadlessWorld gemstones;
+    private HeadlessWorld mithril;
+    private HeadlessWorld forest;
+
+    @Setup
+    public void setup() {
+        HeadlessWorld.bootstrap();
+        gemstones = new HeadlessWorld(BenchmarkData.gemstoneRegion(42), SPAWN);
+        mithril = new HeadlessWorld(BenchmarkData.mithrilRegion(42), SPAWN);
+        forest = new HeadlessWorld(BenchmarkData.forestRegion(42), SPAWN);
+    }
+
+    @TearDown
+    public void tearDown() {
+        GemstoneVeinIndex.getInstance().setActive(false);
+        ResourceIndex.getInstance().setActive(false);
+        TreeIndex.getInstance().setActive(false);
+        WorldProvider.getInstance().setOverride(null);
+    }
+
+    @Benchmark
+    public int gemstones() {
+        WorldProvider.getInstance().setOverride(gemstones);
+        GemstoneVeinIndex index = GemstoneVeinIndex.getInstance();
+        index.setActive(false);
+        index.setActive(true);
+        index.flush();
+        return index.getVeinCount();
+    }
+
+    @Benchmark
+    public int mithril() {
+        WorldProvider.getInstance().setOverride(mithril);
+        ResourceIndex index = ResourceIndex.getInstance();
+        index.setActive(false);
+        index.setActive(true);
+        index.flush();
+        return index.getTotal(ResourceIndex.Resource.MITHRIL);
+    }
+
+    @Benchmark
+    public int trees() {
+        WorldProvider.getInstance().setOverride(forest);
+        TreeIndex index = TreeIndex.getInstance();
+        index.setActive(false);
+        index.setActive(true);
+        index.flush();
+        return index.getTreeCount();
+    }
+}
\ No newline at end of file
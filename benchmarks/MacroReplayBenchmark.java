@@ -0,0 +1,66 @@
+package com.donut.client.benchmarks;
+
+import com.donut.client.macros.Macro;
+import com.donut.client.macros.combat.CombatMacro;
+import com.donut.client.macros.farming.CropFarmMacro;
+import com.donut.client.macros.mining.GemstoneMiner;
+import com.donut.client.world.EntityTimeline;
+import com.donut.client.world.HeadlessWorld;
+import com.donut.client.world.ReplayHarness;
+import net.minecraft.util.math.Vec3d;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole macro state machines replayed against a HeadlessWorld
+ * - One operation = TICKS game ticks on a fresh copy of the synthetic world
+ * - Compare ms/op (and -prof gc bytes/op) before and after a macro change
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MacroReplayBenchmark {
+
+    private static final int TICKS = 2000;
+    private static final Vec3d SPAWN = new Vec3d(0.5, 65, 0.5);
+
+    @Param({"crop", "gemstone", "combat"})
+    public String macro;
+
+    private HeadlessWorld world;
+    private Macro instance;
+
+    @Setup(Level.Trial)
+    public void bootstrap() {
+        HeadlessWorld.bootstrap();
+    }
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        switch (macro) {
+            case "crop":
+                world = new HeadlessWorld(BenchmarkData.cropRegion(20), SPAWN);
+                instance = new CropFarmMacro();
+                break;
+            case "gemstone":
+                world = new HeadlessWorld(BenchmarkData.gemstoneRegion(42), SPAWN);
+                instance = new GemstoneMiner();
+                break;
+            default:
+                EntityTimeline timeline = BenchmarkData.mobTimeline(TICKS, 42);
+                world = new HeadlessWorld(BenchmarkData.flatRegion(32), SPAWN);
+                world.setTimeline(timeline);
+                instance = new CombatMacro();
+                break;
+        }
+    }
+
+    @Benchmark
+    public ReplayHarness.Result replay() {
+        return ReplayHarness.run(world, instance, TICKS);
+    }
+}
\ No newline at end of file
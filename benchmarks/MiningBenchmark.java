@@ -0,0 +1,102 @@
+package com.donut.client.benchmarks;
+
+import com.donut.client.macros.mining.BreakOrderPlanner;
+import com.donut.client.macros.mining.TunnelGenerator;
+import com.donut.client.world.HeadlessWorld;
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3d;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mining planners that read blocks through a WorldView, run on a HeadlessWorld
+ * - plan: BreakOrderPlanner.plan over the largest gemstone vein of the synthetic cave
+ * - tunnel: every section of a branched TunnelGenerator tunnel through solid stone
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MiningBenchmark {
+
+    private static final Vec3d SPAWN = new Vec3d(0.5, 65, 0.5);
+    private static final TunnelGenerator.Profile TUNNEL = TunnelGenerator.Profile.parse("3x3 b3:8 p5 t8");
+
+    private final BreakOrderPlanner planner = new BreakOrderPlanner();
+
+    private HeadlessWorld gemstones;
+    private HeadlessWorld stone;
+    private List<BlockPos> vein;
+
+    @Setup
+    public void setup() {
+        HeadlessWorld.bootstrap();
+        gemstones = new HeadlessWorld(BenchmarkData.gemstoneRegion(42), SPAWN);
+        stone = new HeadlessWorld(BenchmarkData.flatRegion(40), SPAWN);
+        vein = largestVein(gemstones);
+    }
+
+    @Benchmark
+    public BreakOrderPlanner.Plan plan() {
+        return planner.plan(gemstones, vein, SPAWN, 0, 0, 4.5);
+    }
+
+    @Benchmark
+    public void tunnel(Blackhole blackhole) {
+        TunnelGenerator generator = new TunnelGenerator(stone, TUNNEL, new BlockPos(-30, 60, 0), 1, 0, 60);
+        while (generator.hasNext()) {
+            blackhole.consume(generator.next());
+        }
+    }
+
+    /**
+     * Biggest connected group of red glass and panes, found once so only the planner is timed
+     */
+    private static List<BlockPos> largestVein(HeadlessWorld world) {
+        List<BlockPos> best = new ArrayList<>();
+        Set<BlockPos> visited = new HashSet<>();
+        BlockPos min = world.getRegion().getMin();
+        BlockPos max = world.getRegion().getMax();
+
+        for (BlockPos start : BlockPos.iterate(min, max)) {
+            if (!isGemstone(world, start) || visited.contains(start)) continue;
+
+            List<BlockPos> vein = new ArrayList<>();
+            Queue<BlockPos> queue = new ArrayDeque<>();
+            queue.add(start.toImmutable());
+            visited.add(start.toImmutable());
+
+            while (!queue.isEmpty()) {
+                BlockPos current = queue.poll();
+                vein.add(current);
+                for (Direction direction : Direction.values()) {
+                    BlockPos neighbor = current.offset(direction);
+                    if (isGemstone(world, neighbor) && visited.add(neighbor)) {
+                        queue.add(neighbor);
+                    }
+                }
+            }
+
+            if (vein.size() > best.size()) best = vein;
+        }
+        return best;
+    }
+
+    private static boolean isGemstone(HeadlessWorld world, BlockPos pos) {
+        Block block = world.getBlockState(pos).getBlock();
+        return block == Blocks.RED_STAINED_GLASS || block == Blocks.RED_STAINED_GLASS_PANE;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.donut.client.benchmarks;
+
+import com.donut.client.pathfinding.Node;
+import com.donut.client.pathfinding.PathFinder;
+import com.donut.client.pathfinding.PathSmoother;
+import com.donut.client.pathfinding.movements.Movement;
+import com.donut.client.pathfinding.movements.MovementProvider;
+import com.donut.client.world.HeadlessWorld;
+import com.donut.client.world.WorldProvider;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ground pathfinding over a HeadlessWorld installed through WorldProvider
+ * - findPath: PathFinder A* corner to corner across walls and steps (path cache off)
+ * - movements: MovementProvider.getMovements plus calculate() for every node of that path
+ * - smooth: PathSmoother.smoothPath over that path
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathfindingBenchmark {
+
+    @Param({"16", "32"})
+    public int radius;
+
+    private final PathFinder pathFinder = new PathFinder();
+    private final MovementProvider movementProvider = new MovementProvider();
+
+    private BlockPos start;
+    private BlockPos goal;
+    private List<BlockPos> path;
+    private List<Node> nodes;
+
+    @Setup
+    public void setup() {
+        HeadlessWorld.bootstrap();
+        start = new BlockPos(-radius + 1, 65, -radius + 1);
+        goal = new BlockPos(radius - 1, 65, radius - 1);
+
+        HeadlessWorld world = new HeadlessWorld(BenchmarkData.obstacleRegion(radius, 42), Vec3d.ofBottomCenter(start));
+        WorldProvider.getInstance().setOverride(world);
+
+        pathFinder.setUseCache(false);
+        path = pathFinder.findPath(start, goal);
+        nodes = new ArrayList<>();
+        for (BlockPos pos : path) {
+            nodes.add(new Node(pos));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        WorldProvider.getInstance().setOverride(null);
+    }
+
+    @Benchmark
+    public List<BlockPos> findPath() {
+        return pathFinder.findPath(start, goal);
+    }
+
+    @Benchmark
+    public void movements(Blackhole blackhole) {
+        for (BlockPos pos : path) {
+            for (Movement movement : movementProvider.getMovements(pos)) {
+                blackhole.consume(movement.calculate());
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Node> smooth() {
+        return PathSmoother.smoothPath(nodes);
+    }
+}
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.donut.client.commands;
 
 import com.donut.client.DonutClient;
+import com.donut.client.metrics.Profiler;
 import com.donut.client.utils.ChatUtils;
+import com.donut.client.world.BlockRegion;
 import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
 
 import static net.fabricmc.fabric.api.client.command.v2.ClientCommandManager.literal;
@@ -106,6 +108,54 @@ public class CommandHandler {
                             })
                     )
 
+                    // /donut profile <start/stop/top/export>
+                    .then(literal("profile")
+                            .then(literal("start")
+                                    .executes(ctx -> {
+                                        Profiler.start();
+                                        ChatUtils.sendSuccess("Profiler started");
+                                        return 1;
+                                    })
+                            )
+                            .then(literal("stop")
+                                    .executes(ctx -> {
+                                        Profiler.stop();
+                                        ChatUtils.sendSuccess("Profiler stopped (" + Profiler.getSpanCount() + " spans)");
+                                        return 1;
+                                    })
+                            )
+                            .then(literal("top")
+                                    .executes(ctx -> {
+                                        ChatUtils.sendInfo("=== Profiler (" + Profiler.getSpanCount() + " spans) ===");
+                                        for (String line : Profiler.getTopSections(8)) {
+                                            ChatUtils.sendInfo(line);
+                                        }
+                                        return 1;
+                                    })
+                            )
+                            .then(literal("export")
+                                    .executes(ctx -> {
+                                        try {
+                                            ChatUtils.sendSuccess("Profile written to " + Profiler.exportCollapsed());
+                                        } catch (java.io.IOException e) {
+                                            ChatUtils.sendError("Profile export failed: " + e.getMessage());
+                                        }
+                                        return 1;
+                                    })
+                            )
+                    )
+
+                    // /donut capture <radius>
+                    .then(literal("capture")
+                            .then(argument("radius", integer(4, 128))
+                                    .executes(ctx -> {
+                                        int radius = ctx.getArgument("radius", Integer.class);
+                                        captureRegion(radius);
+                                        return 1;
+                                    })
+                            )
+                    )
+
                     // /donut status
                     .then(literal("status")
                             .executes(ctx -> {
@@ -126,6 +176,32 @@ public class CommandHandler {
         ChatUtils.sendInfo("/donut smooth <true/false> - Toggle path smoothing");
         ChatUtils.sendInfo("/donut goto <x> <y> <z> - Pathfind to coordinates");
         ChatUtils.sendInfo("/donut stop - Stop pathfinding");
+        ChatUtils.sendInfo("/donut profile <start/stop/top/export> - Tick profiler");
+        ChatUtils.sendInfo("/donut capture <radius> - Save nearby blocks for headless replays");
+    }
+
+    private static void captureRegion(int radius) {
+        var mc = DonutClient.getInstance().getMinecraft();
+        if (mc.player == null || mc.world == null) {
+            ChatUtils.sendError("Player is null!");
+            return;
+        }
+
+        var center = mc.player.getBlockPos();
+        int height = Math.max(8, radius / 2);
+        BlockRegion region = BlockRegion.capture(mc.world,
+                center.add(-radius, -height, -radius), center.add(radius, height, radius));
+
+        String stamp = new java.text.SimpleDateFormat("yyyyMMdd-HHmmss").format(new java.util.Date());
+        var file = net.fabricmc.loader.api.FabricLoader.getInstance().getGameDir()
+                .resolve("donutclient").resolve("regions").resolve("region-" + stamp + ".nbt");
+
+        try {
+            region.save(file);
+            ChatUtils.sendSuccess("Region saved to " + file);
+        } catch (java.io.IOException e) {
+            ChatUtils.sendError("Region capture failed: " + e.getMessage());
+        }
     }
 
     private static void showStatus() {
@@ -0,0 +1,36 @@
+package com.donut.client.data;
+
+import java.util.Locale;
+
+/**
+ * What to do on arrival at a route waypoint
+ * Stored as the low bits of each waypoint's code byte in compiled routes, so only append new values.
+ */
+public enum RouteAction {
+    WALK,       // Just pass through
+    JUMP,       // Jump onto / over the waypoint
+    INTERACT,   // Right click whatever is there
+    BREAK,      // Break the block at the waypoint
+    ATTACK,     // Kill whatever is there
+    WARP,       // Run a warp, param is the warp index
+    WAIT,       // Stand still, param is ticks
+    FLY;        // Fly to it instead of walking
+
+    private static final RouteAction[] VALUES = values();
+
+    public static RouteAction fromCode(int code) {
+        return code < VALUES.length ? VALUES[code] : WALK;
+    }
+
+    /**
+     * Parse a route source name ("walk", "interact", ...), WALK if unknown
+     */
+    public static RouteAction fromName(String name) {
+        if (name == null) return WALK;
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return WALK;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,245 @@
+package com.donut.client.data;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Compiles JSON route sources into the packed format RouteStore maps
+ * - Source: {"routes": [{"name", "waypoints": [{"x", "y", "z", "action", "param", "label", "tag"} or [x, y, z]]}]}
+ * - A later source replaces an earlier route with the same name
+ * Files without a "routes" array are skipped. Also runnable on its own: RouteCompiler <out.bin> <source.json|dir>...
+ */
+public class RouteCompiler {
+
+    private final Map<String, Source> routes = new LinkedHashMap<>();
+
+    private static class Source {
+        final String name;
+        final List<Waypoint> waypoints;
+
+        Source(String name, List<Waypoint> waypoints) {
+            this.name = name;
+            this.waypoints = waypoints;
+        }
+    }
+
+    private static class Waypoint {
+        final int x, y, z;
+        final RouteAction action;
+        final int param;
+        final String label;
+        final String tag;
+
+        Waypoint(int x, int y, int z, RouteAction action, int param, String label, String tag) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.action = action;
+            this.param = param;
+            this.label = label;
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * Add every route in a JSON source, returns how many were added
+     */
+    public int addSource(String sourceName, Reader reader) {
+        JsonElement element;
+        try {
+            element = JsonParser.parseReader(reader);
+        } catch (RuntimeException e) {
+            System.err.println("[Routes] Unreadable source " + sourceName + ": " + e.getMessage());
+            return 0;
+        }
+
+        if (!element.isJsonObject() || !element.getAsJsonObject().has("routes")) return 0;
+
+        int added = 0;
+        for (JsonElement entry : element.getAsJsonObject().getAsJsonArray("routes")) {
+            try {
+                Source source = parseRoute(entry.getAsJsonObject());
+                routes.put(source.name, source);
+                added++;
+            } catch (RuntimeException e) {
+                System.err.println("[Routes] Skipping bad route in " + sourceName + ": " + e.getMessage());
+            }
+        }
+        return added;
+    }
+
+    public int addSource(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return addSource(file.getFileName().toString(), reader);
+        }
+    }
+
+    public int size() {
+        return routes.size();
+    }
+
+    private Source parseRoute(JsonObject json) {
+        String name = json.get("name").getAsString();
+
+        List<Waypoint> waypoints = new ArrayList<>();
+        for (JsonElement element : json.getAsJsonArray("waypoints")) {
+            if (element.isJsonArray()) {
+                JsonArray array = element.getAsJsonArray();
+                waypoints.add(new Waypoint(array.get(0).getAsInt(), array.get(1).getAsInt(), array.get(2).getAsInt(),
+                        RouteAction.WALK, 0, null, null));
+                continue;
+            }
+
+            JsonObject object = element.getAsJsonObject();
+            waypoints.add(new Waypoint(
+                    object.get("x").getAsInt(),
+                    object.get("y").getAsInt(),
+                    object.get("z").getAsInt(),
+                    object.has("action") ? RouteAction.fromName(object.get("action").getAsString()) : RouteAction.WALK,
+                    object.has("param") ? object.get("param").getAsInt() : 0,
+                    object.has("label") ? object.get("label").getAsString() : null,
+                    object.has("tag") ? object.get("tag").getAsString() : null));
+        }
+
+        if (waypoints.isEmpty()) {
+            throw new IllegalArgumentException("route " + name + " has no waypoints");
+        }
+        return new Source(name, waypoints);
+    }
+
+    /**
+     * Pack every added route. The stamp is stored so RouteStore can tell when sources changed
+     */
+    public byte[] compile(long sourceStamp) {
+        // Strings: names first so index entries stay small, then labels and tags
+        Map<String, Integer> stringIds = new LinkedHashMap<>();
+        List<Source> sorted = new ArrayList<>(routes.values());
+        sorted.sort(Comparator.comparingLong(source -> RouteFormat.hash(source.name)));
+        for (Source source : sorted) {
+            stringIds.putIfAbsent(source.name, stringIds.size());
+        }
+        for (Source source : sorted) {
+            for (Waypoint waypoint : source.waypoints) {
+                if (waypoint.label != null) stringIds.putIfAbsent(waypoint.label, stringIds.size());
+                if (waypoint.tag != null) stringIds.putIfAbsent(waypoint.tag, stringIds.size());
+            }
+        }
+
+        // Route records
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        int[] recordOffsets = new int[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            recordOffsets[i] = data.size();
+            writeRoute(data, sorted.get(i), stringIds);
+        }
+
+        byte[] strings = writeStrings(stringIds.keySet());
+
+        int indexOffset = RouteFormat.HEADER_SIZE;
+        int stringsOffset = indexOffset + sorted.size() * RouteFormat.INDEX_ENTRY_SIZE;
+        int dataOffset = stringsOffset + strings.length;
+
+        ByteBuffer out = ByteBuffer.allocate(dataOffset + data.size());
+        out.putInt(RouteFormat.MAGIC);
+        out.putShort(RouteFormat.VERSION);
+        out.putShort((short) 0);
+        out.putInt(sorted.size());
+        out.putInt(indexOffset);
+        out.putInt(stringsOffset);
+        out.putInt(dataOffset);
+        out.putLong(sourceStamp);
+
+        for (int i = 0; i < sorted.size(); i++) {
+            Source source = sorted.get(i);
+            out.putLong(RouteFormat.hash(source.name));
+            out.putInt(stringIds.get(source.name));
+            out.putInt(recordOffsets[i]);
+        }
+
+        out.put(strings);
+        out.put(data.toByteArray());
+        return out.array();
+    }
+
+    private void writeRoute(ByteArrayOutputStream out, Source source, Map<String, Integer> stringIds) {
+        RouteFormat.writeVarInt(out, source.waypoints.size());
+
+        int lastX = 0, lastY = 0, lastZ = 0;
+        for (Waypoint waypoint : source.waypoints) {
+            RouteFormat.writeSignedVarInt(out, waypoint.x - lastX);
+            RouteFormat.writeSignedVarInt(out, waypoint.y - lastY);
+            RouteFormat.writeSignedVarInt(out, waypoint.z - lastZ);
+            lastX = waypoint.x;
+            lastY = waypoint.y;
+            lastZ = waypoint.z;
+
+            int code = waypoint.action.ordinal();
+            if (waypoint.label != null) code |= RouteFormat.HAS_LABEL;
+            if (waypoint.tag != null) code |= RouteFormat.HAS_TAG;
+            if (waypoint.param != 0) code |= RouteFormat.HAS_PARAM;
+            out.write(code);
+
+            if (waypoint.param != 0) RouteFormat.writeSignedVarInt(out, waypoint.param);
+            if (waypoint.label != null) RouteFormat.writeVarInt(out, stringIds.get(waypoint.label));
+            if (waypoint.tag != null) RouteFormat.writeVarInt(out, stringIds.get(waypoint.tag));
+        }
+    }
+
+    private static byte[] writeStrings(Collection<String> strings) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int[] offsets = new int[strings.size()];
+        int i = 0;
+        for (String string : strings) {
+            offsets[i++] = bytes.size();
+            byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+            RouteFormat.writeVarInt(bytes, utf8.length);
+            bytes.write(utf8, 0, utf8.length);
+        }
+
+        // Count, offsets relative to the end of the offset table, then the strings
+        ByteBuffer table = ByteBuffer.allocate(4 + offsets.length * 4 + bytes.size());
+        table.putInt(offsets.length);
+        for (int offset : offsets) {
+            table.putInt(offset);
+        }
+        table.put(bytes.toByteArray());
+        return table.array();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: RouteCompiler <out.bin> <source.json|dir>...");
+            System.exit(1);
+        }
+
+        RouteCompiler compiler = new RouteCompiler();
+        for (int i = 1; i < args.length; i++) {
+            Path path = Path.of(args[i]);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> files = Files.list(path)) {
+                    for (Path file : files.filter(f -> f.toString().endsWith(".json")).sorted().toList()) {
+                        compiler.addSource(file);
+                    }
+                }
+            } else {
+                compiler.addSource(path);
+            }
+        }
+
+        byte[] compiled = compiler.compile(0);
+        Files.write(Path.of(args[0]), compiled);
+        System.out.println("[Routes] Compiled " + compiler.size() + " routes, " + compiled.length + " bytes");
+    }
+}
\ No newline at end of file
@@ -1,4 +1,105 @@
 package com.donut.client.data;
 
+import net.minecraft.util.math.BlockPos;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * One compiled route, decoded from its record in the route file
+ * - Waypoints with an action, optional param, label and tag
+ */
 public class RouteData {
-}
+
+    private final String name;
+
+    private final int[] coords;
+    private final RouteAction[] actions;
+    private final int[] params;
+    private final String[] labels;
+    private final String[] tags;
+
+    private RouteData(String name, int[] coords, RouteAction[] actions, int[] params, String[] labels, String[] tags) {
+        this.name = name;
+        this.coords = coords;
+        this.actions = actions;
+        this.params = params;
+        this.labels = labels;
+        this.tags = tags;
+    }
+
+    /**
+     * Decode the record starting at the buffer's position
+     */
+    static RouteData decode(String name, ByteBuffer buffer, IntFunction<String> strings) {
+        int count = RouteFormat.readVarInt(buffer);
+
+        int[] coords = new int[count * 3];
+        RouteAction[] actions = new RouteAction[count];
+        int[] params = new int[count];
+        String[] labels = new String[count];
+        String[] tags = new String[count];
+
+        int x = 0, y = 0, z = 0;
+        for (int i = 0; i < count; i++) {
+            x += RouteFormat.readSignedVarInt(buffer);
+            y += RouteFormat.readSignedVarInt(buffer);
+            z += RouteFormat.readSignedVarInt(buffer);
+            coords[i * 3] = x;
+            coords[i * 3 + 1] = y;
+            coords[i * 3 + 2] = z;
+
+            int code = buffer.get() & 0xFF;
+            actions[i] = RouteAction.fromCode(code & RouteFormat.ACTION_MASK);
+            if ((code & RouteFormat.HAS_PARAM) != 0) params[i] = RouteFormat.readSignedVarInt(buffer);
+            if ((code & RouteFormat.HAS_LABEL) != 0) labels[i] = strings.apply(RouteFormat.readVarInt(buffer));
+            if ((code & RouteFormat.HAS_TAG) != 0) tags[i] = strings.apply(RouteFormat.readVarInt(buffer));
+        }
+
+        return new RouteData(name, coords, actions, params, labels, tags);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        return actions.length;
+    }
+
+    public BlockPos getWaypoint(int index) {
+        return new BlockPos(coords[index * 3], coords[index * 3 + 1], coords[index * 3 + 2]);
+    }
+
+    public List<BlockPos> getWaypoints() {
+        List<BlockPos> waypoints = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            waypoints.add(getWaypoint(i));
+        }
+        return waypoints;
+    }
+
+    public RouteAction getAction(int index) {
+        return actions[index];
+    }
+
+    public int getParam(int index) {
+        return params[index];
+    }
+
+    /**
+     * Display name of the waypoint, or null
+     */
+    public String getLabel(int index) {
+        return labels[index];
+    }
+
+    /**
+     * Free-form id the owning macro interprets (soul id, eye colour, ...), or null
+     */
+    public String getTag(int index) {
+        return tags[index];
+    }
+}
\ No newline at end of file
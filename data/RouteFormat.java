@@ -0,0 +1,78 @@
+package com.donut.client.data;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Layout of compiled route files (big-endian)
+ * - Header: magic, version, route count, section offsets, source stamp
+ * - Index: one fixed 16-byte entry per route (name hash, name string, record offset), sorted by hash
+ * - Strings: offset table + varint-length UTF-8, shared by names, labels and tags
+ * - Records: varint waypoint count, zigzag varint coordinate deltas, one code byte per waypoint
+ */
+final class RouteFormat {
+
+    static final int MAGIC = 0x44525445; // "DRTE"
+    static final short VERSION = 2;
+
+    static final int HEADER_SIZE = 32;
+    static final int INDEX_ENTRY_SIZE = 16;
+
+    // Header fields
+    static final int COUNT_OFFSET = 8;
+    static final int INDEX_OFFSET = 12;
+    static final int STRINGS_OFFSET = 16;
+    static final int DATA_OFFSET = 20;
+    static final int STAMP_OFFSET = 24;
+
+    // Waypoint code byte: low bits are the action
+    static final int ACTION_MASK = 0x1F;
+    static final int HAS_LABEL = 0x20;
+    static final int HAS_TAG = 0x40;
+    static final int HAS_PARAM = 0x80;
+
+    private RouteFormat() {
+    }
+
+    static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    static void writeSignedVarInt(ByteArrayOutputStream out, int value) {
+        writeVarInt(out, (value << 1) ^ (value >> 31));
+    }
+
+    static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0 && shift < 35);
+        return value;
+    }
+
+    static int readSignedVarInt(ByteBuffer buffer) {
+        int value = readVarInt(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 64-bit FNV-1a of the UTF-8 name
+     */
+    static long hash(String name) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
\ No newline at end of file
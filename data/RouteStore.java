@@ -0,0 +1,252 @@
+package com.donut.client.data;
+
+import net.fabricmc.loader.api.FabricLoader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Every known route, served from one memory-mapped compiled file
+ * - Sources: bundled /routes/*.json, then any *.json in donutclient/routes (which override bundled routes by name)
+ * - Compiled to donutclient/routes/routes.bin only when the sources' stamp changes
+ * - Lookups binary-search the mapped index and decode just that route's record
+ */
+public class RouteStore {
+
+    private static RouteStore instance;
+
+    private static final String[] BUNDLED = {
+            "foraging_routes.json",
+            "rift_routes.json",
+            "dungeon_routes.json",
+            "fairy_soul_routes.json",
+            "farming_routes.json",
+            "gemstone_routes.json",
+            "museum_route.json"
+    };
+
+    private final Path directory;
+    private final Path compiledFile;
+
+    private ByteBuffer buffer;
+    private int count;
+    private int indexOffset;
+    private int stringsOffset;
+    private int dataOffset;
+
+    private final Map<String, RouteData> decoded = new HashMap<>();
+
+    private RouteStore() {
+        this.directory = FabricLoader.getInstance().getGameDir().resolve("donutclient").resolve("routes");
+        this.compiledFile = directory.resolve("routes.bin");
+        load(false);
+    }
+
+    public static RouteStore getInstance() {
+        if (instance == null) {
+            instance = new RouteStore();
+        }
+        return instance;
+    }
+
+    /**
+     * Route by name ("hub/forest", "rift/eyes", ...), or null if no source defines it
+     */
+    public RouteData get(String name) {
+        RouteData route = decoded.get(name);
+        if (route != null) return route;
+
+        int entry = find(name);
+        if (entry < 0) return null;
+
+        ByteBuffer record = buffer.duplicate();
+        record.position(dataOffset + buffer.getInt(entry + 12));
+        route = RouteData.decode(name, record, this::string);
+        decoded.put(name, route);
+        return route;
+    }
+
+    public boolean has(String name) {
+        return find(name) >= 0;
+    }
+
+    /**
+     * Names of every compiled route, sorted
+     */
+    public List<String> getNames() {
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(string(buffer.getInt(indexOffset + i * RouteFormat.INDEX_ENTRY_SIZE + 8)));
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Recompile from sources, e.g. after editing a user route file
+     */
+    public void reload() {
+        decoded.clear();
+        load(true);
+    }
+
+    /**
+     * Byte offset of the name's index entry, or -1
+     */
+    private int find(String name) {
+        long hash = RouteFormat.hash(name);
+
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midHash = buffer.getLong(indexOffset + mid * RouteFormat.INDEX_ENTRY_SIZE);
+            if (midHash < hash) {
+                low = mid + 1;
+            } else if (midHash > hash) {
+                high = mid - 1;
+            } else {
+                // Walk back to the first entry with this hash, then check names
+                int first = mid;
+                while (first > 0 && buffer.getLong(indexOffset + (first - 1) * RouteFormat.INDEX_ENTRY_SIZE) == hash) {
+                    first--;
+                }
+                for (int i = first; i < count; i++) {
+                    int entry = indexOffset + i * RouteFormat.INDEX_ENTRY_SIZE;
+                    if (buffer.getLong(entry) != hash) break;
+                    if (name.equals(string(buffer.getInt(entry + 8)))) return entry;
+                }
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private String string(int id) {
+        int offsetTable = stringsOffset + 4;
+        int stringCount = buffer.getInt(stringsOffset);
+
+        ByteBuffer view = buffer.duplicate();
+        view.position(offsetTable + stringCount * 4 + buffer.getInt(offsetTable + id * 4));
+        int length = RouteFormat.readVarInt(view);
+
+        byte[] bytes = new byte[length];
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void load(boolean force) {
+        Map<String, byte[]> sources = readSources();
+        long stamp = stamp(sources);
+
+        try {
+            if (!force && Files.exists(compiledFile)) {
+                ByteBuffer mapped = map(compiledFile);
+                if (isCurrent(mapped, stamp)) {
+                    open(mapped);
+                    System.out.println("[Routes] Mapped " + count + " routes from " + compiledFile.getFileName());
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("[Routes] Could not map " + compiledFile + ": " + e.getMessage());
+        }
+
+        RouteCompiler compiler = new RouteCompiler();
+        for (Map.Entry<String, byte[]> source : sources.entrySet()) {
+            compiler.addSource(source.getKey(), new InputStreamReader(
+                    new ByteArrayInputStream(source.getValue()), StandardCharsets.UTF_8));
+        }
+        byte[] compiled = compiler.compile(stamp);
+
+        try {
+            Files.createDirectories(directory);
+            Path temp = directory.resolve("routes.bin.tmp");
+            Files.write(temp, compiled);
+            Files.move(temp, compiledFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            open(map(compiledFile));
+        } catch (IOException e) {
+            // A previous mapping can pin the file on some platforms; serve this session from memory
+            System.err.println("[Routes] Could not write " + compiledFile + ": " + e.getMessage());
+            open(ByteBuffer.wrap(compiled));
+        }
+
+        System.out.println("[Routes] Compiled " + count + " routes (" + compiled.length + " bytes)");
+    }
+
+    private static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static boolean isCurrent(ByteBuffer file, long stamp) {
+        return file.capacity() >= RouteFormat.HEADER_SIZE
+                && file.getInt(0) == RouteFormat.MAGIC
+                && file.getShort(4) == RouteFormat.VERSION
+                && file.getLong(RouteFormat.STAMP_OFFSET) == stamp;
+    }
+
+    private void open(ByteBuffer file) {
+        this.buffer = file;
+        this.count = file.getInt(RouteFormat.COUNT_OFFSET);
+        this.indexOffset = file.getInt(RouteFormat.INDEX_OFFSET);
+        this.stringsOffset = file.getInt(RouteFormat.STRINGS_OFFSET);
+        this.dataOffset = file.getInt(RouteFormat.DATA_OFFSET);
+    }
+
+    /**
+     * Raw bytes of every source in compile order, bundled first
+     */
+    private Map<String, byte[]> readSources() {
+        Map<String, byte[]> sources = new LinkedHashMap<>();
+
+        for (String name : BUNDLED) {
+            try (InputStream in = RouteStore.class.getResourceAsStream("/routes/" + name)) {
+                if (in != null) {
+                    sources.put(name, in.readAllBytes());
+                }
+            } catch (IOException e) {
+                System.err.println("[Routes] Could not read bundled " + name + ": " + e.getMessage());
+            }
+        }
+
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.filter(f -> f.toString().endsWith(".json")).sorted().toList()) {
+                    sources.put("user/" + file.getFileName(), Files.readAllBytes(file));
+                }
+            } catch (IOException e) {
+                System.err.println("[Routes] Could not read user routes: " + e.getMessage());
+            }
+        }
+
+        return sources;
+    }
+
+    private static long stamp(Map<String, byte[]> sources) {
+        CRC32 names = new CRC32();
+        CRC32 contents = new CRC32();
+        for (Map.Entry<String, byte[]> source : sources.entrySet()) {
+            names.update(source.getKey().getBytes(StandardCharsets.UTF_8));
+            contents.update(source.getValue());
+        }
+        return (names.getValue() << 32) | contents.getValue();
+    }
+}
\ No newline at end of file
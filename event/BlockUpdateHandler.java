@@ -0,0 +1,91 @@
+package com.donut.client.event;
+
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientChunkEvents;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dispatches client-side world changes to caches and indexes
+ * - Block updates from the server (fed by ClientWorldMixin)
+ * - Chunk loads/unloads (Fabric chunk events)
+ */
+public class BlockUpdateHandler {
+
+    private static BlockUpdateHandler instance;
+
+    private final List<BlockUpdateListener> listeners = new ArrayList<>();
+
+    /**
+     * Listener interface for world changes
+     */
+    public interface BlockUpdateListener {
+        void onBlockUpdate(BlockPos pos, BlockState oldState, BlockState newState);
+
+        default void onChunkLoad(WorldChunk chunk) {}
+
+        default void onChunkUnload(ChunkPos pos) {}
+    }
+
+    private BlockUpdateHandler() {
+        ClientChunkEvents.CHUNK_LOAD.register((world, chunk) -> fireChunkLoad(chunk));
+        ClientChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> fireChunkUnload(chunk.getPos()));
+    }
+
+    public static BlockUpdateHandler getInstance() {
+        if (instance == null) {
+            instance = new BlockUpdateHandler();
+        }
+        return instance;
+    }
+
+    public void addListener(BlockUpdateListener listener) {
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    public void removeListener(BlockUpdateListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Called when the server changes a block
+     */
+    public void fireBlockUpdate(BlockPos pos, BlockState oldState, BlockState newState) {
+        if (oldState == newState) return;
+
+        BlockPos immutable = pos.toImmutable();
+        for (BlockUpdateListener listener : listeners) {
+            try {
+                listener.onBlockUpdate(immutable, oldState, newState);
+            } catch (Exception e) {
+                System.err.println("[Block Updates] Listener error: " + e.getMessage());
+            }
+        }
+    }
+
+    private void fireChunkLoad(WorldChunk chunk) {
+        for (BlockUpdateListener listener : listeners) {
+            try {
+                listener.onChunkLoad(chunk);
+            } catch (Exception e) {
+                System.err.println("[Block Updates] Listener error: " + e.getMessage());
+            }
+        }
+    }
+
+    private void fireChunkUnload(ChunkPos pos) {
+        for (BlockUpdateListener listener : listeners) {
+            try {
+                listener.onChunkUnload(pos);
+            } catch (Exception e) {
+                System.err.println("[Block Updates] Listener error: " + e.getMessage());
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,304 @@
+package com.donut.client.event;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.projectile.FishingBobberEntity;
+import net.minecraft.particle.ParticleEffect;
+import net.minecraft.particle.ParticleTypes;
+import net.minecraft.sound.SoundEvent;
+import net.minecraft.sound.SoundEvents;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns fishing-related packets into bite, catch, sea creature and trophy events (fed by ClientPlayNetworkHandlerMixin)
+ * - Bite: the first of a bobber dip, a splash sound or a bubble burst at the player's bobber, once per cast.
+ *   Single bubbles and splashes also trail the approaching fish, so they don't count
+ * - Catch: the bitten bobber is removed
+ * - Sea creature: a mob spawns near where the bobber was, shortly after a catch. It is reported once its name
+ *   is known: its own custom name, or the armor stand name tag Hypixel puts above it, which arrive after the spawn
+ * - Trophy: the "TROPHY FISH!" chat line
+ * Events carry the wall-clock millisecond their packet was handled and are dispatched right away on the client thread.
+ */
+public class FishingEventHandler {
+
+    private static FishingEventHandler instance;
+
+    private static final double BITE_VELOCITY = -0.15;   // Blocks per tick, downwards
+    private static final double BITE_RADIUS_SQ = 1.5 * 1.5;
+    private static final int BITE_BUBBLES = 2;           // Smallest particle count of the bite burst
+    private static final double SPAWN_RADIUS_SQ = 6 * 6;
+    private static final long SPAWN_WINDOW_MS = 2000;
+    private static final long NAME_WAIT_MS = 2000;
+    private static final double NAME_TAG_RADIUS_SQ = 1.0;  // Horizontal, tag to mob
+    private static final double NAME_TAG_HEIGHT = 4.0;     // Tags float up to this far above the mob's feet
+
+    private static final Pattern TROPHY = Pattern.compile("TROPHY FISH! You caught an? (.+?) (BRONZE|SILVER|GOLD|DIAMOND)\\.");
+
+    private final MinecraftClient mc = MinecraftClient.getInstance();
+    private final List<FishingListener> listeners = new ArrayList<>();
+
+    // Bobber that has had its bite reported, and where/when the last catch happened
+    private int bittenHookId = -1;
+    private Vec3d catchPos = null;
+    private long catchTime = 0;
+
+    // Mobs spawned at the catch whose name hasn't arrived yet -> spawn time
+    private final Map<Entity, Long> unnamed = new LinkedHashMap<>();
+
+    public enum Type {
+        BITE, CATCH, SEA_CREATURE, TROPHY
+    }
+
+    public static class FishingEvent {
+        public final Type type;
+        public final long timeMillis;
+        public final String source;  // Packet that triggered it: velocity, sound, particle, destroy, spawn, name or chat
+        public final String name;    // Trophy fish or sea creature name, or null
+        public final String rarity;  // Trophy rarity, or null
+        public final Entity entity;  // Sea creature, or null
+
+        FishingEvent(Type type, long timeMillis, String source, String name, String rarity, Entity entity) {
+            this.type = type;
+            this.timeMillis = timeMillis;
+            this.source = source;
+            this.name = name;
+            this.rarity = rarity;
+            this.entity = entity;
+        }
+
+        @Override
+        public String toString() {
+            return type + " @" + timeMillis + " (" + source + ")" + (name != null ? " " + name : "") + (rarity != null ? " " + rarity : "");
+        }
+    }
+
+    /**
+     * Listener interface for fishing events
+     */
+    public interface FishingListener {
+        void onFishingEvent(FishingEvent event);
+    }
+
+    private FishingEventHandler() {}
+
+    public static FishingEventHandler getInstance() {
+        if (instance == null) {
+            instance = new FishingEventHandler();
+        }
+        return instance;
+    }
+
+    public void addListener(FishingListener listener) {
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    public void removeListener(FishingListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Called when the server sets an entity's velocity (y in blocks per tick)
+     */
+    public void onVelocity(int entityId, double velocityY) {
+        if (listeners.isEmpty()) return;
+
+        FishingBobberEntity hook = hook();
+        if (hook == null || hook.getId() != entityId) return;
+
+        if (velocityY < BITE_VELOCITY) {
+            bite(hook, "velocity");
+        }
+    }
+
+    /**
+     * Called when the server plays a sound
+     */
+    public void onSound(SoundEvent sound, double x, double y, double z) {
+        if (listeners.isEmpty() || sound != SoundEvents.ENTITY_FISHING_BOBBER_SPLASH) return;
+
+        FishingBobberEntity hook = hook();
+        if (hook != null && hook.squaredDistanceTo(x, y, z) < BITE_RADIUS_SQ) {
+            bite(hook, "sound");
+        }
+    }
+
+    /**
+     * Called when the server spawns particles (count is the packet's particle count)
+     */
+    public void onParticle(ParticleEffect particle, double x, double y, double z, int count) {
+        if (listeners.isEmpty()) return;
+        if (particle.getType() != ParticleTypes.BUBBLE || count < BITE_BUBBLES) return;
+
+        FishingBobberEntity hook = hook();
+        if (hook != null && hook.squaredDistanceTo(x, y, z) < BITE_RADIUS_SQ) {
+            bite(hook, "particle");
+        }
+    }
+
+    /**
+     * Called when the server removes an entity
+     */
+    public void onEntityRemoved(int entityId) {
+        if (listeners.isEmpty() || entityId != bittenHookId) return;
+
+        Entity hook = mc.world == null ? null : mc.world.getEntityById(entityId);
+        catchPos = hook != null ? hook.getPos() : mc.player != null ? mc.player.getPos() : null;
+        catchTime = System.currentTimeMillis();
+        bittenHookId = -1;
+        fire(new FishingEvent(Type.CATCH, catchTime, "destroy", null, null, null));
+    }
+
+    /**
+     * Called once a spawned entity has been added to the world
+     */
+    public void onEntitySpawned(Entity entity) {
+        if (listeners.isEmpty() || catchPos == null) return;
+        if (!(entity instanceof LivingEntity) || entity instanceof PlayerEntity || entity instanceof ArmorStandEntity) return;
+
+        long now = System.currentTimeMillis();
+        if (now - catchTime > SPAWN_WINDOW_MS) {
+            catchPos = null;
+            return;
+        }
+        if (entity.squaredDistanceTo(catchPos) >= SPAWN_RADIUS_SQ) return;
+
+        // The name usually comes in a later tracker update; a tag that beat the mob here is picked up now
+        String name = nameOf(entity);
+        if (name == null) {
+            name = findNameTag(entity);
+        }
+        if (name != null) {
+            fire(new FishingEvent(Type.SEA_CREATURE, now, "spawn", name, null, entity));
+        } else {
+            unnamed.put(entity, now);
+        }
+    }
+
+    /**
+     * Called after the server updates an entity's tracked data (custom name among it)
+     */
+    public void onTrackedData(int entityId) {
+        if (listeners.isEmpty() || unnamed.isEmpty() || mc.world == null) return;
+
+        long now = System.currentTimeMillis();
+        unnamed.entrySet().removeIf(entry -> now - entry.getValue() > NAME_WAIT_MS || entry.getKey().isRemoved());
+
+        Entity entity = mc.world.getEntityById(entityId);
+        String name = entity == null ? null : nameOf(entity);
+        if (name == null) return;
+
+        Entity creature = null;
+        if (unnamed.containsKey(entity)) {
+            creature = entity;
+        } else if (entity instanceof ArmorStandEntity) {
+            creature = findTagged(entity);
+        }
+        if (creature == null) return;
+
+        unnamed.remove(creature);
+        fire(new FishingEvent(Type.SEA_CREATURE, now, "name", name, null, creature));
+    }
+
+    /**
+     * Called for chat (not action bar) messages
+     */
+    public void onChat(Text message) {
+        if (listeners.isEmpty()) return;
+
+        String plain = Formatting.strip(message.getString());
+        if (plain == null || !plain.startsWith("TROPHY FISH!")) return;
+
+        Matcher matcher = TROPHY.matcher(plain);
+        if (matcher.find()) {
+            fire(new FishingEvent(Type.TROPHY, System.currentTimeMillis(), "chat", matcher.group(1), matcher.group(2), null));
+        }
+    }
+
+    private void bite(FishingBobberEntity hook, String source) {
+        if (hook.getId() == bittenHookId) return;
+
+        bittenHookId = hook.getId();
+        fire(new FishingEvent(Type.BITE, System.currentTimeMillis(), source, null, null, null));
+    }
+
+    /**
+     * Plain custom name, or null while the server hasn't sent one
+     */
+    private static String nameOf(Entity entity) {
+        if (!entity.hasCustomName()) return null;
+        String name = Formatting.strip(entity.getCustomName().getString());
+        return name == null || name.isBlank() ? null : name;
+    }
+
+    /**
+     * Name of an already named armor stand floating above the mob, or null
+     */
+    private String findNameTag(Entity mob) {
+        if (mc.world == null) return null;
+
+        for (ArmorStandEntity stand : mc.world.getEntitiesByClass(ArmorStandEntity.class,
+                mob.getBoundingBox().expand(1, 0, 1).stretch(0, NAME_TAG_HEIGHT, 0), stand -> isTagOf(stand, mob))) {
+            String name = nameOf(stand);
+            if (name != null) return name;
+        }
+        return null;
+    }
+
+    /**
+     * Closest unnamed mob a name tag floats above, or null
+     */
+    private Entity findTagged(Entity stand) {
+        Entity best = null;
+        double bestDist = Double.MAX_VALUE;
+        for (Entity mob : unnamed.keySet()) {
+            if (!isTagOf(stand, mob)) continue;
+
+            double dist = horizontalDistanceSq(stand, mob);
+            if (dist < bestDist) {
+                best = mob;
+                bestDist = dist;
+            }
+        }
+        return best;
+    }
+
+    private static boolean isTagOf(Entity stand, Entity mob) {
+        double above = stand.getY() - mob.getY();
+        return above >= 0 && above <= NAME_TAG_HEIGHT && horizontalDistanceSq(stand, mob) <= NAME_TAG_RADIUS_SQ;
+    }
+
+    private static double horizontalDistanceSq(Entity a, Entity b) {
+        double dx = a.getX() - b.getX();
+        double dz = a.getZ() - b.getZ();
+        return dx * dx + dz * dz;
+    }
+
+    private FishingBobberEntity hook() {
+        return mc.player == null ? null : mc.player.fishHook;
+    }
+
+    private void fire(FishingEvent event) {
+        // Copy so listeners can unsubscribe from inside the callback
+        for (FishingListener listener : new ArrayList<>(listeners)) {
+            try {
+                listener.onFishingEvent(event);
+            } catch (Exception e) {
+                System.err.println("[Fishing Events] Listener error: " + e.getMessage());
+            }
+        }
+    }
+}
\ No newline at end of file
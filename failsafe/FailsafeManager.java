@@ -1,5 +1,6 @@
 package com.donut.client.failsafe;
 
+import com.donut.client.metrics.Profiler;
 import com.donut.client.utils.ChatUtils;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.text.Text;
@@ -56,10 +57,23 @@ public class FailsafeManager {
         }
 
         // Check all failsafes
-        for (BaseFailsafe failsafe : failsafes) {
-            if (failsafe.check()) {
-                handleFailsafe(failsafe);
+        Profiler.push("failsafes");
+        try {
+            for (BaseFailsafe failsafe : failsafes) {
+                Profiler.push(failsafe.getName());
+                boolean triggered;
+                try {
+                    triggered = failsafe.check();
+                } finally {
+                    Profiler.pop();
+                }
+
+                if (triggered) {
+                    handleFailsafe(failsafe);
+                }
             }
+        } finally {
+            Profiler.pop();
         }
     }
 
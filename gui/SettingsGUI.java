@@ -11,6 +11,7 @@ import net.minecraft.util.Formatting;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Settings GUI for individual macros
@@ -27,10 +28,30 @@ public class SettingsGUI extends Screen {
     private static final int HOVER_COLOR = 0xFF303030;
     private static final int TEXT_WHITE = 0xFFFFFF;
     private static final int TEXT_GRAY = 0xAAAAAA;
+    private static final int SETTING_HEIGHT = 40;
+
+    private static final Text NO_SETTINGS = Text.literal("No settings available").formatted(Formatting.GRAY);
+    private static final Text MINUS = Text.literal("-");
+    private static final Text PLUS = Text.literal("+");
+    private static final Text ARROW_LEFT = Text.literal("<");
+    private static final Text ARROW_RIGHT = Text.literal(">");
 
     private int scrollOffset = 0;
     private List<TextFieldWidget> textFields = new ArrayList<>();
 
+    // Retained layout - rebuilt only on resize, scroll or setting change
+    private TextCache textCache;
+    private Text titleText;
+    private boolean layoutDirty = true;
+    private final List<SettingRow> rows = new ArrayList<>();
+    private int settingCount = 0;
+    private int panelX;
+    private int panelY;
+    private int panelWidth;
+    private int panelHeight;
+    private int scrollBarY;
+    private int scrollBarHeight;
+
     public SettingsGUI(Screen parent, Macro macro) {
         super(Text.literal(macro.getName() + " Settings"));
         this.parent = parent;
@@ -44,68 +65,94 @@ public class SettingsGUI extends Screen {
 
         textFields.clear();
 
+        textCache = new TextCache(textRenderer);
+        titleText = Text.literal(macro.getName() + " Settings").formatted(Formatting.BOLD);
+        panelX = width / 2 - 200;
+        panelY = 50;
+        panelWidth = 400;
+        panelHeight = height - 120;
+        layoutDirty = true;
+
         // Add done button
         this.addDrawableChild(ButtonWidget.builder(Text.literal("Done"), button -> {
             close();
         }).dimensions(width / 2 - 50, height - 30, 100, 20).build());
     }
 
+    /**
+     * Rebuild the visible setting rows and scroll bar
+     */
+    private void rebuildLayout() {
+        rows.clear();
+        settingCount = 0;
+
+        if (settings != null) {
+            int y = panelY + 20 - scrollOffset;
+            for (MacroSettings.Setting<?> setting : settings.getAllSettings()) {
+                if (y > panelY && y < panelY + panelHeight - 10) {
+                    rows.add(new SettingRow(setting, y,
+                            textCache.get(setting.getName(), Formatting.BOLD),
+                            textCache.get(setting.getDescription(), Formatting.GRAY)));
+                }
+                y += SETTING_HEIGHT;
+                settingCount++;
+            }
+        }
+
+        int totalHeight = settingCount * SETTING_HEIGHT;
+        if (totalHeight > panelHeight) {
+            scrollBarHeight = Math.max(20, panelHeight * panelHeight / totalHeight);
+            int maxScroll = totalHeight - panelHeight;
+            scrollBarY = panelY + (panelHeight - scrollBarHeight) * scrollOffset / Math.max(1, maxScroll);
+        } else {
+            scrollBarHeight = 0;
+        }
+
+        layoutDirty = false;
+    }
+
     @Override
     public void render(DrawContext context, int mouseX, int mouseY, float delta) {
+        if (layoutDirty) {
+            rebuildLayout();
+        }
+
         renderBackground(context, mouseX, mouseY, delta);
 
         // Background
         context.fill(0, 0, width, height, BG_COLOR);
 
         // Panel
-        int panelX = width / 2 - 200;
-        int panelY = 50;
-        int panelWidth = 400;
-        int panelHeight = height - 120;
-
         context.fill(panelX, panelY, panelX + panelWidth, panelY + panelHeight, PANEL_COLOR);
 
         // Title
-        context.drawCenteredTextWithShadow(textRenderer,
-                Text.literal(macro.getName() + " Settings").formatted(Formatting.BOLD),
-                width / 2, 30, ACCENT_COLOR);
+        context.drawCenteredTextWithShadow(textRenderer, titleText, width / 2, 30, ACCENT_COLOR);
 
         // Settings
         if (settings == null || !macro.hasSettings()) {
-            context.drawCenteredTextWithShadow(textRenderer,
-                    Text.literal("No settings available").formatted(Formatting.GRAY),
+            context.drawCenteredTextWithShadow(textRenderer, NO_SETTINGS,
                     width / 2, panelY + panelHeight / 2, TEXT_GRAY);
         } else {
-            renderSettings(context, panelX, panelY, panelWidth, panelHeight, mouseX, mouseY);
+            renderSettings(context, mouseX, mouseY);
         }
 
         super.render(context, mouseX, mouseY, delta);
     }
 
-    private void renderSettings(DrawContext context, int panelX, int panelY, int panelWidth, int panelHeight, int mouseX, int mouseY) {
-        int y = panelY + 20 - scrollOffset;
-        int settingHeight = 40;
-
-        for (MacroSettings.Setting<?> setting : settings.getAllSettings()) {
-            if (y > panelY && y < panelY + panelHeight - 10) {
-                renderSetting(context, setting, panelX + 10, y, panelWidth - 20, mouseX, mouseY);
-            }
-            y += settingHeight;
+    private void renderSettings(DrawContext context, int mouseX, int mouseY) {
+        for (SettingRow row : rows) {
+            renderSetting(context, row, panelX + 10, row.y, panelWidth - 20, mouseX, mouseY);
         }
 
         // Scroll bar
-        int totalHeight = settings.getAllSettings().size() * settingHeight;
-        if (totalHeight > panelHeight) {
-            int scrollBarHeight = Math.max(20, panelHeight * panelHeight / totalHeight);
-            int maxScroll = totalHeight - panelHeight;
-            int scrollBarY = panelY + (panelHeight - scrollBarHeight) * scrollOffset / Math.max(1, maxScroll);
-
+        if (scrollBarHeight > 0) {
             context.fill(panelX + panelWidth - 5, scrollBarY,
                     panelX + panelWidth - 2, scrollBarY + scrollBarHeight, ACCENT_COLOR);
         }
     }
 
-    private void renderSetting(DrawContext context, MacroSettings.Setting<?> setting, int x, int y, int width, int mouseX, int mouseY) {
+    private void renderSetting(DrawContext context, SettingRow row, int x, int y, int width, int mouseX, int mouseY) {
+        MacroSettings.Setting<?> setting = row.setting;
         boolean hovered = mouseX >= x && mouseX <= x + width && mouseY >= y && mouseY <= y + 35;
 
         // Background
@@ -114,39 +161,61 @@ public class SettingsGUI extends Screen {
         }
 
         // Setting name
-        context.drawTextWithShadow(textRenderer,
-                Text.literal(setting.getName()).formatted(Formatting.BOLD),
-                x + 5, y + 5, TEXT_WHITE);
+        context.drawTextWithShadow(textRenderer, row.nameText, x + 5, y + 5, TEXT_WHITE);
 
         // Setting description
-        context.drawTextWithShadow(textRenderer,
-                Text.literal(setting.getDescription()).formatted(Formatting.GRAY),
-                x + 5, y + 18, TEXT_GRAY);
+        context.drawTextWithShadow(textRenderer, row.descriptionText, x + 5, y + 18, TEXT_GRAY);
 
         // Setting value/control
         int controlX = x + width - 100;
         int controlY = y + 5;
 
+        // Value text is only re-formatted when the value changes
+        Object value = setting.getValue();
+        if (!row.formatted || !Objects.equals(value, row.value)) {
+            row.value = value;
+            row.formatted = true;
+            String valueString = formatValue(setting);
+            row.valueText = textCache.get(valueString);
+            row.valueWidth = textCache.getWidth(valueString);
+        }
+
         switch (setting.getType()) {
             case BOOLEAN:
-                renderBooleanControl(context, (MacroSettings.BooleanSetting) setting, controlX, controlY, mouseX, mouseY);
+                renderBooleanControl(context, row, (MacroSettings.BooleanSetting) setting, controlX, controlY, mouseX, mouseY);
                 break;
             case INT:
-                renderIntControl(context, (MacroSettings.IntSetting) setting, controlX, controlY);
+                renderIntControl(context, row, controlX, controlY);
                 break;
             case FLOAT:
-                renderFloatControl(context, (MacroSettings.FloatSetting) setting, controlX, controlY);
+                renderFloatControl(context, row, controlX, controlY);
                 break;
             case STRING:
-                renderStringControl(context, (MacroSettings.StringSetting) setting, controlX, controlY);
+                renderStringControl(context, row, controlX, controlY);
                 break;
             case ENUM:
-                renderEnumControl(context, (MacroSettings.EnumSetting<?>) setting, controlX, controlY, mouseX, mouseY);
+                renderEnumControl(context, row, controlX, controlY, mouseX, mouseY);
                 break;
         }
     }
 
-    private void renderBooleanControl(DrawContext context, MacroSettings.BooleanSetting setting, int x, int y, int mouseX, int mouseY) {
+    private String formatValue(MacroSettings.Setting<?> setting) {
+        switch (setting.getType()) {
+            case BOOLEAN:
+                return ((MacroSettings.BooleanSetting) setting).getValue() ? "ON" : "OFF";
+            case FLOAT:
+                return String.format("%.1f", ((MacroSettings.FloatSetting) setting).getValue());
+            case STRING:
+                String value = ((MacroSettings.StringSetting) setting).getValue();
+                return value.length() > 20 ? value.substring(0, 17) + "..." : value;
+            case ENUM:
+                return ((MacroSettings.EnumSetting<?>) setting).getValueString();
+            default:
+                return String.valueOf(setting.getValue());
+        }
+    }
+
+    private void renderBooleanControl(DrawContext context, SettingRow row, MacroSettings.BooleanSetting setting, int x, int y, int mouseX, int mouseY) {
         boolean value = setting.getValue();
         boolean hovered = mouseX >= x && mouseX <= x + 60 && mouseY >= y && mouseY <= y + 20;
 
@@ -157,65 +226,57 @@ public class SettingsGUI extends Screen {
 
         context.fill(x, y, x + 60, y + 20, color);
 
-        String text = value ? "ON" : "OFF";
-        int textX = x + 30 - textRenderer.getWidth(text) / 2;
-        context.drawTextWithShadow(textRenderer, Text.literal(text), textX, y + 6, TEXT_WHITE);
+        int textX = x + 30 - row.valueWidth / 2;
+        context.drawTextWithShadow(textRenderer, row.valueText, textX, y + 6, TEXT_WHITE);
     }
 
-    private void renderIntControl(DrawContext context, MacroSettings.IntSetting setting, int x, int y) {
+    private void renderIntControl(DrawContext context, SettingRow row, int x, int y) {
         // Minus button
         context.fill(x, y, x + 20, y + 20, 0xFF333333);
-        context.drawCenteredTextWithShadow(textRenderer, Text.literal("-"), x + 10, y + 6, TEXT_WHITE);
+        context.drawCenteredTextWithShadow(textRenderer, MINUS, x + 10, y + 6, TEXT_WHITE);
 
         // Value
         context.fill(x + 22, y, x + 58, y + 20, PANEL_COLOR);
-        String value = String.valueOf(setting.getValue());
-        int valueX = x + 40 - textRenderer.getWidth(value) / 2;
-        context.drawTextWithShadow(textRenderer, Text.literal(value), valueX, y + 6, TEXT_WHITE);
+        int valueX = x + 40 - row.valueWidth / 2;
+        context.drawTextWithShadow(textRenderer, row.valueText, valueX, y + 6, TEXT_WHITE);
 
         // Plus button
         context.fill(x + 60, y, x + 80, y + 20, 0xFF333333);
-        context.drawCenteredTextWithShadow(textRenderer, Text.literal("+"), x + 70, y + 6, TEXT_WHITE);
+        context.drawCenteredTextWithShadow(textRenderer, PLUS, x + 70, y + 6, TEXT_WHITE);
     }
 
-    private void renderFloatControl(DrawContext context, MacroSettings.FloatSetting setting, int x, int y) {
+    private void renderFloatControl(DrawContext context, SettingRow row, int x, int y) {
         // Minus button
         context.fill(x, y, x + 20, y + 20, 0xFF333333);
-        context.drawCenteredTextWithShadow(textRenderer, Text.literal("-"), x + 10, y + 6, TEXT_WHITE);
+        context.drawCenteredTextWithShadow(textRenderer, MINUS, x + 10, y + 6, TEXT_WHITE);
 
         // Value
         context.fill(x + 22, y, x + 68, y + 20, PANEL_COLOR);
-        String value = String.format("%.1f", setting.getValue());
-        int valueX = x + 45 - textRenderer.getWidth(value) / 2;
-        context.drawTextWithShadow(textRenderer, Text.literal(value), valueX, y + 6, TEXT_WHITE);
+        int valueX = x + 45 - row.valueWidth / 2;
+        context.drawTextWithShadow(textRenderer, row.valueText, valueX, y + 6, TEXT_WHITE);
 
         // Plus button
         context.fill(x + 70, y, x + 90, y + 20, 0xFF333333);
-        context.drawCenteredTextWithShadow(textRenderer, Text.literal("+"), x + 80, y + 6, TEXT_WHITE);
+        context.drawCenteredTextWithShadow(textRenderer, PLUS, x + 80, y + 6, TEXT_WHITE);
     }
 
-    private void renderStringControl(DrawContext context, MacroSettings.StringSetting setting, int x, int y) {
+    private void renderStringControl(DrawContext context, SettingRow row, int x, int y) {
         context.fill(x, y, x + 150, y + 20, PANEL_COLOR);
-        String value = setting.getValue();
-        if (value.length() > 20) {
-            value = value.substring(0, 17) + "...";
-        }
-        context.drawTextWithShadow(textRenderer, Text.literal(value), x + 5, y + 6, TEXT_WHITE);
+        context.drawTextWithShadow(textRenderer, row.valueText, x + 5, y + 6, TEXT_WHITE);
     }
 
-    private void renderEnumControl(DrawContext context, MacroSettings.EnumSetting<?> setting, int x, int y, int mouseX, int mouseY) {
+    private void renderEnumControl(DrawContext context, SettingRow row, int x, int y, int mouseX, int mouseY) {
         boolean hovered = mouseX >= x && mouseX <= x + 100 && mouseY >= y && mouseY <= y + 20;
 
         int color = hovered ? HOVER_COLOR : 0xFF333333;
         context.fill(x, y, x + 100, y + 20, color);
 
-        String value = setting.getValueString();
-        int valueX = x + 50 - textRenderer.getWidth(value) / 2;
-        context.drawTextWithShadow(textRenderer, Text.literal(value), valueX, y + 6, TEXT_WHITE);
+        int valueX = x + 50 - row.valueWidth / 2;
+        context.drawTextWithShadow(textRenderer, row.valueText, valueX, y + 6, TEXT_WHITE);
 
         // Arrows
-        context.drawTextWithShadow(textRenderer, Text.literal("<"), x + 5, y + 6, TEXT_GRAY);
-        context.drawTextWithShadow(textRenderer, Text.literal(">"), x + 90, y + 6, TEXT_GRAY);
+        context.drawTextWithShadow(textRenderer, ARROW_LEFT, x + 5, y + 6, TEXT_GRAY);
+        context.drawTextWithShadow(textRenderer, ARROW_RIGHT, x + 90, y + 6, TEXT_GRAY);
     }
 
     @Override
@@ -224,18 +285,15 @@ public class SettingsGUI extends Screen {
 
         if (settings == null) return super.mouseClicked(mouseX, mouseY, button);
 
-        int panelX = width / 2 - 200;
-        int panelY = 50;
-        int panelWidth = 400;
-        int y = panelY + 20 - scrollOffset;
-        int settingHeight = 40;
+        if (layoutDirty) {
+            rebuildLayout();
+        }
 
-        for (MacroSettings.Setting<?> setting : settings.getAllSettings()) {
-            if (mouseY >= y && mouseY <= y + 35) {
-                handleSettingClick(setting, mouseX, mouseY, panelX, y, panelWidth);
+        for (SettingRow row : rows) {
+            if (mouseY >= row.y && mouseY <= row.y + 35) {
+                handleSettingClick(row.setting, mouseX, mouseY, panelX, row.y, panelWidth);
                 return true;
             }
-            y += settingHeight;
         }
 
         return super.mouseClicked(mouseX, mouseY, button);
@@ -277,16 +335,18 @@ public class SettingsGUI extends Screen {
 
     @Override
     public boolean mouseScrolled(double mouseX, double mouseY, double horizontalAmount, double verticalAmount) {
-        int panelX = width / 2 - 200;
-        int panelWidth = 400;
-
         if (mouseX >= panelX && mouseX <= panelX + panelWidth) {
+            int previous = scrollOffset;
             scrollOffset -= (int) (verticalAmount * 20);
 
-            int totalHeight = settings.getAllSettings().size() * 40;
-            int maxScroll = Math.max(0, totalHeight - (height - 120));
+            int totalHeight = settingCount * SETTING_HEIGHT;
+            int maxScroll = Math.max(0, totalHeight - panelHeight);
             scrollOffset = Math.max(0, Math.min(scrollOffset, maxScroll));
 
+            if (scrollOffset != previous) {
+                layoutDirty = true;
+            }
+
             return true;
         }
         return super.mouseScrolled(mouseX, mouseY, horizontalAmount, verticalAmount);
@@ -303,4 +363,24 @@ public class SettingsGUI extends Screen {
     public boolean shouldPause() {
         return false;
     }
+
+    private static class SettingRow {
+        final MacroSettings.Setting<?> setting;
+        final int y;
+        final Text nameText;
+        final Text descriptionText;
+
+        // Last formatted value
+        boolean formatted = false;
+        Object value;
+        Text valueText;
+        int valueWidth;
+
+        SettingRow(MacroSettings.Setting<?> setting, int y, Text nameText, Text descriptionText) {
+            this.setting = setting;
+            this.y = y;
+            this.nameText = nameText;
+            this.descriptionText = descriptionText;
+        }
+    }
 }
\ No newline at end of file
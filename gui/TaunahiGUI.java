@@ -5,11 +5,13 @@ import com.donut.client.macros.MacroManager;
 import com.donut.client.macros.MacroManager.MacroCategory;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.gui.screen.Screen;
+import net.minecraft.client.gui.widget.TextFieldWidget;
 import net.minecraft.client.render.RenderLayer;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.Identifier;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +53,14 @@ public class TaunahiGUI extends Screen {
     private static final Text CATEGORIES_TITLE = Text.literal("Categories").formatted(Formatting.BOLD);
     private static final Text VERSION_TEXT = Text.literal("v1.0.0").formatted(Formatting.GRAY);
     private static final Text NO_MACRO_RUNNING = Text.literal("No macro running").formatted(Formatting.GRAY);
+    private static final Text CLIENT_TITLE = Text.literal("Donut Client").formatted(Formatting.BOLD);
+    private static final Text CLIENT_SUBTITLE = Text.literal("Macro System").formatted(Formatting.GRAY);
+    private static final Text EMPTY_CATEGORY = Text.literal("No macros in this category").formatted(Formatting.GRAY);
+    private static final Text NO_RESULTS = Text.literal("No macros match your search").formatted(Formatting.GRAY);
+    private static final Text SEARCH_PLACEHOLDER = Text.literal("Search...").formatted(Formatting.DARK_GRAY);
+    private static final Text STATUS_RUNNING = Text.literal("⬤ RUNNING");
+    private static final Text STATUS_STOPPED = Text.literal("⭘ Stopped");
+    private static final Text GEAR_ICON = Text.literal("⚙");
 
     // Instance fields
     private final MacroManager manager;
@@ -71,6 +81,28 @@ public class TaunahiGUI extends Screen {
     private int panelWidth;
     private int panelHeight;
 
+    // Retained layout - rebuilt only on resize, scroll, category change or macro start/stop
+    private TextCache textCache;
+    private boolean layoutDirty = true;
+    private final List<CategoryRow> categoryRows = new ArrayList<>();
+    private final List<MacroRow> macroRows = new ArrayList<>();
+    private int macroCount = 0;
+    private int totalMacroCount = -1;
+    private Text categoryTitle;
+    private Text totalText;
+    private int totalTextX;
+    private int scrollBarY;
+    private int scrollBarHeight;
+
+    // Search-as-you-type over all categories
+    private TextFieldWidget searchField;
+    private String searchQuery = "";
+
+    // Status bar text, refreshed once per second of runtime
+    private Macro statusMacro = null;
+    private long statusSecond = -1;
+    private Text statusText;
+
     public TaunahiGUI() {
         super(Text.literal("Taunahi Macro System"));
         this.manager = MacroManager.getInstance();
@@ -99,8 +131,19 @@ public class TaunahiGUI extends Screen {
             hasModIcon = false;
         }
 
+        textCache = new TextCache(textRenderer);
         updatePanelDimensions();
-        updateCategoryCounts();
+        layoutDirty = true;
+
+        searchField = new TextFieldWidget(textRenderer, panelX + panelWidth - 160, 16, 150, 14, Text.literal("Search"));
+        searchField.setPlaceholder(SEARCH_PLACEHOLDER);
+        searchField.setText(searchQuery);
+        searchField.setChangedListener(text -> {
+            searchQuery = text.trim();
+            scrollOffset = 0;
+            layoutDirty = true;
+        });
+        addDrawableChild(searchField);
     }
 
     private void updatePanelDimensions() {
@@ -113,14 +156,78 @@ public class TaunahiGUI extends Screen {
         if (countsNeedUpdate) {
             categoryCounts.clear();
             for (MacroCategory category : MacroCategory.values()) {
-                categoryCounts.put(category, manager.getMacrosByCategory(category).size());
+                categoryCounts.put(category, manager.getMacrosView(category).size());
             }
             countsNeedUpdate = false;
         }
     }
 
+    /**
+     * Rebuild sidebar rows, visible macro rows and status bar text
+     */
+    private void rebuildLayout() {
+        updateCategoryCounts();
+
+        categoryRows.clear();
+        int y = 80;
+        for (MacroCategory category : MacroCategory.values()) {
+            Integer count = categoryCounts.get(category);
+            if (count == null || count == 0) continue;
+
+            Text label = textCache.get(category.icon + " " + category.name + " (" + count + ")");
+            categoryRows.add(new CategoryRow(category, y, label));
+            y += CATEGORY_SPACING;
+        }
+
+        List<Macro> listedMacros;
+        if (searchQuery.isEmpty()) {
+            listedMacros = manager.getMacrosView(selectedCategory);
+            categoryTitle = textCache.get(selectedCategory.icon + " " + selectedCategory.name + " Macros", Formatting.BOLD);
+        } else {
+            listedMacros = manager.searchMacros(searchQuery);
+            categoryTitle = textCache.get("Search results (" + listedMacros.size() + ")", Formatting.BOLD);
+        }
+        macroCount = listedMacros.size();
+
+        // Virtualized: only rows that can intersect the panel are laid out
+        macroRows.clear();
+        int endY = 10 + panelHeight;
+        int first = Math.max(0, (scrollOffset - 5 - MACRO_HEIGHT) / MACRO_SPACING);
+        int last = Math.min(macroCount - 1, (endY - 45 + scrollOffset) / MACRO_SPACING);
+
+        for (int i = first; i <= last; i++) {
+            int macroY = 45 - scrollOffset + i * MACRO_SPACING;
+            if (macroY + MACRO_HEIGHT < 40 || macroY > endY) continue;
+
+            Macro macro = listedMacros.get(i);
+            macroRows.add(new MacroRow(macro, macroY,
+                    textCache.get(macro.getName(), Formatting.BOLD),
+                    textCache.get(macro.getDescription(), Formatting.GRAY)));
+        }
+
+        int totalHeight = macroCount * MACRO_SPACING;
+        if (totalHeight > panelHeight) {
+            scrollBarHeight = Math.max(20, panelHeight * panelHeight / totalHeight);
+            int maxScroll = totalHeight - panelHeight;
+            scrollBarY = 10 + (panelHeight - scrollBarHeight) * scrollOffset / maxScroll;
+        } else {
+            scrollBarHeight = 0;
+        }
+
+        totalMacroCount = manager.getTotalMacroCount();
+        String total = "Total Macros: " + totalMacroCount;
+        totalText = textCache.get(total);
+        totalTextX = width - textCache.getWidth(total) - 10;
+
+        layoutDirty = false;
+    }
+
     @Override
     public void render(DrawContext context, int mouseX, int mouseY, float delta) {
+        if (layoutDirty || countsNeedUpdate || manager.getTotalMacroCount() != totalMacroCount) {
+            rebuildLayout();
+        }
+
         renderBackground(context, mouseX, mouseY, delta);
 
         if (hasBackgroundTexture) {
@@ -154,13 +261,8 @@ public class TaunahiGUI extends Screen {
         context.drawTexture(RenderLayer::getGuiTexturedOverlay, MOD_ICON,
                 iconX, iconY, 0, 0, iconSize, iconSize, iconSize, iconSize);
 
-        context.drawTextWithShadow(textRenderer,
-                Text.literal("Donut Client").formatted(Formatting.BOLD),
-                iconX + iconSize + 8, iconY + 4, ACCENT_COLOR);
-
-        context.drawTextWithShadow(textRenderer,
-                Text.literal("Macro System").formatted(Formatting.GRAY),
-                iconX + iconSize + 8, iconY + 16, TEXT_GRAY);
+        context.drawTextWithShadow(textRenderer, CLIENT_TITLE, iconX + iconSize + 8, iconY + 4, ACCENT_COLOR);
+        context.drawTextWithShadow(textRenderer, CLIENT_SUBTITLE, iconX + iconSize + 8, iconY + 16, TEXT_GRAY);
     }
 
     private void renderTexturedBackground(DrawContext context) {
@@ -188,14 +290,11 @@ public class TaunahiGUI extends Screen {
         context.fill(0, 0, SIDEBAR_WIDTH, height, SIDEBAR_COLOR);
         context.drawCenteredTextWithShadow(textRenderer, CATEGORIES_TITLE, SIDEBAR_WIDTH / 2, 55, TEXT_WHITE);
 
-        int y = 80;
         boolean mouseInSidebar = mouseX < SIDEBAR_WIDTH;
 
-        for (MacroCategory category : MacroCategory.values()) {
-            Integer count = categoryCounts.get(category);
-            if (count == null || count == 0) continue;
-
-            boolean isSelected = category == selectedCategory;
+        for (CategoryRow row : categoryRows) {
+            int y = row.y;
+            boolean isSelected = row.category == selectedCategory;
             boolean isHovered = mouseInSidebar && mouseY >= y && mouseY < y + CATEGORY_HEIGHT;
 
             if (isSelected) {
@@ -204,11 +303,8 @@ public class TaunahiGUI extends Screen {
                 context.fill(5, y, SIDEBAR_WIDTH - 5, y + CATEGORY_HEIGHT, HOVER_COLOR);
             }
 
-            String text = category.icon + " " + category.name + " (" + count + ")";
             int textColor = (isSelected || isHovered) ? TEXT_WHITE : TEXT_GRAY;
-            context.drawTextWithShadow(textRenderer, Text.literal(text), 10, y + 8, textColor);
-
-            y += CATEGORY_SPACING;
+            context.drawTextWithShadow(textRenderer, row.label, 10, y + 8, textColor);
         }
 
         context.drawTextWithShadow(textRenderer, VERSION_TEXT, 10, height - 20, TEXT_DARK_GRAY);
@@ -217,46 +313,31 @@ public class TaunahiGUI extends Screen {
     private void renderMacroPanel(DrawContext context, int mouseX, int mouseY) {
         context.fill(panelX, 10, panelX + panelWidth, 10 + panelHeight, PANEL_COLOR);
 
-        Text categoryTitle = Text.literal(selectedCategory.icon + " " + selectedCategory.name + " Macros")
-                .formatted(Formatting.BOLD);
         context.drawTextWithShadow(textRenderer, categoryTitle, panelX + 10, 20, ACCENT_COLOR);
 
-        List<Macro> macros = manager.getMacrosByCategory(selectedCategory);
+        hoveredMacro = null;
 
-        if (macros.isEmpty()) {
-            Text emptyMsg = Text.literal("No macros in this category").formatted(Formatting.GRAY);
+        if (macroCount == 0) {
+            Text emptyMsg = searchQuery.isEmpty() ? EMPTY_CATEGORY : NO_RESULTS;
             context.drawCenteredTextWithShadow(textRenderer, emptyMsg, panelX + panelWidth / 2, 100, TEXT_DARK_GRAY);
             return;
         }
 
-        hoveredMacro = null;
-        int startY = 45 - scrollOffset;
-        int endY = 10 + panelHeight;
-
-        for (Macro macro : macros) {
-            int macroY = startY;
-            startY += MACRO_SPACING;
-
-            if (macroY + MACRO_HEIGHT < 40 || macroY > endY) continue;
-
-            boolean hovered = renderMacro(context, macro, panelX + 10, macroY, panelWidth - 20, mouseX, mouseY);
+        for (MacroRow row : macroRows) {
+            boolean hovered = renderMacro(context, row, panelX + 10, row.y, panelWidth - 20, mouseX, mouseY);
             if (hovered) {
-                hoveredMacro = macro;
+                hoveredMacro = row.macro;
             }
         }
 
-        int totalHeight = macros.size() * MACRO_SPACING;
-        if (totalHeight > panelHeight) {
-            int scrollBarHeight = Math.max(20, panelHeight * panelHeight / totalHeight);
-            int maxScroll = totalHeight - panelHeight;
-            int scrollBarY = 10 + (panelHeight - scrollBarHeight) * scrollOffset / maxScroll;
-
+        if (scrollBarHeight > 0) {
             context.fill(panelX + panelWidth - 8, scrollBarY,
                     panelX + panelWidth - 5, scrollBarY + scrollBarHeight, ACCENT_COLOR);
         }
     }
 
-    private boolean renderMacro(DrawContext context, Macro macro, int x, int y, int width, int mouseX, int mouseY) {
+    private boolean renderMacro(DrawContext context, MacroRow row, int x, int y, int width, int mouseX, int mouseY) {
+        Macro macro = row.macro;
         boolean hovered = mouseX >= x && mouseX <= x + width && mouseY >= y && mouseY <= y + MACRO_HEIGHT;
         boolean running = macro.isEnabled();
 
@@ -266,20 +347,21 @@ public class TaunahiGUI extends Screen {
         int borderColor = running ? RUNNING_COLOR : STOPPED_COLOR;
         context.fill(x, y, x + 3, y + MACRO_HEIGHT, borderColor);
 
-        Text nameText = Text.literal(macro.getName()).formatted(Formatting.BOLD);
-        context.drawTextWithShadow(textRenderer, nameText, x + 10, y + 8, running ? 0x00FF00 : TEXT_WHITE);
+        context.drawTextWithShadow(textRenderer, row.nameText, x + 10, y + 8, running ? 0x00FF00 : TEXT_WHITE);
+        context.drawTextWithShadow(textRenderer, row.descriptionText, x + 10, y + 22, TEXT_GRAY);
 
-        context.drawTextWithShadow(textRenderer, Text.literal(macro.getDescription()).formatted(Formatting.GRAY),
-                x + 10, y + 22, TEXT_GRAY);
-
-        String statusIcon = running ? "⬤ RUNNING" : "⭘ Stopped";
         int statusColor = running ? RUNNING_COLOR : TEXT_DARK_GRAY;
-        context.drawTextWithShadow(textRenderer, Text.literal(statusIcon), x + 10, y + 38, statusColor);
+        context.drawTextWithShadow(textRenderer, running ? STATUS_RUNNING : STATUS_STOPPED, x + 10, y + 38, statusColor);
 
         long runtime = macro.getRuntime();
         if (running || runtime > 0) {
-            String runtimeText = "⏱ " + macro.getRuntimeFormatted();
-            context.drawTextWithShadow(textRenderer, Text.literal(runtimeText), x + 120, y + 38, 0xFFAA00);
+            // Runtime only changes once a second
+            long second = runtime / 1000;
+            if (second != row.runtimeSecond) {
+                row.runtimeSecond = second;
+                row.runtimeText = Text.literal("⏱ " + macro.getRuntimeFormatted());
+            }
+            context.drawTextWithShadow(textRenderer, row.runtimeText, x + 120, y + 38, 0xFFAA00);
         }
 
         int buttonX = x + width - 30;
@@ -315,7 +397,7 @@ public class TaunahiGUI extends Screen {
 
             int iconX = x + 6;
             int iconY = y + 6;
-            context.drawTextWithShadow(textRenderer, Text.literal("⚙"), iconX, iconY, TEXT_WHITE);
+            context.drawTextWithShadow(textRenderer, GEAR_ICON, iconX, iconY, TEXT_WHITE);
         }
     }
 
@@ -326,16 +408,18 @@ public class TaunahiGUI extends Screen {
 
         Macro activeMacro = manager.getActiveMacro();
         if (activeMacro != null) {
-            String text = "⬤ Active: " + activeMacro.getName() + " | Runtime: " + activeMacro.getRuntimeFormatted();
-            context.drawTextWithShadow(textRenderer, Text.literal(text), 10, barY + 8, RUNNING_COLOR);
+            long second = activeMacro.getRuntime() / 1000;
+            if (activeMacro != statusMacro || second != statusSecond) {
+                statusMacro = activeMacro;
+                statusSecond = second;
+                statusText = Text.literal("⬤ Active: " + activeMacro.getName() + " | Runtime: " + activeMacro.getRuntimeFormatted());
+            }
+            context.drawTextWithShadow(textRenderer, statusText, 10, barY + 8, RUNNING_COLOR);
         } else {
             context.drawTextWithShadow(textRenderer, NO_MACRO_RUNNING, 10, barY + 8, TEXT_DARK_GRAY);
         }
 
-        String totalText = "Total Macros: " + manager.getTotalMacroCount();
-        int totalWidth = textRenderer.getWidth(totalText);
-        context.drawTextWithShadow(textRenderer, Text.literal(totalText),
-                width - totalWidth - 10, barY + 8, TEXT_GRAY);
+        context.drawTextWithShadow(textRenderer, totalText, totalTextX, barY + 8, TEXT_GRAY);
     }
 
     private void renderTooltip(DrawContext context, int mouseX, int mouseY) {
@@ -347,18 +431,27 @@ public class TaunahiGUI extends Screen {
             statusInfo += " | Right-click for settings";
         }
 
-        int tooltipWidth = textRenderer.getWidth(statusInfo) + 8;
+        int tooltipWidth = textCache.getWidth(statusInfo) + 8;
         int tooltipHeight = 20;
         int tooltipX = Math.min(mouseX + 10, width - tooltipWidth - 5);
         int tooltipY = Math.min(mouseY + 10, height - tooltipHeight - 5);
 
         context.fill(tooltipX, tooltipY, tooltipX + tooltipWidth, tooltipY + tooltipHeight, 0xE0000000);
         context.fill(tooltipX, tooltipY, tooltipX + tooltipWidth, tooltipY + 1, ACCENT_COLOR);
-        context.drawTextWithShadow(textRenderer, Text.literal(statusInfo), tooltipX + 4, tooltipY + 6, TEXT_WHITE);
+        context.drawTextWithShadow(textRenderer, textCache.get(statusInfo), tooltipX + 4, tooltipY + 6, TEXT_WHITE);
     }
 
     @Override
     public boolean mouseClicked(double mouseX, double mouseY, int button) {
+        if (layoutDirty) {
+            rebuildLayout();
+        }
+
+        // Let the search box take its own clicks
+        if (searchField != null && searchField.isMouseOver(mouseX, mouseY)) {
+            return super.mouseClicked(mouseX, mouseY, button);
+        }
+
         // Left click
         if (button == 0) {
             if (mouseX < SIDEBAR_WIDTH) {
@@ -381,26 +474,24 @@ public class TaunahiGUI extends Screen {
     }
 
     private boolean handleCategoryClick(double mouseY) {
-        int y = 80;
-        for (MacroCategory category : MacroCategory.values()) {
-            Integer count = categoryCounts.get(category);
-            if (count == null || count == 0) continue;
-
-            if (mouseY >= y && mouseY < y + CATEGORY_HEIGHT) {
-                selectedCategory = category;
+        for (CategoryRow row : categoryRows) {
+            if (mouseY >= row.y && mouseY < row.y + CATEGORY_HEIGHT) {
+                selectedCategory = row.category;
                 scrollOffset = 0;
+                layoutDirty = true;
+                if (searchField != null && !searchQuery.isEmpty()) {
+                    searchField.setText("");
+                }
                 return true;
             }
-            y += CATEGORY_SPACING;
         }
         return false;
     }
 
     private boolean handleMacroLeftClick(double mouseX, double mouseY) {
-        List<Macro> macros = manager.getMacrosByCategory(selectedCategory);
-        int y = 45 - scrollOffset;
-
-        for (Macro macro : macros) {
+        for (MacroRow row : macroRows) {
+            Macro macro = row.macro;
+            int y = row.y;
             if (mouseY >= y && mouseY <= y + MACRO_HEIGHT &&
                     mouseX >= panelX + 10 && mouseX <= panelX + panelWidth - 10) {
 
@@ -424,24 +515,19 @@ public class TaunahiGUI extends Screen {
                 countsNeedUpdate = true;
                 return true;
             }
-            y += MACRO_SPACING;
         }
         return false;
     }
 
     private boolean handleMacroRightClick(double mouseX, double mouseY) {
-        List<Macro> macros = manager.getMacrosByCategory(selectedCategory);
-        int y = 45 - scrollOffset;
-
-        for (Macro macro : macros) {
-            if (mouseY >= y && mouseY <= y + MACRO_HEIGHT &&
+        for (MacroRow row : macroRows) {
+            if (mouseY >= row.y && mouseY <= row.y + MACRO_HEIGHT &&
                     mouseX >= panelX + 10 && mouseX <= panelX + panelWidth - 10) {
 
                 // Right-click opens settings
-                openSettings(macro);
+                openSettings(row.macro);
                 return true;
             }
-            y += MACRO_SPACING;
         }
         return false;
     }
@@ -458,12 +544,16 @@ public class TaunahiGUI extends Screen {
     @Override
     public boolean mouseScrolled(double mouseX, double mouseY, double horizontalAmount, double verticalAmount) {
         if (mouseX >= SIDEBAR_WIDTH) {
+            int previous = scrollOffset;
             scrollOffset -= (int) (verticalAmount * SCROLL_SPEED);
 
-            List<Macro> macros = manager.getMacrosByCategory(selectedCategory);
-            int maxScroll = Math.max(0, macros.size() * MACRO_SPACING - panelHeight);
+            int maxScroll = Math.max(0, macroCount * MACRO_SPACING - panelHeight);
             scrollOffset = Math.max(0, Math.min(scrollOffset, maxScroll));
 
+            if (scrollOffset != previous) {
+                layoutDirty = true;
+            }
+
             return true;
         }
         return super.mouseScrolled(mouseX, mouseY, horizontalAmount, verticalAmount);
@@ -489,4 +579,33 @@ public class TaunahiGUI extends Screen {
     public boolean shouldPause() {
         return false;
     }
+
+    private static class CategoryRow {
+        final MacroCategory category;
+        final int y;
+        final Text label;
+
+        CategoryRow(MacroCategory category, int y, Text label) {
+            this.category = category;
+            this.y = y;
+            this.label = label;
+        }
+    }
+
+    private static class MacroRow {
+        final Macro macro;
+        final int y;
+        final Text nameText;
+        final Text descriptionText;
+
+        long runtimeSecond = -1;
+        Text runtimeText;
+
+        MacroRow(Macro macro, int y, Text nameText, Text descriptionText) {
+            this.macro = macro;
+            this.y = y;
+            this.nameText = nameText;
+            this.descriptionText = descriptionText;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.donut.client.gui;
+
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Memoized Text objects and widths for strings drawn every frame
+ * - Keyed by string + formatting
+ * - Least recently used entries are dropped past MAX_ENTRIES
+ */
+public class TextCache {
+
+    private static final int MAX_ENTRIES = 512;
+
+    private final TextRenderer textRenderer;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public TextCache(TextRenderer textRenderer) {
+        this.textRenderer = textRenderer;
+    }
+
+    public Text get(String string) {
+        return entry(string, null).text;
+    }
+
+    public Text get(String string, Formatting formatting) {
+        return entry(string, formatting).text;
+    }
+
+    public int getWidth(String string) {
+        return getWidth(string, null);
+    }
+
+    public int getWidth(String string, Formatting formatting) {
+        Entry entry = entry(string, formatting);
+        if (entry.width < 0) {
+            entry.width = textRenderer.getWidth(entry.text);
+        }
+        return entry.width;
+    }
+
+    private Entry entry(String string, Formatting formatting) {
+        String key = formatting == null ? string : "\u00a7" + formatting.getCode() + string;
+
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            Text text = formatting == null ? Text.literal(string) : Text.literal(string).formatted(formatting);
+            entry = new Entry(text);
+            entries.put(key, entry);
+        }
+        return entry;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private static class Entry {
+        final Text text;
+        int width = -1;
+
+        Entry(Text text) {
+            this.text = text;
+        }
+    }
+}
\ No newline at end of file
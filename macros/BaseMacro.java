@@ -1,5 +1,6 @@
 package com.donut.client.macros;
 
+import com.donut.client.metrics.MetricRegistry;
 import net.minecraft.client.MinecraftClient;
 
 /**
@@ -40,6 +41,10 @@ public abstract class BaseMacro {
         this.totalRuntime = 0;
         this.itemsCollected = 0;
         this.coinsEarned = 0;
+
+        MetricRegistry metrics = MetricRegistry.getInstance();
+        metrics.gauge(name, "Items", () -> itemsCollected, true);
+        metrics.gauge(name, "Coins", () -> coinsEarned, true);
     }
 
     /**
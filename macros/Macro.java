@@ -1,5 +1,16 @@
 package com.donut.client.macros;
 
+import com.donut.client.macros.timeline.ActionTimeline;
+import com.donut.client.metrics.Counter;
+import com.donut.client.metrics.Gauge;
+import com.donut.client.metrics.LatencyHistogram;
+import com.donut.client.metrics.MetricRegistry;
+import com.donut.client.metrics.Profiler;
+import com.donut.client.world.WorldProvider;
+import com.donut.client.world.WorldView;
+
+import java.util.function.DoubleSupplier;
+
 /**
  * MACRO WITH SETTINGS SUPPORT
  * - Compatible with existing macros
@@ -20,12 +31,16 @@ public abstract class Macro {
     private int tickCounter = 0;
     private int throttleInterval = 10;
 
-    // Performance monitoring
-    private long lastTickDuration = 0;
-    private long avgTickDuration = 0;
+    // Performance monitoring (nanoseconds)
+    private long lastTickNanos = 0;
+    private long avgTickNanos = 0;
     private int tickCount = 0;
+    private LatencyHistogram tickHistogram = null;
 
-    private static final long LAG_THRESHOLD_MS = 5;
+    private static final long LAG_THRESHOLD_NANOS = 5_000_000;
+
+    // Waits and multi-step actions, advanced every client tick
+    private ActionTimeline timeline = new ActionTimeline();
 
     public Macro() {
         this.name = getClass().getSimpleName();
@@ -55,6 +70,43 @@ public abstract class Macro {
         }
     }
 
+    /**
+     * Counter shown on the metrics HUD for this macro, reset on every enable
+     */
+    protected Counter counter(String metric) {
+        return MetricRegistry.getInstance().counter(name, metric);
+    }
+
+    /**
+     * Gauge shown on the metrics HUD. Cumulative gauges also get a rate per hour
+     */
+    protected Gauge gauge(String metric, DoubleSupplier supplier, boolean cumulative) {
+        return MetricRegistry.getInstance().gauge(name, metric, supplier, cumulative);
+    }
+
+    /**
+     * World to read and act on: the live client, or a headless world during a replay
+     */
+    protected WorldView world() {
+        return WorldProvider.getInstance().getView();
+    }
+
+    /**
+     * Timeline for delays and multi-step actions. Runs every tick, ignoring the throttle,
+     * and is cleared when the macro is disabled
+     */
+    protected ActionTimeline timeline() {
+        return timeline;
+    }
+
+    /**
+     * Put a macro driven from this one's onTick() on this macro's timeline,
+     * so its waits keep advancing while only the host is ticked
+     */
+    protected void shareTimeline(Macro child) {
+        child.timeline = timeline;
+    }
+
     /**
      * Get settings (null if macro has no settings)
      */
@@ -80,6 +132,7 @@ public abstract class Macro {
     public final void tick() {
         if (!enabled) return;
 
+        timeline.tick();
         tickCounter++;
 
         if (tickCounter % throttleInterval != 0) {
@@ -87,22 +140,26 @@ public abstract class Macro {
         }
 
         long start = System.nanoTime();
+        Profiler.push(name);
 
         try {
             onTick();
         } catch (Exception e) {
             System.err.println("[Macro] Error in " + name + ": " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            Profiler.pop();
         }
 
         long end = System.nanoTime();
-        lastTickDuration = (end - start) / 1_000_000;
+        lastTickNanos = end - start;
+        getTickHistogram().record(lastTickNanos);
 
         tickCount++;
-        avgTickDuration = ((avgTickDuration * (tickCount - 1)) + lastTickDuration) / tickCount;
+        avgTickNanos = ((avgTickNanos * (tickCount - 1)) + lastTickNanos) / tickCount;
 
-        if (lastTickDuration > LAG_THRESHOLD_MS) {
-            System.out.println("[PERFORMANCE] " + name + " took " + lastTickDuration + "ms");
+        if (lastTickNanos > LAG_THRESHOLD_NANOS) {
+            System.out.println("[PERFORMANCE] " + name + " took " + formatMillis(lastTickNanos) + "ms");
         }
     }
 
@@ -113,12 +170,14 @@ public abstract class Macro {
         this.startTime = System.currentTimeMillis();
         this.tickCounter = 0;
         this.tickCount = 0;
-        this.avgTickDuration = 0;
+        this.avgTickNanos = 0;
+        MetricRegistry.getInstance().reset(name);
         onEnable();
     }
 
     public void disable() {
         this.enabled = false;
+        timeline.cancelAll();
         if (startTime > 0) {
             runtime += System.currentTimeMillis() - startTime;
         }
@@ -185,7 +244,7 @@ public abstract class Macro {
 
     public String getStatusInfo() {
         if (enabled) {
-            return "Running | Avg: " + avgTickDuration + "ms | Throttle: " + throttleInterval;
+            return "Running | Avg: " + formatMillis(avgTickNanos) + "ms | Throttle: " + throttleInterval;
         }
         return "Click to toggle macro";
     }
@@ -194,14 +253,28 @@ public abstract class Macro {
         return 0.0;
     }
 
+    /**
+     * Nanosecond cost of every onTick() this session
+     */
+    public LatencyHistogram getTickHistogram() {
+        if (tickHistogram == null) {
+            tickHistogram = MetricRegistry.getInstance().histogram(name, "Tick");
+        }
+        return tickHistogram;
+    }
+
     public String getPerformanceStats() {
-        return String.format("Last: %dms | Avg: %dms | Throttle: %d ticks",
-                lastTickDuration, avgTickDuration, throttleInterval);
+        return String.format("Last: %sms | Avg: %sms | Throttle: %d ticks",
+                formatMillis(lastTickNanos), formatMillis(avgTickNanos), throttleInterval);
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
     }
 
     public void resetStats() {
         tickCount = 0;
-        avgTickDuration = 0;
-        lastTickDuration = 0;
+        avgTickNanos = 0;
+        lastTickNanos = 0;
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.donut.client.macros;
 
+import com.donut.client.render.MetricsHud;
+
 import java.util.*;
 
 /**
@@ -13,6 +15,9 @@ public class MacroManager {
     private Macro activeMacro = null;
     private List<MacroListener> listeners = new ArrayList<>();
 
+    // Search index over all macros, rebuilt lazily after registration
+    private MacroSearchIndex searchIndex = null;
+
     // Statistics
     private int totalStarts = 0;
     private long totalRuntime = 0;
@@ -49,6 +54,7 @@ public class MacroManager {
         for (MacroCategory category : MacroCategory.values()) {
             macros.put(category, new ArrayList<>());
         }
+        MetricsHud.getInstance();
     }
 
     public static MacroManager getInstance() {
@@ -63,6 +69,7 @@ public class MacroManager {
      */
     public void registerMacro(MacroCategory category, Macro macro) {
         macros.get(category).add(macro);
+        searchIndex = null;
         System.out.println("[Macro Manager] Registered: " + macro.getName() + " in " + category.name);
     }
 
@@ -128,6 +135,13 @@ public class MacroManager {
         return new ArrayList<>(macros.get(category));
     }
 
+    /**
+     * Read-only view of a category's macros (no copy, for per-frame use)
+     */
+    public List<Macro> getMacrosView(MacroCategory category) {
+        return Collections.unmodifiableList(macros.get(category));
+    }
+
     /**
      * Get all categories
      */
@@ -185,17 +199,25 @@ public class MacroManager {
      * Get macros by name pattern
      */
     public List<Macro> findMacrosByPattern(String pattern) {
-        List<Macro> found = new ArrayList<>();
-        String lowerPattern = pattern.toLowerCase();
+        return getSearchIndex().searchNames(pattern);
+    }
 
-        for (List<Macro> categoryMacros : macros.values()) {
-            for (Macro macro : categoryMacros) {
-                if (macro.getName().toLowerCase().contains(lowerPattern)) {
-                    found.add(macro);
-                }
+    /**
+     * Search names and descriptions, best matches first
+     */
+    public List<Macro> searchMacros(String query) {
+        return getSearchIndex().search(query);
+    }
+
+    private MacroSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            List<Macro> all = new ArrayList<>();
+            for (List<Macro> categoryMacros : macros.values()) {
+                all.addAll(categoryMacros);
             }
+            searchIndex = new MacroSearchIndex(all);
         }
-        return found;
+        return searchIndex;
     }
 
     /**
@@ -0,0 +1,174 @@
+package com.donut.client.macros;
+
+import java.util.*;
+
+/**
+ * Substring search over macro names and descriptions
+ * - Every 1-, 2- and 3-character gram maps to a sorted list of macro ids
+ * - Queries up to 3 characters are a single lookup
+ * - Longer queries intersect their trigram lists, then verify the few survivors
+ * Built once from the registered macros; MacroManager rebuilds it on registration.
+ */
+public class MacroSearchIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final List<Macro> entries;
+    private final String[] names;
+    private final String[] descriptions;
+
+    // Gram -> ids in name / in name or description
+    private final Map<String, int[]> namePostings;
+    private final Map<String, int[]> allPostings;
+
+    public MacroSearchIndex(List<Macro> macros) {
+        this.entries = new ArrayList<>(macros);
+        this.names = new String[entries.size()];
+        this.descriptions = new String[entries.size()];
+
+        Map<String, List<Integer>> nameGrams = new HashMap<>();
+        Map<String, List<Integer>> allGrams = new HashMap<>();
+
+        for (int id = 0; id < entries.size(); id++) {
+            Macro macro = entries.get(id);
+            names[id] = lower(macro.getName());
+            descriptions[id] = lower(macro.getDescription());
+
+            Set<String> seenName = new HashSet<>();
+            Set<String> seenAll = new HashSet<>();
+            addGrams(names[id], seenName);
+            seenAll.addAll(seenName);
+            addGrams(descriptions[id], seenAll);
+
+            for (String gram : seenName) {
+                nameGrams.computeIfAbsent(gram, k -> new ArrayList<>()).add(id);
+            }
+            for (String gram : seenAll) {
+                allGrams.computeIfAbsent(gram, k -> new ArrayList<>()).add(id);
+            }
+        }
+
+        this.namePostings = toArrays(nameGrams);
+        this.allPostings = toArrays(allGrams);
+    }
+
+    /**
+     * Macros whose name contains the query (case-insensitive), in registration order
+     */
+    public List<Macro> searchNames(String query) {
+        List<Macro> result = new ArrayList<>();
+        String lowerQuery = lower(query);
+
+        for (int id : candidates(namePostings, lowerQuery)) {
+            if (names[id].contains(lowerQuery)) {
+                result.add(entries.get(id));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Macros whose name or description contains the query.
+     * Name prefix matches come first, then other name matches, then description matches
+     */
+    public List<Macro> search(String query) {
+        String lowerQuery = lower(query);
+        if (lowerQuery.isEmpty()) {
+            return new ArrayList<>(entries);
+        }
+
+        List<Macro> prefix = new ArrayList<>();
+        List<Macro> name = new ArrayList<>();
+        List<Macro> description = new ArrayList<>();
+
+        for (int id : candidates(allPostings, lowerQuery)) {
+            if (names[id].startsWith(lowerQuery)) {
+                prefix.add(entries.get(id));
+            } else if (names[id].contains(lowerQuery)) {
+                name.add(entries.get(id));
+            } else if (descriptions[id].contains(lowerQuery)) {
+                description.add(entries.get(id));
+            }
+        }
+
+        prefix.addAll(name);
+        prefix.addAll(description);
+        return prefix;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Ids that contain every trigram of the query (or the whole short query)
+     */
+    private int[] candidates(Map<String, int[]> postings, String query) {
+        if (query.isEmpty()) {
+            int[] all = new int[entries.size()];
+            for (int i = 0; i < all.length; i++) all[i] = i;
+            return all;
+        }
+
+        if (query.length() <= 3) {
+            return postings.getOrDefault(query, EMPTY);
+        }
+
+        // Start from the rarest trigram to keep the intersection small
+        List<int[]> lists = new ArrayList<>();
+        for (int i = 0; i + 3 <= query.length(); i++) {
+            int[] list = postings.get(query.substring(i, i + 3));
+            if (list == null) return EMPTY;
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static void addGrams(String text, Set<String> grams) {
+        for (int length = 1; length <= 3; length++) {
+            for (int i = 0; i + length <= text.length(); i++) {
+                grams.add(text.substring(i, i + length));
+            }
+        }
+    }
+
+    private static Map<String, int[]> toArrays(Map<String, List<Integer>> grams) {
+        Map<String, int[]> postings = new HashMap<>(grams.size() * 2);
+        for (Map.Entry<String, List<Integer>> entry : grams.entrySet()) {
+            List<Integer> ids = entry.getValue();
+            int[] array = new int[ids.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = ids.get(i);
+            }
+            postings.put(entry.getKey(), array);
+        }
+        return postings;
+    }
+
+    private static String lower(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
\ No newline at end of file
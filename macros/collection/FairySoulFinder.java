@@ -1,6 +1,7 @@
 package com.donut.client.macros.collection;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.render.WorldOverlay;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.decoration.ArmorStandEntity;
@@ -15,12 +16,15 @@ import java.util.*;
  */
 public class FairySoulFinder extends Macro {
 
+    private static final String OVERLAY_KEY = "fairy_souls";
+
     private final MinecraftClient mc;
 
     // State
     private FairySoul nearestSoul = null;
     private List<FairySoul> knownSouls = new ArrayList<>();
     private Set<BlockPos> collectedSouls = new HashSet<>();
+    private Set<BlockPos> highlightedSouls = new HashSet<>();
 
     // Settings
     private boolean autoNavigate = true;
@@ -54,6 +58,8 @@ public class FairySoulFinder extends Macro {
     public void onDisable() {
         super.onDisable();
         System.out.println("[Fairy Soul Finder] Disabled");
+        WorldOverlay.getInstance().clear(OVERLAY_KEY);
+        highlightedSouls.clear();
         printStatistics();
     }
 
@@ -110,6 +116,10 @@ public class FairySoulFinder extends Macro {
             }
         }
 
+        if (highlightSouls) {
+            updateHighlights();
+        }
+
         // Update nearest soul
         if (nearest != nearestSoul) {
             nearestSoul = nearest;
@@ -122,6 +132,21 @@ public class FairySoulFinder extends Macro {
         }
     }
 
+    /**
+     * Re-register the beams only when the set of known souls changed
+     */
+    private void updateHighlights() {
+        Set<BlockPos> positions = new HashSet<>();
+        for (FairySoul soul : knownSouls) {
+            positions.add(soul.position);
+        }
+
+        if (positions.equals(highlightedSouls)) return;
+
+        highlightedSouls = positions;
+        WorldOverlay.getInstance().setHighlights(OVERLAY_KEY, positions, WorldOverlay.Shape.BEAM, 0x80FF55FF, 0);
+    }
+
     /**
      * Check if armor stand is a fairy soul
      */
@@ -309,6 +334,10 @@ public class FairySoulFinder extends Macro {
 
     public void setHighlightSouls(boolean highlight) {
         this.highlightSouls = highlight;
+        if (!highlight) {
+            WorldOverlay.getInstance().clear(OVERLAY_KEY);
+            highlightedSouls.clear();
+        }
     }
 
     public void setScanRadius(double radius) {
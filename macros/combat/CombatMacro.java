@@ -1,12 +1,11 @@
 package com.donut.client.macros.combat;
 
 import com.donut.client.macros.Macro;
-import net.minecraft.client.MinecraftClient;
-import net.minecraft.entity.Entity;
-import net.minecraft.entity.LivingEntity;
-import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.entity.mob.HostileEntity;
-import net.minecraft.entity.passive.PassiveEntity;
+import com.donut.client.metrics.Counter;
+import com.donut.client.pathfinding.MultiGoalSearch;
+import com.donut.client.world.EntityView;
+import com.donut.client.world.PlayerView;
+import com.donut.client.world.WorldView;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 
@@ -18,11 +17,11 @@ import java.util.*;
  */
 public class CombatMacro extends Macro {
 
-    private final MinecraftClient mc;
+    private final MultiGoalSearch targetSearch = new MultiGoalSearch();
 
     // State
     private CombatState state = CombatState.IDLE;
-    private LivingEntity currentTarget = null;
+    private EntityView currentTarget = null;
     private long lastAttackTime = 0;
 
     // Targeting settings
@@ -73,6 +72,7 @@ public class CombatMacro extends Macro {
 
     // Statistics
     private int killCount = 0;
+    private final Counter killMetric = counter("Kills");
     private int hitCount = 0;
     private int missCount = 0;
     private double damageDealt = 0;
@@ -102,7 +102,6 @@ public class CombatMacro extends Macro {
 
     public CombatMacro() {
         super("Combat Macro", "General mob grinding and combat");
-        this.mc = MinecraftClient.getInstance();
     }
 
     @Override
@@ -130,7 +129,7 @@ public class CombatMacro extends Macro {
 
     @Override
     public void onTick() {
-        if (mc.player == null || mc.world == null) return;
+        if (!world().isReady()) return;
 
         // Check area bounds
         if (stayInArea && !isInArea()) {
@@ -143,7 +142,7 @@ public class CombatMacro extends Macro {
         }
 
         // Check health
-        if (autoHeal && mc.player.getHealth() < healThreshold) {
+        if (autoHeal && world().getPlayer().getHealth() < healThreshold) {
             state = CombatState.HEALING;
         }
 
@@ -174,24 +173,20 @@ public class CombatMacro extends Macro {
      * Scan for valid targets
      */
     private void scanForTargets() {
-        if (mc.player == null || mc.world == null) return;
+        if (!world().isReady()) return;
 
-        List<LivingEntity> validTargets = new ArrayList<>();
+        PlayerView player = world().getPlayer();
+        List<EntityView> validTargets = new ArrayList<>();
 
         // Find all entities in range
-        for (Entity entity : mc.world.getEntities()) {
-            if (!(entity instanceof LivingEntity)) continue;
-            if (entity == mc.player) continue;
-
-            LivingEntity living = (LivingEntity) entity;
-
+        for (EntityView entity : world().getLivingEntities()) {
             // Check distance
-            double distance = mc.player.distanceTo(living);
+            double distance = player.distanceTo(entity);
             if (distance > scanRadius) continue;
 
             // Check if valid target
-            if (isValidTarget(living)) {
-                validTargets.add(living);
+            if (isValidTarget(entity)) {
+                validTargets.add(entity);
             }
         }
 
@@ -199,23 +194,23 @@ public class CombatMacro extends Macro {
             // Select best target based on priority
             currentTarget = selectBestTarget(validTargets);
             state = CombatState.MOVING;
-            System.out.println("[Combat] Target acquired: " + currentTarget.getName().getString());
+            System.out.println("[Combat] Target acquired: " + currentTarget.getName());
         }
     }
 
     /**
      * Check if entity is valid target
      */
-    private boolean isValidTarget(LivingEntity entity) {
+    private boolean isValidTarget(EntityView entity) {
         // Check if dead
         if (!entity.isAlive() || entity.getHealth() <= 0) return false;
 
         // Check entity type
-        if (entity instanceof PlayerEntity && !targetPlayers) return false;
-        if (entity instanceof PassiveEntity && !targetPassive) return false;
-        if (entity instanceof HostileEntity && !targetHostile) return false;
+        if (entity.getKind() == EntityView.Kind.PLAYER && !targetPlayers) return false;
+        if (entity.getKind() == EntityView.Kind.PASSIVE && !targetPassive) return false;
+        if (entity.getKind() == EntityView.Kind.HOSTILE && !targetHostile) return false;
 
-        String name = entity.getName().getString().toLowerCase();
+        String name = entity.getName().toLowerCase();
 
         // Check whitelist (if not empty, only target whitelisted)
         if (!targetWhitelist.isEmpty()) {
@@ -242,23 +237,21 @@ public class CombatMacro extends Macro {
     /**
      * Select best target from list
      */
-    private LivingEntity selectBestTarget(List<LivingEntity> targets) {
+    private EntityView selectBestTarget(List<EntityView> targets) {
         if (targets.isEmpty()) return null;
 
         switch (targetPriority) {
             case NEAREST:
-                return targets.stream()
-                        .min(Comparator.comparingDouble(e -> mc.player.distanceTo(e)))
-                        .orElse(null);
+                return selectNearestReachable(targets);
 
             case LOWEST_HEALTH:
                 return targets.stream()
-                        .min(Comparator.comparingDouble(LivingEntity::getHealth))
+                        .min(Comparator.comparingDouble(EntityView::getHealth))
                         .orElse(null);
 
             case HIGHEST_HEALTH:
                 return targets.stream()
-                        .max(Comparator.comparingDouble(LivingEntity::getHealth))
+                        .max(Comparator.comparingDouble(EntityView::getHealth))
                         .orElse(null);
 
             case HIGHEST_THREAT:
@@ -270,11 +263,32 @@ public class CombatMacro extends Macro {
         return targets.get(0);
     }
 
+    /**
+     * Nearest target by real walking cost, falling back to straight-line distance
+     * if none of them can be reached
+     */
+    private EntityView selectNearestReachable(List<EntityView> targets) {
+        PlayerView player = world().getPlayer();
+        Map<BlockPos, EntityView> byPos = new HashMap<>();
+        for (EntityView target : targets) {
+            byPos.putIfAbsent(target.getBlockPos(), target);
+        }
+
+        MultiGoalSearch.Result result = targetSearch.findNearest(player.getBlockPos(), byPos.keySet(), attackRange);
+        if (result != null) {
+            return byPos.get(result.getGoal());
+        }
+
+        return targets.stream()
+                .min(Comparator.comparingDouble(player::distanceTo))
+                .orElse(null);
+    }
+
     /**
      * Calculate threat level
      */
-    private double calculateThreat(LivingEntity entity) {
-        double distance = mc.player.distanceTo(entity);
+    private double calculateThreat(EntityView entity) {
+        double distance = world().getPlayer().distanceTo(entity);
         double health = entity.getHealth();
         // Higher health + closer = higher threat
         return health / Math.max(distance, 1.0);
@@ -290,7 +304,7 @@ public class CombatMacro extends Macro {
             return;
         }
 
-        double distance = mc.player.distanceTo(currentTarget);
+        double distance = world().getPlayer().distanceTo(currentTarget);
 
         // Check if in attack range
         if (distance <= attackRange) {
@@ -300,24 +314,23 @@ public class CombatMacro extends Macro {
         }
 
         // Move towards target
+        PlayerView player = world().getPlayer();
         Vec3d targetPos = currentTarget.getPos();
-        Vec3d playerPos = mc.player.getPos();
+        Vec3d playerPos = player.getPos();
 
         double dx = targetPos.x - playerPos.x;
         double dz = targetPos.z - playerPos.z;
 
         // Set yaw
         float yaw = (float) Math.toDegrees(Math.atan2(dz, dx)) - 90;
-        mc.player.setYaw(yaw);
+        player.setYaw(yaw);
 
         // Move forward
-        if (mc.options != null) {
-            mc.options.forwardKey.setPressed(true);
+        world().setKey(WorldView.Key.FORWARD, true);
 
-            // Jump if blocked
-            if (mc.player.horizontalCollision) {
-                mc.options.jumpKey.setPressed(true);
-            }
+        // Jump if blocked
+        if (player.hasHorizontalCollision()) {
+            world().setKey(WorldView.Key.JUMP, true);
         }
     }
 
@@ -327,6 +340,7 @@ public class CombatMacro extends Macro {
     private void attackTarget() {
         if (currentTarget == null || !currentTarget.isAlive()) {
             killCount++;
+            killMetric.increment();
             currentTarget = null;
 
             if (autoLoot) {
@@ -338,7 +352,7 @@ public class CombatMacro extends Macro {
         }
 
         // Check if target out of range
-        double distance = mc.player.distanceTo(currentTarget);
+        double distance = world().getPlayer().distanceTo(currentTarget);
         if (distance > attackRange + 1) {
             state = CombatState.MOVING;
             return;
@@ -360,7 +374,7 @@ public class CombatMacro extends Macro {
         }
 
         // Attack based on APS
-        long now = System.currentTimeMillis();
+        long now = world().getTimeMillis();
         long attackInterval = 1000 / attacksPerSecond;
 
         if (now - lastAttackTime >= attackInterval) {
@@ -373,22 +387,21 @@ public class CombatMacro extends Macro {
      * Perform attack
      */
     private void performAttack() {
-        if (mc.player == null || currentTarget == null) return;
+        PlayerView player = world().getPlayer();
+        if (player == null || currentTarget == null) return;
 
         // Critical hit (sprint + hit)
-        if (criticalHits && !mc.player.isSprinting()) {
-            mc.player.setSprinting(true);
+        if (criticalHits && !player.isSprinting()) {
+            player.setSprinting(true);
         }
 
         // Jump attack
-        if (jumpAttack && mc.player.isOnGround()) {
-            if (mc.options != null) {
-                mc.options.jumpKey.setPressed(true);
-            }
+        if (jumpAttack && player.isOnGround()) {
+            world().setKey(WorldView.Key.JUMP, true);
         }
 
         // TODO: Actual attack with packets
-        System.out.println("[Combat] Attacking " + currentTarget.getName().getString());
+        System.out.println("[Combat] Attacking " + currentTarget.getName());
         hitCount++;
         comboHits++;
 
@@ -402,9 +415,10 @@ public class CombatMacro extends Macro {
     /**
      * Look at entity
      */
-    private void lookAtEntity(LivingEntity entity) {
+    private void lookAtEntity(EntityView entity) {
+        PlayerView player = world().getPlayer();
         Vec3d targetPos = entity.getEyePos();
-        Vec3d playerPos = mc.player.getEyePos();
+        Vec3d playerPos = player.getEyePos();
 
         double dx = targetPos.x - playerPos.x;
         double dy = targetPos.y - playerPos.y;
@@ -415,15 +429,15 @@ public class CombatMacro extends Macro {
         float yaw = (float) Math.toDegrees(Math.atan2(dz, dx)) - 90;
         float pitch = (float) -Math.toDegrees(Math.atan2(dy, horizontalDistance));
 
-        mc.player.setYaw(yaw);
-        mc.player.setPitch(pitch);
+        player.setYaw(yaw);
+        player.setPitch(pitch);
     }
 
     /**
      * Perform strafe movement
      */
     private void performStrafe() {
-        long now = System.currentTimeMillis();
+        long now = world().getTimeMillis();
 
         // Change direction every second
         if (now - lastStrafeChange > 1000) {
@@ -431,25 +445,16 @@ public class CombatMacro extends Macro {
             lastStrafeChange = now;
         }
 
-        if (mc.options != null) {
-            if (strafeDirection > 0) {
-                mc.options.rightKey.setPressed(true);
-                mc.options.leftKey.setPressed(false);
-            } else {
-                mc.options.leftKey.setPressed(true);
-                mc.options.rightKey.setPressed(false);
-            }
-        }
+        world().setKey(WorldView.Key.RIGHT, strafeDirection > 0);
+        world().setKey(WorldView.Key.LEFT, strafeDirection < 0);
     }
 
     /**
      * Move away from target
      */
     private void moveAway() {
-        if (mc.options != null) {
-            mc.options.backKey.setPressed(true);
-            mc.options.forwardKey.setPressed(false);
-        }
+        world().setKey(WorldView.Key.BACK, true);
+        world().setKey(WorldView.Key.FORWARD, false);
     }
 
     /**
@@ -478,7 +483,7 @@ public class CombatMacro extends Macro {
         // TODO: Eat food or use potion
 
         // Return to combat when healed
-        if (mc.player.getHealth() >= healThreshold + 4) {
+        if (world().getPlayer().getHealth() >= healThreshold + 4) {
             state = CombatState.SCANNING;
         }
     }
@@ -497,7 +502,7 @@ public class CombatMacro extends Macro {
     private boolean isInArea() {
         if (!stayInArea || areaCenter == null) return true;
 
-        BlockPos playerPos = mc.player.getBlockPos();
+        BlockPos playerPos = world().getPlayer().getBlockPos();
         return playerPos.getSquaredDistance(areaCenter) <= areaRadius * areaRadius;
     }
 
@@ -512,13 +517,7 @@ public class CombatMacro extends Macro {
      * Stop all movement
      */
     private void stopMovement() {
-        if (mc.options != null) {
-            mc.options.forwardKey.setPressed(false);
-            mc.options.backKey.setPressed(false);
-            mc.options.leftKey.setPressed(false);
-            mc.options.rightKey.setPressed(false);
-            mc.options.jumpKey.setPressed(false);
-        }
+        world().releaseMovementKeys();
     }
 
     /**
@@ -548,9 +547,9 @@ public class CombatMacro extends Macro {
     public String getStatus() {
         if (currentTarget != null) {
             return String.format("ATTACKING | Kills: %d (%d/hr) | Accuracy: %.1f%% | HP: %.1f",
-                    killCount, getKillsPerHour(), getAccuracy(), mc.player.getHealth());
+                    killCount, getKillsPerHour(), getAccuracy(), world().getPlayer().getHealth());
         }
-        return String.format("%s | Kills: %d | HP: %.1f", state, killCount, mc.player.getHealth());
+        return String.format("%s | Kills: %d | HP: %.1f", state, killCount, world().getPlayer().getHealth());
     }
 
     private long getKillsPerHour() {
@@ -1,6 +1,8 @@
 package com.donut.client.macros.combat;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Action;
+import com.donut.client.macros.timeline.Actions;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.Entity;
 import net.minecraft.util.math.BlockPos;
@@ -96,6 +98,9 @@ public class DungeonMacro extends Macro {
     public void onTick() {
         if (!enabled || mc.player == null || mc.world == null) return;
 
+        // Waiting on a scheduled step
+        if (!timeline().isIdle()) return;
+
         switch (state) {
             case IDLE:
                 break;
@@ -140,13 +145,11 @@ public class DungeonMacro extends Macro {
         System.out.println("[Dungeon] Entering " + currentFloor + "...");
 
         // Wait for dungeon to load
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        state = DungeonState.SCANNING_ROOM;
+        timeline().schedule(
+                Actions.delayMillis(2000),
+                Actions.run(() -> {
+                    state = DungeonState.SCANNING_ROOM;
+                }));
     }
 
     /**
@@ -244,29 +247,26 @@ public class DungeonMacro extends Macro {
 
         System.out.println("[Dungeon] Found " + secrets.size() + " secrets!");
 
-        // Go to each secret
+        // Go to each secret in turn
+        List<Action> steps = new ArrayList<>();
         for (BlockPos secret : secrets) {
-            goToSecret(secret);
-            secretsFound++;
+            steps.add(goToSecret(secret));
+            steps.add(Actions.run(() -> secretsFound++));
         }
+        steps.add(Actions.run(this::checkForNextRoom));
 
-        checkForNextRoom();
+        timeline().schedule(steps.toArray(new Action[0]));
     }
 
     /**
      * Go to secret location
      */
-    private void goToSecret(BlockPos secret) {
-        System.out.println("[Dungeon] Going to secret at " + secret);
-
+    private Action goToSecret(BlockPos secret) {
         // TODO: Pathfind to secret
         // Handle different secret types (chest, bat, item frame, etc.)
-
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        return Actions.sequence(
+                Actions.run(() -> System.out.println("[Dungeon] Going to secret at " + secret)),
+                Actions.delayMillis(500));
     }
 
     /**
@@ -449,14 +449,12 @@ public class DungeonMacro extends Macro {
         // TODO: Open reward chests
         // TODO: Collect items
 
-        try {
-            Thread.sleep(3000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        state = DungeonState.COMPLETE;
-        System.out.println("[Dungeon] Run complete! Total runs: " + runsCompleted);
+        timeline().schedule(
+                Actions.delayMillis(3000),
+                Actions.run(() -> {
+                    state = DungeonState.COMPLETE;
+                    System.out.println("[Dungeon] Run complete! Total runs: " + runsCompleted);
+                }));
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.donut.client.macros.combat;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.mob.ZombieEntity;
@@ -72,6 +73,9 @@ public class GhoulKillerMacro extends Macro {
     public void onTick() {
         if (!enabled || mc.player == null || mc.world == null) return;
 
+        // Waiting on a scheduled step
+        if (!timeline().isIdle()) return;
+
         switch (state) {
             case IDLE:
                 // Wait
@@ -265,14 +269,12 @@ public class GhoulKillerMacro extends Macro {
         System.out.println("[Ghoul Killer] Collecting loot...");
 
         // Wait a bit for items to spawn
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        targetGhoul = null;
-        state = KillState.SEARCHING;
+        timeline().schedule(
+                Actions.delayMillis(500),
+                Actions.run(() -> {
+                    targetGhoul = null;
+                    state = KillState.SEARCHING;
+                }));
     }
 
     /**
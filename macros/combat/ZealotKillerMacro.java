@@ -1,6 +1,7 @@
 package com.donut.client.macros.combat;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.mob.EndermanEntity;
@@ -61,6 +62,9 @@ public class ZealotKillerMacro extends Macro {
     public void onTick() {
         if (!enabled || mc.player == null || mc.world == null) return;
 
+        // Waiting on a scheduled step
+        if (!timeline().isIdle()) return;
+
         switch (state) {
             case IDLE:
                 break;
@@ -216,14 +220,12 @@ public class ZealotKillerMacro extends Macro {
         System.out.println("[Zealot Killer] Collecting loot...");
 
         // Wait for items to spawn
-        try {
-            Thread.sleep(300);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        targetZealot = null;
-        state = KillState.SEARCHING;
+        timeline().schedule(
+                Actions.delayMillis(300),
+                Actions.run(() -> {
+                    targetZealot = null;
+                    state = KillState.SEARCHING;
+                }));
     }
 
     /**
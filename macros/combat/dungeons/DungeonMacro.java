@@ -1,6 +1,7 @@
 package com.donut.client.macros.combat.dungeons;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
 import com.donut.client.utils.ClientSideInputHelper;
 import com.donut.client.utils.BlockScanner;
 import net.minecraft.client.MinecraftClient;
@@ -199,14 +200,9 @@ public class DungeonMacro extends Macro {
         lastActionTime = now;
 
         // Release after short delay
-        new Thread(() -> {
-            try {
-                Thread.sleep(50);
-                ClientSideInputHelper.leftClick(false);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+        timeline().schedule(
+                Actions.delayMillis(50),
+                Actions.run(() -> ClientSideInputHelper.leftClick(false)));
     }
 
     private void findSecrets() {
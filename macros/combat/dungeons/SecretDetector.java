@@ -1,6 +1,7 @@
 package com.donut.client.macros.combat.dungeons;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.render.WorldOverlay;
 import com.donut.client.utils.BlockScanner;
 import net.minecraft.block.Blocks;
 import net.minecraft.client.MinecraftClient;
@@ -15,6 +16,8 @@ import java.util.List;
  */
 public class SecretDetector extends Macro {
 
+    private static final String OVERLAY_KEY = "dungeon_secrets";
+
     private final MinecraftClient mc = MinecraftClient.getInstance();
     private final BlockScanner scanner = new BlockScanner();
 
@@ -47,10 +50,17 @@ public class SecretDetector extends Macro {
 
         foundSecrets.clear();
         secretCount = 0;
+        WorldOverlay.getInstance().clear(OVERLAY_KEY);
 
         log("Secret detector started");
     }
 
+    @Override
+    public void onDisable() {
+        super.onDisable();
+        WorldOverlay.getInstance().clear(OVERLAY_KEY);
+    }
+
     @Override
     public void onTick() {
         if (mc.player == null || mc.world == null) return;
@@ -65,6 +75,7 @@ public class SecretDetector extends Macro {
                 secretCount++;
 
                 log("Found secret #" + secretCount + " at: " + secret);
+                WorldOverlay.getInstance().add(OVERLAY_KEY, secret, WorldOverlay.Shape.BOX, 0x6600FF00, 0);
 
                 if (settings.getBoolean("playSound")) {
                     // Play sound (client-side)
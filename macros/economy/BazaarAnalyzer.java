@@ -1,6 +1,9 @@
 package com.donut.client.macros.economy;
 
+import com.donut.client.api.HypixelAPI;
 import com.donut.client.macros.Macro;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import net.minecraft.client.MinecraftClient;
 
 import java.util.*;
@@ -101,6 +104,18 @@ public class BazaarAnalyzer extends Macro {
         updateProduct("ENCHANTED_BLAZE_ROD", 180000, 186000, 2000, 1900);
     }
 
+    /**
+     * Load every product of a /skyblock/bazaar response
+     */
+    public void loadBazaar(JsonObject bazaarData) {
+        if (bazaarData == null || !bazaarData.has("products")) return;
+
+        for (Map.Entry<String, JsonElement> entry : bazaarData.getAsJsonObject("products").entrySet()) {
+            HypixelAPI.BazaarProduct product = new HypixelAPI.BazaarProduct(entry.getKey(), entry.getValue().getAsJsonObject());
+            updateProduct(product.productId, product.buyPrice, product.sellPrice, product.buyVolume, product.sellVolume);
+        }
+    }
+
     /**
      * Update product data
      */
@@ -1,6 +1,7 @@
 package com.donut.client.macros.events;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.render.WorldOverlay;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.Entity;
 import net.minecraft.util.math.BlockPos;
@@ -14,6 +15,8 @@ import java.util.*;
  */
 public class DianaEventMacro extends Macro {
 
+    private static final String OVERLAY_KEY = "diana_burrows";
+
     private final MinecraftClient mc;
 
     // State
@@ -88,6 +91,7 @@ public class DianaEventMacro extends Macro {
     public void onDisable() {
         super.onDisable();
         System.out.println("[Diana] Stopped");
+        WorldOverlay.getInstance().clear(OVERLAY_KEY);
         printStatistics();
     }
 
@@ -165,6 +169,7 @@ public class DianaEventMacro extends Macro {
 
         // Select nearest burrow
         if (!detectedBurrows.isEmpty()) {
+            highlightBurrows();
             targetBurrow = findNearestBurrow();
             currentBurrowType = getBurrowType(targetBurrow);
 
@@ -175,6 +180,30 @@ public class DianaEventMacro extends Macro {
         }
     }
 
+    /**
+     * Show detected burrows in the world, coloured by type
+     */
+    private void highlightBurrows() {
+        WorldOverlay overlay = WorldOverlay.getInstance();
+        overlay.clear(OVERLAY_KEY);
+
+        for (Burrow burrow : detectedBurrows) {
+            int color;
+            switch (burrow.type) {
+                case MOB:
+                    color = 0x66FF0000;
+                    break;
+                case TREASURE:
+                    color = 0x66FFAA00;
+                    break;
+                default:
+                    color = 0x6600FF00;
+                    break;
+            }
+            overlay.add(OVERLAY_KEY, burrow.position, WorldOverlay.Shape.BOX, color, 1200);
+        }
+    }
+
     /**
      * Find nearest burrow
      */
@@ -1,7 +1,16 @@
 package com.donut.client.macros.farming;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.farming.blueprint.Blueprint;
+import com.donut.client.macros.farming.blueprint.BoxBlueprint;
+import com.donut.client.macros.farming.blueprint.PatternBlueprint;
+import com.donut.client.macros.farming.blueprint.Placement;
+import com.donut.client.macros.timeline.Actions;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
 import net.minecraft.client.MinecraftClient;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
 
 import java.util.*;
@@ -9,6 +18,7 @@ import java.util.*;
 /**
  * BuildersMacro - Automated builder's wand usage
  * Features: Auto-fill, pattern building, mass placement
+ * Positions are streamed from a Blueprint as they are placed, never stored as a list
  */
 public class BuildersMacro extends Macro {
 
@@ -16,14 +26,16 @@ public class BuildersMacro extends Macro {
 
     // State
     private MacroState state = MacroState.IDLE;
-    private List<BlockPos> buildQueue = new ArrayList<>();
-    private int currentIndex = 0;
+    private Iterator<Placement> buildQueue = Collections.emptyIterator();
+    private long totalBlocks = 0;
 
     // Settings
     private BuildMode mode = BuildMode.FILL;
     private BlockPos startPos = null;
     private BlockPos endPos = null;
     private String blockType = "DIRT";
+    private String blueprintName = "wheat_optimal";
+    private boolean skipCorrect = true;
 
     // Settings
     private int buildDelay = 100; // ms between placements
@@ -45,7 +57,7 @@ public class BuildersMacro extends Macro {
         FLOOR,      // Build floor
         CEILING,    // Build ceiling
         OUTLINE,    // Build outline only
-        PATTERN     // Custom pattern
+        PATTERN     // Farm blueprint from resources/routes/farm_blueprints
     }
 
     public BuildersMacro() {
@@ -56,8 +68,8 @@ public class BuildersMacro extends Macro {
     @Override
     public void start() {
         state = MacroState.GENERATING;
-        buildQueue.clear();
-        currentIndex = 0;
+        buildQueue = Collections.emptyIterator();
+        totalBlocks = 0;
         blocksPlaced = 0;
         System.out.println("[Builders Macro] Initialized");
     }
@@ -69,7 +81,7 @@ public class BuildersMacro extends Macro {
         System.out.println("[Builders Macro] Mode: " + mode);
         System.out.println("[Builders Macro] Block: " + blockType);
 
-        if (startPos == null || endPos == null) {
+        if (startPos == null || (endPos == null && mode != BuildMode.PATTERN)) {
             System.out.println("[Builders Macro] ERROR: Positions not set!");
             onDisable();
             return;
@@ -89,6 +101,9 @@ public class BuildersMacro extends Macro {
     public void onTick() {
         if (mc.player == null || mc.world == null) return;
 
+        // Waiting on a scheduled step
+        if (!timeline().isIdle()) return;
+
         switch (state) {
             case IDLE:
                 // Do nothing
@@ -106,120 +121,87 @@ public class BuildersMacro extends Macro {
     }
 
     /**
-     * Generate build queue based on mode
+     * Set up the lazy build queue for the current mode
      */
     private void generateBuildQueue() {
-        if (startPos == null || endPos == null) return;
+        if (startPos == null) return;
+
+        Blueprint blueprint;
+        BlockPos origin;
+        if (mode == BuildMode.PATTERN) {
+            blueprint = PatternBlueprint.load(blueprintName);
+            if (blueprint == null) {
+                System.out.println("[Builders Macro] ERROR: Blueprint " + blueprintName + " unavailable");
+                onDisable();
+                return;
+            }
+            origin = startPos;
+        } else {
+            if (endPos == null) return;
+
+            origin = new BlockPos(
+                    Math.min(startPos.getX(), endPos.getX()),
+                    Math.min(startPos.getY(), endPos.getY()),
+                    Math.min(startPos.getZ(), endPos.getZ()));
+            blueprint = new BoxBlueprint(toShape(mode), resolveBlock(),
+                    Math.abs(endPos.getX() - startPos.getX()) + 1,
+                    Math.abs(endPos.getY() - startPos.getY()) + 1,
+                    Math.abs(endPos.getZ() - startPos.getZ()) + 1);
+        }
 
-        buildQueue.clear();
+        // Blocks already in place are skipped as the cursor reaches them
+        buildQueue = skipCorrect ? blueprint.diff(origin, world()) : blueprint.placements(origin);
+        totalBlocks = blueprint.count();
 
-        // Calculate bounds
-        int minX = Math.min(startPos.getX(), endPos.getX());
-        int maxX = Math.max(startPos.getX(), endPos.getX());
-        int minY = Math.min(startPos.getY(), endPos.getY());
-        int maxY = Math.max(startPos.getY(), endPos.getY());
-        int minZ = Math.min(startPos.getZ(), endPos.getZ());
-        int maxZ = Math.max(startPos.getZ(), endPos.getZ());
+        System.out.println("[Builders Macro] " + blueprint.getName() + ": up to " + totalBlocks + " blocks to place");
 
-        switch (mode) {
-            case FILL:
-                // Fill entire area
-                for (int x = minX; x <= maxX; x++) {
-                    for (int y = minY; y <= maxY; y++) {
-                        for (int z = minZ; z <= maxZ; z++) {
-                            buildQueue.add(new BlockPos(x, y, z));
-                        }
-                    }
-                }
-                break;
+        state = MacroState.BUILDING;
+    }
 
+    private static BoxBlueprint.Shape toShape(BuildMode mode) {
+        switch (mode) {
             case WALLS:
-                // Build walls only
-                for (int x = minX; x <= maxX; x++) {
-                    for (int y = minY; y <= maxY; y++) {
-                        for (int z = minZ; z <= maxZ; z++) {
-                            // Only edges
-                            if (x == minX || x == maxX || z == minZ || z == maxZ) {
-                                buildQueue.add(new BlockPos(x, y, z));
-                            }
-                        }
-                    }
-                }
-                break;
-
+                return BoxBlueprint.Shape.WALLS;
             case FLOOR:
-                // Build floor only
-                for (int x = minX; x <= maxX; x++) {
-                    for (int z = minZ; z <= maxZ; z++) {
-                        buildQueue.add(new BlockPos(x, minY, z));
-                    }
-                }
-                break;
-
+                return BoxBlueprint.Shape.FLOOR;
             case CEILING:
-                // Build ceiling only
-                for (int x = minX; x <= maxX; x++) {
-                    for (int z = minZ; z <= maxZ; z++) {
-                        buildQueue.add(new BlockPos(x, maxY, z));
-                    }
-                }
-                break;
-
+                return BoxBlueprint.Shape.CEILING;
             case OUTLINE:
-                // Build outline only (edges of box)
-                for (int x = minX; x <= maxX; x++) {
-                    for (int y = minY; y <= maxY; y++) {
-                        for (int z = minZ; z <= maxZ; z++) {
-                            // Only corners and edges
-                            int edgeCount = 0;
-                            if (x == minX || x == maxX) edgeCount++;
-                            if (y == minY || y == maxY) edgeCount++;
-                            if (z == minZ || z == maxZ) edgeCount++;
-
-                            if (edgeCount >= 2) {
-                                buildQueue.add(new BlockPos(x, y, z));
-                            }
-                        }
-                    }
-                }
-                break;
+                return BoxBlueprint.Shape.OUTLINE;
+            default:
+                return BoxBlueprint.Shape.FILL;
         }
+    }
 
-        System.out.println("[Builders Macro] Generated " + buildQueue.size() + " blocks to place");
-
-        currentIndex = 0;
-        state = MacroState.BUILDING;
+    private BlockState resolveBlock() {
+        Identifier id = Identifier.tryParse(blockType.toLowerCase());
+        return id == null
+                ? Blocks.DIRT.getDefaultState()
+                : Registries.BLOCK.getOrEmpty(id).orElse(Blocks.DIRT).getDefaultState();
     }
 
     /**
      * Build blocks
      */
     private void build() {
-        if (currentIndex >= buildQueue.size()) {
+        if (!buildQueue.hasNext()) {
             state = MacroState.COMPLETE;
             return;
         }
 
-        BlockPos pos = buildQueue.get(currentIndex);
+        Placement placement = buildQueue.next();
 
         // Place block
-        placeBlock(pos);
+        placeBlock(placement.getPos());
         blocksPlaced++;
 
         if (blocksPlaced % 100 == 0) {
-            System.out.println("[Builders Macro] Progress: " + blocksPlaced + "/" + buildQueue.size());
+            System.out.println("[Builders Macro] Progress: " + blocksPlaced + "/" + totalBlocks);
         }
 
-        // Move to next
-        currentIndex++;
-
         // Delay between placements
         if (!useFastPlace) {
-            try {
-                Thread.sleep(buildDelay);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
+            timeline().schedule(Actions.delayMillis(buildDelay));
         }
     }
 
@@ -254,10 +236,10 @@ public class BuildersMacro extends Macro {
         System.out.println("Mode: " + mode);
         System.out.println("Block Type: " + blockType);
         System.out.println("Blocks Placed: " + blocksPlaced);
-        System.out.println("Total Blocks: " + buildQueue.size());
+        System.out.println("Total Blocks: " + totalBlocks);
 
-        if (buildQueue.size() > 0) {
-            double completion = (double) blocksPlaced / buildQueue.size() * 100;
+        if (totalBlocks > 0) {
+            double completion = (double) blocksPlaced / totalBlocks * 100;
             System.out.println("Completion: " + String.format("%.1f%%", completion));
         }
 
@@ -277,7 +259,7 @@ public class BuildersMacro extends Macro {
      */
     public String getStatus() {
         return String.format("%s | %s | Progress: %d/%d",
-                state, mode, blocksPlaced, buildQueue.size());
+                state, mode, blocksPlaced, totalBlocks);
     }
 
     // ==================== GETTERS/SETTERS ====================
@@ -295,6 +277,20 @@ public class BuildersMacro extends Macro {
         this.blockType = block;
     }
 
+    /**
+     * Blueprint file for PATTERN mode, e.g. "wheat_optimal". Built from the start position
+     */
+    public void setBlueprint(String name) {
+        this.blueprintName = name;
+    }
+
+    /**
+     * Skip cells that already hold the right block (repairs a damaged plot instead of rebuilding it)
+     */
+    public void setSkipCorrect(boolean skip) {
+        this.skipCorrect = skip;
+    }
+
     public void setBuildDelay(int delay) {
         this.buildDelay = delay;
     }
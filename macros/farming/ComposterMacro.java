@@ -1,8 +1,13 @@
 package com.donut.client.macros.farming;
 
+import com.donut.client.DonutClient;
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
+import com.donut.client.pathfinding.DistanceFieldCache;
+import com.donut.client.utils.BlockUtils;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
 
 import java.util.*;
 
@@ -17,6 +22,8 @@ public class ComposterMacro extends Macro {
     // State
     private MacroState state = MacroState.IDLE;
     private BlockPos composterPos = null;
+    private BlockPos standPos = null;    // Standable cell next to the composter, anchored while running
+    private long walkDeadline = 0;
 
     // Settings
     private boolean autoFill = true;
@@ -32,6 +39,7 @@ public class ComposterMacro extends Macro {
 
     public enum MacroState {
         IDLE,
+        WALKING,
         FILLING,
         WAITING,
         COLLECTING,
@@ -64,12 +72,27 @@ public class ComposterMacro extends Macro {
         }
 
         state = MacroState.FILLING;
+        if (mc.player != null && !mc.player.getBlockPos().isWithinDistance(composterPos, 4)) {
+            standPos = findStandPos();
+            if (standPos != null) {
+                DistanceFieldCache.getInstance().registerAnchor(standPos);
+                state = MacroState.WALKING;
+            }
+        }
     }
 
     @Override
     public void onDisable() {
         super.onDisable();
         System.out.println("[Composter] Stopped");
+        if (standPos != null) {
+            DistanceFieldCache.getInstance().unregisterAnchor(standPos);
+            standPos = null;
+        }
+        if (walkDeadline != 0) {
+            DonutClient.getInstance().getPathExecutor().stopExecution();
+            walkDeadline = 0;
+        }
         printStatistics();
     }
 
@@ -77,10 +100,16 @@ public class ComposterMacro extends Macro {
     public void onTick() {
         if (mc.player == null || mc.world == null) return;
 
+        // Waiting on a scheduled step
+        if (!timeline().isIdle()) return;
+
         switch (state) {
             case IDLE:
                 // Do nothing
                 break;
+            case WALKING:
+                walkToComposter();
+                break;
             case FILLING:
                 fill();
                 break;
@@ -113,6 +142,54 @@ public class ComposterMacro extends Macro {
         compostPriority.add("SUGAR_CANE");
     }
 
+    /**
+     * Walk to the stand cell, then start filling once in reach
+     * (or once the walk has taken well over its expected time)
+     */
+    private void walkToComposter() {
+        if (walkDeadline == 0) {
+            List<BlockPos> path = DonutClient.getInstance().getPathFinder().findPath(mc.player.getBlockPos(), standPos);
+            if (path == null || path.isEmpty()) {
+                System.out.println("[Composter] No path to composter");
+                state = MacroState.FILLING;
+                return;
+            }
+
+            DonutClient.getInstance().getPathExecutor().executePath(path);
+            // Walking speed is about 4.3 blocks per second
+            walkDeadline = System.currentTimeMillis() + 5000 + (long) (path.size() / 4.3 * 1000);
+            return;
+        }
+
+        if (mc.player.getBlockPos().isWithinDistance(composterPos, 4) || System.currentTimeMillis() > walkDeadline) {
+            DonutClient.getInstance().getPathExecutor().stopExecution();
+            walkDeadline = 0;
+            state = MacroState.FILLING;
+        }
+    }
+
+    /**
+     * Free cell beside the composter with ground under it, nearest the player; the composter itself is solid
+     */
+    private BlockPos findStandPos() {
+        BlockPos best = null;
+        double bestDist = Double.MAX_VALUE;
+
+        for (Direction side : Direction.Type.HORIZONTAL) {
+            BlockPos pos = composterPos.offset(side);
+            if (BlockUtils.hasCollision(pos) || BlockUtils.hasCollision(pos.up()) || !BlockUtils.isSolid(pos.down())) {
+                continue;
+            }
+
+            double dist = mc.player.getBlockPos().getSquaredDistance(pos);
+            if (dist < bestDist) {
+                bestDist = dist;
+                best = pos;
+            }
+        }
+        return best;
+    }
+
     /**
      * Fill composter
      */
@@ -139,11 +216,7 @@ public class ComposterMacro extends Macro {
         itemsComposted++;
 
         // Delay between fills
-        try {
-            Thread.sleep(fillDelay);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
+        timeline().schedule(Actions.delayMillis(fillDelay));
     }
 
     /**
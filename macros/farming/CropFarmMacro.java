@@ -1,24 +1,23 @@
 package com.donut.client.macros.farming;
 
 import com.donut.client.macros.Macro;
-import net.minecraft.client.MinecraftClient;
+import com.donut.client.metrics.Counter;
+import com.donut.client.metrics.Profiler;
+import com.donut.client.world.PlayerView;
 import net.minecraft.block.Block;
 import net.minecraft.block.Blocks;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 
-import java.util.*;
-
 /**
  * CropFarmMacro - Automated crop farming
+ * Ripe crops come from CropMaturityTracker; the farm is read once when the macro starts, not every pass.
  */
 public class CropFarmMacro extends Macro {
 
-    private final MinecraftClient mc;
-
     // State
     private FarmState state = FarmState.IDLE;
-    private Queue<BlockPos> harvestQueue = new LinkedList<>();
+    private CropMaturityTracker.Region region = null;
     private BlockPos currentTarget = null;
 
     // Settings
@@ -29,6 +28,7 @@ public class CropFarmMacro extends Macro {
 
     // Statistics
     private int cropsHarvested = 0;
+    private final Counter harvestedMetric = counter("Crops");
     private int cropsReplanted = 0;
 
     public enum FarmState {
@@ -55,19 +55,18 @@ public class CropFarmMacro extends Macro {
 
     public enum FarmPattern {
         ROWS,      // Row by row
-        SPIRAL,    // Spiral outward
+        SPIRAL,    // Nearest ripe crop first
         LAYERS     // Layer by layer
     }
 
     public CropFarmMacro() {
         super("Crop Farm", "Automated crop farming");
-        this.mc = MinecraftClient.getInstance();
     }
 
     @Override
     public void start() {
         state = FarmState.IDLE;
-        harvestQueue.clear();
+        releaseRegion();
         cropsHarvested = 0;
         cropsReplanted = 0;
         System.out.println("[Crop Farm] Initialized");
@@ -80,16 +79,28 @@ public class CropFarmMacro extends Macro {
         System.out.println("[Crop Farm] Starting...");
     }
 
+    @Override
+    public void onDisable() {
+        super.onDisable();
+        releaseRegion();
+        currentTarget = null;
+    }
+
     @Override
     public void onTick() {
-        if (!enabled || mc.player == null || mc.world == null) return;
+        if (!enabled || !world().isReady()) return;
 
         switch (state) {
             case IDLE:
                 // Wait
                 break;
             case SCANNING:
-                scanForCrops();
+                Profiler.push("scan");
+                try {
+                    scanForCrops();
+                } finally {
+                    Profiler.pop();
+                }
                 break;
             case HARVESTING:
                 harvestCrop();
@@ -104,30 +115,20 @@ public class CropFarmMacro extends Macro {
     }
 
     /**
-     * Scan for crops to harvest
+     * Register the farm around the player with the maturity tracker
      */
     private void scanForCrops() {
-        if (mc.player == null || mc.world == null) return;
+        if (!world().isReady()) return;
 
-        BlockPos playerPos = mc.player.getBlockPos();
-        harvestQueue.clear();
-
-        // Scan area based on pattern
-        switch (pattern) {
-            case ROWS:
-                scanRows(playerPos);
-                break;
-            case SPIRAL:
-                scanSpiral(playerPos);
-                break;
-            case LAYERS:
-                scanLayers(playerPos);
-                break;
+        if (region == null) {
+            BlockPos center = world().getPlayer().getBlockPos();
+            region = CropMaturityTracker.getInstance().register(
+                    center.add(-farmRadius, -2, -farmRadius), center.add(farmRadius, 2, farmRadius), cropType.block);
         }
 
-        System.out.println("[Crop Farm] Found " + harvestQueue.size() + " crops to harvest");
+        System.out.println("[Crop Farm] Found " + region.getRipeCount() + " crops to harvest");
 
-        if (harvestQueue.isEmpty()) {
+        if (region.getRipeCount() == 0) {
             state = FarmState.COMPLETE;
         } else {
             state = FarmState.HARVESTING;
@@ -135,81 +136,31 @@ public class CropFarmMacro extends Macro {
     }
 
     /**
-     * Scan in rows
-     */
-    private void scanRows(BlockPos center) {
-        for (int x = -farmRadius; x <= farmRadius; x++) {
-            for (int z = -farmRadius; z <= farmRadius; z++) {
-                for (int y = -2; y <= 2; y++) {
-                    BlockPos pos = center.add(x, y, z);
-                    if (isMatureCrop(pos)) {
-                        harvestQueue.add(pos);
-                    }
-                }
-            }
-        }
-    }
-
-    /**
-     * Scan in spiral
+     * Next ripe crop in pattern order, without touching the world
      */
-    private void scanSpiral(BlockPos center) {
-        int x = 0, z = 0;
-        int dx = 0, dz = -1;
-        int maxSteps = (farmRadius * 2) * (farmRadius * 2);
-
-        for (int i = 0; i < maxSteps; i++) {
-            if (-farmRadius <= x && x <= farmRadius && -farmRadius <= z && z <= farmRadius) {
-                for (int y = -2; y <= 2; y++) {
-                    BlockPos pos = center.add(x, y, z);
-                    if (isMatureCrop(pos)) {
-                        harvestQueue.add(pos);
-                    }
-                }
-            }
-
-            if (x == z || (x < 0 && x == -z) || (x > 0 && x == 1 - z)) {
-                int temp = dx;
-                dx = -dz;
-                dz = temp;
-            }
-
-            x += dx;
-            z += dz;
+    private BlockPos nextCrop() {
+        BlockPos next = pattern == FarmPattern.SPIRAL
+                ? region.pollNearest(world().getPlayer().getBlockPos())
+                : region.pollRipe();
+
+        // Leave the base of cane and cactus to regrow
+        if (next != null && CropMaturityTracker.isStacking(cropType.block)) {
+            next = next.up();
         }
+        return next;
     }
 
-    /**
-     * Scan in layers
-     */
-    private void scanLayers(BlockPos center) {
-        for (int y = -2; y <= 2; y++) {
-            for (int x = -farmRadius; x <= farmRadius; x++) {
-                for (int z = -farmRadius; z <= farmRadius; z++) {
-                    BlockPos pos = center.add(x, y, z);
-                    if (isMatureCrop(pos)) {
-                        harvestQueue.add(pos);
-                    }
-                }
-            }
-        }
-    }
-
-    /**
-     * Check if crop is mature
-     */
-    private boolean isMatureCrop(BlockPos pos) {
-        if (mc.world == null) return false;
-        Block block = mc.world.getBlockState(pos).getBlock();
-        return block == cropType.block;
+    private void releaseRegion() {
+        CropMaturityTracker.getInstance().unregister(region);
+        region = null;
     }
 
     /**
      * Harvest crop
      */
     private void harvestCrop() {
-        if (currentTarget == null) {
-            currentTarget = harvestQueue.poll();
+        if (currentTarget == null && region != null) {
+            currentTarget = nextCrop();
         }
 
         if (currentTarget == null) {
@@ -223,7 +174,7 @@ public class CropFarmMacro extends Macro {
         }
 
         // Move to crop
-        if (mc.player.getPos().distanceTo(currentTarget.toCenterPos()) > 5.0) {
+        if (world().getPlayer().getPos().distanceTo(currentTarget.toCenterPos()) > 5.0) {
             // TODO: Pathfind to crop
             return;
         }
@@ -235,6 +186,8 @@ public class CropFarmMacro extends Macro {
         breakBlock(currentTarget);
 
         cropsHarvested++;
+        harvestedMetric.increment();
+
         currentTarget = null;
     }
 
@@ -251,38 +204,40 @@ public class CropFarmMacro extends Macro {
      * Look at position
      */
     private void lookAt(BlockPos pos) {
-        if (mc.player == null) return;
+        PlayerView player = world().getPlayer();
+        if (player == null) return;
 
-        Vec3d eyes = mc.player.getEyePos();
+        Vec3d eyes = player.getEyePos();
         Vec3d target = new Vec3d(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5);
         Vec3d dir = target.subtract(eyes).normalize();
 
         double yaw = Math.toDegrees(Math.atan2(dir.z, dir.x)) - 90;
         double pitch = -Math.toDegrees(Math.asin(dir.y));
 
-        mc.player.setYaw((float) yaw);
-        mc.player.setPitch((float) pitch);
+        player.setYaw((float) yaw);
+        player.setPitch((float) pitch);
     }
 
     /**
      * Break block
      */
     private void breakBlock(BlockPos pos) {
-        // TODO: Actually break the block
         System.out.println("[Crop Farm] Harvesting: " + pos);
+        world().breakBlock(pos);
     }
 
     /**
      * Get status
      */
     public String getStatus() {
-        return String.format("%s | Harvested: %d | Queue: %d",
-                state, cropsHarvested, harvestQueue.size());
+        return String.format("%s | Harvested: %d | Ripe: %d",
+                state, cropsHarvested, region == null ? 0 : region.getRipeCount());
     }
 
     // Getters/Setters
     public void setCropType(CropType type) {
         this.cropType = type;
+        releaseRegion();
     }
 
     public void setPattern(FarmPattern pattern) {
@@ -295,5 +250,6 @@ public class CropFarmMacro extends Macro {
 
     public void setFarmRadius(int radius) {
         this.farmRadius = radius;
+        releaseRegion();
     }
 }
\ No newline at end of file
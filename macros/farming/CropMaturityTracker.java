@@ -0,0 +1,574 @@
+package com.donut.client.macros.farming;
+
+import com.donut.client.event.BlockUpdateHandler;
+import com.donut.client.world.WorldProvider;
+import com.donut.client.world.WorldView;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.CocoaBlock;
+import net.minecraft.block.CropBlock;
+import net.minecraft.block.NetherWartBlock;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Ripe crops in registered farm regions, kept current from block updates
+ * - Each region has one ripe bit per cell in 64-bit words per row (rows run along x), plus one bit per row with anything ripe
+ * - A region is read once when registered and again per chunk as chunks load; after that only block updates touch it
+ * - Aged crops are ripe at max age, cane and cactus once the stack on the base is tall enough, anything else as soon as it exists
+ * - Observed time between growth stages gives each region a ripening estimate for every cell
+ */
+public class CropMaturityTracker implements BlockUpdateHandler.BlockUpdateListener {
+
+    private static CropMaturityTracker instance;
+
+    private final MinecraftClient mc = MinecraftClient.getInstance();
+
+    // Ripening estimate before any growth has been seen
+    private static final long DEFAULT_STAGE_MS = 60_000;
+
+    // Gaps longer than this (chunk out of view, server restart) say nothing about growth speed
+    private static final long MAX_SAMPLE_MS = 30 * 60_000;
+
+    // A polled cell that is still ripe after this long goes back into the bitmap
+    private static final long CLAIM_TIMEOUT_MS = 1_000;
+
+    private final List<Region> regions = new ArrayList<>();
+    private Object cachedWorld = null;   // Client world, or the view itself when headless
+
+    private CropMaturityTracker() {
+        BlockUpdateHandler.getInstance().addListener(this);
+    }
+
+    public static CropMaturityTracker getInstance() {
+        if (instance == null) {
+            instance = new CropMaturityTracker();
+        }
+        return instance;
+    }
+
+    /**
+     * Track one crop block between two corners. Cane and cactus count as ripe with one block on the base
+     */
+    public Region register(BlockPos corner1, BlockPos corner2, Block crop) {
+        return register(corner1, corner2, block -> block == crop, 1);
+    }
+
+    /**
+     * Track every block matching crop between two corners
+     * stackHeight is how many blocks a cane or cactus stack needs above its base to be ripe
+     */
+    public Region register(BlockPos corner1, BlockPos corner2, Predicate<Block> crop, int stackHeight) {
+        checkWorld();
+
+        Region region = new Region(corner1, corner2, crop, Math.max(1, stackHeight));
+        regions.add(region);
+        region.fill(WorldProvider.getInstance().getView(), region.minX, region.minZ,
+                region.minX + region.sizeX - 1, region.minZ + region.sizeZ - 1);
+        return region;
+    }
+
+    public void unregister(Region region) {
+        if (region != null) {
+            regions.remove(region);
+        }
+    }
+
+    public int getRegionCount() {
+        return regions.size();
+    }
+
+    /**
+     * Cane and cactus: harvested from the top, the base cell carries the stack
+     */
+    public static boolean isStacking(Block block) {
+        return block == Blocks.SUGAR_CANE || block == Blocks.CACTUS;
+    }
+
+    @Override
+    public void onBlockUpdate(BlockPos pos, BlockState oldState, BlockState newState) {
+        if (regions.isEmpty()) return;
+        checkWorld();
+
+        WorldView world = WorldProvider.getInstance().getView();
+        long now = System.currentTimeMillis();
+        for (Region region : regions) {
+            region.update(world, pos, oldState, newState, now);
+        }
+    }
+
+    @Override
+    public void onChunkLoad(WorldChunk chunk) {
+        if (regions.isEmpty()) return;
+
+        ChunkPos chunkPos = chunk.getPos();
+        WorldView world = WorldProvider.getInstance().getView();
+        for (Region region : regions) {
+            region.fill(world, chunkPos.getStartX(), chunkPos.getStartZ(), chunkPos.getEndX(), chunkPos.getEndZ());
+        }
+    }
+
+    @Override
+    public void onChunkUnload(ChunkPos pos) {
+        for (Region region : regions) {
+            region.forget(pos.getStartX(), pos.getStartZ(), pos.getEndX(), pos.getEndZ());
+        }
+    }
+
+    /**
+     * Regions outlive a world change (same farm, new lobby); their cells refill as chunks load.
+     * Headless there is no client, so a different override view counts as the world change
+     */
+    private void checkWorld() {
+        WorldProvider provider = WorldProvider.getInstance();
+        Object world = provider.isHeadless() ? provider.getView() : mc.world;
+        if (world != cachedWorld) {
+            cachedWorld = world;
+            for (Region region : regions) {
+                region.forget(region.minX, region.minZ, region.minX + region.sizeX - 1, region.minZ + region.sizeZ - 1);
+            }
+        }
+    }
+
+    /**
+     * One registered box of crops
+     */
+    public static class Region {
+        private final Predicate<Block> crop;
+        private final int stackHeight;
+        private final int minX, minY, minZ;
+        private final int sizeX, sizeY, sizeZ;
+        private final int wordsPerRow;
+
+        // Ripe bits, wordsPerRow words per (y, z) row; one bit per row with any ripe cell
+        private final long[] ripe;
+        private final long[] ripeRows;
+
+        // Per cell: stage + 1 (0 = no crop), stage it ripens at, when the stage last changed (0 = not seen change)
+        private final byte[] stage;
+        private final byte[] target;
+        private final long[] changedAt;
+
+        // Polled cells waiting for the block update that confirms the harvest, oldest first
+        private final Map<Integer, Long> claims = new LinkedHashMap<>();
+
+        private int ripeCount = 0;
+        private int cropCount = 0;
+        private int cursor = 0;
+        private long filledAt = System.currentTimeMillis();
+        private double stageMillis = DEFAULT_STAGE_MS;
+        private int samples = 0;
+
+        private Region(BlockPos corner1, BlockPos corner2, Predicate<Block> crop, int stackHeight) {
+            this.crop = crop;
+            this.stackHeight = stackHeight;
+            this.minX = Math.min(corner1.getX(), corner2.getX());
+            this.minY = Math.min(corner1.getY(), corner2.getY());
+            this.minZ = Math.min(corner1.getZ(), corner2.getZ());
+            this.sizeX = Math.abs(corner1.getX() - corner2.getX()) + 1;
+            this.sizeY = Math.abs(corner1.getY() - corner2.getY()) + 1;
+            this.sizeZ = Math.abs(corner1.getZ() - corner2.getZ()) + 1;
+            this.wordsPerRow = (sizeX + 63) >> 6;
+
+            int rows = sizeY * sizeZ;
+            int cells = rows * sizeX;
+            this.ripe = new long[rows * wordsPerRow];
+            this.ripeRows = new long[(rows + 63) >> 6];
+            this.stage = new byte[cells];
+            this.target = new byte[cells];
+            this.changedAt = new long[cells];
+        }
+
+        public boolean contains(BlockPos pos) {
+            return contains(pos.getX(), pos.getY(), pos.getZ());
+        }
+
+        public int getRipeCount() {
+            return ripeCount;
+        }
+
+        public int getCropCount() {
+            return cropCount;
+        }
+
+        public boolean isRipe(BlockPos pos) {
+            if (!contains(pos)) return false;
+            int index = index(pos.getX(), pos.getY(), pos.getZ());
+            return (ripe[word(index)] & bit(index)) != 0;
+        }
+
+        /**
+         * Next ripe cell in row order after the last one polled, or null. Leaves it in place
+         */
+        public BlockPos peekRipe() {
+            expireClaims(System.currentTimeMillis());
+            int index = nextRipe();
+            return index < 0 ? null : toPos(index);
+        }
+
+        /**
+         * Take the next ripe cell in row order, or null. It stays out until a block update says it is still ripe,
+         * or CLAIM_TIMEOUT_MS passes without one
+         */
+        public BlockPos pollRipe() {
+            long now = System.currentTimeMillis();
+            expireClaims(now);
+
+            int index = nextRipe();
+            if (index < 0) return null;
+
+            cursor = index / sizeX;
+            claim(index, now);
+            return toPos(index);
+        }
+
+        /**
+         * Take the ripe cell nearest to pos, or null. Only rows with a ripe bit are looked at
+         */
+        public BlockPos pollNearest(BlockPos pos) {
+            long now = System.currentTimeMillis();
+            expireClaims(now);
+
+            int column = Math.max(0, Math.min(sizeX - 1, pos.getX() - minX));
+            int best = -1;
+            long bestDist = Long.MAX_VALUE;
+
+            for (int w = 0; w < ripeRows.length; w++) {
+                long bits = ripeRows[w];
+                while (bits != 0) {
+                    int row = (w << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+
+                    long dy = minY + row / sizeZ - pos.getY();
+                    long dz = minZ + row % sizeZ - pos.getZ();
+                    long rowDist = dy * dy + dz * dz;
+                    if (rowDist >= bestDist) continue;
+
+                    int x = nearestInRow(row, column);
+                    long dx = minX + x - pos.getX();
+                    long dist = rowDist + dx * dx;
+                    if (dist < bestDist) {
+                        bestDist = dist;
+                        best = row * sizeX + x;
+                    }
+                }
+            }
+
+            if (best < 0) return null;
+            claim(best, now);
+            return toPos(best);
+        }
+
+        /**
+         * When the crop at pos should be ripe (epoch ms), or -1 if there's no tracked crop there
+         */
+        public long predictRipeAt(BlockPos pos) {
+            if (!contains(pos)) return -1;
+            return predict(index(pos.getX(), pos.getY(), pos.getZ()));
+        }
+
+        /**
+         * Soonest predicted ripening among unripe cells, or -1 if nothing is growing
+         */
+        public long getNextRipeTime() {
+            long soonest = -1;
+            for (int index = 0; index < stage.length; index++) {
+                if (stage[index] == 0 || stage[index] - 1 >= target[index]) continue;
+                long at = predict(index);
+                if (soonest < 0 || at < soonest) soonest = at;
+            }
+            return soonest;
+        }
+
+        /**
+         * Average time per growth stage, observed or the default until something grows
+         */
+        public long getStageMillis() {
+            return (long) stageMillis;
+        }
+
+        private long predict(int index) {
+            if (stage[index] == 0) return -1;
+
+            long since = changedAt[index] > 0 ? changedAt[index] : filledAt;
+            int remaining = Math.max(0, target[index] - (stage[index] - 1));
+            return since + (long) (remaining * stageMillis);
+        }
+
+        // ==================== UPDATES ====================
+
+        private void update(WorldView world, BlockPos pos, BlockState oldState, BlockState newState, long now) {
+            Block oldBlock = oldState.getBlock();
+            Block newBlock = newState.getBlock();
+            if (!crop.test(oldBlock) && !crop.test(newBlock)) return;
+
+            int x = pos.getX();
+            int z = pos.getZ();
+            if (x < minX || x >= minX + sizeX || z < minZ || z >= minZ + sizeZ) return;
+
+            if (isStacking(oldBlock) || isStacking(newBlock)) {
+                // Any base whose stack could reach pos, and pos itself as a possible new base
+                int fromY = Math.max(minY, pos.getY() - stackHeight);
+                int toY = Math.min(minY + sizeY - 1, pos.getY() + 1);
+                BlockPos.Mutable cell = new BlockPos.Mutable();
+                for (int y = fromY; y <= toY; y++) {
+                    cell.set(x, y, z);
+                    BlockState state = cell.equals(pos) ? newState : world.getBlockState(cell);
+                    set(index(x, y, z), evaluate(world, cell, state, pos, newState), now, true);
+                }
+                return;
+            }
+
+            if (!contains(x, pos.getY(), z)) return;
+            set(index(x, pos.getY(), z), evaluate(world, pos, newState, pos, newState), now, true);
+        }
+
+        /**
+         * Read every cell in the column range from the world; columns in unloaded chunks are skipped
+         */
+        private void fill(WorldView world, int fromX, int fromZ, int toX, int toZ) {
+            int x0 = Math.max(minX, fromX), x1 = Math.min(minX + sizeX - 1, toX);
+            int z0 = Math.max(minZ, fromZ), z1 = Math.min(minZ + sizeZ - 1, toZ);
+            if (x0 > x1 || z0 > z1) return;
+
+            long now = System.currentTimeMillis();
+            BlockPos.Mutable pos = new BlockPos.Mutable();
+            for (int z = z0; z <= z1; z++) {
+                for (int x = x0; x <= x1; x++) {
+                    if (!world.isChunkLoaded(x >> 4, z >> 4)) continue;
+                    for (int y = minY; y < minY + sizeY; y++) {
+                        pos.set(x, y, z);
+                        set(index(x, y, z), evaluate(world, pos, world.getBlockState(pos), null, null), now, false);
+                    }
+                }
+            }
+            filledAt = now;
+        }
+
+        /**
+         * Drop every cell in the column range
+         */
+        private void forget(int fromX, int fromZ, int toX, int toZ) {
+            int x0 = Math.max(minX, fromX), x1 = Math.min(minX + sizeX - 1, toX);
+            int z0 = Math.max(minZ, fromZ), z1 = Math.min(minZ + sizeZ - 1, toZ);
+
+            for (int z = z0; z <= z1; z++) {
+                for (int x = x0; x <= x1; x++) {
+                    for (int y = minY; y < minY + sizeY; y++) {
+                        set(index(x, y, z), 0, 0, false);
+                    }
+                }
+            }
+        }
+
+        /**
+         * (stage + 1) | target << 8 for the block at pos, 0 if it isn't a tracked crop (or isn't a stack's base).
+         * changed/changedState stand in for a block whose update hasn't reached the world yet
+         */
+        private int evaluate(WorldView world, BlockPos pos, BlockState state, BlockPos changed, BlockState changedState) {
+            Block block = state.getBlock();
+            if (!crop.test(block)) return 0;
+
+            if (isStacking(block)) {
+                BlockPos below = pos.down();
+                if (stateAt(world, below, changed, changedState).isOf(block)) return 0;
+
+                int height = 0;
+                while (height < stackHeight && stateAt(world, pos.up(height + 1), changed, changedState).isOf(block)) {
+                    height++;
+                }
+                return pack(height, stackHeight);
+            }
+
+            if (block instanceof CropBlock) {
+                CropBlock cropBlock = (CropBlock) block;
+                return pack(cropBlock.getAge(state), cropBlock.getMaxAge());
+            }
+            if (block instanceof NetherWartBlock) {
+                return pack(state.get(NetherWartBlock.AGE), NetherWartBlock.MAX_AGE);
+            }
+            if (block instanceof CocoaBlock) {
+                return pack(state.get(CocoaBlock.AGE), CocoaBlock.MAX_AGE);
+            }
+            return pack(0, 0);
+        }
+
+        private static BlockState stateAt(WorldView world, BlockPos pos, BlockPos changed, BlockState changedState) {
+            return pos.equals(changed) ? changedState : world.getBlockState(pos);
+        }
+
+        private static int pack(int stage, int target) {
+            return (stage + 1) | target << 8;
+        }
+
+        private void set(int index, int packed, long now, boolean observed) {
+            int newStage = packed & 0xFF;
+            int newTarget = (packed >> 8) & 0xFF;
+            int oldStage = stage[index];
+            claims.remove(index);
+
+            if (oldStage == newStage && target[index] == newTarget) {
+                // A confirmed claim that is still ripe goes straight back
+                if (newStage > 0 && newStage - 1 >= newTarget) setRipe(index, true);
+                return;
+            }
+
+            if (oldStage == 0 && newStage > 0) cropCount++;
+            if (oldStage > 0 && newStage == 0) cropCount--;
+
+            if (!observed) {
+                changedAt[index] = 0;
+            } else if (oldStage > 0 && newStage > oldStage && changedAt[index] > 0) {
+                sample((now - changedAt[index]) / (newStage - oldStage));
+                changedAt[index] = now;
+            } else {
+                changedAt[index] = now;
+            }
+
+            stage[index] = (byte) newStage;
+            target[index] = (byte) newTarget;
+            setRipe(index, newStage > 0 && newStage - 1 >= newTarget);
+        }
+
+        private void sample(long millis) {
+            if (millis <= 0 || millis > MAX_SAMPLE_MS) return;
+
+            // Plain mean for the first few, then a moving average that follows fertilizer and server lag
+            samples++;
+            double weight = samples < 8 ? 1.0 / samples : 0.125;
+            stageMillis += (millis - stageMillis) * weight;
+        }
+
+        // ==================== BITMAP ====================
+
+        private void claim(int index, long now) {
+            setRipe(index, false);
+            claims.put(index, now);
+        }
+
+        private void expireClaims(long now) {
+            Iterator<Map.Entry<Integer, Long>> it = claims.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Integer, Long> entry = it.next();
+                if (now - entry.getValue() < CLAIM_TIMEOUT_MS) break;
+
+                it.remove();
+                int index = entry.getKey();
+                if (stage[index] > 0 && stage[index] - 1 >= target[index]) {
+                    setRipe(index, true);
+                }
+            }
+        }
+
+        private void setRipe(int index, boolean value) {
+            int word = word(index);
+            long bit = bit(index);
+            boolean was = (ripe[word] & bit) != 0;
+            if (was == value) return;
+
+            int row = index / sizeX;
+            if (value) {
+                ripe[word] |= bit;
+                ripeRows[row >> 6] |= 1L << row;
+                ripeCount++;
+                return;
+            }
+
+            ripe[word] &= ~bit;
+            ripeCount--;
+            for (int w = row * wordsPerRow; w < (row + 1) * wordsPerRow; w++) {
+                if (ripe[w] != 0) return;
+            }
+            ripeRows[row >> 6] &= ~(1L << row);
+        }
+
+        /**
+         * First ripe cell at or after the cursor row, wrapping round
+         */
+        private int nextRipe() {
+            if (ripeCount == 0) return -1;
+
+            int rows = sizeY * sizeZ;
+            int row = nextRipeRow(cursor, rows);
+            if (row < 0) row = nextRipeRow(0, cursor);
+            if (row < 0) return -1;
+
+            for (int w = 0; w < wordsPerRow; w++) {
+                long bits = ripe[row * wordsPerRow + w];
+                if (bits != 0) {
+                    return row * sizeX + (w << 6) + Long.numberOfTrailingZeros(bits);
+                }
+            }
+            return -1;
+        }
+
+        private int nextRipeRow(int from, int to) {
+            for (int w = from >> 6; w < ripeRows.length && w << 6 < to; w++) {
+                long bits = ripeRows[w];
+                if (w == from >> 6) bits &= -1L << from;
+                if (bits == 0) continue;
+
+                int row = (w << 6) + Long.numberOfTrailingZeros(bits);
+                return row < to ? row : -1;
+            }
+            return -1;
+        }
+
+        /**
+         * Ripe column in a row closest to column
+         */
+        private int nearestInRow(int row, int column) {
+            int base = row * wordsPerRow;
+            int after = -1;
+            int before = -1;
+
+            for (int w = column >> 6; w < wordsPerRow && after < 0; w++) {
+                long bits = ripe[base + w];
+                if (w == column >> 6) bits &= -1L << column;
+                if (bits != 0) after = (w << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            for (int w = column >> 6; w >= 0 && before < 0; w--) {
+                long bits = ripe[base + w];
+                if (w == column >> 6) bits &= (column & 63) == 63 ? -1L : (1L << (column + 1)) - 1;
+                if (bits != 0) before = (w << 6) + 63 - Long.numberOfLeadingZeros(bits);
+            }
+
+            if (after < 0) return before;
+            if (before < 0) return after;
+            return after - column <= column - before ? after : before;
+        }
+
+        private boolean contains(int x, int y, int z) {
+            return x >= minX && x < minX + sizeX
+                    && y >= minY && y < minY + sizeY
+                    && z >= minZ && z < minZ + sizeZ;
+        }
+
+        private int index(int x, int y, int z) {
+            return ((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX);
+        }
+
+        private int word(int index) {
+            return (index / sizeX) * wordsPerRow + ((index % sizeX) >> 6);
+        }
+
+        private long bit(int index) {
+            return 1L << (index % sizeX);
+        }
+
+        private BlockPos toPos(int index) {
+            int row = index / sizeX;
+            return new BlockPos(minX + index % sizeX, minY + row / sizeZ, minZ + row % sizeZ);
+        }
+    }
+}
\ No newline at end of file
@@ -1,12 +1,15 @@
 package com.donut.client.macros.farming;
 
 import com.donut.client.macros.Macro;
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.util.math.BlockPos;
 
 /**
  * MelonPumpkinFarm - Automated melon/pumpkin farming
  * Features: Stem detection, block breaking, auto-replant
+ * Grown fruit comes from CropMaturityTracker instead of re-reading the farm every pass.
  */
 public class MelonPumpkinFarm extends Macro {
 
@@ -15,6 +18,7 @@ public class MelonPumpkinFarm extends Macro {
     // State
     private FarmState state = FarmState.IDLE;
     private BlockPos currentPos = null;
+    private CropMaturityTracker.Region region = null;
 
     // Farm settings
     private CropType cropType = CropType.MELON;
@@ -39,8 +43,14 @@ public class MelonPumpkinFarm extends Macro {
     }
 
     public enum CropType {
-        MELON,
-        PUMPKIN
+        MELON(Blocks.MELON),
+        PUMPKIN(Blocks.PUMPKIN);
+
+        public final Block block;
+
+        CropType(Block block) {
+            this.block = block;
+        }
     }
 
     public MelonPumpkinFarm() {
@@ -69,12 +79,16 @@ public class MelonPumpkinFarm extends Macro {
             return;
         }
 
+        // Only fruit blocks are tracked, so stems are never offered
+        region = CropMaturityTracker.getInstance().register(farmCorner1, farmCorner2, cropType.block);
         state = FarmState.SCANNING;
     }
 
     @Override
     public void onDisable() {
         super.onDisable();
+        CropMaturityTracker.getInstance().unregister(region);
+        region = null;
         System.out.println("[Melon/Pumpkin Farm] Stopped");
         printStatistics();
     }
@@ -103,56 +117,18 @@ public class MelonPumpkinFarm extends Macro {
     }
 
     /**
-     * Scan for grown melons/pumpkins
+     * Take the nearest grown melon/pumpkin from the tracker
      */
     private void scan() {
-        if (farmCorner1 == null || farmCorner2 == null) return;
-
-        // Calculate farm bounds
-        int minX = Math.min(farmCorner1.getX(), farmCorner2.getX());
-        int maxX = Math.max(farmCorner1.getX(), farmCorner2.getX());
-        int minY = Math.min(farmCorner1.getY(), farmCorner2.getY());
-        int maxY = Math.max(farmCorner1.getY(), farmCorner2.getY());
-        int minZ = Math.min(farmCorner1.getZ(), farmCorner2.getZ());
-        int maxZ = Math.max(farmCorner1.getZ(), farmCorner2.getZ());
-
-        // Find nearest melon/pumpkin
-        BlockPos nearest = null;
-        double nearestDist = Double.MAX_VALUE;
-
-        for (int x = minX; x <= maxX; x++) {
-            for (int y = minY; y <= maxY; y++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    BlockPos pos = new BlockPos(x, y, z);
-
-                    if (isHarvestable(pos)) {
-                        double dist = mc.player.getBlockPos().getSquaredDistance(pos);
-
-                        if (dist < nearestDist) {
-                            nearest = pos;
-                            nearestDist = dist;
-                        }
-                    }
-                }
-            }
-        }
+        if (region == null) return;
 
+        BlockPos nearest = region.pollNearest(mc.player.getBlockPos());
         if (nearest != null) {
             currentPos = nearest;
             state = FarmState.MOVING;
         }
     }
 
-    /**
-     * Check if block is harvestable
-     */
-    private boolean isHarvestable(BlockPos pos) {
-        // TODO: Check if block is melon or pumpkin
-        // MELON: minecraft:melon_block
-        // PUMPKIN: minecraft:pumpkin
-        return false;
-    }
-
     /**
      * Move to target position
      */
@@ -1,14 +1,19 @@
 package com.donut.client.macros.farming;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.farming.lanes.FarmLayout;
+import com.donut.client.macros.farming.lanes.LanePlan;
+import com.donut.client.macros.farming.lanes.LanePlanner;
+import com.donut.client.metrics.Counter;
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.util.math.BlockPos;
 
-import java.util.*;
-
 /**
  * SShapedFarm - S-shaped farming pattern
  * Features: Efficient S-pattern movement, no backtracking
+ * The path is a LanePlan over the scanned farm: long straight lanes, harvested on the move
  */
 public class SShapedFarm extends Macro {
 
@@ -16,8 +21,10 @@ public class SShapedFarm extends Macro {
 
     // State
     private FarmState state = FarmState.IDLE;
-    private List<BlockPos> farmPath = new ArrayList<>();
-    private int currentPathIndex = 0;
+    private final LanePlanner planner = new LanePlanner();
+    private LanePlan plan = null;
+    private int segmentIndex = 0;
+    private int harvestedStep = 0;
 
     // Farm settings
     private BlockPos farmCorner1 = null;
@@ -30,21 +37,27 @@ public class SShapedFarm extends Macro {
 
     // Statistics
     private int cropsHarvested = 0;
+    private final Counter harvestedMetric = counter("Crops");
     private int pathsCompleted = 0;
 
     public enum FarmState {
         IDLE,
         GENERATING_PATH,
         MOVING,
-        HARVESTING,
         COMPLETE
     }
 
     public enum CropType {
-        WHEAT,
-        CARROT,
-        POTATO,
-        NETHER_WART
+        WHEAT(Blocks.WHEAT),
+        CARROT(Blocks.CARROTS),
+        POTATO(Blocks.POTATOES),
+        NETHER_WART(Blocks.NETHER_WART);
+
+        public final Block block;
+
+        CropType(Block block) {
+            this.block = block;
+        }
     }
 
     public SShapedFarm() {
@@ -55,8 +68,9 @@ public class SShapedFarm extends Macro {
     @Override
     public void start() {
         state = FarmState.GENERATING_PATH;
-        farmPath.clear();
-        currentPathIndex = 0;
+        plan = null;
+        segmentIndex = 0;
+        harvestedStep = 0;
         cropsHarvested = 0;
         pathsCompleted = 0;
         System.out.println("[S-Shaped Farm] Initialized");
@@ -98,9 +112,6 @@ public class SShapedFarm extends Macro {
             case MOVING:
                 move();
                 break;
-            case HARVESTING:
-                harvest();
-                break;
             case COMPLETE:
                 complete();
                 break;
@@ -108,71 +119,63 @@ public class SShapedFarm extends Macro {
     }
 
     /**
-     * Generate S-shaped path through farm
+     * Plan lanes through the crops between the corners
      */
     private void generatePath() {
         if (farmCorner1 == null || farmCorner2 == null) return;
 
-        farmPath.clear();
-
-        // Calculate farm bounds
-        int minX = Math.min(farmCorner1.getX(), farmCorner2.getX());
-        int maxX = Math.max(farmCorner1.getX(), farmCorner2.getX());
-        int minZ = Math.min(farmCorner1.getZ(), farmCorner2.getZ());
-        int maxZ = Math.max(farmCorner1.getZ(), farmCorner2.getZ());
-        int y = farmCorner1.getY();
-
-        // Generate S-pattern
-        boolean leftToRight = true;
-
-        for (int z = minZ; z <= maxZ; z += rowSpacing) {
-            if (leftToRight) {
-                // Left to right
-                for (int x = minX; x <= maxX; x++) {
-                    farmPath.add(new BlockPos(x, y, z));
-                }
-            } else {
-                // Right to left
-                for (int x = maxX; x >= minX; x--) {
-                    farmPath.add(new BlockPos(x, y, z));
-                }
-            }
-
-            leftToRight = !leftToRight; // Alternate direction
-        }
+        FarmLayout layout = FarmLayout.scan(world(), farmCorner1, farmCorner2, block -> block == cropType.block);
+        plan = planner.plan(layout, rowSpacing, mc.player.getBlockPos());
 
-        System.out.println("[S-Shaped Farm] Generated path with " + farmPath.size() + " blocks");
+        System.out.println("[S-Shaped Farm] Planned " + plan + " over " + layout.getCropCount() + " crops");
 
-        currentPathIndex = 0;
-        state = FarmState.MOVING;
+        segmentIndex = 0;
+        harvestedStep = 0;
+        state = plan.size() > 0 ? FarmState.MOVING : FarmState.COMPLETE;
     }
 
     /**
-     * Move along path
+     * Walk the current segment, harvesting every lane cell the player has passed
      */
     private void move() {
-        if (currentPathIndex >= farmPath.size()) {
+        if (segmentIndex >= plan.size()) {
             // Path complete
             pathsCompleted++;
             state = FarmState.COMPLETE;
             return;
         }
 
-        BlockPos targetPos = farmPath.get(currentPathIndex);
         BlockPos playerPos = mc.player.getBlockPos();
+        BlockPos end = plan.getEnd(segmentIndex);
+        boolean lane = plan.getKind(segmentIndex) == LanePlan.Kind.LANE;
 
-        // Check if at target
-        if (playerPos.equals(targetPos)) {
-            state = FarmState.HARVESTING;
-            return;
+        if (lane) {
+            int progress = plan.getProgress(segmentIndex, playerPos);
+            BlockPos reached = plan.getCell(segmentIndex, progress);
+            boolean onLane = Math.abs(reached.getX() - playerPos.getX()) + Math.abs(reached.getZ() - playerPos.getZ()) <= 1;
+
+            while (onLane && harvestedStep <= progress) {
+                harvestCell(harvestedStep++);
+            }
         }
 
-        // Calculate direction
-        int dx = targetPos.getX() - playerPos.getX();
-        int dz = targetPos.getZ() - playerPos.getZ();
+        // Segment done: climbs count once the height matches, everything else once above the end
+        boolean atEnd = plan.getKind(segmentIndex) == LanePlan.Kind.CLIMB
+                ? playerPos.getY() == end.getY()
+                : playerPos.getX() == end.getX() && playerPos.getZ() == end.getZ();
+        if (atEnd) {
+            while (lane && harvestedStep <= plan.getLength(segmentIndex)) {
+                harvestCell(harvestedStep++);
+            }
+            segmentIndex++;
+            harvestedStep = 0;
+            return;
+        }
 
-        // Set yaw
-        if (Math.abs(dx) > 0 || Math.abs(dz) > 0) {
+        // One heading per segment: aim at its end, not at every block
+        int dx = end.getX() - playerPos.getX();
+        int dz = end.getZ() - playerPos.getZ();
+        if (dx != 0 || dz != 0) {
             float yaw = (float) Math.toDegrees(Math.atan2(dz, dx)) - 90;
             mc.player.setYaw(yaw);
         }
@@ -182,7 +185,7 @@ public class SShapedFarm extends Macro {
             mc.options.forwardKey.setPressed(true);
 
             // Jump if blocked
-            if (mc.player.horizontalCollision) {
+            if (mc.player.horizontalCollision || plan.getKind(segmentIndex) == LanePlan.Kind.CLIMB) {
                 mc.options.jumpKey.setPressed(true);
             } else {
                 mc.options.jumpKey.setPressed(false);
@@ -191,24 +194,23 @@ public class SShapedFarm extends Macro {
     }
 
     /**
-     * Harvest crop at current position
+     * Harvest one step of the current lane across its whole band
      */
-    private void harvest() {
-        BlockPos currentPos = farmPath.get(currentPathIndex);
-
-        // Check if mature crop
-        if (isMatureCrop(currentPos)) {
-            breakBlock(currentPos);
-            cropsHarvested++;
-
-            if (autoReplant) {
-                replant(currentPos);
+    private void harvestCell(int step) {
+        for (int offset = -plan.getBandBelow(segmentIndex); offset <= plan.getBandAbove(segmentIndex); offset++) {
+            BlockPos pos = plan.getBandCell(segmentIndex, step, offset);
+
+            // Check if mature crop
+            if (isMatureCrop(pos)) {
+                breakBlock(pos);
+                cropsHarvested++;
+                harvestedMetric.increment();
+
+                if (autoReplant) {
+                    replant(pos);
+                }
             }
         }
-
-        // Move to next position
-        currentPathIndex++;
-        state = FarmState.MOVING;
     }
 
     /**
@@ -254,7 +256,7 @@ public class SShapedFarm extends Macro {
         System.out.println("S-SHAPED FARM STATISTICS");
         System.out.println("========================================");
         System.out.println("Crop Type: " + cropType);
-        System.out.println("Path Length: " + farmPath.size());
+        System.out.println("Plan: " + (plan != null ? plan : "none"));
         System.out.println("Crops Harvested: " + cropsHarvested);
         System.out.println("Paths Completed: " + pathsCompleted);
         System.out.println("Runtime: " + getRuntimeFormatted());
@@ -273,7 +275,7 @@ public class SShapedFarm extends Macro {
      */
     public String getStatus() {
         return String.format("%s | %s | Progress: %d/%d | Harvested: %d",
-                state, cropType, currentPathIndex, farmPath.size(), cropsHarvested);
+                state, cropType, segmentIndex, plan != null ? plan.size() : 0, cropsHarvested);
     }
 
     // ==================== GETTERS/SETTERS ====================
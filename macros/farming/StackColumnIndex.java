@@ -0,0 +1,222 @@
+package com.donut.client.macros.farming;
+
+import com.donut.client.event.BlockUpdateHandler;
+import com.donut.client.world.WorldProvider;
+import com.donut.client.world.WorldView;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.WorldChunk;
+
+/**
+ * Height map of cane or cactus stacks over a plot
+ * - One short per (x, z) column: base offset from the plot floor << 5 | stack height (0 = no stack)
+ * - Filled once from the world, then kept current from block updates; a block added on top or broken
+ *   above the base only adjusts the height, anything else re-reads that one column
+ * - Picking a harvest target is a pass over the array with no world reads
+ * One stack per column, the lowest whose base is inside the plot.
+ */
+public class StackColumnIndex implements BlockUpdateHandler.BlockUpdateListener {
+
+    private static final int HEIGHT_BITS = 5;
+    private static final int MAX_HEIGHT = (1 << HEIGHT_BITS) - 1;
+    private static final int MAX_BASE = (1 << (15 - HEIGHT_BITS)) - 1;
+
+    private final Block block;
+    private final int minX, minY, minZ;
+    private final int sizeX, sizeY, sizeZ;
+    private final short[] columns;
+
+    private int stackCount = 0;
+
+    private StackColumnIndex(Block block, BlockPos corner1, BlockPos corner2) {
+        this.block = block;
+        this.minX = Math.min(corner1.getX(), corner2.getX());
+        this.minY = Math.min(corner1.getY(), corner2.getY());
+        this.minZ = Math.min(corner1.getZ(), corner2.getZ());
+        this.sizeX = Math.abs(corner1.getX() - corner2.getX()) + 1;
+        this.sizeY = Math.min(MAX_BASE + 1, Math.abs(corner1.getY() - corner2.getY()) + 1);
+        this.sizeZ = Math.abs(corner1.getZ() - corner2.getZ()) + 1;
+        this.columns = new short[sizeX * sizeZ];
+    }
+
+    /**
+     * Index the plot between two corners and start following its block updates. Call release when done
+     */
+    public static StackColumnIndex create(Block block, BlockPos corner1, BlockPos corner2) {
+        StackColumnIndex index = new StackColumnIndex(block, corner1, corner2);
+        index.fill(WorldProvider.getInstance().getView(), index.minX, index.minZ,
+                index.minX + index.sizeX - 1, index.minZ + index.sizeZ - 1);
+        BlockUpdateHandler.getInstance().addListener(index);
+        return index;
+    }
+
+    public void release() {
+        BlockUpdateHandler.getInstance().removeListener(this);
+    }
+
+    /**
+     * Base of the stack in the column at x, z, or null if there is none
+     */
+    public BlockPos getBase(int x, int z) {
+        if (!inPlot(x, z)) return null;
+
+        short column = columns[column(x, z)];
+        return column == 0 ? null : new BlockPos(x, minY + (column >> HEIGHT_BITS), z);
+    }
+
+    /**
+     * Blocks in the stack at x, z, base included
+     */
+    public int getHeight(int x, int z) {
+        return inPlot(x, z) ? columns[column(x, z)] & MAX_HEIGHT : 0;
+    }
+
+    public int getStackCount() {
+        return stackCount;
+    }
+
+    /**
+     * Stacks at least minHeight tall
+     */
+    public int countReady(int minHeight) {
+        int count = 0;
+        for (short column : columns) {
+            if ((column & MAX_HEIGHT) >= minHeight) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Base of the nearest stack at least minHeight tall, or null
+     */
+    public BlockPos nearest(BlockPos from, int minHeight) {
+        int best = -1;
+        long bestDist = Long.MAX_VALUE;
+
+        for (int i = 0; i < columns.length; i++) {
+            short column = columns[i];
+            if ((column & MAX_HEIGHT) < minHeight) continue;
+
+            long dx = minX + i % sizeX - from.getX();
+            long dy = minY + (column >> HEIGHT_BITS) - from.getY();
+            long dz = minZ + i / sizeX - from.getZ();
+            long dist = dx * dx + dy * dy + dz * dz;
+            if (dist < bestDist) {
+                bestDist = dist;
+                best = i;
+            }
+        }
+
+        return best < 0 ? null : new BlockPos(minX + best % sizeX, minY + (columns[best] >> HEIGHT_BITS), minZ + best / sizeX);
+    }
+
+    /**
+     * Cut the stack at x, z down to keep blocks ahead of the block updates, so it isn't picked again meanwhile
+     */
+    public void markHarvested(int x, int z, int keep) {
+        if (!inPlot(x, z)) return;
+
+        int i = column(x, z);
+        if (columns[i] == 0) return;
+        setColumn(i, columns[i] >> HEIGHT_BITS, Math.min(keep, columns[i] & MAX_HEIGHT));
+    }
+
+    @Override
+    public void onBlockUpdate(BlockPos pos, BlockState oldState, BlockState newState) {
+        boolean was = oldState.isOf(block);
+        boolean is = newState.isOf(block);
+        if (was == is || !inPlot(pos.getX(), pos.getZ())) return;
+
+        int i = column(pos.getX(), pos.getZ());
+        short column = columns[i];
+        int base = minY + (column >> HEIGHT_BITS);
+        int height = column & MAX_HEIGHT;
+        int y = pos.getY();
+
+        if (column != 0) {
+            if (is && y == base + height && height < MAX_HEIGHT) {
+                // Grew (or was placed) on top
+                setColumn(i, base - minY, height + 1);
+                return;
+            }
+            if (was && y > base && y < base + height) {
+                // Broken above the base: everything from y up is gone or about to drop
+                setColumn(i, base - minY, y - base);
+                return;
+            }
+            if (y >= base + height) return;
+        } else if (y < minY || y >= minY + sizeY) {
+            return;
+        }
+
+        measure(WorldProvider.getInstance().getView(), i, pos.getX(), pos.getZ(), pos, newState);
+    }
+
+    @Override
+    public void onChunkLoad(WorldChunk chunk) {
+        ChunkPos pos = chunk.getPos();
+        fill(WorldProvider.getInstance().getView(), pos.getStartX(), pos.getStartZ(), pos.getEndX(), pos.getEndZ());
+    }
+
+    @Override
+    public void onChunkUnload(ChunkPos pos) {
+        int x0 = Math.max(minX, pos.getStartX()), x1 = Math.min(minX + sizeX - 1, pos.getEndX());
+        int z0 = Math.max(minZ, pos.getStartZ()), z1 = Math.min(minZ + sizeZ - 1, pos.getEndZ());
+        for (int z = z0; z <= z1; z++) {
+            for (int x = x0; x <= x1; x++) {
+                setColumn(column(x, z), 0, 0);
+            }
+        }
+    }
+
+    private void fill(WorldView world, int fromX, int fromZ, int toX, int toZ) {
+        int x0 = Math.max(minX, fromX), x1 = Math.min(minX + sizeX - 1, toX);
+        int z0 = Math.max(minZ, fromZ), z1 = Math.min(minZ + sizeZ - 1, toZ);
+
+        for (int z = z0; z <= z1; z++) {
+            for (int x = x0; x <= x1; x++) {
+                if (!world.isChunkLoaded(x >> 4, z >> 4)) continue;
+                measure(world, column(x, z), x, z, null, null);
+            }
+        }
+    }
+
+    /**
+     * Read one column from the world. changed/changedState stand in for a block whose update hasn't landed yet
+     */
+    private void measure(WorldView world, int i, int x, int z, BlockPos changed, BlockState changedState) {
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+
+        for (int y = minY; y < minY + sizeY; y++) {
+            if (!stateAt(world, pos.set(x, y, z), changed, changedState).isOf(block)) continue;
+
+            int height = 1;
+            while (height < MAX_HEIGHT && stateAt(world, pos.set(x, y + height, z), changed, changedState).isOf(block)) {
+                height++;
+            }
+            setColumn(i, y - minY, height);
+            return;
+        }
+        setColumn(i, 0, 0);
+    }
+
+    private static BlockState stateAt(WorldView world, BlockPos pos, BlockPos changed, BlockState changedState) {
+        return pos.equals(changed) ? changedState : world.getBlockState(pos);
+    }
+
+    private void setColumn(int i, int base, int height) {
+        short column = height == 0 ? 0 : (short) (base << HEIGHT_BITS | height);
+        if (columns[i] == 0 && column != 0) stackCount++;
+        if (columns[i] != 0 && column == 0) stackCount--;
+        columns[i] = column;
+    }
+
+    private boolean inPlot(int x, int z) {
+        return x >= minX && x < minX + sizeX && z >= minZ && z < minZ + sizeZ;
+    }
+
+    private int column(int x, int z) {
+        return (z - minZ) * sizeX + (x - minX);
+    }}
\ No newline at end of file
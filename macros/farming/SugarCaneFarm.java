@@ -1,12 +1,14 @@
 package com.donut.client.macros.farming;
 
 import com.donut.client.macros.Macro;
+import net.minecraft.block.Blocks;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.util.math.BlockPos;
 
 /**
  * SugarCaneFarm - Automated sugar cane farming
  * Features: Layer detection, efficient harvesting, auto-replant support
+ * Stack heights come from a StackColumnIndex over the plot, so no column is probed block by block.
  */
 public class SugarCaneFarm extends Macro {
 
@@ -16,6 +18,7 @@ public class SugarCaneFarm extends Macro {
     private FarmState state = FarmState.IDLE;
     private BlockPos currentCaneBase = null;
     private int currentLayer = 0;
+    private StackColumnIndex columns = null;
 
     // Farm settings
     private BlockPos farmCorner1 = null;
@@ -66,12 +69,17 @@ public class SugarCaneFarm extends Macro {
             return;
         }
 
+        columns = StackColumnIndex.create(Blocks.SUGAR_CANE, farmCorner1, farmCorner2);
         state = FarmState.SCANNING;
     }
 
     @Override
     public void onDisable() {
         super.onDisable();
+        if (columns != null) {
+            columns.release();
+            columns = null;
+        }
         System.out.println("[Sugar Cane Farm] Stopped");
         printStatistics();
     }
@@ -100,40 +108,13 @@ public class SugarCaneFarm extends Macro {
     }
 
     /**
-     * Scan for sugar cane
+     * Pick the nearest mature cane from the column index
      */
     private void scan() {
-        if (farmCorner1 == null || farmCorner2 == null) return;
-
-        // Calculate farm bounds
-        int minX = Math.min(farmCorner1.getX(), farmCorner2.getX());
-        int maxX = Math.max(farmCorner1.getX(), farmCorner2.getX());
-        int minY = Math.min(farmCorner1.getY(), farmCorner2.getY());
-        int maxY = Math.max(farmCorner1.getY(), farmCorner2.getY());
-        int minZ = Math.min(farmCorner1.getZ(), farmCorner2.getZ());
-        int maxZ = Math.max(farmCorner1.getZ(), farmCorner2.getZ());
-
-        // Find nearest mature cane
-        BlockPos nearest = null;
-        double nearestDist = Double.MAX_VALUE;
-
-        for (int x = minX; x <= maxX; x++) {
-            for (int y = minY; y <= maxY; y++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    BlockPos pos = new BlockPos(x, y, z);
-
-                    if (isCaneBase(pos) && isMature(pos)) {
-                        double dist = mc.player.getBlockPos().getSquaredDistance(pos);
-
-                        if (dist < nearestDist) {
-                            nearest = pos;
-                            nearestDist = dist;
-                        }
-                    }
-                }
-            }
-        }
+        if (columns == null) return;
 
+        // Mature with at least 2 blocks above the base
+        BlockPos nearest = columns.nearest(mc.player.getBlockPos(), 3);
         if (nearest != null) {
             currentCaneBase = nearest;
             basesFound++;
@@ -141,43 +122,6 @@ public class SugarCaneFarm extends Macro {
         }
     }
 
-    /**
-     * Check if position is a cane base
-     */
-    private boolean isCaneBase(BlockPos pos) {
-        // TODO: Check if block is sugar cane
-        // And check if block below is dirt/grass/sand
-        return false;
-    }
-
-    /**
-     * Check if cane is mature (grown to harvest)
-     */
-    private boolean isMature(BlockPos basePos) {
-        // Check if there are at least 2 blocks above base
-        int height = 0;
-
-        for (int y = 1; y <= maxHeight; y++) {
-            BlockPos checkPos = basePos.up(y);
-
-            if (isSugarCane(checkPos)) {
-                height++;
-            } else {
-                break;
-            }
-        }
-
-        return height >= 2; // At least 2 blocks tall
-    }
-
-    /**
-     * Check if block is sugar cane
-     */
-    private boolean isSugarCane(BlockPos pos) {
-        // TODO: Check if block is sugar cane
-        return false;
-    }
-
     /**
      * Move to cane base
      */
@@ -226,19 +170,19 @@ public class SugarCaneFarm extends Macro {
             return;
         }
 
-        // Harvest from top to bottom
+        // Harvest from top to bottom, as high as the index says the stack goes
         int startLayer = leaveBottom ? 1 : 0;
+        int top = Math.min(maxHeight, columns.getHeight(currentCaneBase.getX(), currentCaneBase.getZ()) - 1);
 
-        for (int y = maxHeight; y >= startLayer; y--) {
-            BlockPos harvestPos = currentCaneBase.up(y);
-
-            if (isSugarCane(harvestPos)) {
-                breakBlock(harvestPos);
-                canesHarvested++;
-                System.out.println("[Sugar Cane Farm] Harvested layer " + y);
-            }
+        for (int y = top; y >= startLayer; y--) {
+            breakBlock(currentCaneBase.up(y));
+            canesHarvested++;
+            System.out.println("[Sugar Cane Farm] Harvested layer " + y);
         }
 
+        // Don't pick this column again before its block updates arrive
+        columns.markHarvested(currentCaneBase.getX(), currentCaneBase.getZ(), startLayer);
+
         // Reset and scan for next
         currentCaneBase = null;
         state = FarmState.SCANNING;
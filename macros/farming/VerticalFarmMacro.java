@@ -1,6 +1,9 @@
 package com.donut.client.macros.farming;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.farming.lanes.FarmLayout;
+import com.donut.client.macros.farming.lanes.LanePlan;
+import com.donut.client.macros.farming.lanes.LanePlanner;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.block.Block;
 import net.minecraft.block.Blocks;
@@ -11,6 +14,7 @@ import java.util.*;
 
 /**
  * VerticalFarmMacro - Vertical farming (mushrooms, cocoa, nether wart, etc.)
+ * LANES scans the whole stack once and reuses the plan on every layer
  */
 public class VerticalFarmMacro extends Macro {
 
@@ -20,13 +24,16 @@ public class VerticalFarmMacro extends Macro {
     private FarmState state = FarmState.IDLE;
     private int currentY = 0;
     private Queue<BlockPos> harvestQueue = new LinkedList<>();
+    private final LanePlanner planner = new LanePlanner();
+    private LanePlan plan = null;
 
     // Settings
     private FarmType farmType = FarmType.MUSHROOMS;
-    private FarmPattern pattern = FarmPattern.SPIRAL;
+    private FarmPattern pattern = FarmPattern.LANES;
     private int minY = 70;
     private int maxY = 90;
     private int radius = 10;
+    private int laneWidth = 3;
     private boolean bidirectional = true;
     private boolean autoReplant = true;
 
@@ -55,7 +62,8 @@ public class VerticalFarmMacro extends Macro {
 
     public enum FarmPattern {
         SPIRAL,    // Spiral around center
-        GRID       // Grid pattern
+        GRID,      // Grid pattern
+        LANES      // Planned lanes over the scanned stack
     }
 
     public VerticalFarmMacro() {
@@ -67,6 +75,7 @@ public class VerticalFarmMacro extends Macro {
     public void start() {
         state = FarmState.IDLE;
         harvestQueue.clear();
+        plan = null;
         blocksHarvested = 0;
         blocksReplanted = 0;
         layersCompleted = 0;
@@ -79,6 +88,7 @@ public class VerticalFarmMacro extends Macro {
         if (mc.player != null) {
             currentY = mc.player.getBlockPos().getY();
         }
+        plan = null;
         state = FarmState.MOVING_UP;
         System.out.println("[Vertical Farm] Starting...");
     }
@@ -165,6 +175,9 @@ public class VerticalFarmMacro extends Macro {
             case GRID:
                 harvestGrid(centerPos);
                 break;
+            case LANES:
+                harvestLanes(centerPos);
+                break;
         }
 
         layersCompleted++;
@@ -218,6 +231,37 @@ public class VerticalFarmMacro extends Macro {
         }
     }
 
+    /**
+     * Harvest this layer's lanes, planning the whole stack around center the first time
+     */
+    private void harvestLanes(BlockPos center) {
+        if (plan == null) {
+            FarmLayout layout = FarmLayout.scan(world(),
+                    new BlockPos(center.getX() - radius, minY, center.getZ() - radius),
+                    new BlockPos(center.getX() + radius, maxY, center.getZ() + radius),
+                    this::isFarmBlock);
+            plan = planner.plan(layout, laneWidth, center);
+            System.out.println("[Vertical Farm] Planned " + plan + " over " + layout.getLayerCount() + " layers");
+        }
+
+        for (int segment = 0; segment < plan.size(); segment++) {
+            if (plan.getKind(segment) != LanePlan.Kind.LANE || plan.getStart(segment).getY() != center.getY()) continue;
+
+            for (int step = 0; step <= plan.getLength(segment); step++) {
+                for (int offset = -plan.getBandBelow(segment); offset <= plan.getBandAbove(segment); offset++) {
+                    harvestBlock(plan.getBandCell(segment, step, offset));
+                }
+            }
+        }
+    }
+
+    private boolean isFarmBlock(Block block) {
+        for (Block targetBlock : farmType.blocks) {
+            if (block == targetBlock) return true;
+        }
+        return false;
+    }
+
     /**
      * Harvest a block
      */
@@ -282,6 +326,7 @@ public class VerticalFarmMacro extends Macro {
     // Getters/Setters
     public void setFarmType(FarmType type) {
         this.farmType = type;
+        this.plan = null;
     }
 
     public void setPattern(FarmPattern pattern) {
@@ -290,14 +335,25 @@ public class VerticalFarmMacro extends Macro {
 
     public void setMinY(int y) {
         this.minY = y;
+        this.plan = null;
     }
 
     public void setMaxY(int y) {
         this.maxY = y;
+        this.plan = null;
     }
 
     public void setRadius(int radius) {
         this.radius = radius;
+        this.plan = null;
+    }
+
+    /**
+     * Rows harvested per lane in LANES mode
+     */
+    public void setLaneWidth(int width) {
+        this.laneWidth = width;
+        this.plan = null;
     }
 
     public void setBidirectional(boolean bidirectional) {
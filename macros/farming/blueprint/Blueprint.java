@@ -0,0 +1,57 @@
+package com.donut.client.macros.farming.blueprint;
+
+import com.donut.client.world.WorldView;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.Iterator;
+
+/**
+ * A structure that can be built block by block from an origin
+ * - Implementations answer per cell from rules, they never hold a list of positions
+ * - placements() and diff() stream cells lazily in construction order (see BlueprintCursor)
+ */
+public interface Blueprint {
+
+    String getName();
+
+    int getSizeX();
+
+    int getSizeY();
+
+    int getSizeZ();
+
+    /**
+     * Block wanted at an offset from the origin, or null if the cell is left alone
+     */
+    BlockState getBlock(int x, int y, int z);
+
+    /**
+     * Every cell with a block, in construction order
+     */
+    default Iterator<Placement> placements(BlockPos origin) {
+        return new BlueprintCursor(this, origin, null);
+    }
+
+    /**
+     * Only cells whose block is missing or wrong in the world, checked as the cursor reaches them
+     */
+    default Iterator<Placement> diff(BlockPos origin, WorldView world) {
+        return new BlueprintCursor(this, origin, world);
+    }
+
+    /**
+     * Number of cells with a block. Walks the rules, so it costs time but no memory
+     */
+    default long count() {
+        long count = 0;
+        for (int y = 0; y < getSizeY(); y++) {
+            for (int z = 0; z < getSizeZ(); z++) {
+                for (int x = 0; x < getSizeX(); x++) {
+                    if (getBlock(x, y, z) != null) count++;
+                }
+            }
+        }
+        return count;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,152 @@
+package com.donut.client.macros.farming.blueprint;
+
+import com.donut.client.world.BlockRegion;
+import com.donut.client.world.WorldView;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy walk over a blueprint in construction order
+ * - Bottom layer first, so every block has its support before it is placed
+ * - Rows run along x and snake back and forth; each layer snakes back over the previous one
+ * - With a world, cells are compared against per-chunk snapshots and only missing or wrong blocks come out
+ *   (cells in unloaded chunks can't be checked and count as missing)
+ * State is just the current cell plus a few snapshots, whatever the blueprint's size.
+ */
+public class BlueprintCursor implements Iterator<Placement> {
+
+    private static final int MAX_SNAPSHOTS = 16;
+    private static final long SNAPSHOT_MAX_AGE = 5000;
+
+    private final Blueprint blueprint;
+    private final int originX, originY, originZ;
+    private final WorldView world;
+
+    // Cell the next advance() looks at
+    private int x, y, z;
+    private boolean done;
+
+    private Placement next;
+
+    // Chunk key -> blocks of the blueprint's slice of that chunk
+    private final LinkedHashMap<Long, Snapshot> snapshots = new LinkedHashMap<>(MAX_SNAPSHOTS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Snapshot> eldest) {
+            return size() > MAX_SNAPSHOTS;
+        }
+    };
+
+    private static class Snapshot {
+        final BlockRegion region;
+        final long capturedAt;
+
+        Snapshot(BlockRegion region, long capturedAt) {
+            this.region = region;
+            this.capturedAt = capturedAt;
+        }
+    }
+
+    public BlueprintCursor(Blueprint blueprint, BlockPos origin, WorldView world) {
+        this.blueprint = blueprint;
+        this.originX = origin.getX();
+        this.originY = origin.getY();
+        this.originZ = origin.getZ();
+        this.world = world;
+
+        this.done = blueprint.getSizeX() <= 0 || blueprint.getSizeY() <= 0 || blueprint.getSizeZ() <= 0;
+        this.next = advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public Placement next() {
+        if (next == null) throw new NoSuchElementException();
+
+        Placement current = next;
+        next = advance();
+        return current;
+    }
+
+    private Placement advance() {
+        while (!done) {
+            int cellX = columnX();
+            int cellY = y;
+            int cellZ = rowZ();
+            BlockState wanted = blueprint.getBlock(cellX, cellY, cellZ);
+            step();
+
+            if (wanted == null) continue;
+
+            Placement placement = new Placement(
+                    new BlockPos(originX + cellX, originY + cellY, originZ + cellZ), wanted);
+            if (world == null || !placement.matches(read(placement.getPos()))) {
+                return placement;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Move to the following cell: along the row, then the next row, then the next layer
+     */
+    private void step() {
+        if (++x < blueprint.getSizeX()) return;
+        x = 0;
+        if (++z < blueprint.getSizeZ()) return;
+        z = 0;
+        if (++y < blueprint.getSizeY()) return;
+        done = true;
+    }
+
+    /**
+     * Rows alternate direction so the builder never walks back along a finished row
+     */
+    private int columnX() {
+        int row = y * blueprint.getSizeZ() + z;
+        return (row & 1) == 0 ? x : blueprint.getSizeX() - 1 - x;
+    }
+
+    /**
+     * Odd layers run their rows in reverse, starting where the layer below ended
+     */
+    private int rowZ() {
+        return (y & 1) == 0 ? z : blueprint.getSizeZ() - 1 - z;
+    }
+
+    /**
+     * Block at pos from a fresh-enough snapshot of its chunk, or null if the chunk isn't loaded
+     */
+    private BlockState read(BlockPos pos) {
+        int chunkX = pos.getX() >> 4;
+        int chunkZ = pos.getZ() >> 4;
+        if (!world.isChunkLoaded(chunkX, chunkZ)) return null;
+
+        long key = ChunkPos.toLong(chunkX, chunkZ);
+        long now = world.getTimeMillis();
+        Snapshot snapshot = snapshots.get(key);
+
+        if (snapshot == null || now - snapshot.capturedAt > SNAPSHOT_MAX_AGE) {
+            // Only the part of the chunk the blueprint covers
+            BlockPos min = new BlockPos(
+                    Math.max(chunkX << 4, originX), originY, Math.max(chunkZ << 4, originZ));
+            BlockPos max = new BlockPos(
+                    Math.min((chunkX << 4) + 15, originX + blueprint.getSizeX() - 1),
+                    originY + blueprint.getSizeY() - 1,
+                    Math.min((chunkZ << 4) + 15, originZ + blueprint.getSizeZ() - 1));
+            snapshot = new Snapshot(BlockRegion.capture(world, min, max), now);
+            snapshots.put(key, snapshot);
+        }
+
+        return snapshot.region.getBlockState(pos);
+    }
+}
\ No newline at end of file
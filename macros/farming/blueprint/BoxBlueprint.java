@@ -0,0 +1,89 @@
+package com.donut.client.macros.farming.blueprint;
+
+import net.minecraft.block.BlockState;
+
+/**
+ * One block type over a box, filled according to a shape
+ */
+public class BoxBlueprint implements Blueprint {
+
+    public enum Shape {
+        FILL,       // Every cell
+        WALLS,      // Vertical sides
+        FLOOR,      // Bottom layer
+        CEILING,    // Top layer
+        OUTLINE     // Edges only
+    }
+
+    private final Shape shape;
+    private final BlockState state;
+    private final int sizeX, sizeY, sizeZ;
+
+    public BoxBlueprint(Shape shape, BlockState state, int sizeX, int sizeY, int sizeZ) {
+        this.shape = shape;
+        this.state = state;
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+    }
+
+    @Override
+    public BlockState getBlock(int x, int y, int z) {
+        boolean edgeX = x == 0 || x == sizeX - 1;
+        boolean edgeY = y == 0 || y == sizeY - 1;
+        boolean edgeZ = z == 0 || z == sizeZ - 1;
+
+        boolean filled;
+        switch (shape) {
+            case WALLS:
+                filled = edgeX || edgeZ;
+                break;
+            case FLOOR:
+                filled = y == 0;
+                break;
+            case CEILING:
+                filled = y == sizeY - 1;
+                break;
+            case OUTLINE:
+                filled = (edgeX ? 1 : 0) + (edgeY ? 1 : 0) + (edgeZ ? 1 : 0) >= 2;
+                break;
+            default:
+                filled = true;
+        }
+        return filled ? state : null;
+    }
+
+    @Override
+    public long count() {
+        long area = (long) sizeX * sizeZ;
+        switch (shape) {
+            case FILL:
+                return area * sizeY;
+            case FLOOR:
+            case CEILING:
+                return area;
+            default:
+                return Blueprint.super.count();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return shape.name().toLowerCase();
+    }
+
+    @Override
+    public int getSizeX() {
+        return sizeX;
+    }
+
+    @Override
+    public int getSizeY() {
+        return sizeY;
+    }
+
+    @Override
+    public int getSizeZ() {
+        return sizeZ;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,178 @@
+package com.donut.client.macros.farming.blueprint;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Farm plot stored as repeating tiles, one per layer
+ * - "legend" maps tile characters to block ids; '.' and ' ' leave the cell alone
+ * - "layers": [{"y", "tile": ["row", ...]}], tiled across "plotSize" (e.g. "144x144"); tile rows run along z
+ * - "blocks": literal {"type", "x", "y", "z"} cells that override the tiles
+ * Source files live in resources/routes/farm_blueprints.
+ */
+public class PatternBlueprint implements Blueprint {
+
+    private static final String RESOURCE_DIR = "/routes/farm_blueprints/";
+
+    private final String name;
+    private final String crop;
+    private final int sizeX, sizeY, sizeZ;
+
+    // y -> tile[row][column], null for layers with nothing to place
+    private final BlockState[][][] layers;
+
+    // Packed offset -> literal block
+    private final Map<Long, BlockState> literals;
+
+    private PatternBlueprint(String name, String crop, int sizeX, int sizeZ,
+                             BlockState[][][] layers, Map<Long, BlockState> literals) {
+        this.name = name;
+        this.crop = crop;
+        this.sizeX = sizeX;
+        this.sizeY = layers.length;
+        this.sizeZ = sizeZ;
+        this.layers = layers;
+        this.literals = literals;
+    }
+
+    /**
+     * Load a bundled blueprint by file name ("wheat_optimal"), or null if missing or not a pattern
+     */
+    public static PatternBlueprint load(String fileName) {
+        try (InputStream in = PatternBlueprint.class.getResourceAsStream(RESOURCE_DIR + fileName + ".json")) {
+            if (in == null) {
+                System.err.println("[Blueprint] Not found: " + fileName);
+                return null;
+            }
+
+            JsonElement json = JsonParser.parseReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            return fromJson(json.getAsJsonObject());
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[Blueprint] Could not load " + fileName + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    public static PatternBlueprint fromJson(JsonObject json) {
+        if (!json.has("layers")) {
+            throw new IllegalArgumentException("no layers");
+        }
+
+        String name = json.has("name") ? json.get("name").getAsString() : "Blueprint";
+        String crop = json.has("crop") ? json.get("crop").getAsString() : "";
+
+        String[] plotSize = json.get("plotSize").getAsString().toLowerCase().split("x");
+        int sizeX = Integer.parseInt(plotSize[0].trim());
+        int sizeZ = Integer.parseInt(plotSize[1].trim());
+
+        Map<Character, BlockState> legend = new HashMap<>();
+        if (json.has("legend")) {
+            for (Map.Entry<String, JsonElement> entry : json.getAsJsonObject("legend").entrySet()) {
+                legend.put(entry.getKey().charAt(0), parseBlock(entry.getValue().getAsString()));
+            }
+        }
+
+        int height = 0;
+        for (JsonElement element : json.getAsJsonArray("layers")) {
+            height = Math.max(height, element.getAsJsonObject().get("y").getAsInt() + 1);
+        }
+
+        BlockState[][][] layers = new BlockState[height][][];
+        for (JsonElement element : json.getAsJsonArray("layers")) {
+            JsonObject layer = element.getAsJsonObject();
+            JsonArray rows = layer.getAsJsonArray("tile");
+
+            BlockState[][] tile = new BlockState[rows.size()][];
+            for (int row = 0; row < tile.length; row++) {
+                String cells = rows.get(row).getAsString();
+                tile[row] = new BlockState[cells.length()];
+                for (int column = 0; column < cells.length(); column++) {
+                    char c = cells.charAt(column);
+                    if (c == '.' || c == ' ') continue;
+
+                    BlockState state = legend.get(c);
+                    if (state == null) {
+                        throw new IllegalArgumentException("'" + c + "' is not in the legend");
+                    }
+                    tile[row][column] = state;
+                }
+            }
+            layers[layer.get("y").getAsInt()] = tile;
+        }
+
+        Map<Long, BlockState> literals = new HashMap<>();
+        if (json.has("blocks")) {
+            for (JsonElement element : json.getAsJsonArray("blocks")) {
+                JsonObject block = element.getAsJsonObject();
+                int x = block.get("x").getAsInt();
+                int y = block.get("y").getAsInt();
+                int z = block.get("z").getAsInt();
+                if (y < 0 || y >= height) continue;
+                literals.put(BlockPos.asLong(x, y, z), parseBlock(block.get("type").getAsString()));
+            }
+        }
+
+        return new PatternBlueprint(name, crop, sizeX, sizeZ, layers, literals);
+    }
+
+    private static BlockState parseBlock(String id) {
+        Identifier identifier = Identifier.tryParse(id);
+        Block block = identifier == null ? null : Registries.BLOCK.getOrEmpty(identifier).orElse(null);
+        if (block == null) {
+            throw new IllegalArgumentException("unknown block " + id);
+        }
+        return block.getDefaultState();
+    }
+
+    @Override
+    public BlockState getBlock(int x, int y, int z) {
+        if (!literals.isEmpty()) {
+            BlockState literal = literals.get(BlockPos.asLong(x, y, z));
+            if (literal != null) return literal;
+        }
+
+        BlockState[][] tile = layers[y];
+        if (tile == null || tile.length == 0) return null;
+
+        BlockState[] row = tile[z % tile.length];
+        return row.length == 0 ? null : row[x % row.length];
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public String getCrop() {
+        return crop;
+    }
+
+    @Override
+    public int getSizeX() {
+        return sizeX;
+    }
+
+    @Override
+    public int getSizeY() {
+        return sizeY;
+    }
+
+    @Override
+    public int getSizeZ() {
+        return sizeZ;
+    }
+}
\ No newline at end of file
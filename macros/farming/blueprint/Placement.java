@@ -0,0 +1,38 @@
+package com.donut.client.macros.farming.blueprint;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * One block a blueprint wants at one world position
+ */
+public class Placement {
+
+    private final BlockPos pos;
+    private final BlockState state;
+
+    public Placement(BlockPos pos, BlockState state) {
+        this.pos = pos;
+        this.state = state;
+    }
+
+    public BlockPos getPos() {
+        return pos;
+    }
+
+    public BlockState getState() {
+        return state;
+    }
+
+    /**
+     * Same block, ignoring properties like crop age or log axis
+     */
+    public boolean matches(BlockState actual) {
+        return actual != null && actual.getBlock() == state.getBlock();
+    }
+
+    @Override
+    public String toString() {
+        return state.getBlock() + " at " + pos;
+    }
+}
\ No newline at end of file
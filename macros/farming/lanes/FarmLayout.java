@@ -0,0 +1,180 @@
+package com.donut.client.macros.farming.lanes;
+
+import com.donut.client.macros.farming.blueprint.Blueprint;
+import com.donut.client.world.WorldView;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.CropBlock;
+import net.minecraft.block.StemBlock;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Where the crops and water channels of a farm are, layer by layer
+ * - One crop bit and one water bit per column per layer
+ * - A layer is any height that has at least one crop on it
+ * Read from the world or from a blueprint; the lane planner only ever sees this.
+ */
+public class FarmLayout {
+
+    private final int minX, minZ;
+    private final int sizeX, sizeZ;
+
+    // Crop level of each layer, ascending
+    private final int[] layerYs;
+    private final BitSet[] crops;
+    private final BitSet[] water;
+
+    private FarmLayout(int minX, int minZ, int sizeX, int sizeZ, List<Integer> ys, List<BitSet> crops, List<BitSet> water) {
+        this.minX = minX;
+        this.minZ = minZ;
+        this.sizeX = sizeX;
+        this.sizeZ = sizeZ;
+        this.layerYs = ys.stream().mapToInt(Integer::intValue).toArray();
+        this.crops = crops.toArray(new BitSet[0]);
+        this.water = water.toArray(new BitSet[0]);
+    }
+
+    /**
+     * Scan the box between two corners. Water counts at crop level or the block below
+     */
+    public static FarmLayout scan(WorldView world, BlockPos corner1, BlockPos corner2, Predicate<Block> isCrop) {
+        int minX = Math.min(corner1.getX(), corner2.getX());
+        int minY = Math.min(corner1.getY(), corner2.getY());
+        int minZ = Math.min(corner1.getZ(), corner2.getZ());
+        int sizeX = Math.abs(corner1.getX() - corner2.getX()) + 1;
+        int sizeZ = Math.abs(corner1.getZ() - corner2.getZ()) + 1;
+        int maxY = Math.max(corner1.getY(), corner2.getY());
+
+        List<Integer> ys = new ArrayList<>();
+        List<BitSet> crops = new ArrayList<>();
+        List<BitSet> water = new ArrayList<>();
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+
+        for (int y = minY; y <= maxY; y++) {
+            BitSet layerCrops = new BitSet(sizeX * sizeZ);
+            BitSet layerWater = new BitSet(sizeX * sizeZ);
+
+            for (int z = 0; z < sizeZ; z++) {
+                for (int x = 0; x < sizeX; x++) {
+                    int index = x + z * sizeX;
+                    BlockState state = world.getBlockState(pos.set(minX + x, y, minZ + z));
+                    if (isCrop.test(state.getBlock())) {
+                        layerCrops.set(index);
+                    } else if (state.isOf(Blocks.WATER) || world.getBlockState(pos.move(0, -1, 0)).isOf(Blocks.WATER)) {
+                        layerWater.set(index);
+                    }
+                }
+            }
+
+            if (layerCrops.isEmpty()) continue;
+            ys.add(y);
+            crops.add(layerCrops);
+            water.add(layerWater);
+        }
+
+        return new FarmLayout(minX, minZ, sizeX, sizeZ, ys, crops, water);
+    }
+
+    /**
+     * Layout a blueprint will have once built at origin
+     */
+    public static FarmLayout fromBlueprint(Blueprint blueprint, BlockPos origin) {
+        int sizeX = blueprint.getSizeX();
+        int sizeZ = blueprint.getSizeZ();
+
+        List<Integer> ys = new ArrayList<>();
+        List<BitSet> crops = new ArrayList<>();
+        List<BitSet> water = new ArrayList<>();
+
+        for (int y = 0; y < blueprint.getSizeY(); y++) {
+            BitSet layerCrops = new BitSet(sizeX * sizeZ);
+            BitSet layerWater = new BitSet(sizeX * sizeZ);
+
+            for (int z = 0; z < sizeZ; z++) {
+                for (int x = 0; x < sizeX; x++) {
+                    int index = x + z * sizeX;
+                    BlockState state = blueprint.getBlock(x, y, z);
+                    BlockState below = y > 0 ? blueprint.getBlock(x, y - 1, z) : null;
+
+                    if (state != null && isCrop(state.getBlock())) {
+                        layerCrops.set(index);
+                    } else if ((state != null && state.isOf(Blocks.WATER)) || (below != null && below.isOf(Blocks.WATER))) {
+                        layerWater.set(index);
+                    }
+                }
+            }
+
+            if (layerCrops.isEmpty()) continue;
+            ys.add(origin.getY() + y);
+            crops.add(layerCrops);
+            water.add(layerWater);
+        }
+
+        return new FarmLayout(origin.getX(), origin.getZ(), sizeX, sizeZ, ys, crops, water);
+    }
+
+    /**
+     * Anything a farming macro harvests
+     */
+    public static boolean isCrop(Block block) {
+        return block instanceof CropBlock
+                || block instanceof StemBlock
+                || block == Blocks.NETHER_WART
+                || block == Blocks.SUGAR_CANE
+                || block == Blocks.CACTUS
+                || block == Blocks.COCOA
+                || block == Blocks.BROWN_MUSHROOM
+                || block == Blocks.RED_MUSHROOM
+                || block == Blocks.MELON
+                || block == Blocks.PUMPKIN;
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinZ() {
+        return minZ;
+    }
+
+    public int getSizeX() {
+        return sizeX;
+    }
+
+    public int getSizeZ() {
+        return sizeZ;
+    }
+
+    public int getLayerCount() {
+        return layerYs.length;
+    }
+
+    public int getLayerY(int layer) {
+        return layerYs[layer];
+    }
+
+    /**
+     * Crop at a column of a layer, x and z relative to the layout's corner
+     */
+    public boolean isCrop(int layer, int x, int z) {
+        return crops[layer].get(x + z * sizeX);
+    }
+
+    public boolean isWater(int layer, int x, int z) {
+        return water[layer].get(x + z * sizeX);
+    }
+
+    public int getCropCount() {
+        int count = 0;
+        for (BitSet layer : crops) {
+            count += layer.cardinality();
+        }
+        return count;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,180 @@
+package com.donut.client.macros.farming.lanes;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+
+import java.util.Arrays;
+
+/**
+ * Run-length farm traversal: a few straight segments instead of one node per block
+ * - Each segment is a start block, an axis direction and a length (five ints in total)
+ * - LANE segments harvest as they go, with a band of rows on either side of the walked row
+ * - CHANGE segments move between lanes, CLIMB segments between layers
+ * Consecutive segments in the same direction are merged as they are added.
+ */
+public class LanePlan {
+
+    public enum Kind {
+        LANE,
+        CHANGE,
+        CLIMB
+    }
+
+    private static final Kind[] KINDS = Kind.values();
+    private static final int STRIDE = 5;
+
+    // x, y, z, length << 5 | kind << 3 | direction, band below << 16 | band above
+    private final int[] data;
+    private final int size;
+
+    private LanePlan(int[] data, int size) {
+        this.data = data;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Kind getKind(int segment) {
+        return KINDS[(data[segment * STRIDE + 3] >> 3) & 0x3];
+    }
+
+    public Direction getDirection(int segment) {
+        return Direction.byId(data[segment * STRIDE + 3] & 0x7);
+    }
+
+    /**
+     * Blocks moved; the segment covers length + 1 cells
+     */
+    public int getLength(int segment) {
+        return data[segment * STRIDE + 3] >>> 5;
+    }
+
+    public BlockPos getStart(int segment) {
+        int i = segment * STRIDE;
+        return new BlockPos(data[i], data[i + 1], data[i + 2]);
+    }
+
+    public BlockPos getEnd(int segment) {
+        return getCell(segment, getLength(segment));
+    }
+
+    /**
+     * Cell step blocks from the segment's start
+     */
+    public BlockPos getCell(int segment, int step) {
+        return getStart(segment).offset(getDirection(segment), step);
+    }
+
+    /**
+     * Rows harvested on the negative side of a LANE's walked row (-z for lanes along x, -x for lanes along z)
+     */
+    public int getBandBelow(int segment) {
+        return data[segment * STRIDE + 4] >>> 16;
+    }
+
+    /**
+     * Rows harvested on the positive side of a LANE's walked row
+     */
+    public int getBandAbove(int segment) {
+        return data[segment * STRIDE + 4] & 0xFFFF;
+    }
+
+    /**
+     * Cell offset rows to the side of a LANE cell, offset in [-getBandBelow, getBandAbove]
+     */
+    public BlockPos getBandCell(int segment, int step, int offset) {
+        BlockPos cell = getCell(segment, step);
+        return getDirection(segment).getAxis() == Direction.Axis.X ? cell.add(0, 0, offset) : cell.add(offset, 0, 0);
+    }
+
+    /**
+     * How far along the segment pos is, clamped to [0, length]
+     */
+    public int getProgress(int segment, BlockPos pos) {
+        Direction direction = getDirection(segment);
+        BlockPos start = getStart(segment);
+        int along = (pos.getX() - start.getX()) * direction.getOffsetX()
+                + (pos.getY() - start.getY()) * direction.getOffsetY()
+                + (pos.getZ() - start.getZ()) * direction.getOffsetZ();
+        return Math.max(0, Math.min(getLength(segment), along));
+    }
+
+    /**
+     * Direction changes along the whole plan
+     */
+    public int getTurnCount() {
+        int turns = 0;
+        for (int i = 1; i < size; i++) {
+            if (getDirection(i) != getDirection(i - 1)) turns++;
+        }
+        return turns;
+    }
+
+    public int getLaneCount() {
+        int lanes = 0;
+        for (int i = 0; i < size; i++) {
+            if (getKind(i) == Kind.LANE) lanes++;
+        }
+        return lanes;
+    }
+
+    /**
+     * Blocks walked in total
+     */
+    public int getDistance() {
+        int distance = 0;
+        for (int i = 0; i < size; i++) {
+            distance += getLength(i);
+        }
+        return distance;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d lanes, %d segments, %d turns, %d blocks walked",
+                getLaneCount(), size, getTurnCount(), getDistance());
+    }
+
+    static class Builder {
+        private int[] data = new int[STRIDE * 16];
+        private int size = 0;
+
+        void add(Kind kind, BlockPos start, Direction direction, int length, int bandBelow, int bandAbove) {
+            if (length <= 0 && kind != Kind.LANE) return;
+
+            int meta = length << 5 | kind.ordinal() << 3 | direction.getId();
+            int band = bandBelow << 16 | bandAbove;
+
+            // Extend the previous segment if this one carries straight on from its end
+            if (size > 0) {
+                int last = (size - 1) * STRIDE;
+                int lastMeta = data[last + 3];
+                int lastLength = lastMeta >>> 5;
+                if ((lastMeta & 0x1F) == (meta & 0x1F) && data[last + 4] == band
+                        && data[last] + direction.getOffsetX() * lastLength == start.getX()
+                        && data[last + 1] + direction.getOffsetY() * lastLength == start.getY()
+                        && data[last + 2] + direction.getOffsetZ() * lastLength == start.getZ()) {
+                    data[last + 3] = (lastLength + length) << 5 | (lastMeta & 0x1F);
+                    return;
+                }
+            }
+
+            if ((size + 1) * STRIDE > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            int i = size * STRIDE;
+            data[i] = start.getX();
+            data[i + 1] = start.getY();
+            data[i + 2] = start.getZ();
+            data[i + 3] = meta;
+            data[i + 4] = band;
+            size++;
+        }
+
+        LanePlan build() {
+            return new LanePlan(Arrays.copyOf(data, size * STRIDE), size);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,193 @@
+package com.donut.client.macros.farming.lanes;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Plans a minimal-turn walk over a farm layout
+ * - Lanes run along whichever axis splits the crops into fewer runs (water channels and gaps break runs)
+ * - Crop rows are grouped into bands of laneWidth; one lane per band, walked on a dry row where possible
+ * - Lanes snake: each one starts at the end nearest where the last one stopped, layers likewise
+ * The plan is built once per farm and walked every cycle.
+ */
+public class LanePlanner {
+
+    /**
+     * One band of rows, in layout-relative coordinates (u along the lane, v across)
+     */
+    private static class Lane {
+        final int v;
+        final int uMin, uMax;
+        final int below, above;
+
+        Lane(int v, int uMin, int uMax, int below, int above) {
+            this.v = v;
+            this.uMin = uMin;
+            this.uMax = uMax;
+            this.below = below;
+            this.above = above;
+        }
+    }
+
+    public LanePlan plan(FarmLayout layout, int laneWidth, BlockPos start) {
+        LanePlan.Builder plan = new LanePlan.Builder();
+        if (layout.getLayerCount() == 0) return plan.build();
+
+        boolean alongX = countRuns(layout, true) <= countRuns(layout, false);
+        int width = Math.max(1, laneWidth);
+
+        // Current position in u/v/y
+        int curU = alongX ? start.getX() - layout.getMinX() : start.getZ() - layout.getMinZ();
+        int curV = alongX ? start.getZ() - layout.getMinZ() : start.getX() - layout.getMinX();
+        int curY = start.getY();
+        boolean first = true;
+
+        // Start from whichever end of the stack is nearer
+        List<Integer> layers = new ArrayList<>();
+        for (int layer = 0; layer < layout.getLayerCount(); layer++) {
+            layers.add(layer);
+        }
+        int bottom = layout.getLayerY(0);
+        int top = layout.getLayerY(layout.getLayerCount() - 1);
+        if (Math.abs(top - curY) < Math.abs(bottom - curY)) {
+            Collections.reverse(layers);
+        }
+
+        for (int layer : layers) {
+            List<Lane> lanes = bands(layout, layer, alongX, width);
+            if (lanes.isEmpty()) continue;
+
+            if (Math.abs(lanes.get(lanes.size() - 1).v - curV) < Math.abs(lanes.get(0).v - curV)) {
+                Collections.reverse(lanes);
+            }
+
+            int y = layout.getLayerY(layer);
+            for (Lane lane : lanes) {
+                boolean forward = Math.abs(lane.uMin - curU) <= Math.abs(lane.uMax - curU);
+                int from = forward ? lane.uMin : lane.uMax;
+                int to = forward ? lane.uMax : lane.uMin;
+
+                if (!first) {
+                    // Climb, cross over at the headland, then slide along to the lane's start
+                    plan.add(LanePlan.Kind.CLIMB, toWorld(layout, alongX, curU, curY, curV),
+                            y > curY ? Direction.UP : Direction.DOWN, Math.abs(y - curY), 0, 0);
+                    plan.add(LanePlan.Kind.CHANGE, toWorld(layout, alongX, curU, y, curV),
+                            direction(alongX, false, lane.v > curV), Math.abs(lane.v - curV), 0, 0);
+                    plan.add(LanePlan.Kind.CHANGE, toWorld(layout, alongX, curU, y, lane.v),
+                            direction(alongX, true, from > curU), Math.abs(from - curU), 0, 0);
+                }
+
+                plan.add(LanePlan.Kind.LANE, toWorld(layout, alongX, from, y, lane.v),
+                        direction(alongX, true, to >= from), Math.abs(to - from), lane.below, lane.above);
+
+                curU = to;
+                curV = lane.v;
+                curY = y;
+                first = false;
+            }
+        }
+
+        return plan.build();
+    }
+
+    /**
+     * Group the layer's crop rows into bands and pick each band's walking row
+     */
+    private List<Lane> bands(FarmLayout layout, int layer, boolean alongX, int width) {
+        int uSize = alongX ? layout.getSizeX() : layout.getSizeZ();
+        int vSize = alongX ? layout.getSizeZ() : layout.getSizeX();
+
+        List<Lane> lanes = new ArrayList<>();
+        int v = 0;
+        while (v < vSize) {
+            if (!rowHasCrop(layout, layer, alongX, v, uSize)) {
+                v++;
+                continue;
+            }
+
+            int end = Math.min(v + width - 1, vSize - 1);
+            int uMin = Integer.MAX_VALUE;
+            int uMax = Integer.MIN_VALUE;
+            for (int row = v; row <= end; row++) {
+                for (int u = 0; u < uSize; u++) {
+                    if (!crop(layout, layer, alongX, u, row)) continue;
+                    uMin = Math.min(uMin, u);
+                    uMax = Math.max(uMax, u);
+                }
+            }
+
+            // Middle row, or the dry row nearest to it
+            int middle = v + (end - v) / 2;
+            int walk = middle;
+            for (int offset = 0; offset <= end - v; offset++) {
+                if (middle - offset >= v && isDry(layout, layer, alongX, middle - offset, uMin, uMax)) {
+                    walk = middle - offset;
+                    break;
+                }
+                if (middle + offset <= end && isDry(layout, layer, alongX, middle + offset, uMin, uMax)) {
+                    walk = middle + offset;
+                    break;
+                }
+            }
+
+            lanes.add(new Lane(walk, uMin, uMax, walk - v, end - walk));
+            v = end + 1;
+        }
+        return lanes;
+    }
+
+    /**
+     * Crop runs along one axis, over every row of every layer
+     */
+    private int countRuns(FarmLayout layout, boolean alongX) {
+        int uSize = alongX ? layout.getSizeX() : layout.getSizeZ();
+        int vSize = alongX ? layout.getSizeZ() : layout.getSizeX();
+
+        int runs = 0;
+        for (int layer = 0; layer < layout.getLayerCount(); layer++) {
+            for (int v = 0; v < vSize; v++) {
+                boolean inRun = false;
+                for (int u = 0; u < uSize; u++) {
+                    boolean crop = crop(layout, layer, alongX, u, v);
+                    if (crop && !inRun) runs++;
+                    inRun = crop;
+                }
+            }
+        }
+        return runs;
+    }
+
+    private boolean rowHasCrop(FarmLayout layout, int layer, boolean alongX, int v, int uSize) {
+        for (int u = 0; u < uSize; u++) {
+            if (crop(layout, layer, alongX, u, v)) return true;
+        }
+        return false;
+    }
+
+    private boolean isDry(FarmLayout layout, int layer, boolean alongX, int v, int uMin, int uMax) {
+        for (int u = uMin; u <= uMax; u++) {
+            if (alongX ? layout.isWater(layer, u, v) : layout.isWater(layer, v, u)) return false;
+        }
+        return true;
+    }
+
+    private static boolean crop(FarmLayout layout, int layer, boolean alongX, int u, int v) {
+        return alongX ? layout.isCrop(layer, u, v) : layout.isCrop(layer, v, u);
+    }
+
+    private static BlockPos toWorld(FarmLayout layout, boolean alongX, int u, int y, int v) {
+        return alongX
+                ? new BlockPos(layout.getMinX() + u, y, layout.getMinZ() + v)
+                : new BlockPos(layout.getMinX() + v, y, layout.getMinZ() + u);
+    }
+
+    private static Direction direction(boolean alongX, boolean alongLane, boolean positive) {
+        boolean onX = alongX == alongLane;
+        if (onX) return positive ? Direction.EAST : Direction.WEST;
+        return positive ? Direction.SOUTH : Direction.NORTH;
+    }
+}
\ No newline at end of file
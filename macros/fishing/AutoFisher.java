@@ -1,12 +1,17 @@
 package com.donut.client.macros.fishing;
 
+import com.donut.client.event.FishingEventHandler;
+import com.donut.client.event.FishingEventHandler.FishingEvent;
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
+import com.donut.client.metrics.Counter;
 import net.minecraft.client.MinecraftClient;
 
 /**
  * Example macro with settings
+ * Bites come from FishingEventHandler, so the reel is scheduled as the bite packet arrives instead of on a tick.
  */
-public class AutoFisher extends Macro {
+public class AutoFisher extends Macro implements FishingEventHandler.FishingListener {
 
     private final MinecraftClient client = MinecraftClient.getInstance();
 
@@ -14,6 +19,7 @@ public class AutoFisher extends Macro {
     private long lastCastTime = 0;
     private boolean waitingForBite = false;
     private int fishCaught = 0;
+    private final Counter fishMetric = counter("Fish");
 
     public AutoFisher() {
         super("Auto Fisher", "Automatically casts and reels fishing rod");
@@ -40,22 +46,27 @@ public class AutoFisher extends Macro {
         lastCastTime = 0;
         waitingForBite = false;
         fishCaught = 0;
+        FishingEventHandler.getInstance().addListener(this);
+    }
+
+    @Override
+    public void onDisable() {
+        super.onDisable();
+        FishingEventHandler.getInstance().removeListener(this);
     }
 
     @Override
     public void onTick() {
         if (client.player == null || client.world == null) return;
 
+        // A reel is already scheduled
+        if (!timeline().isIdle()) return;
+
         // Check if we should cast
         if (settings.getBoolean("autoCast") && shouldCast()) {
             castRod();
         }
 
-        // Check if we should reel
-        if (settings.getBoolean("autoReel") && shouldReel()) {
-            reelRod();
-        }
-
         // Failsafe check
         if (settings.getBoolean("failsafe")) {
             checkFailsafe();
@@ -76,33 +87,29 @@ public class AutoFisher extends Macro {
         log("Cast rod");
     }
 
-    private boolean shouldReel() {
-        if (!waitingForBite) return false;
-
-        // Check for bite (bobber velocity change)
-        // This is simplified - real implementation would check bobber entity
-        return detectBite();
-    }
-
     private void reelRod() {
         int reelDelay = settings.getInt("reelDelay");
 
-        try {
-            Thread.sleep(reelDelay);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-
-        // Reel rod logic here
-        waitingForBite = false;
-        fishCaught++;
-        log("Caught fish! Total: " + fishCaught);
+        timeline().schedule(
+                Actions.delayMillis(reelDelay),
+                Actions.run(() -> {
+                    // Reel rod logic here
+                    waitingForBite = false;
+                    fishCaught++;
+                    fishMetric.increment();
+                    log("Caught fish! Total: " + fishCaught);
+                }));
     }
 
-    private boolean detectBite() {
-        // Simplified bite detection
-        // Real implementation would check bobber.getVelocity().y < -0.15
-        return false;
+    @Override
+    public void onFishingEvent(FishingEvent event) {
+        if (event.type != FishingEventHandler.Type.BITE) return;
+        if (!waitingForBite || !settings.getBoolean("autoReel")) return;
+
+        // A reel is already scheduled
+        if (!timeline().isIdle()) return;
+
+        reelRod();
     }
 
     private void checkFailsafe() {
@@ -32,6 +32,7 @@ public class FishingMacro extends Macro {
         super("Fishing", "Advanced fishing with location management");
         this.mc = MinecraftClient.getInstance();
         this.autoFisher = new AutoFisher();
+        shareTimeline(autoFisher);
         this.locationManager = new FishingLocationManager();
     }
 
@@ -1,6 +1,9 @@
 package com.donut.client.macros.fishing;
 
+import com.donut.client.event.FishingEventHandler;
+import com.donut.client.event.FishingEventHandler.FishingEvent;
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
 import net.minecraft.client.MinecraftClient;
 
 import java.util.*;
@@ -8,8 +11,9 @@ import java.util.*;
 /**
  * LavaFishing - Lava fishing in Crimson Isle
  * Trophy fish, Magma Fish, special lava catches
+ * Trophies are counted from FishingEventHandler's trophy events (the "TROPHY FISH!" chat line).
  */
-public class LavaFishing extends Macro {
+public class LavaFishing extends Macro implements FishingEventHandler.FishingListener {
 
     private final MinecraftClient mc;
     private final AutoFisher autoFisher;
@@ -41,6 +45,7 @@ public class LavaFishing extends Macro {
         super("Lava Fishing", "Trophy fishing in Crimson Isle");
         this.mc = MinecraftClient.getInstance();
         this.autoFisher = new AutoFisher();
+        shareTimeline(autoFisher);
 
         // Initialize trophy counters
         for (TrophyRarity rarity : TrophyRarity.values()) {
@@ -70,14 +75,25 @@ public class LavaFishing extends Macro {
 
         System.out.println("[Lava Fishing] Starting lava fishing...");
         state = LavaFishingState.FISHING;
+        FishingEventHandler.getInstance().addListener(this);
         autoFisher.start();
         autoFisher.onEnable();
     }
 
+    @Override
+    public void onDisable() {
+        super.onDisable();
+        FishingEventHandler.getInstance().removeListener(this);
+        autoFisher.onDisable();
+    }
+
     @Override
     public void onTick() {
         if (!enabled || mc.player == null) return;
 
+        // Waiting on a scheduled step
+        if (!timeline().isIdle()) return;
+
         switch (state) {
             case IDLE:
                 break;
@@ -108,11 +124,6 @@ public class LavaFishing extends Macro {
             state = LavaFishingState.KILLING_MOB;
             autoFisher.onDisable();
         }
-
-        // Check if caught something
-        if (caughtSomething()) {
-            analyzeLavaCatch();
-        }
     }
 
     /**
@@ -143,82 +154,35 @@ public class LavaFishing extends Macro {
         // TODO: Attack nearest hostile mob
         System.out.println("[Lava Fishing] Killing mob...");
 
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        // Resume fishing
-        state = LavaFishingState.FISHING;
-        autoFisher.onEnable();
-    }
-
-    /**
-     * Check if caught something
-     */
-    private boolean caughtSomething() {
-        // TODO: Check for new items in inventory
-        return false;
+        timeline().schedule(
+                Actions.delayMillis(1000),
+                Actions.run(() -> {
+                    // Resume fishing
+                    state = LavaFishingState.FISHING;
+                    autoFisher.onEnable();
+                }));
     }
 
-    /**
-     * Analyze lava catch
-     */
-    private void analyzeLavaCatch() {
-        // TODO: Check what was caught
-        // Trophy fish, Magma fish, Flaming worms, etc.
-
-        String caughtItem = getLastCaughtItem();
-
-        if (isTrophyFish(caughtItem)) {
-            TrophyRarity rarity = getTrophyRarity(caughtItem);
-            trophyFishCaught++;
-            trophyRarities.put(rarity, trophyRarities.get(rarity) + 1);
-            lastTrophyTime = System.currentTimeMillis();
-
-            System.out.println("[Lava Fishing] ★ TROPHY: " + caughtItem + " (" + rarity + ") ★");
-
-            if (rarity == TrophyRarity.GOLD || rarity == TrophyRarity.DIAMOND) {
-                System.out.println("[Lava Fishing] ★★★ RARE TROPHY! ★★★");
-            }
-        } else if (caughtItem.contains("Magma")) {
-            magmaFishCaught++;
-            System.out.println("[Lava Fishing] Magma Fish caught");
-        } else if (caughtItem.contains("Flaming Worm")) {
-            flamingWormsCaught++;
-            System.out.println("[Lava Fishing] Flaming Worm caught");
+    @Override
+    public void onFishingEvent(FishingEvent event) {
+        if (event.type == FishingEventHandler.Type.TROPHY && state == LavaFishingState.FISHING) {
+            recordTrophy(event.name, TrophyRarity.valueOf(event.rarity), event.timeMillis);
         }
     }
 
     /**
-     * Get last caught item
+     * Count a trophy catch
      */
-    private String getLastCaughtItem() {
-        // TODO: Get from inventory changes
-        return "Trophy Fish";
-    }
+    private void recordTrophy(String fish, TrophyRarity rarity, long time) {
+        trophyFishCaught++;
+        trophyRarities.put(rarity, trophyRarities.get(rarity) + 1);
+        lastTrophyTime = time;
 
-    /**
-     * Check if trophy fish
-     */
-    private boolean isTrophyFish(String item) {
-        return item.contains("Trophy") ||
-                item.contains("Moldfin") ||
-                item.contains("Slugfish") ||
-                item.contains("Flyfish") ||
-                item.contains("Obfuscated Fish");
-    }
+        System.out.println("[Lava Fishing] ★ TROPHY: " + fish + " (" + rarity + ") ★");
 
-    /**
-     * Get trophy rarity
-     */
-    private TrophyRarity getTrophyRarity(String item) {
-        // TODO: Parse from item lore
-        if (item.contains("DIAMOND")) return TrophyRarity.DIAMOND;
-        if (item.contains("GOLD")) return TrophyRarity.GOLD;
-        if (item.contains("SILVER")) return TrophyRarity.SILVER;
-        return TrophyRarity.BRONZE;
+        if (rarity == TrophyRarity.GOLD || rarity == TrophyRarity.DIAMOND) {
+            System.out.println("[Lava Fishing] ★★★ RARE TROPHY! ★★★");
+        }
     }
 
     /**
@@ -240,13 +204,11 @@ public class LavaFishing extends Macro {
     private void collectLoot() {
         System.out.println("[Lava Fishing] Collecting loot...");
 
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        state = LavaFishingState.FISHING;
+        timeline().schedule(
+                Actions.delayMillis(500),
+                Actions.run(() -> {
+                    state = LavaFishingState.FISHING;
+                }));
     }
 
     /**
@@ -1,6 +1,9 @@
 package com.donut.client.macros.fishing;
 
+import com.donut.client.event.FishingEventHandler;
+import com.donut.client.event.FishingEventHandler.FishingEvent;
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.Entity;
 import net.minecraft.util.math.Vec3d;
@@ -9,8 +12,10 @@ import java.util.*;
 /**
  * SeaCreatureMacro - Auto kill sea creatures from fishing
  * Detects spawns, kills, collects loot
+ * Spawns come from FishingEventHandler (a mob appearing at the bobber right after a catch), not an entity scan.
+ * Creatures are told apart by the name the event carries, since the mob itself is usually unnamed.
  */
-public class SeaCreatureMacro extends Macro {
+public class SeaCreatureMacro extends Macro implements FishingEventHandler.FishingListener {
 
     private final MinecraftClient mc;
     private final AutoFisher autoFisher;
@@ -18,6 +23,7 @@ public class SeaCreatureMacro extends Macro {
     // State
     private CreatureState state = CreatureState.IDLE;
     private Entity currentCreature = null;
+    private String currentCreatureName = null;
 
     // Settings
     private boolean autoFish = true;
@@ -58,6 +64,7 @@ public class SeaCreatureMacro extends Macro {
         super("Sea Creature", "Auto kill sea creatures from fishing");
         this.mc = MinecraftClient.getInstance();
         this.autoFisher = new AutoFisher();
+        shareTimeline(autoFisher);
 
         // Initialize kill counters
         for (CreatureType type : CreatureType.values()) {
@@ -69,6 +76,7 @@ public class SeaCreatureMacro extends Macro {
     public void start() {
         state = CreatureState.IDLE;
         currentCreature = null;
+        currentCreatureName = null;
         creaturesKilled = 0;
         rareSpawns = 0;
         System.out.println("[Sea Creature] Initialized");
@@ -78,6 +86,7 @@ public class SeaCreatureMacro extends Macro {
     public void onEnable() {
         super.onEnable();
         System.out.println("[Sea Creature] Starting...");
+        FishingEventHandler.getInstance().addListener(this);
 
         if (autoFish) {
             state = CreatureState.FISHING;
@@ -88,10 +97,20 @@ public class SeaCreatureMacro extends Macro {
         }
     }
 
+    @Override
+    public void onDisable() {
+        super.onDisable();
+        FishingEventHandler.getInstance().removeListener(this);
+        autoFisher.onDisable();
+    }
+
     @Override
     public void onTick() {
         if (!enabled || mc.player == null || mc.world == null) return;
 
+        // Waiting on a scheduled step
+        if (!timeline().isIdle()) return;
+
         switch (state) {
             case IDLE:
                 break;
@@ -111,24 +130,28 @@ public class SeaCreatureMacro extends Macro {
     }
 
     /**
-     * Fish and detect sea creatures
+     * Fish; sea creatures are picked up by onFishingEvent
      */
     private void fish() {
         // Run auto fisher
         autoFisher.onTick();
+    }
 
-        // Check for sea creature spawn
-        Entity creature = findSeaCreature();
+    @Override
+    public void onFishingEvent(FishingEvent event) {
+        if (event.type != FishingEventHandler.Type.SEA_CREATURE || state != CreatureState.FISHING) return;
 
-        if (creature != null) {
-            System.out.println("[Sea Creature] DETECTED: " + creature.getName().getString());
-            currentCreature = creature;
+        Entity creature = event.entity;
+        if (mc.player == null || !isSeaCreature(event.name) || mc.player.distanceTo(creature) >= detectionRadius) return;
 
-            // Pause fishing
-            autoFisher.onDisable();
+        System.out.println("[Sea Creature] DETECTED: " + event.name);
+        currentCreature = creature;
+        currentCreatureName = event.name;
 
-            state = CreatureState.CREATURE_DETECTED;
-        }
+        // Pause fishing
+        autoFisher.onDisable();
+
+        state = CreatureState.CREATURE_DETECTED;
     }
 
     /**
@@ -138,6 +161,7 @@ public class SeaCreatureMacro extends Macro {
         if (currentCreature == null || !currentCreature.isAlive()) {
             // Creature disappeared, resume fishing
             currentCreature = null;
+            currentCreatureName = null;
             if (autoFish) {
                 state = CreatureState.FISHING;
                 autoFisher.onEnable();
@@ -148,7 +172,7 @@ public class SeaCreatureMacro extends Macro {
         }
 
         // Identify creature type
-        CreatureType type = identifyCreature(currentCreature);
+        CreatureType type = identifyCreature(currentCreatureName);
         System.out.println("[Sea Creature] Type: " + type);
 
         // Check if rare
@@ -164,30 +188,9 @@ public class SeaCreatureMacro extends Macro {
     }
 
     /**
-     * Find sea creature nearby
-     */
-    private Entity findSeaCreature() {
-        if (mc.world == null || mc.player == null) return null;
-
-        for (Entity entity : mc.world.getEntities()) {
-            if (isSeaCreature(entity)) {
-                double distance = mc.player.distanceTo(entity);
-
-                if (distance < detectionRadius) {
-                    return entity;
-                }
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * Check if entity is sea creature
+     * Check if a name tag belongs to a sea creature
      */
-    private boolean isSeaCreature(Entity entity) {
-        String name = entity.getName().getString();
-
+    private boolean isSeaCreature(String name) {
         // Check for sea creature names
         return name.contains("Sea") ||
                 name.contains("Squid") ||
@@ -202,8 +205,8 @@ public class SeaCreatureMacro extends Macro {
     /**
      * Identify creature type
      */
-    private CreatureType identifyCreature(Entity creature) {
-        String name = creature.getName().getString();
+    private CreatureType identifyCreature(String name) {
+        if (name == null) return CreatureType.SQUID;
 
         // Common
         if (name.contains("Squid") && !name.contains("Night")) return CreatureType.SQUID;
@@ -252,13 +255,14 @@ public class SeaCreatureMacro extends Macro {
     private void fightCreature() {
         if (currentCreature == null || !currentCreature.isAlive()) {
             // Creature killed
-            CreatureType type = identifyCreature(currentCreature);
+            CreatureType type = identifyCreature(currentCreatureName);
             creatureKills.put(type, creatureKills.get(type) + 1);
             creaturesKilled++;
 
             System.out.println("[Sea Creature] Killed! Total: " + creaturesKilled);
 
             currentCreature = null;
+            currentCreatureName = null;
             state = CreatureState.COLLECTING;
             return;
         }
@@ -281,19 +285,17 @@ public class SeaCreatureMacro extends Macro {
     private void collectLoot() {
         System.out.println("[Sea Creature] Collecting loot...");
 
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        // Resume fishing if enabled
-        if (autoFish) {
-            state = CreatureState.FISHING;
-            autoFisher.onEnable();
-        } else {
-            state = CreatureState.IDLE;
-        }
+        timeline().schedule(
+                Actions.delayMillis(500),
+                Actions.run(() -> {
+                    // Resume fishing if enabled
+                    if (autoFish) {
+                        state = CreatureState.FISHING;
+                        autoFisher.onEnable();
+                    } else {
+                        state = CreatureState.IDLE;
+                    }
+                }));
     }
 
     /**
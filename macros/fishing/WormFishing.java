@@ -1,6 +1,7 @@
 package com.donut.client.macros.fishing;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.Entity;
 import net.minecraft.util.math.Vec3d;
@@ -52,6 +53,7 @@ public class WormFishing extends Macro {
         super("Worm Fishing", "Auto fish and kill worms with weapon");
         this.mc = MinecraftClient.getInstance();
         this.autoFisher = new AutoFisher();
+        shareTimeline(autoFisher);
 
         // Initialize counters
         for (WormType type : WormType.values()) {
@@ -93,6 +95,9 @@ public class WormFishing extends Macro {
     public void onTick() {
         if (!enabled || mc.player == null || mc.world == null) return;
 
+        // Waiting on a scheduled step
+        if (!timeline().isIdle()) return;
+
         switch (state) {
             case IDLE:
                 break;
@@ -232,13 +237,11 @@ public class WormFishing extends Macro {
         // TODO: Find Hyperion in hotbar and swap to it
         // Press number key 1-9
 
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        state = WormState.KILLING_WORM;
+        timeline().schedule(
+                Actions.delayMillis(100),
+                Actions.run(() -> {
+                    state = WormState.KILLING_WORM;
+                }));
     }
 
     /**
@@ -286,13 +289,11 @@ public class WormFishing extends Macro {
 
         // TODO: Swap back to fishing rod slot
 
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        state = WormState.COLLECTING;
+        timeline().schedule(
+                Actions.delayMillis(100),
+                Actions.run(() -> {
+                    state = WormState.COLLECTING;
+                }));
     }
 
     /**
@@ -303,19 +304,17 @@ public class WormFishing extends Macro {
 
         // TODO: Collect nearby items
 
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        // Check for loot share
-        if (mode == WormMode.PARTY && useLootShare) {
-            state = WormState.SHARING_LOOT;
-        } else {
-            state = WormState.FISHING;
-            autoFisher.onEnable();
-        }
+        timeline().schedule(
+                Actions.delayMillis(500),
+                Actions.run(() -> {
+                    // Check for loot share
+                    if (mode == WormMode.PARTY && useLootShare) {
+                        state = WormState.SHARING_LOOT;
+                    } else {
+                        state = WormState.FISHING;
+                        autoFisher.onEnable();
+                    }
+                }));
     }
 
     /**
@@ -327,14 +326,12 @@ public class WormFishing extends Macro {
         // TODO: Use loot share mechanic
         // Split coins with party members
 
-        try {
-            Thread.sleep(200);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        state = WormState.FISHING;
-        autoFisher.onEnable();
+        timeline().schedule(
+                Actions.delayMillis(200),
+                Actions.run(() -> {
+                    state = WormState.FISHING;
+                    autoFisher.onEnable();
+                }));
     }
 
     /**
@@ -1,6 +1,9 @@
 package com.donut.client.macros.foraging;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
+import com.donut.client.metrics.Counter;
+import com.donut.client.metrics.Profiler;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.block.Block;
 import net.minecraft.block.Blocks;
@@ -11,14 +14,17 @@ import java.util.*;
 /**
  * ForagingMacro - Universal foraging macro for all wood types
  * Intelligent tree detection and chopping
+ * Trees come from TreeIndex, which clusters logs as chunks load, so nothing is scanned or flood-filled here.
  */
 public class ForagingMacro extends Macro {
 
     private final MinecraftClient mc;
+    private final TreeIndex treeIndex = TreeIndex.getInstance();
 
     // State
     private ForagingState state = ForagingState.IDLE;
     private BlockPos currentTree = null;
+    private Block currentLog = null;
     private List<BlockPos> treeLogs = new ArrayList<>();
     private int logIndex = 0;
 
@@ -28,9 +34,11 @@ public class ForagingMacro extends Macro {
     private boolean breakLeaves = false;
     private boolean replantSaplings = false;
     private TreeType targetTreeType = TreeType.ANY;
+    private boolean keepIndex = false;
 
     // Statistics
     private int logsChopped = 0;
+    private final Counter logMetric = counter("Logs");
     private int treesChopped = 0;
     private Map<TreeType, Integer> treesByType = new HashMap<>();
 
@@ -73,18 +81,35 @@ public class ForagingMacro extends Macro {
     public void onEnable() {
         super.onEnable();
         System.out.println("[Foraging] Starting foraging...");
+        treeIndex.setActive(true);
         state = ForagingState.SEARCHING;
     }
 
+    @Override
+    public void onDisable() {
+        super.onDisable();
+        if (!keepIndex) {
+            treeIndex.setActive(false);
+        }
+    }
+
     @Override
     public void onTick() {
         if (!enabled || mc.player == null || mc.world == null) return;
 
+        // Waiting on a scheduled step
+        if (!timeline().isIdle()) return;
+
         switch (state) {
             case IDLE:
                 break;
             case SEARCHING:
-                searchForTrees();
+                Profiler.push("scan");
+                try {
+                    searchForTrees();
+                } finally {
+                    Profiler.pop();
+                }
                 break;
             case MOVING_TO_TREE:
                 moveToTree();
@@ -99,62 +124,23 @@ public class ForagingMacro extends Macro {
     }
 
     /**
-     * Search for nearby trees
+     * Pick the nearest standing log of the target type from the tree index
      */
     private void searchForTrees() {
         if (mc.world == null || mc.player == null) return;
 
-        BlockPos nearestTree = null;
-        double nearestDistance = Double.MAX_VALUE;
-
-        BlockPos playerPos = mc.player.getBlockPos();
-
-        // Scan area for logs
-        for (int x = -searchRadius; x <= searchRadius; x++) {
-            for (int y = -searchRadius; y <= searchRadius; y++) {
-                for (int z = -searchRadius; z <= searchRadius; z++) {
-                    BlockPos pos = playerPos.add(x, y, z);
-                    Block block = mc.world.getBlockState(pos).getBlock();
-
-                    if (isLog(block)) {
-                        // Check if it's the target tree type
-                        TreeType type = getTreeType(block);
-                        if (targetTreeType == TreeType.ANY || type == targetTreeType) {
-                            double distance = mc.player.getPos().distanceTo(pos.toCenterPos());
-
-                            if (distance < nearestDistance) {
-                                nearestTree = pos;
-                                nearestDistance = distance;
-                            }
-                        }
-                    }
-                }
-            }
-        }
+        BlockPos nearestTree = treeIndex.findNearestLog(mc.player.getPos(), searchRadius,
+                block -> targetTreeType == TreeType.ANY || getTreeType(block) == targetTreeType);
 
         if (nearestTree != null) {
             currentTree = nearestTree;
             System.out.println("[Foraging] Found tree at: " + nearestTree);
             state = ForagingState.MOVING_TO_TREE;
-        } else {
+        } else if (treeIndex.isIndexed(mc.player.getBlockPos())) {
             System.out.println("[Foraging] No trees found in range");
         }
     }
 
-    /**
-     * Check if block is a log
-     */
-    private boolean isLog(Block block) {
-        return block == Blocks.OAK_LOG ||
-                block == Blocks.SPRUCE_LOG ||
-                block == Blocks.BIRCH_LOG ||
-                block == Blocks.JUNGLE_LOG ||
-                block == Blocks.ACACIA_LOG ||
-                block == Blocks.DARK_OAK_LOG ||
-                block == Blocks.CHERRY_LOG ||
-                block == Blocks.MANGROVE_LOG;
-    }
-
     /**
      * Get tree type from log block
      */
@@ -202,37 +188,20 @@ public class ForagingMacro extends Macro {
     private void analyzeTree() {
         treeLogs.clear();
         logIndex = 0;
+        currentLog = null;
 
-        if (currentTree == null || mc.world == null) return;
-
-        // Find all connected logs
-        Queue<BlockPos> queue = new LinkedList<>();
-        Set<BlockPos> visited = new HashSet<>();
-
-        queue.add(currentTree);
-        visited.add(currentTree);
-
-        while (!queue.isEmpty()) {
-            BlockPos pos = queue.poll();
-            treeLogs.add(pos);
+        if (currentTree == null) return;
 
-            // Check adjacent blocks
-            for (int x = -1; x <= 1; x++) {
-                for (int y = -1; y <= 1; y++) {
-                    for (int z = -1; z <= 1; z++) {
-                        BlockPos adjacent = pos.add(x, y, z);
-
-                        if (!visited.contains(adjacent)) {
-                            Block block = mc.world.getBlockState(adjacent).getBlock();
-
-                            if (isLog(block)) {
-                                queue.add(adjacent);
-                                visited.add(adjacent);
-                            }
-                        }
-                    }
-                }
-            }
+        TreeIndex.Tree tree = treeIndex.getTree(currentTree);
+        if (tree == null) {
+            // Gone since it was picked
+            treeLogs.add(currentTree);
+        } else {
+            // Nearest logs first, as the flood fill from the picked log used to give them
+            BlockPos start = currentTree;
+            treeLogs.addAll(tree.getLogs());
+            treeLogs.sort(Comparator.comparingDouble(log -> log.getSquaredDistance(start)));
+            currentLog = tree.getLog();
         }
 
         System.out.println("[Foraging] Tree has " + treeLogs.size() + " logs");
@@ -244,7 +213,7 @@ public class ForagingMacro extends Macro {
     private void chopTree() {
         if (treeLogs.isEmpty() || logIndex >= treeLogs.size()) {
             // Tree chopped
-            TreeType type = getTreeType(mc.world.getBlockState(currentTree).getBlock());
+            TreeType type = getTreeType(currentLog != null ? currentLog : mc.world.getBlockState(currentTree).getBlock());
             treesByType.put(type, treesByType.get(type) + 1);
             treesChopped++;
 
@@ -272,6 +241,7 @@ public class ForagingMacro extends Macro {
         // Break log
         breakBlock(log);
         logsChopped++;
+        logMetric.increment();
 
         logIndex++;
     }
@@ -291,19 +261,17 @@ public class ForagingMacro extends Macro {
         System.out.println("[Foraging] Collecting drops...");
 
         // Wait for items to spawn
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        // Replant if enabled
-        if (replantSaplings) {
-            replantSapling();
-        }
+        timeline().schedule(
+                Actions.delayMillis(500),
+                Actions.run(() -> {
+                    // Replant if enabled
+                    if (replantSaplings) {
+                        replantSapling();
+                    }
 
-        // Search for next tree
-        state = ForagingState.SEARCHING;
+                    // Search for next tree
+                    state = ForagingState.SEARCHING;
+                }));
     }
 
     /**
@@ -355,6 +323,10 @@ public class ForagingMacro extends Macro {
     }
 
     // Getters/Setters
+    public int getSearchRadius() {
+        return searchRadius;
+    }
+
     public void setSearchRadius(int radius) {
         this.searchRadius = radius;
     }
@@ -371,6 +343,14 @@ public class ForagingMacro extends Macro {
         this.replantSaplings = replant;
     }
 
+    /**
+     * Leave TreeIndex running when disabled. Set by route macros that pause foraging
+     * between spots and still read respawn predictions; they deactivate it themselves
+     */
+    public void setKeepIndex(boolean keep) {
+        this.keepIndex = keep;
+    }
+
     public void setTargetTreeType(TreeType type) {
         this.targetTreeType = type;
     }
@@ -1,8 +1,12 @@
 package com.donut.client.macros.foraging;
 
+import com.donut.client.data.RouteData;
+import com.donut.client.data.RouteStore;
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
 import java.util.*;
 
 /**
@@ -13,6 +17,7 @@ public class HubForaging extends Macro {
 
     private final MinecraftClient mc;
     private final ForagingMacro foragingMacro;
+    private final TreeIndex treeIndex = TreeIndex.getInstance();
 
     // State
     private HubState state = HubState.IDLE;
@@ -45,6 +50,8 @@ public class HubForaging extends Macro {
         super("Hub Foraging", "Optimized foraging in Hub");
         this.mc = MinecraftClient.getInstance();
         this.foragingMacro = new ForagingMacro();
+        shareTimeline(foragingMacro);
+        foragingMacro.setKeepIndex(true);
 
         // Load default routes
         loadDefaultRoutes();
@@ -62,6 +69,7 @@ public class HubForaging extends Macro {
     public void onEnable() {
         super.onEnable();
         System.out.println("[Hub Foraging] Starting at: " + currentLocation);
+        treeIndex.setActive(true);
 
         if (useRoute) {
             state = HubState.MOVING_TO_LOCATION;
@@ -72,10 +80,20 @@ public class HubForaging extends Macro {
         }
     }
 
+    @Override
+    public void onDisable() {
+        super.onDisable();
+        foragingMacro.onDisable();
+        treeIndex.setActive(false);
+    }
+
     @Override
     public void onTick() {
         if (!enabled || mc.player == null) return;
 
+        // Waiting for the respawn timer
+        if (!timeline().isIdle()) return;
+
         switch (state) {
             case IDLE:
                 break;
@@ -98,15 +116,7 @@ public class HubForaging extends Macro {
      * Load default foraging routes
      */
     private void loadDefaultRoutes() {
-        // Forest route
-        List<BlockPos> forestRoute = new ArrayList<>();
-        forestRoute.add(new BlockPos(-200, 70, -100));
-        forestRoute.add(new BlockPos(-220, 72, -120));
-        forestRoute.add(new BlockPos(-240, 70, -100));
-        forestRoute.add(new BlockPos(-220, 68, -80));
-
-        // Set as default
-        route = forestRoute;
+        loadForestRoute();
     }
 
     /**
@@ -166,17 +176,23 @@ public class HubForaging extends Macro {
      * Wait for trees to respawn
      */
     private void waitForRespawn() {
-        System.out.println("[Hub Foraging] Waiting for trees to respawn...");
-
-        try {
-            Thread.sleep(waitForRespawn);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+        // Until the first tree on the route is predicted back, never longer than the fixed wait
+        long delay = waitForRespawn;
+        long now = System.currentTimeMillis();
+        for (BlockPos waypoint : route) {
+            long respawn = treeIndex.nextRespawn(waypoint, foragingMacro.getSearchRadius(), waitForRespawn);
+            if (respawn >= 0) delay = Math.min(delay, Math.max(0, respawn - now));
         }
 
-        state = HubState.FORAGING;
-        foragingMacro.start();
-        foragingMacro.onEnable();
+        System.out.println("[Hub Foraging] Waiting " + (delay / 1000) + "s for trees to respawn...");
+
+        timeline().schedule(
+                Actions.delayMillis(delay),
+                Actions.run(() -> {
+                    state = HubState.FORAGING;
+                    foragingMacro.start();
+                    foragingMacro.onEnable();
+                }));
     }
 
     /**
@@ -185,6 +201,12 @@ public class HubForaging extends Macro {
     private void moveToNext() {
         routeIndex++;
 
+        // Skip spots where every tree is down and won't be back by the time we get there
+        while (routeIndex < route.size() && !worthVisiting(route.get(routeIndex))) {
+            System.out.println("[Hub Foraging] Skipping waypoint " + (routeIndex + 1) + ", nothing standing");
+            routeIndex++;
+        }
+
         if (routeIndex >= route.size()) {
             // Completed route
             routeIndex = 0;
@@ -198,6 +220,18 @@ public class HubForaging extends Macro {
         }
     }
 
+    /**
+     * True unless the index has seen the spot and nothing there is standing or respawning before arrival
+     */
+    private boolean worthVisiting(BlockPos waypoint) {
+        if (mc.player == null || !treeIndex.isIndexed(waypoint)) return true;
+
+        // Walking at ~4.3 blocks/s
+        double distance = mc.player.getPos().distanceTo(Vec3d.ofCenter(waypoint));
+        long arrival = System.currentTimeMillis() + (long) (distance / 4.3 * 1000);
+        return treeIndex.hasTargets(waypoint, foragingMacro.getSearchRadius(), arrival, waitForRespawn);
+    }
+
     /**
      * Look at position
      */
@@ -244,41 +278,43 @@ public class HubForaging extends Macro {
      * Load forest route
      */
     private void loadForestRoute() {
-        route.clear();
-        route.add(new BlockPos(-200, 70, -100));
-        route.add(new BlockPos(-220, 72, -120));
-        route.add(new BlockPos(-240, 70, -100));
-        route.add(new BlockPos(-220, 68, -80));
+        loadRoute("hub/forest");
     }
 
     /**
      * Load west village route
      */
     private void loadWestVillageRoute() {
-        route.clear();
-        route.add(new BlockPos(-350, 70, -50));
-        route.add(new BlockPos(-370, 72, -70));
-        route.add(new BlockPos(-350, 70, -90));
+        loadRoute("hub/west_village");
     }
 
     /**
      * Load mountain route
      */
     private void loadMountainRoute() {
-        route.clear();
-        route.add(new BlockPos(-150, 90, -200));
-        route.add(new BlockPos(-170, 95, -220));
-        route.add(new BlockPos(-150, 92, -240));
+        loadRoute("hub/mountain");
     }
 
     /**
      * Load barn route
      */
     private void loadBarnRoute() {
+        loadRoute("hub/barn");
+    }
+
+    /**
+     * Replace the current route with a compiled one
+     */
+    private void loadRoute(String name) {
         route.clear();
-        route.add(new BlockPos(-80, 76, -240));
-        route.add(new BlockPos(-100, 78, -260));
-        route.add(new BlockPos(-80, 76, -280));
+        routeIndex = 0;
+
+        RouteData compiled = RouteStore.getInstance().get(name);
+        if (compiled == null) {
+            System.err.println("[Hub Foraging] Missing route: " + name);
+            return;
+        }
+        route.addAll(compiled.getWaypoints());
     }
 
     /**
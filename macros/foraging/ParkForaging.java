@@ -1,8 +1,12 @@
 package com.donut.client.macros.foraging;
 
+import com.donut.client.data.RouteData;
+import com.donut.client.data.RouteStore;
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
 import java.util.*;
 
 /**
@@ -13,6 +17,7 @@ public class ParkForaging extends Macro {
 
     private final MinecraftClient mc;
     private final ForagingMacro foragingMacro;
+    private final TreeIndex treeIndex = TreeIndex.getInstance();
 
     // State
     private ParkState state = ParkState.IDLE;
@@ -48,6 +53,8 @@ public class ParkForaging extends Macro {
         super("Park Foraging", "Optimized foraging in The Park");
         this.mc = MinecraftClient.getInstance();
         this.foragingMacro = new ForagingMacro();
+        shareTimeline(foragingMacro);
+        foragingMacro.setKeepIndex(true);
 
         // Set to dark oak by default (best for Park)
         foragingMacro.setTargetTreeType(ForagingMacro.TreeType.DARK_OAK);
@@ -69,6 +76,7 @@ public class ParkForaging extends Macro {
     public void onEnable() {
         super.onEnable();
         System.out.println("[Park Foraging] Starting at: " + currentArea);
+        treeIndex.setActive(true);
 
         if (useRoute) {
             state = ParkState.MOVING_TO_AREA;
@@ -79,10 +87,20 @@ public class ParkForaging extends Macro {
         }
     }
 
+    @Override
+    public void onDisable() {
+        super.onDisable();
+        foragingMacro.onDisable();
+        treeIndex.setActive(false);
+    }
+
     @Override
     public void onTick() {
         if (!enabled || mc.player == null || mc.world == null) return;
 
+        // Waiting on a scheduled step (wolf fight, respawn timer)
+        if (!timeline().isIdle()) return;
+
         // Check for wolves
         if (autoKillWolves && wolfNearby()) {
             if (state == ParkState.FORAGING) {
@@ -116,16 +134,7 @@ public class ParkForaging extends Macro {
      * Load default foraging routes
      */
     private void loadDefaultRoutes() {
-        // Dark oak forest route (most efficient)
-        List<BlockPos> darkOakRoute = new ArrayList<>();
-        darkOakRoute.add(new BlockPos(-300, 72, 100));
-        darkOakRoute.add(new BlockPos(-320, 74, 120));
-        darkOakRoute.add(new BlockPos(-340, 72, 100));
-        darkOakRoute.add(new BlockPos(-320, 70, 80));
-        darkOakRoute.add(new BlockPos(-300, 72, 100));
-
-        // Set as default
-        route = darkOakRoute;
+        loadDarkOakRoute();
     }
 
     /**
@@ -210,35 +219,39 @@ public class ParkForaging extends Macro {
 
         // TODO: Attack wolf
 
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        wolvesKilled++;
-        System.out.println("[Park Foraging] Wolf killed! Total: " + wolvesKilled);
+        timeline().schedule(
+                Actions.delayMillis(1000),
+                Actions.run(() -> {
+                    wolvesKilled++;
+                    System.out.println("[Park Foraging] Wolf killed! Total: " + wolvesKilled);
 
-        // Resume foraging
-        state = ParkState.FORAGING;
-        foragingMacro.onEnable();
+                    // Resume foraging
+                    state = ParkState.FORAGING;
+                    foragingMacro.onEnable();
+                }));
     }
 
     /**
      * Wait for trees to respawn
      */
     private void waitForRespawn() {
-        System.out.println("[Park Foraging] Waiting for trees to respawn...");
-
-        try {
-            Thread.sleep(waitForRespawn);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+        // Until the first tree on the route is predicted back, never longer than the fixed wait
+        long delay = waitForRespawn;
+        long now = System.currentTimeMillis();
+        for (BlockPos waypoint : route) {
+            long respawn = treeIndex.nextRespawn(waypoint, foragingMacro.getSearchRadius(), waitForRespawn);
+            if (respawn >= 0) delay = Math.min(delay, Math.max(0, respawn - now));
         }
 
-        state = ParkState.FORAGING;
-        foragingMacro.start();
-        foragingMacro.onEnable();
+        System.out.println("[Park Foraging] Waiting " + (delay / 1000) + "s for trees to respawn...");
+
+        timeline().schedule(
+                Actions.delayMillis(delay),
+                Actions.run(() -> {
+                    state = ParkState.FORAGING;
+                    foragingMacro.start();
+                    foragingMacro.onEnable();
+                }));
     }
 
     /**
@@ -247,6 +260,12 @@ public class ParkForaging extends Macro {
     private void moveToNext() {
         routeIndex++;
 
+        // Skip spots where every tree is down and won't be back by the time we get there
+        while (routeIndex < route.size() && !worthVisiting(route.get(routeIndex))) {
+            System.out.println("[Park Foraging] Skipping waypoint " + (routeIndex + 1) + ", nothing standing");
+            routeIndex++;
+        }
+
         if (routeIndex >= route.size()) {
             // Completed route
             routeIndex = 0;
@@ -260,6 +279,18 @@ public class ParkForaging extends Macro {
         }
     }
 
+    /**
+     * True unless the index has seen the spot and nothing there is standing or respawning before arrival
+     */
+    private boolean worthVisiting(BlockPos waypoint) {
+        if (mc.player == null || !treeIndex.isIndexed(waypoint)) return true;
+
+        // Walking at ~4.3 blocks/s
+        double distance = mc.player.getPos().distanceTo(Vec3d.ofCenter(waypoint));
+        long arrival = System.currentTimeMillis() + (long) (distance / 4.3 * 1000);
+        return treeIndex.hasTargets(waypoint, foragingMacro.getSearchRadius(), arrival, waitForRespawn);
+    }
+
     /**
      * Look at position
      */
@@ -314,51 +345,50 @@ public class ParkForaging extends Macro {
      * Load dark oak route
      */
     private void loadDarkOakRoute() {
-        route.clear();
-        route.add(new BlockPos(-300, 72, 100));
-        route.add(new BlockPos(-320, 74, 120));
-        route.add(new BlockPos(-340, 72, 100));
-        route.add(new BlockPos(-320, 70, 80));
+        loadRoute("park/dark_oak");
     }
 
     /**
      * Load birch route
      */
     private void loadBirchRoute() {
-        route.clear();
-        route.add(new BlockPos(-250, 70, 150));
-        route.add(new BlockPos(-270, 72, 170));
-        route.add(new BlockPos(-250, 70, 190));
+        loadRoute("park/birch");
     }
 
     /**
      * Load spruce route
      */
     private void loadSpruceRoute() {
-        route.clear();
-        route.add(new BlockPos(-350, 75, 50));
-        route.add(new BlockPos(-370, 77, 70));
-        route.add(new BlockPos(-350, 75, 90));
+        loadRoute("park/spruce");
     }
 
     /**
      * Load mixed route
      */
     private void loadMixedRoute() {
-        route.clear();
-        route.add(new BlockPos(-280, 72, 120));
-        route.add(new BlockPos(-300, 74, 140));
-        route.add(new BlockPos(-280, 72, 160));
+        loadRoute("park/mixed");
     }
 
     /**
      * Load howling cave route
      */
     private void loadHowlingCaveRoute() {
+        loadRoute("park/howling_cave");
+    }
+
+    /**
+     * Replace the current route with a compiled one
+     */
+    private void loadRoute(String name) {
         route.clear();
-        route.add(new BlockPos(-320, 65, 80));
-        route.add(new BlockPos(-340, 67, 100));
-        route.add(new BlockPos(-320, 65, 120));
+        routeIndex = 0;
+
+        RouteData compiled = RouteStore.getInstance().get(name);
+        if (compiled == null) {
+            System.err.println("[Park Foraging] Missing route: " + name);
+            return;
+        }
+        route.addAll(compiled.getWaypoints());
     }
 
     /**
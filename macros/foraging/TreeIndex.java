@@ -0,0 +1,431 @@
+package com.donut.client.macros.foraging;
+
+import com.donut.client.event.BlockUpdateHandler;
+import com.donut.client.world.ChunkScanner;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Trees in loaded chunks, clustered from their logs
+ * - Chunks are read by a ChunkScanner; sections without logs are skipped by their palette
+ * - Logs touching on any of the 26 neighbours are one tree; block updates keep trees current
+ * - A tree remembers every position it has had a log at, so logs coming back there are that tree respawning
+ * - Time from felled to respawned is kept per tree and averaged per log type to predict the next respawn
+ * Only the per-log-type averages outlive deactivation or a world change. A tree split in two by chopping
+ * stays one entry.
+ */
+public class TreeIndex implements BlockUpdateHandler.BlockUpdateListener {
+
+    private static TreeIndex instance;
+
+    // Respawns slower than this were not watched (left the area, lobby swap) and say nothing
+    private static final long MAX_RESPAWN_MS = 10 * 60_000;
+
+    private static final Set<Block> LOGS = Set.of(
+            Blocks.OAK_LOG, Blocks.SPRUCE_LOG, Blocks.BIRCH_LOG, Blocks.JUNGLE_LOG,
+            Blocks.ACACIA_LOG, Blocks.DARK_OAK_LOG, Blocks.CHERRY_LOG, Blocks.MANGROVE_LOG);
+
+    private static final Predicate<BlockState> LOG = state -> LOGS.contains(state.getBlock());
+
+    // Standing log -> tree, every position a tree has had a log at -> tree
+    private final Map<Long, Tree> logs = new HashMap<>();
+    private final Map<Long, Tree> sites = new HashMap<>();
+    private final Set<Tree> trees = new LinkedHashSet<>();
+    private final Map<Long, Set<Long>> chunkLogs = new HashMap<>();
+
+    // Average felled-to-respawn time per log type; survives clear()
+    private final Map<Block, Long> respawnMillis = new HashMap<>();
+    private final Map<Block, Integer> respawnSamples = new HashMap<>();
+
+    private final ChunkScanner scanner = new ChunkScanner("treeIndex", LOG,
+            (pos, state) -> add(pos.asLong(), state.getBlock(), false), this::clear);
+
+    private TreeIndex() {
+        BlockUpdateHandler.getInstance().addListener(this);
+        ClientTickEvents.END_CLIENT_TICK.register(client -> scanner.tick());
+    }
+
+    public static TreeIndex getInstance() {
+        if (instance == null) {
+            instance = new TreeIndex();
+        }
+        return instance;
+    }
+
+    public static boolean isLog(Block block) {
+        return LOGS.contains(block);
+    }
+
+    /**
+     * Start indexing (queues every loaded chunk) or stop and drop every tree, keeping the respawn averages
+     */
+    public void setActive(boolean active) {
+        if (scanner.isActive() == active) return;
+
+        clear();
+        scanner.setActive(active);
+    }
+
+    public boolean isActive() {
+        return scanner.isActive();
+    }
+
+    /**
+     * Index every queued chunk now instead of a few sections per tick
+     */
+    public void flush() {
+        scanner.flush();
+    }
+
+    /**
+     * True once the chunk containing pos has been scanned
+     */
+    public boolean isIndexed(BlockPos pos) {
+        scanner.checkWorld();
+        return scanner.isScanned(pos);
+    }
+
+    /**
+     * Tree the log at pos belongs to, or null
+     */
+    public Tree getTree(BlockPos pos) {
+        scanner.checkWorld();
+        return logs.get(pos.asLong());
+    }
+
+    /**
+     * Trees whose base is within radius of center, standing or not
+     */
+    public List<Tree> getTrees(BlockPos center, double radius) {
+        scanner.checkWorld();
+
+        List<Tree> result = new ArrayList<>();
+        double radiusSq = radius * radius;
+        for (Tree tree : trees) {
+            if (tree.getBase().getSquaredDistance(center) <= radiusSq) {
+                result.add(tree);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Nearest standing log of a standing tree within radius whose log type passes filter, or null
+     */
+    public BlockPos findNearestLog(Vec3d from, double radius, Predicate<Block> filter) {
+        scanner.checkWorld();
+
+        long best = 0;
+        double bestDist = radius * radius;
+        boolean found = false;
+
+        for (Tree tree : trees) {
+            if (!tree.isStanding() || !filter.test(tree.log)) continue;
+            if (tree.getBase().toCenterPos().distanceTo(from) - tree.getSpan() > radius) continue;
+
+            for (long key : tree.logs) {
+                double dist = from.squaredDistanceTo(
+                        BlockPos.unpackLongX(key) + 0.5, BlockPos.unpackLongY(key) + 0.5, BlockPos.unpackLongZ(key) + 0.5);
+                if (dist <= bestDist) {
+                    bestDist = dist;
+                    best = key;
+                    found = true;
+                }
+            }
+        }
+        return found ? BlockPos.fromLong(best) : null;
+    }
+
+    /**
+     * When a tree should be back (epoch ms): now if standing, -1 if it was never seen felled.
+     * Uses the tree's own last respawn, then the average for its log type, then fallbackMs
+     */
+    public long predictRespawn(Tree tree, long fallbackMs) {
+        if (tree.isStanding()) return System.currentTimeMillis();
+        if (tree.felledAt == 0) return -1;
+
+        long estimate = tree.lastRespawn;
+        if (estimate == 0) estimate = respawnMillis.getOrDefault(tree.log, 0L);
+        if (estimate == 0) estimate = fallbackMs;
+        return tree.felledAt + estimate;
+    }
+
+    /**
+     * Soonest predicted respawn among felled trees within radius of center, or -1 if none are felled
+     */
+    public long nextRespawn(BlockPos center, double radius, long fallbackMs) {
+        long soonest = -1;
+        for (Tree tree : getTrees(center, radius)) {
+            if (tree.isStanding()) continue;
+            long at = predictRespawn(tree, fallbackMs);
+            if (at >= 0 && (soonest < 0 || at < soonest)) soonest = at;
+        }
+        return soonest;
+    }
+
+    /**
+     * Any tree within radius of center standing now or predicted back by the given time
+     */
+    public boolean hasTargets(BlockPos center, double radius, long by, long fallbackMs) {
+        for (Tree tree : getTrees(center, radius)) {
+            if (tree.isStanding()) return true;
+            long at = predictRespawn(tree, fallbackMs);
+            if (at >= 0 && at <= by) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Average respawn for a log type, or 0 before one has been watched
+     */
+    public long getAverageRespawn(Block log) {
+        return respawnMillis.getOrDefault(log, 0L);
+    }
+
+    public int getTreeCount() {
+        return trees.size();
+    }
+
+    /**
+     * Add a standing log. observed is false for chunk scans, where a respawn wasn't seen happening
+     */
+    private void add(long key, Block log, boolean observed) {
+        if (logs.containsKey(key)) return;
+
+        Tree tree = sites.get(key);
+
+        // Standing neighbours of the same type join up with this log
+        List<Tree> neighbours = new ArrayList<>();
+        int x = BlockPos.unpackLongX(key), y = BlockPos.unpackLongY(key), z = BlockPos.unpackLongZ(key);
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    if (dx == 0 && dy == 0 && dz == 0) continue;
+                    Tree neighbour = logs.get(BlockPos.asLong(x + dx, y + dy, z + dz));
+                    if (neighbour != null && neighbour.log == log && !neighbours.contains(neighbour)) {
+                        neighbours.add(neighbour);
+                    }
+                }
+            }
+        }
+
+        if (tree == null) {
+            for (Tree neighbour : neighbours) {
+                if (tree == null || neighbour.sites.size() > tree.sites.size()) tree = neighbour;
+            }
+        }
+        if (tree == null) {
+            tree = new Tree(log);
+            trees.add(tree);
+        }
+        for (Tree neighbour : neighbours) {
+            if (neighbour != tree) merge(tree, neighbour);
+        }
+
+        if (tree.logs.isEmpty() && tree.felledAt > 0) {
+            long now = System.currentTimeMillis();
+            if (observed) {
+                sample(tree, now - tree.felledAt);
+            }
+            tree.felledAt = 0;
+            tree.log = log;
+        }
+
+        tree.addLog(key);
+        logs.put(key, tree);
+        sites.put(key, tree);
+        chunkLogs.computeIfAbsent(ChunkPos.toLong(x >> 4, z >> 4), k -> new HashSet<>()).add(key);
+    }
+
+    /**
+     * Remove a standing log. A tree that loses its last log to a block update is felled
+     */
+    private void remove(long key, boolean observed) {
+        Tree tree = logs.remove(key);
+        if (tree == null) return;
+
+        tree.logs.remove(key);
+        Set<Long> chunk = chunkLogs.get(ChunkPos.toLong(BlockPos.unpackLongX(key) >> 4, BlockPos.unpackLongZ(key) >> 4));
+        if (chunk != null) {
+            chunk.remove(key);
+        }
+
+        if (observed && tree.logs.isEmpty()) {
+            tree.felledAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Fold from into into: logs, every old site and the respawn history
+     */
+    private void merge(Tree into, Tree from) {
+        for (long key : from.logs) {
+            into.addLog(key);
+            logs.put(key, into);
+        }
+        for (long key : from.sites) {
+            into.addSite(key);
+            sites.put(key, into);
+        }
+        if (into.lastRespawn == 0) into.lastRespawn = from.lastRespawn;
+        trees.remove(from);
+    }
+
+    private void sample(Tree tree, long millis) {
+        if (millis <= 0 || millis > MAX_RESPAWN_MS) return;
+
+        tree.lastRespawn = millis;
+
+        // Running mean for the first few, then a moving average
+        int samples = respawnSamples.merge(tree.log, 1, Integer::sum);
+        long average = respawnMillis.getOrDefault(tree.log, millis);
+        double weight = samples < 8 ? 1.0 / samples : 0.125;
+        respawnMillis.put(tree.log, average + (long) ((millis - average) * weight));
+    }
+
+    private void clear() {
+        logs.clear();
+        sites.clear();
+        trees.clear();
+        chunkLogs.clear();
+    }
+
+    @Override
+    public void onBlockUpdate(BlockPos pos, BlockState oldState, BlockState newState) {
+        if (!scanner.isActive()) return;
+        scanner.checkWorld();
+
+        // Unscanned chunks will read the new state when their turn comes
+        if (!scanner.isScanned(pos)) return;
+
+        boolean wasLog = LOGS.contains(oldState.getBlock());
+        boolean isLog = LOGS.contains(newState.getBlock());
+
+        if (wasLog && !isLog) {
+            remove(pos.asLong(), true);
+        } else if (isLog && !wasLog) {
+            add(pos.asLong(), newState.getBlock(), true);
+        }
+    }
+
+    @Override
+    public void onChunkLoad(WorldChunk chunk) {
+        scanner.onChunkLoad(chunk);
+    }
+
+    @Override
+    public void onChunkUnload(ChunkPos pos) {
+        if (!scanner.onChunkUnload(pos)) return;
+
+        // Trees keep their sites and felled time; standing logs are re-read when the chunk comes back
+        Set<Long> blocks = chunkLogs.remove(pos.toLong());
+        if (blocks == null) return;
+
+        for (long block : blocks) {
+            remove(block, false);
+        }
+    }
+
+    /**
+     * One tree: its standing logs and every position it has had a log at
+     */
+    public static class Tree {
+        private Block log;
+        private final Set<Long> logs = new HashSet<>();
+        private final Set<Long> sites = new HashSet<>();
+        private long base = Long.MIN_VALUE;
+        private int span = 0;
+
+        // When the last log was broken (0 = standing, or not seen felled); last watched respawn time
+        private long felledAt = 0;
+        private long lastRespawn = 0;
+
+        Tree(Block log) {
+            this.log = log;
+        }
+
+        void addLog(long key) {
+            logs.add(key);
+            addSite(key);
+        }
+
+        /**
+         * Base is the lowest site; span bounds how far any site reaches from it
+         */
+        void addSite(long key) {
+            if (!sites.add(key)) return;
+
+            if (base == Long.MIN_VALUE) {
+                base = key;
+            } else if (BlockPos.unpackLongY(key) < BlockPos.unpackLongY(base)) {
+                span += reach(base, key);
+                base = key;
+            }
+            span = Math.max(span, reach(base, key));
+        }
+
+        private static int reach(long a, long b) {
+            return Math.max(Math.abs(BlockPos.unpackLongX(a) - BlockPos.unpackLongX(b)),
+                    Math.max(Math.abs(BlockPos.unpackLongY(a) - BlockPos.unpackLongY(b)),
+                            Math.abs(BlockPos.unpackLongZ(a) - BlockPos.unpackLongZ(b))));
+        }
+
+        public Block getLog() {
+            return log;
+        }
+
+        public boolean isStanding() {
+            return !logs.isEmpty();
+        }
+
+        /**
+         * Felled by a watched block update and not back yet
+         */
+        public boolean isFelled() {
+            return logs.isEmpty() && felledAt > 0;
+        }
+
+        public long getFelledAt() {
+            return felledAt;
+        }
+
+        public int size() {
+            return logs.size();
+        }
+
+        /**
+         * Logs the tree has had at most, i.e. when fully grown
+         */
+        public int getSiteCount() {
+            return sites.size();
+        }
+
+        public BlockPos getBase() {
+            return BlockPos.fromLong(base);
+        }
+
+        /**
+         * Furthest any log has been from the base, per axis
+         */
+        public int getSpan() {
+            return span;
+        }
+
+        public List<BlockPos> getLogs() {
+            List<BlockPos> positions = new ArrayList<>(logs.size());
+            for (long key : logs) {
+                positions.add(BlockPos.fromLong(key));
+            }
+            return positions;
+        }
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.donut.client.macros.hunting;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.util.math.Vec3d;
 import java.util.*;
@@ -64,6 +65,9 @@ public class HuntingMacro extends Macro {
     public void onTick() {
         if (!enabled || mc.player == null || mc.world == null) return;
 
+        // Waiting on a scheduled step
+        if (!timeline().isIdle()) return;
+
         // Update tracking
         tracker.update();
 
@@ -151,11 +155,7 @@ public class HuntingMacro extends Macro {
             System.out.println("[Hunting] Using " + bait.name + "...");
             baitManager.useBait(bait);
 
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
+            timeline().schedule(Actions.delayMillis(500));
         }
 
         state = HuntingState.KILLING;
@@ -197,14 +197,12 @@ public class HuntingMacro extends Macro {
     private void collectDrops() {
         System.out.println("[Hunting] Collecting drops...");
 
-        try {
-            Thread.sleep(300);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        // Scan for next animal
-        state = HuntingState.SCANNING;
+        timeline().schedule(
+                Actions.delayMillis(300),
+                Actions.run(() -> {
+                    // Scan for next animal
+                    state = HuntingState.SCANNING;
+                }));
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.donut.client.macros.hunting;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.Entity;
 import net.minecraft.util.math.BlockPos;
@@ -75,6 +76,9 @@ public class MythologicalHunting extends Macro {
     public void onTick() {
         if (!enabled || mc.player == null || mc.world == null) return;
 
+        // Waiting on a scheduled step
+        if (!timeline().isIdle()) return;
+
         switch (state) {
             case IDLE:
                 break;
@@ -187,13 +191,11 @@ public class MythologicalHunting extends Macro {
 
         burrowsDug++;
 
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        state = MythState.CREATURE_SPAWNED;
+        timeline().schedule(
+                Actions.delayMillis(500),
+                Actions.run(() -> {
+                    state = MythState.CREATURE_SPAWNED;
+                }));
     }
 
     /**
@@ -299,15 +301,13 @@ public class MythologicalHunting extends Macro {
     private void collectLoot() {
         System.out.println("[Myth Hunting] Collecting loot...");
 
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        // Search for next burrow
-        currentBurrow = null;
-        state = MythState.SEARCHING_BURROW;
+        timeline().schedule(
+                Actions.delayMillis(500),
+                Actions.run(() -> {
+                    // Search for next burrow
+                    currentBurrow = null;
+                    state = MythState.SEARCHING_BURROW;
+                }));
     }
 
     /**
@@ -318,13 +318,11 @@ public class MythologicalHunting extends Macro {
 
         // TODO: Use /warp hub command
 
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        state = MythState.SEARCHING_BURROW;
+        timeline().schedule(
+                Actions.delayMillis(2000),
+                Actions.run(() -> {
+                    state = MythState.SEARCHING_BURROW;
+                }));
     }
 
     /**
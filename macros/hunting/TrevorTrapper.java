@@ -1,11 +1,16 @@
 package com.donut.client.macros.hunting;
 
+import com.donut.client.DonutClient;
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
+import com.donut.client.pathfinding.DistanceFieldCache;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.Entity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 
+import java.util.List;
+
 /**
  * TrevorTrapper - Trevor the Trapper quest automation
  * Accepts quests, finds animals, completes objectives
@@ -20,6 +25,8 @@ public class TrevorTrapper extends Macro {
     private TrevorState state = TrevorState.IDLE;
     private TrevorQuest currentQuest = null;
     private Entity currentAnimal = null;
+    private BlockPos trevorPos = null;
+    private long returnDeadline = 0;
 
     // Settings
     private boolean autoAcceptQuest = true;
@@ -83,10 +90,26 @@ public class TrevorTrapper extends Macro {
         }
     }
 
+    @Override
+    public void onDisable() {
+        super.onDisable();
+        if (trevorPos != null) {
+            DistanceFieldCache.getInstance().unregisterAnchor(trevorPos);
+            trevorPos = null;
+        }
+        if (returnDeadline != 0) {
+            DonutClient.getInstance().getPathExecutor().stopExecution();
+            returnDeadline = 0;
+        }
+    }
+
     @Override
     public void onTick() {
         if (!enabled || mc.player == null || mc.world == null) return;
 
+        // Waiting on a scheduled step
+        if (!timeline().isIdle()) return;
+
         // Update tracking
         tracker.update();
 
@@ -123,16 +146,20 @@ public class TrevorTrapper extends Macro {
     private void talkToTrevor() {
         System.out.println("[Trevor Trapper] Talking to Trevor...");
 
-        // TODO: Find Trevor NPC and right click
-
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+        // Remember where Trevor stands so the way back can use a distance field
+        if (trevorPos == null && mc.player != null) {
+            trevorPos = mc.player.getBlockPos();
+            DistanceFieldCache.getInstance().registerAnchor(trevorPos);
         }
 
-        // Accept quest
-        acceptQuest();
+        // TODO: Find Trevor NPC and right click
+
+        timeline().schedule(
+                Actions.delayMillis(1000),
+                Actions.run(() -> {
+                    // Accept quest
+                    acceptQuest();
+                }));
     }
 
     /**
@@ -230,19 +257,17 @@ public class TrevorTrapper extends Macro {
     private void trapAnimal() {
         System.out.println("[Trevor Trapper] Waiting for animal to trigger trap...");
 
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        // Check if trapped
-        // TODO: Check trap status
+        timeline().schedule(
+                Actions.delayMillis(2000),
+                Actions.run(() -> {
+                    // Check if trapped
+                    // TODO: Check trap status
 
-        animalsTrapped++;
-        System.out.println("[Trevor Trapper] Animal trapped!");
+                    animalsTrapped++;
+                    System.out.println("[Trevor Trapper] Animal trapped!");
 
-        state = TrevorState.RETURNING_TO_TREVOR;
+                    state = TrevorState.RETURNING_TO_TREVOR;
+                }));
     }
 
     /**
@@ -267,20 +292,36 @@ public class TrevorTrapper extends Macro {
     }
 
     /**
-     * Return to Trevor
+     * Return to Trevor: path to where he was talked to, then hand in once close
+     * (or once the walk has taken well over its expected time)
      */
     private void returnToTrevor() {
-        System.out.println("[Trevor Trapper] Returning to Trevor...");
+        if (trevorPos == null || mc.player == null) {
+            completeQuest();
+            return;
+        }
 
-        // TODO: Pathfind back to Trevor
+        if (returnDeadline == 0) {
+            System.out.println("[Trevor Trapper] Returning to Trevor...");
 
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+            List<BlockPos> path = DonutClient.getInstance().getPathFinder().findPath(mc.player.getBlockPos(), trevorPos);
+            if (path == null || path.isEmpty()) {
+                System.out.println("[Trevor Trapper] No path back to Trevor");
+                completeQuest();
+                return;
+            }
+
+            DonutClient.getInstance().getPathExecutor().executePath(path);
+            // Walking speed is about 4.3 blocks per second
+            returnDeadline = System.currentTimeMillis() + 5000 + (long) (path.size() / 4.3 * 1000);
+            return;
         }
 
-        completeQuest();
+        if (mc.player.getBlockPos().isWithinDistance(trevorPos, 3) || System.currentTimeMillis() > returnDeadline) {
+            DonutClient.getInstance().getPathExecutor().stopExecution();
+            returnDeadline = 0;
+            completeQuest();
+        }
     }
 
     /**
@@ -0,0 +1,305 @@
+package com.donut.client.macros.mining;
+
+import com.donut.client.world.WorldView;
+import net.minecraft.block.BlockState;
+import net.minecraft.registry.tag.FluidTags;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.*;
+
+/**
+ * Plans where to stand and in which order to break a set of blocks
+ * - Reach-sphere sweep: every standable spot whose eyes reach a block covers it
+ * - Greedy set cover keeps few spots, ties going to the spot nearest the player
+ * - Spots are toured nearest-first, then shortened with 2-opt
+ * - At each spot, blocks are broken in the order that turns the camera least
+ * Line of sight is not checked; a block hidden behind another one is usually freed by breaking it first.
+ */
+public class BreakOrderPlanner {
+
+    private static final double EYE_HEIGHT = 1.62;
+    private static final int TWO_OPT_PASSES = 4;
+
+    /**
+     * Blocks in break order, each with the spot to break it from (null if no spot reaches it)
+     */
+    public static class Plan {
+        private final List<BlockPos> blocks;
+        private final List<BlockPos> stands;
+        private final int stopCount;
+
+        Plan(List<BlockPos> blocks, List<BlockPos> stands, int stopCount) {
+            this.blocks = blocks;
+            this.stands = stands;
+            this.stopCount = stopCount;
+        }
+
+        public List<BlockPos> getBlocks() {
+            return blocks;
+        }
+
+        public List<BlockPos> getStands() {
+            return stands;
+        }
+
+        /**
+         * Number of distinct standing spots the plan walks to
+         */
+        public int getStopCount() {
+            return stopCount;
+        }
+    }
+
+    /**
+     * Plan breaking every block from the player's position and current look direction
+     */
+    public Plan plan(WorldView world, List<BlockPos> blocks, Vec3d start, float yaw, float pitch, double reach) {
+        int count = blocks.size();
+        BlockPos startPos = BlockPos.ofFloored(start);
+
+        // Packed spot -> blocks it reaches
+        Map<Long, BitSet> coverage = sweep(world, blocks, startPos, reach);
+
+        BitSet uncovered = new BitSet(count);
+        uncovered.set(0, count);
+        BitSet reachable = new BitSet(count);
+        for (BitSet covered : coverage.values()) {
+            reachable.or(covered);
+        }
+
+        // Greedy set cover
+        List<Long> spots = new ArrayList<>();
+        uncovered.and(reachable);
+        while (!uncovered.isEmpty()) {
+            long best = 0;
+            int bestGain = 0;
+            double bestDistance = Double.MAX_VALUE;
+
+            for (Map.Entry<Long, BitSet> entry : coverage.entrySet()) {
+                BitSet gain = (BitSet) entry.getValue().clone();
+                gain.and(uncovered);
+                int size = gain.cardinality();
+                if (size == 0 || size < bestGain) continue;
+
+                double distance = distanceSq(entry.getKey(), start);
+                if (size > bestGain || distance < bestDistance) {
+                    best = entry.getKey();
+                    bestGain = size;
+                    bestDistance = distance;
+                }
+            }
+
+            spots.add(best);
+            uncovered.andNot(coverage.get(best));
+        }
+
+        List<Long> tour = orderSpots(spots, start);
+
+        List<BlockPos> order = new ArrayList<>(count);
+        List<BlockPos> stands = new ArrayList<>(count);
+        BitSet assigned = new BitSet(count);
+        float lookYaw = yaw;
+        float lookPitch = pitch;
+        int stops = 0;
+
+        for (long spot : tour) {
+            BitSet covered = (BitSet) coverage.get(spot).clone();
+            covered.andNot(assigned);
+            if (covered.isEmpty()) continue;
+            assigned.or(covered);
+            stops++;
+
+            BlockPos stand = BlockPos.fromLong(spot);
+            Vec3d eye = new Vec3d(stand.getX() + 0.5, stand.getY() + EYE_HEIGHT, stand.getZ() + 0.5);
+
+            // Least rotation from wherever the camera was left
+            List<BlockPos> remaining = new ArrayList<>();
+            for (int i = covered.nextSetBit(0); i >= 0; i = covered.nextSetBit(i + 1)) {
+                remaining.add(blocks.get(i));
+            }
+            while (!remaining.isEmpty()) {
+                int bestIndex = 0;
+                double bestTurn = Double.MAX_VALUE;
+                for (int i = 0; i < remaining.size(); i++) {
+                    float[] angles = anglesTo(eye, remaining.get(i));
+                    double turn = Math.abs(MathHelper.wrapDegrees(angles[0] - lookYaw)) + Math.abs(angles[1] - lookPitch);
+                    if (turn < bestTurn) {
+                        bestTurn = turn;
+                        bestIndex = i;
+                    }
+                }
+
+                BlockPos next = remaining.remove(bestIndex);
+                float[] angles = anglesTo(eye, next);
+                lookYaw = angles[0];
+                lookPitch = angles[1];
+                order.add(next);
+                stands.add(stand);
+            }
+        }
+
+        // Nothing reaches these; leave them to the macro's walk-to-block fallback
+        List<BlockPos> unreachable = new ArrayList<>();
+        for (int i = reachable.nextClearBit(0); i < count; i = reachable.nextClearBit(i + 1)) {
+            unreachable.add(blocks.get(i));
+        }
+        Vec3d last = order.isEmpty() ? start : Vec3d.ofCenter(order.get(order.size() - 1));
+        unreachable.sort(Comparator.comparingDouble(pos -> Vec3d.ofCenter(pos).squaredDistanceTo(last)));
+        for (BlockPos pos : unreachable) {
+            order.add(pos);
+            stands.add(null);
+        }
+
+        return new Plan(order, stands, stops);
+    }
+
+    /**
+     * Every standable spot within reach of at least one block, with the blocks it reaches
+     */
+    private Map<Long, BitSet> sweep(WorldView world, List<BlockPos> blocks, BlockPos startPos, double reach) {
+        Map<Long, BitSet> coverage = new LinkedHashMap<>();
+        Map<Long, Boolean> standable = new HashMap<>();
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+
+        double reachSq = reach * reach;
+        int radius = (int) Math.ceil(reach);
+
+        // The player is standing somewhere already, even if it's a slab or ladder
+        standable.put(startPos.asLong(), true);
+
+        for (int i = 0; i < blocks.size(); i++) {
+            BlockPos block = blocks.get(i);
+            double cx = block.getX() + 0.5;
+            double cy = block.getY() + 0.5;
+            double cz = block.getZ() + 0.5;
+
+            for (int dx = -radius; dx <= radius; dx++) {
+                for (int dy = -radius - 2; dy <= radius; dy++) {
+                    for (int dz = -radius; dz <= radius; dz++) {
+                        int x = block.getX() + dx;
+                        int y = block.getY() + dy;
+                        int z = block.getZ() + dz;
+
+                        double ex = x + 0.5 - cx;
+                        double ey = y + EYE_HEIGHT - cy;
+                        double ez = z + 0.5 - cz;
+                        if (ex * ex + ey * ey + ez * ez > reachSq) continue;
+
+                        long key = BlockPos.asLong(x, y, z);
+                        Boolean canStand = standable.get(key);
+                        if (canStand == null) {
+                            canStand = isStandable(world, pos.set(x, y, z));
+                            standable.put(key, canStand);
+                        }
+                        if (!canStand) continue;
+
+                        coverage.computeIfAbsent(key, k -> new BitSet()).set(i);
+                    }
+                }
+            }
+        }
+
+        return coverage;
+    }
+
+    private boolean isStandable(WorldView world, BlockPos.Mutable pos) {
+        BlockState feet = world.getBlockState(pos);
+        if (feet.blocksMovement() || feet.getFluidState().isIn(FluidTags.LAVA)) return false;
+
+        if (world.getBlockState(pos.move(0, 1, 0)).blocksMovement()) return false;
+        return world.getBlockState(pos.move(0, -2, 0)).blocksMovement();
+    }
+
+    /**
+     * Nearest-neighbour tour from start, then 2-opt on the open path
+     */
+    private List<Long> orderSpots(List<Long> spots, Vec3d start) {
+        List<Long> tour = new ArrayList<>(spots.size());
+        List<Long> remaining = new ArrayList<>(spots);
+        Vec3d current = start;
+
+        while (!remaining.isEmpty()) {
+            int nearest = 0;
+            double nearestDistance = Double.MAX_VALUE;
+            for (int i = 0; i < remaining.size(); i++) {
+                double distance = distanceSq(remaining.get(i), current);
+                if (distance < nearestDistance) {
+                    nearestDistance = distance;
+                    nearest = i;
+                }
+            }
+
+            long spot = remaining.remove(nearest);
+            tour.add(spot);
+            current = center(spot);
+        }
+
+        if (tour.size() < 3) return tour;
+
+        // points[0] is the player and stays first
+        Vec3d[] points = new Vec3d[tour.size() + 1];
+        points[0] = start;
+        for (int i = 0; i < tour.size(); i++) {
+            points[i + 1] = center(tour.get(i));
+        }
+
+        int last = points.length - 1;
+        for (int pass = 0; pass < TWO_OPT_PASSES; pass++) {
+            boolean improved = false;
+            for (int i = 1; i < last; i++) {
+                for (int j = i + 1; j <= last; j++) {
+                    double before = points[i - 1].distanceTo(points[i]);
+                    double after = points[i - 1].distanceTo(points[j]);
+                    if (j < last) {
+                        before += points[j].distanceTo(points[j + 1]);
+                        after += points[i].distanceTo(points[j + 1]);
+                    }
+
+                    if (after < before - 1e-6) {
+                        reverse(points, tour, i, j);
+                        improved = true;
+                    }
+                }
+            }
+            if (!improved) break;
+        }
+
+        return tour;
+    }
+
+    /**
+     * Reverse points[i..j] and the matching tour entries (tour is offset by one)
+     */
+    private static void reverse(Vec3d[] points, List<Long> tour, int i, int j) {
+        for (int a = i, b = j; a < b; a++, b--) {
+            Vec3d point = points[a];
+            points[a] = points[b];
+            points[b] = point;
+            Collections.swap(tour, a - 1, b - 1);
+        }
+    }
+
+    /**
+     * Yaw and pitch from eye to the centre of pos, in the player's convention
+     */
+    private static float[] anglesTo(Vec3d eye, BlockPos pos) {
+        double dx = pos.getX() + 0.5 - eye.x;
+        double dy = pos.getY() + 0.5 - eye.y;
+        double dz = pos.getZ() + 0.5 - eye.z;
+        double horizontal = Math.sqrt(dx * dx + dz * dz);
+
+        float yaw = (float) Math.toDegrees(Math.atan2(dz, dx)) - 90;
+        float pitch = (float) -Math.toDegrees(Math.atan2(dy, horizontal));
+        return new float[]{yaw, pitch};
+    }
+
+    private static Vec3d center(long spot) {
+        return new Vec3d(BlockPos.unpackLongX(spot) + 0.5, BlockPos.unpackLongY(spot), BlockPos.unpackLongZ(spot) + 0.5);
+    }
+
+    private static double distanceSq(long spot, Vec3d to) {
+        return center(spot).squaredDistanceTo(to);
+    }
+}
\ No newline at end of file
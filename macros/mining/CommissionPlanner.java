@@ -0,0 +1,252 @@
+package com.donut.client.macros.mining;
+
+import com.donut.client.macros.mining.ResourceIndex.Resource;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Orders open commissions and picks a mining area for each
+ * - Areas are indexed chunks holding the commission's resource, counted with their 8 neighbours
+ * - A commission's time is the walk to its area plus, per block, the break time and the walk between blocks
+ *   (sparser areas mean longer walks)
+ * - Orders are compared by weighted completion time, so quick and valuable commissions come first and the
+ *   whole list finishes soonest; every order is tried for up to MAX_EXHAUSTIVE commissions, greedy beyond
+ */
+public class CommissionPlanner {
+
+    private static final int MAX_EXHAUSTIVE = 6;
+    private static final double WALK_SPEED = 4.3; // Blocks per second
+    private static final int AREA_SIZE = 48;      // 3x3 chunks
+
+    /**
+     * One open commission: mine remaining blocks of a resource for some reward
+     */
+    public static class Task<T> {
+        public final T commission;
+        public final Resource resource;
+        public final int remaining;
+        public final double weight;
+
+        public Task(T commission, Resource resource, int remaining, double weight) {
+            this.commission = commission;
+            this.resource = resource;
+            this.remaining = remaining;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * A commission, where to mine it and how long it should take from the end of the previous step
+     */
+    public static class Step<T> {
+        public final Task<T> task;
+        public final BlockPos area;
+        public final long millis;
+
+        Step(Task<T> task, BlockPos area, long millis) {
+            this.task = task;
+            this.area = area;
+            this.millis = millis;
+        }
+    }
+
+    public static class Plan<T> {
+        private final List<Step<T>> steps;
+        private final long millis;
+
+        Plan(List<Step<T>> steps, long millis) {
+            this.steps = steps;
+            this.millis = millis;
+        }
+
+        public List<Step<T>> getSteps() {
+            return steps;
+        }
+
+        public boolean isEmpty() {
+            return steps.isEmpty();
+        }
+
+        public Step<T> first() {
+            return steps.isEmpty() ? null : steps.get(0);
+        }
+
+        public long getMillis() {
+            return millis;
+        }
+
+        public double getCompletionsPerHour() {
+            return millis == 0 ? 0 : steps.size() * 3_600_000.0 / millis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d commissions in %ds (%.1f/hr)", steps.size(), millis / 1000, getCompletionsPerHour());
+        }
+    }
+
+    /**
+     * Area candidate: centre and resource blocks around it
+     */
+    private static class Area {
+        final BlockPos center;
+        final int count;
+
+        Area(BlockPos center, int count) {
+            this.center = center;
+            this.count = count;
+        }
+    }
+
+    private final ResourceIndex index;
+
+    public CommissionPlanner(ResourceIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * Plan every task that has somewhere to be mined; tasks whose resource isn't indexed anywhere are left out
+     */
+    public <T> Plan<T> plan(List<Task<T>> tasks, BlockPos from) {
+        List<Task<T>> open = new ArrayList<>();
+        List<List<Area>> areas = new ArrayList<>();
+        for (Task<T> task : tasks) {
+            if (task.remaining <= 0) continue;
+            List<Area> candidates = areas(task.resource);
+            if (candidates.isEmpty()) continue;
+            open.add(task);
+            areas.add(candidates);
+        }
+
+        if (open.isEmpty()) return new Plan<>(Collections.emptyList(), 0);
+
+        int[] order = new int[open.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+
+        int[] best;
+        if (open.size() <= MAX_EXHAUSTIVE) {
+            best = order.clone();
+            double[] bestCost = {Double.MAX_VALUE};
+            permute(open, areas, from, order, 0, best, bestCost);
+        } else {
+            best = greedy(open, areas, from);
+        }
+
+        List<Step<T>> steps = new ArrayList<>();
+        BlockPos position = from;
+        long total = 0;
+        for (int i : best) {
+            Area area = bestArea(open.get(i), areas.get(i), position);
+            long millis = (long) stepMillis(open.get(i), area, position);
+            steps.add(new Step<>(open.get(i), area.center, millis));
+            total += millis;
+            position = area.center;
+        }
+        return new Plan<>(steps, total);
+    }
+
+    private <T> void permute(List<Task<T>> tasks, List<List<Area>> areas, BlockPos from,
+                             int[] order, int k, int[] best, double[] bestCost) {
+        if (k == order.length) {
+            double cost = cost(tasks, areas, from, order);
+            if (cost < bestCost[0]) {
+                bestCost[0] = cost;
+                System.arraycopy(order, 0, best, 0, order.length);
+            }
+            return;
+        }
+        for (int i = k; i < order.length; i++) {
+            swap(order, k, i);
+            permute(tasks, areas, from, order, k + 1, best, bestCost);
+            swap(order, k, i);
+        }
+    }
+
+    /**
+     * Pick the next task by weight per millisecond from wherever the last one ended
+     */
+    private <T> int[] greedy(List<Task<T>> tasks, List<List<Area>> areas, BlockPos from) {
+        int[] order = new int[tasks.size()];
+        boolean[] used = new boolean[tasks.size()];
+        BlockPos position = from;
+
+        for (int k = 0; k < order.length; k++) {
+            int pick = -1;
+            double pickRatio = -1;
+            for (int i = 0; i < tasks.size(); i++) {
+                if (used[i]) continue;
+                double millis = stepMillis(tasks.get(i), bestArea(tasks.get(i), areas.get(i), position), position);
+                double ratio = tasks.get(i).weight / Math.max(1, millis);
+                if (ratio > pickRatio) {
+                    pickRatio = ratio;
+                    pick = i;
+                }
+            }
+            used[pick] = true;
+            order[k] = pick;
+            position = bestArea(tasks.get(pick), areas.get(pick), position).center;
+        }
+        return order;
+    }
+
+    /**
+     * Sum of weight times completion time over the order
+     */
+    private <T> double cost(List<Task<T>> tasks, List<List<Area>> areas, BlockPos from, int[] order) {
+        BlockPos position = from;
+        double clock = 0;
+        double cost = 0;
+        for (int i : order) {
+            Area area = bestArea(tasks.get(i), areas.get(i), position);
+            clock += stepMillis(tasks.get(i), area, position);
+            cost += tasks.get(i).weight * clock;
+            position = area.center;
+        }
+        return cost;
+    }
+
+    private <T> Area bestArea(Task<T> task, List<Area> candidates, BlockPos from) {
+        Area best = null;
+        double bestMillis = Double.MAX_VALUE;
+        for (Area area : candidates) {
+            double millis = stepMillis(task, area, from);
+            if (millis < bestMillis) {
+                bestMillis = millis;
+                best = area;
+            }
+        }
+        return best;
+    }
+
+    private static <T> double stepMillis(Task<T> task, Area area, BlockPos from) {
+        double travel = Math.sqrt(from.getSquaredDistance(area.center)) / WALK_SPEED * 1000;
+
+        // Blocks spread evenly over the area are this far apart on average
+        double spacing = AREA_SIZE / Math.sqrt(Math.max(1, area.count));
+        double perBlock = task.resource.breakMillis + spacing / WALK_SPEED * 1000;
+        return travel + task.remaining * perBlock;
+    }
+
+    /**
+     * Every indexed chunk with the resource, as a 3x3-chunk area around it
+     */
+    private List<Area> areas(Resource resource) {
+        List<Area> areas = new ArrayList<>();
+        for (long chunkKey : index.getChunks(resource)) {
+            ChunkPos chunk = new ChunkPos(chunkKey);
+            BlockPos center = new BlockPos(chunk.getCenterX(), index.getMeanY(resource, chunkKey), chunk.getCenterZ());
+            areas.add(new Area(center, index.count(resource, center, 1)));
+        }
+        return areas;
+    }
+
+    private static void swap(int[] array, int a, int b) {
+        int t = array[a];
+        array[a] = array[b];
+        array[b] = t;
+    }
+}
\ No newline at end of file
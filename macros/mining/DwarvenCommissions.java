@@ -1,8 +1,8 @@
 package com.donut.client.macros.mining;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.mining.ResourceIndex.Resource;
 import net.minecraft.client.MinecraftClient;
-import net.minecraft.block.Block;
 import net.minecraft.block.Blocks;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
@@ -11,10 +11,13 @@ import java.util.*;
 public class DwarvenCommissions extends Macro {
 
     private final MinecraftClient mc;
+    private final ResourceIndex resourceIndex = ResourceIndex.getInstance();
+    private final CommissionPlanner planner = new CommissionPlanner(resourceIndex);
     private CommissionState state = CommissionState.SCANNING;
     private List<Commission> activeCommissions = new ArrayList<>();
     private Commission currentCommission = null;
     private BlockPos targetBlock = null;
+    private BlockPos targetArea = null;
     private int maxCommissions = 4;
     private boolean prioritizePowder = true;
     private int commissionsCompleted = 0;
@@ -25,7 +28,15 @@ public class DwarvenCommissions extends Macro {
     }
 
     public enum CommissionType {
-        MITHRIL_MINING, TITANIUM_MINING, HARD_STONE_MINING
+        MITHRIL_MINING(Resource.MITHRIL),
+        TITANIUM_MINING(Resource.TITANIUM),
+        HARD_STONE_MINING(null);
+
+        public final Resource resource;
+
+        CommissionType(Resource resource) {
+            this.resource = resource;
+        }
     }
 
     public DwarvenCommissions() {
@@ -40,6 +51,18 @@ public class DwarvenCommissions extends Macro {
         System.out.println("[Dwarven] Initialized");
     }
 
+    @Override
+    public void onEnable() {
+        super.onEnable();
+        resourceIndex.setActive(true);
+    }
+
+    @Override
+    public void onDisable() {
+        super.onDisable();
+        resourceIndex.setActive(false);
+    }
+
     @Override
     public void onTick() {
         if (!enabled || mc.player == null || mc.world == null) return;
@@ -59,14 +82,37 @@ public class DwarvenCommissions extends Macro {
         if (currentCommission != null) state = CommissionState.MINING;
     }
 
+    /**
+     * Plan the open commissions by where their resources are; the first step is the one to do now.
+     * Until the index has anything, take them in list order
+     */
     private void selectNextCommission() {
+        List<CommissionPlanner.Task<Commission>> tasks = new ArrayList<>();
+        Commission fallback = null;
         for (Commission comm : activeCommissions) {
-            if (comm.progress < comm.goal) {
-                currentCommission = comm;
-                return;
+            if (comm.progress >= comm.goal) continue;
+            if (fallback == null) fallback = comm;
+            if (comm.type.resource != null) {
+                double weight = prioritizePowder ? comm.powderReward : 1;
+                tasks.add(new CommissionPlanner.Task<>(comm, comm.type.resource, comm.goal - comm.progress, weight));
             }
         }
-        state = CommissionState.CLAIMING;
+
+        if (fallback == null) {
+            state = CommissionState.CLAIMING;
+            return;
+        }
+
+        CommissionPlanner.Plan<Commission> plan = planner.plan(tasks, mc.player.getBlockPos());
+        CommissionPlanner.Step<Commission> step = plan.first();
+        if (step != null) {
+            currentCommission = step.task.commission;
+            targetArea = step.area;
+            System.out.println("[Dwarven] Plan: " + plan + ", next " + currentCommission.type + " near " + targetArea);
+        } else {
+            currentCommission = fallback;
+            targetArea = null;
+        }
     }
 
     private void mineBlocks() {
@@ -76,12 +122,12 @@ public class DwarvenCommissions extends Macro {
             return;
         }
 
-        Block targetBlockType = Blocks.PRISMARINE;
         if (targetBlock == null) {
-            targetBlock = findNearestBlock(targetBlockType);
+            targetBlock = findTarget(currentCommission.type);
         }
         if (targetBlock != null) {
             breakBlock(targetBlock);
+            resourceIndex.markMined(targetBlock);
             currentCommission.progress++;
             blocksMinedTotal++;
             targetBlock = null;
@@ -93,19 +139,37 @@ public class DwarvenCommissions extends Macro {
         state = CommissionState.COMPLETE;
     }
 
-    private BlockPos findNearestBlock(Block target) {
+    /**
+     * Nearest indexed block for the commission; hard stone is everywhere, so it's only looked for within reach
+     */
+    private BlockPos findTarget(CommissionType type) {
+        if (type.resource != null) {
+            return nearestInPlan(type.resource);
+        }
+
         BlockPos playerPos = mc.player.getBlockPos();
-        for (int x = -30; x <= 30; x++) {
-            for (int y = -10; y <= 10; y++) {
-                for (int z = -30; z <= 30; z++) {
-                    BlockPos pos = playerPos.add(x, y, z);
-                    if (mc.world.getBlockState(pos).getBlock() == target) {
-                        return pos;
-                    }
-                }
+        BlockPos best = null;
+        double bestDist = Double.MAX_VALUE;
+        for (BlockPos pos : BlockPos.iterate(playerPos.add(-4, -4, -4), playerPos.add(4, 4, 4))) {
+            if (mc.world.getBlockState(pos).getBlock() != Blocks.STONE) continue;
+            double dist = pos.getSquaredDistance(playerPos);
+            if (dist < bestDist) {
+                bestDist = dist;
+                best = pos.toImmutable();
             }
         }
-        return null;
+        return best;
+    }
+
+    /**
+     * Within reach of the player first, then in the area the plan picked
+     */
+    private BlockPos nearestInPlan(Resource resource) {
+        BlockPos nearest = resourceIndex.nearest(resource, mc.player.getPos(), 30);
+        if (nearest == null && targetArea != null) {
+            nearest = resourceIndex.nearest(resource, Vec3d.ofCenter(targetArea), 24);
+        }
+        return nearest;
     }
 
     private void breakBlock(BlockPos pos) {
@@ -1,7 +1,13 @@
 package com.donut.client.macros.mining;
 
 import com.donut.client.macros.Macro;
-import net.minecraft.client.MinecraftClient;
+import com.donut.client.metrics.Counter;
+import com.donut.client.metrics.Profiler;
+import com.donut.client.pathfinding.MultiGoalSearch;
+import com.donut.client.render.WorldOverlay;
+import com.donut.client.world.PlayerView;
+import com.donut.client.world.WorldProvider;
+import com.donut.client.world.WorldView;
 import net.minecraft.block.Block;
 import net.minecraft.block.Blocks;
 import net.minecraft.util.math.BlockPos;
@@ -15,12 +21,19 @@ import java.util.*;
  */
 public class GemstoneMiner extends Macro {
 
-    private final MinecraftClient mc;
+    private final MultiGoalSearch targetSearch = new MultiGoalSearch();
+    private final GemstoneVeinIndex gemstoneIndex = GemstoneVeinIndex.getInstance();
+    private final BreakOrderPlanner breakPlanner = new BreakOrderPlanner();
+
+    private static final String OVERLAY_KEY = "gemstone_target";
+    private static final double STAND_TOLERANCE = 0.6;
 
     // State
     private MiningState state = MiningState.SCANNING;
     private BlockPos targetBlock = null;
+    private BlockPos highlightedBlock = null;
     private List<BlockPos> vein = new ArrayList<>();
+    private List<BlockPos> veinStands = new ArrayList<>();
     private int veinIndex = 0;
 
     // Settings
@@ -46,6 +59,7 @@ public class GemstoneMiner extends Macro {
     private Map<GemstoneType, Integer> flawlessGems = new HashMap<>();
     private long powderCollected = 0;
     private int totalGemstones = 0;
+    private final Counter gemstoneMetric = counter("Gemstones");
 
     public enum MiningState {
         SCANNING,      // Looking for gemstones
@@ -89,7 +103,6 @@ public class GemstoneMiner extends Macro {
 
     public GemstoneMiner() {
         super("Gemstone Miner", "Mines all 8 gemstone types in Crystal Hollows");
-        this.mc = MinecraftClient.getInstance();
 
         // Initialize statistics
         for (GemstoneType type : GemstoneType.values()) {
@@ -103,12 +116,17 @@ public class GemstoneMiner extends Macro {
     public void start() {
         state = MiningState.SCANNING;
         vein.clear();
+        veinStands.clear();
         System.out.println("[Gemstone Miner] Initialized - Target: " + targetGemstone.displayName);
     }
 
     @Override
     public void onEnable() {
         super.onEnable();
+        // The index scans client chunks; headless replays fall back to block scans
+        if (!WorldProvider.getInstance().isHeadless()) {
+            gemstoneIndex.setActive(true);
+        }
         System.out.println("[Gemstone Miner] Starting...");
         System.out.println("[Gemstone Miner] Target: " + targetGemstone.displayName);
         System.out.println("[Gemstone Miner] Pattern: " + pattern);
@@ -117,18 +135,26 @@ public class GemstoneMiner extends Macro {
     @Override
     public void onDisable() {
         super.onDisable();
+        gemstoneIndex.setActive(false);
         System.out.println("[Gemstone Miner] Stopped");
+        WorldOverlay.getInstance().clear(OVERLAY_KEY);
+        highlightedBlock = null;
         printStatistics();
         stopMovement();
     }
 
     @Override
     public void onTick() {
-        if (mc.player == null || mc.world == null) return;
+        if (!world().isReady()) return;
 
         switch (state) {
             case SCANNING:
-                scanForGemstones();
+                Profiler.push("scan");
+                try {
+                    scanForGemstones();
+                } finally {
+                    Profiler.pop();
+                }
                 break;
             case MOVING:
                 moveToTarget();
@@ -145,37 +171,127 @@ public class GemstoneMiner extends Macro {
         if (isInventoryFull() && autoSell) {
             state = MiningState.SELLING;
         }
+
+        updateHighlight();
     }
 
     /**
-     * Scan for gemstone blocks (stained glass)
+     * Outline the current target in the world overlay when it changes
+     */
+    private void updateHighlight() {
+        if (Objects.equals(targetBlock, highlightedBlock)) return;
+
+        highlightedBlock = targetBlock;
+        if (targetBlock == null) {
+            WorldOverlay.getInstance().clear(OVERLAY_KEY);
+        } else {
+            WorldOverlay.getInstance().setHighlights(OVERLAY_KEY, Collections.singletonList(targetBlock),
+                    WorldOverlay.Shape.OUTLINE, 0xFFFF55FF, 0);
+        }
+    }
+
+    /**
+     * Pick the best vein from the index, or scan blocks while the index can't answer yet
      */
     private void scanForGemstones() {
-        BlockPos playerPos = mc.player.getBlockPos();
+        BlockPos playerPos = world().getPlayer().getBlockPos();
+        if (!WorldProvider.getInstance().isHeadless() && gemstoneIndex.isIndexed(playerPos)) {
+            scanVeins();
+        } else {
+            scanBlocks();
+        }
+    }
+
+    /**
+     * Rank indexed veins; each candidate vein is one goal, its member closest to the player,
+     * carrying the vein's score. The rest of the vein is collected once a target is picked
+     */
+    private void scanVeins() {
+        PlayerView player = world().getPlayer();
+        BlockPos playerPos = player.getBlockPos();
+        Vec3d playerVec = player.getPos();
+        Map<BlockPos, Double> candidates = new HashMap<>();
+        BlockPos bestBlock = null;
+        double bestScore = -Double.MAX_VALUE;
+
+        for (GemstoneVeinIndex.Vein candidate : gemstoneIndex.getVeins(targetGemstone, playerPos, scanRadius)) {
+            double score = calculateVeinScore(candidate);
+
+            BlockPos closest = null;
+            double closestDistance = Double.MAX_VALUE;
+            for (BlockPos pos : candidate.getMembers()) {
+                double distance = playerVec.squaredDistanceTo(Vec3d.ofCenter(pos));
+                if (distance < closestDistance) {
+                    closest = pos;
+                    closestDistance = distance;
+                }
+            }
+            if (closest == null) continue;
+
+            candidates.put(closest, score);
+
+            double fallbackScore = score - closestDistance * 0.1;
+            if (fallbackScore > bestScore) {
+                bestBlock = closest;
+                bestScore = fallbackScore;
+            }
+        }
+
+        selectTarget(playerPos, candidates, bestBlock);
+    }
+
+    /**
+     * Scan for gemstone blocks (stained glass)
+     */
+    private void scanBlocks() {
+        PlayerView player = world().getPlayer();
+        BlockPos playerPos = player.getBlockPos();
+        Vec3d playerVec = player.getPos();
+        Map<BlockPos, Double> candidates = new HashMap<>();
         BlockPos bestBlock = null;
-        double bestScore = -1;
+        double bestScore = -Double.MAX_VALUE;
 
         // Scan area for target gemstone
         for (int x = -scanRadius; x <= scanRadius; x++) {
             for (int y = -scanRadius/2; y <= scanRadius/2; y++) {
                 for (int z = -scanRadius; z <= scanRadius; z++) {
                     BlockPos pos = playerPos.add(x, y, z);
-                    Block block = mc.world.getBlockState(pos).getBlock();
+                    Block block = world().getBlock(pos);
 
                     // Check if it's the target gemstone (stained glass or pane)
                     if (targetGemstone.matches(block)) {
                         // Calculate score based on various factors
                         double score = calculateBlockScore(pos);
+                        candidates.put(pos, score);
 
-                        if (score > bestScore) {
+                        // Straight-line fallback if nothing is reachable
+                        double fallbackScore = score - playerVec.squaredDistanceTo(Vec3d.ofCenter(pos)) * 0.1;
+                        if (fallbackScore > bestScore) {
                             bestBlock = pos;
-                            bestScore = score;
+                            bestScore = fallbackScore;
                         }
                     }
                 }
             }
         }
 
+        selectTarget(playerPos, candidates, bestBlock);
+    }
+
+    /**
+     * Pick by real walking cost + score instead of straight-line distance
+     */
+    private void selectTarget(BlockPos playerPos, Map<BlockPos, Double> candidates, BlockPos bestBlock) {
+        if (!candidates.isEmpty()) {
+            double maxScore = Collections.max(candidates.values());
+            MultiGoalSearch.Result result = targetSearch.findNearest(playerPos, candidates.keySet(), breakRange,
+                    pos -> maxScore - candidates.get(pos));
+
+            if (result != null) {
+                bestBlock = result.getGoal();
+            }
+        }
+
         if (bestBlock != null) {
             targetBlock = bestBlock;
 
@@ -183,6 +299,9 @@ public class GemstoneMiner extends Macro {
             if (pattern == MiningPattern.VEIN) {
                 findVein(bestBlock);
                 veinIndex = 0;
+                if (!vein.isEmpty()) {
+                    targetBlock = vein.get(0);
+                }
             }
 
             state = MiningState.MOVING;
@@ -190,16 +309,43 @@ public class GemstoneMiner extends Macro {
         }
     }
 
+    /**
+     * Score for an indexed vein (higher = better), same weights as the per-block score
+     */
+    private double calculateVeinScore(GemstoneVeinIndex.Vein candidate) {
+        double score = 100.0;
+
+        if (avoidLava && candidate.isNearLava()) {
+            score -= 50;
+        }
+
+        if (avoidMobs && isNearMobs(BlockPos.ofFloored(candidate.getCentroid()))) {
+            score -= 30;
+        }
+
+        if (pattern == MiningPattern.VEIN) {
+            if (candidate.size() < minVeinSize) {
+                score -= 40;
+            } else {
+                score += candidate.size() * 2;
+            }
+        }
+
+        // Full glass drops more than panes
+        if (perfectGemsOnly || flawlessGemsOnly) {
+            score += candidate.getFullBlockRatio() * 20;
+        }
+
+        return score;
+    }
+
     /**
      * Calculate score for a block (higher = better)
+     * Distance is left to the path search, which knows the real walking cost
      */
     private double calculateBlockScore(BlockPos pos) {
         double score = 100.0;
 
-        // Distance factor (closer = better)
-        double distance = mc.player.getPos().squaredDistanceTo(Vec3d.ofCenter(pos));
-        score -= distance * 0.1;
-
         // Avoid lava
         if (avoidLava && isNearLava(pos)) {
             score -= 50;
@@ -231,7 +377,7 @@ public class GemstoneMiner extends Macro {
             for (int dy = -2; dy <= 2; dy++) {
                 for (int dz = -2; dz <= 2; dz++) {
                     BlockPos checkPos = pos.add(dx, dy, dz);
-                    Block block = mc.world.getBlockState(checkPos).getBlock();
+                    Block block = world().getBlock(checkPos);
                     if (block == Blocks.LAVA) {
                         return true;
                     }
@@ -254,11 +400,11 @@ public class GemstoneMiner extends Macro {
      */
     private int estimateVeinSize(BlockPos start) {
         int count = 0;
-        Block targetBlock = mc.world.getBlockState(start).getBlock();
+        Block targetBlock = world().getBlock(start);
 
         // Quick check of adjacent blocks
         for (BlockPos adjacent : getAdjacentBlocks(start)) {
-            if (mc.world.getBlockState(adjacent).getBlock() == targetBlock) {
+            if (world().getBlock(adjacent) == targetBlock) {
                 count++;
             }
         }
@@ -271,13 +417,43 @@ public class GemstoneMiner extends Macro {
      */
     private void findVein(BlockPos start) {
         vein.clear();
+
+        GemstoneVeinIndex.Vein indexed = WorldProvider.getInstance().isHeadless() ? null : gemstoneIndex.getVein(start);
+        if (indexed != null) {
+            vein.addAll(indexed.getMembers());
+            if (vein.size() > 200) {
+                vein.sort(Comparator.comparingDouble(pos -> pos.getSquaredDistance(start)));
+                vein.subList(200, vein.size()).clear();
+            }
+        } else {
+            collectVein(start);
+        }
+
+        // Sort vein for efficient mining
+        optimizeVeinOrder();
+
+        System.out.println("[Gemstone] Found vein with " + vein.size() + " blocks");
+
+        // Skip if vein too small
+        if (vein.size() < minVeinSize) {
+            System.out.println("[Gemstone] Vein too small (" + vein.size() + " < " + minVeinSize + "), skipping");
+            vein.clear();
+            targetBlock = null;
+            state = MiningState.SCANNING;
+        }
+    }
+
+    /**
+     * BFS over connected gemstone blocks when the index has nothing for start
+     */
+    private void collectVein(BlockPos start) {
         Set<BlockPos> visited = new HashSet<>();
-        Queue<BlockPos> queue = new LinkedList<>();
+        Queue<BlockPos> queue = new ArrayDeque<>();
 
         queue.add(start);
         visited.add(start);
 
-        Block startBlock = mc.world.getBlockState(start).getBlock();
+        Block startBlock = world().getBlock(start);
 
         // BFS to find connected gemstone blocks (both glass and panes)
         while (!queue.isEmpty() && vein.size() < 200) {
@@ -289,7 +465,7 @@ public class GemstoneMiner extends Macro {
                 if (!visited.contains(neighbor)) {
                     visited.add(neighbor);
 
-                    Block block = mc.world.getBlockState(neighbor).getBlock();
+                    Block block = world().getBlock(neighbor);
                     // Match both glass blocks and panes of same color
                     if (targetGemstone.matches(block)) {
                         queue.add(neighbor);
@@ -297,30 +473,17 @@ public class GemstoneMiner extends Macro {
                 }
             }
         }
-
-        // Sort vein for efficient mining
-        optimizeVeinOrder();
-
-        System.out.println("[Gemstone] Found vein with " + vein.size() + " blocks");
-
-        // Skip if vein too small
-        if (vein.size() < minVeinSize) {
-            System.out.println("[Gemstone] Vein too small (" + vein.size() + " < " + minVeinSize + "), skipping");
-            vein.clear();
-            targetBlock = null;
-            state = MiningState.SCANNING;
-        }
     }
 
     /**
-     * Optimize vein mining order
+     * Optimize vein mining order: few standing spots, short walks between them, small turns at each
      */
     private void optimizeVeinOrder() {
-        // Sort by distance from player for efficiency
-        BlockPos playerPos = mc.player.getBlockPos();
-        vein.sort(Comparator.comparingDouble(
-                pos -> pos.getSquaredDistance(playerPos)
-        ));
+        PlayerView player = world().getPlayer();
+        BreakOrderPlanner.Plan plan = breakPlanner.plan(world(), vein, player.getPos(),
+                player.getYaw(), player.getPitch(), breakRange);
+        vein = plan.getBlocks();
+        veinStands = plan.getStands();
     }
 
     /**
@@ -343,17 +506,24 @@ public class GemstoneMiner extends Macro {
             return;
         }
 
-        Vec3d playerPos = mc.player.getPos();
+        PlayerView player = world().getPlayer();
+        Vec3d playerPos = player.getPos();
         Vec3d targetPos = Vec3d.ofCenter(targetBlock);
         double distance = playerPos.distanceTo(targetPos);
+        BlockPos stand = getStand();
 
-        // Check if in range to mine
-        if (distance <= breakRange) {
+        // Check if in range to mine (from the planned spot, so the rest of its blocks are in reach too)
+        if (distance <= breakRange && (stand == null || isAtStand(playerPos, stand) || player.hasHorizontalCollision())) {
             state = MiningState.MINING;
             stopMovement();
             return;
         }
 
+        // Walk to the planned spot rather than the block
+        if (stand != null) {
+            targetPos = Vec3d.ofBottomCenter(stand);
+        }
+
         // Calculate direction
         double dx = targetPos.x - playerPos.x;
         double dz = targetPos.z - playerPos.z;
@@ -361,35 +531,44 @@ public class GemstoneMiner extends Macro {
 
         // Set yaw to face target
         float yaw = (float) Math.toDegrees(Math.atan2(dz, dx)) - 90;
-        mc.player.setYaw(yaw);
+        player.setYaw(yaw);
 
         // Set pitch to look at target
         double horizontalDistance = Math.sqrt(dx * dx + dz * dz);
         float pitch = (float) -Math.toDegrees(Math.atan2(dy, horizontalDistance));
-        mc.player.setPitch(pitch);
+        player.setPitch(pitch);
 
         // Move forward
-        if (mc.options != null) {
-            mc.options.forwardKey.setPressed(true);
+        world().setKey(WorldView.Key.FORWARD, true);
 
-            // Jump if blocked
-            if (mc.player.horizontalCollision || shouldJump()) {
-                mc.options.jumpKey.setPressed(true);
-            } else {
-                mc.options.jumpKey.setPressed(false);
-            }
-        }
+        // Jump if blocked
+        world().setKey(WorldView.Key.JUMP, player.hasHorizontalCollision() || shouldJump());
+    }
+
+    /**
+     * Planned standing spot for the current target, or null to walk straight at it
+     */
+    private BlockPos getStand() {
+        if (pattern != MiningPattern.VEIN || veinIndex >= veinStands.size()) return null;
+        if (!vein.get(veinIndex).equals(targetBlock)) return null;
+        return veinStands.get(veinIndex);
+    }
+
+    private boolean isAtStand(Vec3d playerPos, BlockPos stand) {
+        double dx = playerPos.x - (stand.getX() + 0.5);
+        double dz = playerPos.z - (stand.getZ() + 0.5);
+        return dx * dx + dz * dz <= STAND_TOLERANCE * STAND_TOLERANCE;
     }
 
     /**
      * Check if should jump
      */
     private boolean shouldJump() {
-        BlockPos playerPos = mc.player.getBlockPos();
-        BlockPos front = playerPos.offset(mc.player.getHorizontalFacing());
+        PlayerView player = world().getPlayer();
+        BlockPos front = player.getBlockPos().offset(player.getHorizontalFacing());
 
         // Check if block in front at foot level is solid
-        return !mc.world.getBlockState(front).isAir();
+        return !world().getBlockState(front).isAir();
     }
 
     /**
@@ -402,12 +581,13 @@ public class GemstoneMiner extends Macro {
         }
 
         // Check if block still exists
-        Block block = mc.world.getBlockState(targetBlock).getBlock();
+        Block block = world().getBlock(targetBlock);
         if (!targetGemstone.matches(block)) {
             // Block broken, track stats
             int count = gemstonesMined.get(targetGemstone);
             gemstonesMined.put(targetGemstone, count + 1);
             totalGemstones++;
+            gemstoneMetric.increment();
 
             // TODO: Check gem quality (perfect/flawless) from item pickup
 
@@ -419,6 +599,7 @@ public class GemstoneMiner extends Macro {
             } else {
                 targetBlock = null;
                 vein.clear();
+                veinStands.clear();
                 state = MiningState.SCANNING;
             }
             return;
@@ -457,7 +638,8 @@ public class GemstoneMiner extends Macro {
      * Look at position
      */
     private void lookAt(Vec3d target) {
-        Vec3d playerPos = mc.player.getEyePos();
+        PlayerView player = world().getPlayer();
+        Vec3d playerPos = player.getEyePos();
 
         double dx = target.x - playerPos.x;
         double dy = target.y - playerPos.y;
@@ -468,16 +650,16 @@ public class GemstoneMiner extends Macro {
         float yaw = (float) Math.toDegrees(Math.atan2(dz, dx)) - 90;
         float pitch = (float) -Math.toDegrees(Math.atan2(dy, horizontalDistance));
 
-        mc.player.setYaw(yaw);
-        mc.player.setPitch(pitch);
+        player.setYaw(yaw);
+        player.setPitch(pitch);
     }
 
     /**
      * Break block
      */
     private void breakBlock(BlockPos pos) {
-        // TODO: Implement actual block breaking with packets
         System.out.println("[Gemstone] Breaking " + targetGemstone.displayName + " at: " + pos);
+        world().breakBlock(pos);
     }
 
     /**
@@ -495,29 +677,17 @@ public class GemstoneMiner extends Macro {
      * Check if inventory is full
      */
     private boolean isInventoryFull() {
-        if (mc.player == null || mc.player.getInventory() == null) return false;
-
-        int emptySlots = 0;
-        for (int i = 0; i < 36; i++) {
-            if (mc.player.getInventory().getStack(i).isEmpty()) {
-                emptySlots++;
-            }
-        }
+        PlayerView player = world().getPlayer();
+        if (player == null) return false;
 
-        return emptySlots < 3;
+        return player.getEmptySlots() < 3;
     }
 
     /**
      * Stop all movement
      */
     private void stopMovement() {
-        if (mc.options != null) {
-            mc.options.forwardKey.setPressed(false);
-            mc.options.backKey.setPressed(false);
-            mc.options.leftKey.setPressed(false);
-            mc.options.rightKey.setPressed(false);
-            mc.options.jumpKey.setPressed(false);
-        }
+        world().releaseMovementKeys();
     }
 
     /**
@@ -0,0 +1,443 @@
+package com.donut.client.macros.mining;
+
+import com.donut.client.event.BlockUpdateHandler;
+import com.donut.client.macros.mining.GemstoneMiner.GemstoneType;
+import com.donut.client.world.ChunkScanner;
+import com.donut.client.world.WorldProvider;
+import com.donut.client.world.WorldView;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Same-colour gemstone veins in loaded chunks
+ * - Stained glass and panes are clustered with union-find as chunks are scanned
+ * - Chunks are read by a ChunkScanner; sections without gemstones are skipped by their palette
+ * - Each vein keeps its size, centroid, lava proximity and how much of it is full glass
+ * - Broken blocks shrink their vein; a vein cut in two stays one entry until its chunk reloads
+ */
+public class GemstoneVeinIndex implements BlockUpdateHandler.BlockUpdateListener {
+
+    private static GemstoneVeinIndex instance;
+
+    private static final int LAVA_RADIUS = 2;
+    private static final int COMPACT_THRESHOLD = 4096;
+
+    private static final Map<Block, GemstoneType> TYPES = new HashMap<>();
+
+    static {
+        for (GemstoneType type : GemstoneType.values()) {
+            TYPES.put(type.glassBlock, type);
+            TYPES.put(type.glassPane, type);
+        }
+    }
+
+    private static final Predicate<BlockState> GEMSTONE = state -> TYPES.containsKey(state.getBlock());
+
+    // Union-find over every node handed out; removed blocks stay behind as interior nodes
+    private int[] parent = new int[1024];
+    private final BitSet fullGlass = new BitSet();
+    private int nodeCount = 0;
+
+    // Packed position -> node, root -> vein, chunk key -> packed positions
+    private final Map<Long, Integer> nodes = new HashMap<>();
+    private final Map<Integer, Vein> veins = new HashMap<>();
+    private final Map<Long, Set<Long>> chunkBlocks = new HashMap<>();
+
+    private final ChunkScanner scanner = new ChunkScanner("gemstoneIndex", GEMSTONE, this::visit, this::clear);
+
+    private GemstoneVeinIndex() {
+        BlockUpdateHandler.getInstance().addListener(this);
+        ClientTickEvents.END_CLIENT_TICK.register(client -> tick());
+    }
+
+    public static GemstoneVeinIndex getInstance() {
+        if (instance == null) {
+            instance = new GemstoneVeinIndex();
+        }
+        return instance;
+    }
+
+    /**
+     * Start indexing (queues every loaded chunk) or stop and drop everything
+     */
+    public void setActive(boolean active) {
+        if (scanner.isActive() == active) return;
+
+        clear();
+        scanner.setActive(active);
+    }
+
+    public boolean isActive() {
+        return scanner.isActive();
+    }
+
+    /**
+     * Index every queued chunk now instead of a few sections per tick
+     */
+    public void flush() {
+        scanner.flush();
+        compactIfSparse();
+    }
+
+    /**
+     * Veins of one colour whose centroid is within radius of center
+     */
+    public List<Vein> getVeins(GemstoneType type, BlockPos center, double radius) {
+        scanner.checkWorld();
+
+        List<Vein> result = new ArrayList<>();
+        Vec3d origin = Vec3d.ofCenter(center);
+        double radiusSq = radius * radius;
+
+        for (Vein vein : veins.values()) {
+            if (vein.type != type) continue;
+            if (vein.getCentroid().squaredDistanceTo(origin) > radiusSq) continue;
+            result.add(vein);
+        }
+        return result;
+    }
+
+    /**
+     * Vein the block at pos belongs to, or null if it isn't an indexed gemstone
+     */
+    public Vein getVein(BlockPos pos) {
+        scanner.checkWorld();
+
+        Integer node = nodes.get(pos.asLong());
+        return node == null ? null : veins.get(find(node));
+    }
+
+    /**
+     * True once the chunk containing pos has been scanned
+     */
+    public boolean isIndexed(BlockPos pos) {
+        scanner.checkWorld();
+        return scanner.isScanned(pos);
+    }
+
+    public int getVeinCount() {
+        return veins.size();
+    }
+
+    public int getBlockCount() {
+        return nodes.size();
+    }
+
+    private void tick() {
+        if (scanner.tick()) {
+            compactIfSparse();
+        }
+    }
+
+    private void visit(BlockPos pos, BlockState state) {
+        GemstoneType type = TYPES.get(state.getBlock());
+        add(pos, type, state.isOf(type.glassBlock));
+    }
+
+    private void add(BlockPos pos, GemstoneType type, boolean full) {
+        long key = pos.asLong();
+        Integer existing = nodes.get(key);
+        if (existing != null) {
+            Vein vein = veins.get(find(existing));
+            if (vein.type == type) {
+                // Pane <-> glass swap inside the same vein, keep the full block count right
+                if (fullGlass.get(existing) != full) {
+                    fullGlass.set(existing, full);
+                    vein.fullBlocks += full ? 1 : -1;
+                }
+                return;
+            }
+            remove(key);
+        }
+
+        int node = newNode(full);
+        nodes.put(key, node);
+
+        Vein vein = new Vein(type);
+        vein.add(key, full);
+        veins.put(node, vein);
+
+        for (Direction direction : Direction.values()) {
+            Integer neighbor = nodes.get(BlockPos.offset(key, direction));
+            if (neighbor != null && veins.get(find(neighbor)).type == type) {
+                union(node, neighbor);
+            }
+        }
+
+        Vein merged = veins.get(find(node));
+        if (!merged.nearLava && isNearLava(pos)) {
+            merged.nearLava = true;
+        }
+
+        chunkBlocks.computeIfAbsent(ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4), k -> new HashSet<>()).add(key);
+    }
+
+    private void remove(long key) {
+        Integer node = nodes.remove(key);
+        if (node == null) return;
+
+        int root = find(node);
+        Vein vein = veins.get(root);
+        vein.remove(key, fullGlass.get(node));
+        if (vein.members.isEmpty()) {
+            veins.remove(root);
+        }
+
+        Set<Long> chunk = chunkBlocks.get(ChunkPos.toLong(BlockPos.unpackLongX(key) >> 4, BlockPos.unpackLongZ(key) >> 4));
+        if (chunk != null) {
+            chunk.remove(key);
+        }
+    }
+
+    private int newNode(boolean full) {
+        if (nodeCount == parent.length) {
+            parent = Arrays.copyOf(parent, parent.length * 2);
+        }
+        int node = nodeCount++;
+        parent[node] = node;
+        fullGlass.set(node, full);
+        return node;
+    }
+
+    private int find(int node) {
+        while (parent[node] != node) {
+            parent[node] = parent[parent[node]];
+            node = parent[node];
+        }
+        return node;
+    }
+
+    /**
+     * Merge two sets, the smaller vein into the larger
+     */
+    private void union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) return;
+
+        Vein veinA = veins.get(rootA);
+        Vein veinB = veins.get(rootB);
+        if (veinA.size() < veinB.size()) {
+            int root = rootA;
+            rootA = rootB;
+            rootB = root;
+            Vein vein = veinA;
+            veinA = veinB;
+            veinB = vein;
+        }
+
+        parent[rootB] = rootA;
+        veinA.absorb(veinB);
+        veins.remove(rootB);
+    }
+
+    private void compactIfSparse() {
+        if (nodeCount - nodes.size() > COMPACT_THRESHOLD && nodeCount > nodes.size() * 2) {
+            compact();
+        }
+    }
+
+    /**
+     * Rebuild the forest from live blocks once most nodes are dead
+     */
+    private void compact() {
+        Map<Long, Vein> live = new HashMap<>();
+        for (Vein vein : veins.values()) {
+            for (long key : vein.members) {
+                live.put(key, vein);
+            }
+        }
+
+        Map<Long, Boolean> full = new HashMap<>();
+        for (Map.Entry<Long, Integer> entry : nodes.entrySet()) {
+            full.put(entry.getKey(), fullGlass.get(entry.getValue()));
+        }
+
+        Set<Long> lava = new HashSet<>();
+        for (Vein vein : veins.values()) {
+            if (vein.nearLava) lava.addAll(vein.members);
+        }
+
+        parent = new int[Math.max(1024, Integer.highestOneBit(Math.max(1, live.size())) * 2)];
+        fullGlass.clear();
+        nodeCount = 0;
+        nodes.clear();
+        veins.clear();
+        chunkBlocks.clear();
+
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (Map.Entry<Long, Vein> entry : live.entrySet()) {
+            long key = entry.getKey();
+            pos.set(key);
+            add(pos, entry.getValue().type, full.get(key));
+            if (lava.contains(key)) {
+                veins.get(find(nodes.get(key))).nearLava = true;
+            }
+        }
+    }
+
+    private boolean isNearLava(BlockPos pos) {
+        WorldView world = WorldProvider.getInstance().getView();
+        if (!world.isReady()) return false;
+
+        BlockPos.Mutable check = new BlockPos.Mutable();
+        for (int dx = -LAVA_RADIUS; dx <= LAVA_RADIUS; dx++) {
+            for (int dy = -LAVA_RADIUS; dy <= LAVA_RADIUS; dy++) {
+                for (int dz = -LAVA_RADIUS; dz <= LAVA_RADIUS; dz++) {
+                    check.set(pos.getX() + dx, pos.getY() + dy, pos.getZ() + dz);
+                    if (world.getBlockState(check).isOf(Blocks.LAVA)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Flag every vein with a block within LAVA_RADIUS of new lava
+     */
+    private void markLava(BlockPos lava) {
+        for (int dx = -LAVA_RADIUS; dx <= LAVA_RADIUS; dx++) {
+            for (int dy = -LAVA_RADIUS; dy <= LAVA_RADIUS; dy++) {
+                for (int dz = -LAVA_RADIUS; dz <= LAVA_RADIUS; dz++) {
+                    Integer node = nodes.get(BlockPos.asLong(lava.getX() + dx, lava.getY() + dy, lava.getZ() + dz));
+                    if (node != null) {
+                        veins.get(find(node)).nearLava = true;
+                    }
+                }
+            }
+        }
+    }
+
+    private void clear() {
+        parent = new int[1024];
+        fullGlass.clear();
+        nodeCount = 0;
+        nodes.clear();
+        veins.clear();
+        chunkBlocks.clear();
+    }
+
+    @Override
+    public void onBlockUpdate(BlockPos pos, BlockState oldState, BlockState newState) {
+        if (!scanner.isActive()) return;
+        scanner.checkWorld();
+
+        // Unscanned chunks will read the new state when their turn comes
+        if (!scanner.isScanned(pos)) return;
+
+        GemstoneType oldType = TYPES.get(oldState.getBlock());
+        GemstoneType newType = TYPES.get(newState.getBlock());
+
+        if (oldType != null && newType == null) {
+            remove(pos.asLong());
+        } else if (newType != null) {
+            add(pos, newType, newState.isOf(newType.glassBlock));
+        }
+
+        if (newState.isOf(Blocks.LAVA) && !oldState.isOf(Blocks.LAVA)) {
+            markLava(pos);
+        }
+    }
+
+    @Override
+    public void onChunkLoad(WorldChunk chunk) {
+        scanner.onChunkLoad(chunk);
+    }
+
+    @Override
+    public void onChunkUnload(ChunkPos pos) {
+        if (!scanner.onChunkUnload(pos)) return;
+
+        Set<Long> blocks = chunkBlocks.remove(pos.toLong());
+        if (blocks == null) return;
+
+        for (long block : blocks) {
+            remove(block);
+        }
+    }
+
+    /**
+     * One connected cluster of same-colour gemstone blocks
+     */
+    public static class Vein {
+        private final GemstoneType type;
+        private final Set<Long> members = new HashSet<>();
+        private long sumX, sumY, sumZ;
+        private int fullBlocks;
+        private boolean nearLava;
+
+        Vein(GemstoneType type) {
+            this.type = type;
+        }
+
+        void add(long key, boolean full) {
+            members.add(key);
+            sumX += BlockPos.unpackLongX(key);
+            sumY += BlockPos.unpackLongY(key);
+            sumZ += BlockPos.unpackLongZ(key);
+            if (full) fullBlocks++;
+        }
+
+        void remove(long key, boolean full) {
+            if (!members.remove(key)) return;
+            sumX -= BlockPos.unpackLongX(key);
+            sumY -= BlockPos.unpackLongY(key);
+            sumZ -= BlockPos.unpackLongZ(key);
+            if (full) fullBlocks--;
+        }
+
+        void absorb(Vein other) {
+            members.addAll(other.members);
+            sumX += other.sumX;
+            sumY += other.sumY;
+            sumZ += other.sumZ;
+            fullBlocks += other.fullBlocks;
+            nearLava |= other.nearLava;
+        }
+
+        public GemstoneType getType() {
+            return type;
+        }
+
+        public int size() {
+            return members.size();
+        }
+
+        public Vec3d getCentroid() {
+            int size = Math.max(1, members.size());
+            return new Vec3d((double) sumX / size + 0.5, (double) sumY / size + 0.5, (double) sumZ / size + 0.5);
+        }
+
+        public boolean isNearLava() {
+            return nearLava;
+        }
+
+        /**
+         * Share of full glass blocks, which drop more than panes.
+         * Used as a hint when hunting perfect/flawless gems
+         */
+        public double getFullBlockRatio() {
+            return members.isEmpty() ? 0 : (double) fullBlocks / members.size();
+        }
+
+        public List<BlockPos> getMembers() {
+            List<BlockPos> positions = new ArrayList<>(members.size());
+            for (long key : members) {
+                positions.add(BlockPos.fromLong(key));
+            }
+            return positions;
+        }
+    }
+}
\ No newline at end of file
@@ -1,9 +1,8 @@
 package com.donut.client.macros.mining;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.mining.ResourceIndex.Resource;
 import net.minecraft.client.MinecraftClient;
-import net.minecraft.block.Block;
-import net.minecraft.block.Blocks;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import java.util.*;
@@ -11,10 +10,13 @@ import java.util.*;
 public class GlaciteCommissions extends Macro {
 
     private final MinecraftClient mc;
+    private final ResourceIndex resourceIndex = ResourceIndex.getInstance();
+    private final CommissionPlanner planner = new CommissionPlanner(resourceIndex);
     private CommissionState state = CommissionState.SCANNING;
     private List<Commission> activeCommissions = new ArrayList<>();
     private Commission currentCommission = null;
     private BlockPos targetBlock = null;
+    private BlockPos targetArea = null;
     private int commissionsCompleted = 0;
 
     public enum CommissionState {
@@ -22,7 +24,15 @@ public class GlaciteCommissions extends Macro {
     }
 
     public enum CommissionType {
-        GLACITE_MINING, UMBER_MINING, TUNGSTEN_MINING
+        GLACITE_MINING(Resource.GLACITE),
+        UMBER_MINING(Resource.UMBER),
+        TUNGSTEN_MINING(Resource.TUNGSTEN);
+
+        public final Resource resource;
+
+        CommissionType(Resource resource) {
+            this.resource = resource;
+        }
     }
 
     public GlaciteCommissions() {
@@ -36,6 +46,18 @@ public class GlaciteCommissions extends Macro {
         System.out.println("[Glacite] Initialized");
     }
 
+    @Override
+    public void onEnable() {
+        super.onEnable();
+        resourceIndex.setActive(true);
+    }
+
+    @Override
+    public void onDisable() {
+        super.onDisable();
+        resourceIndex.setActive(false);
+    }
+
     @Override
     public void onTick() {
         if (!enabled || mc.player == null || mc.world == null) return;
@@ -55,14 +77,37 @@ public class GlaciteCommissions extends Macro {
         if (currentCommission != null) state = CommissionState.MINING;
     }
 
+    /**
+     * Plan the open commissions by where their resources are; the first step is the one to do now.
+     * Until the index has anything, take them in list order
+     */
     private void selectNextCommission() {
+        List<CommissionPlanner.Task<Commission>> tasks = new ArrayList<>();
+        Commission fallback = null;
         for (Commission comm : activeCommissions) {
-            if (comm.progress < comm.goal) {
-                currentCommission = comm;
-                return;
+            if (comm.progress >= comm.goal) continue;
+            if (fallback == null) fallback = comm;
+            if (comm.type.resource != null) {
+                tasks.add(new CommissionPlanner.Task<>(comm, comm.type.resource, comm.goal - comm.progress,
+                        comm.powderReward));
             }
         }
-        state = CommissionState.CLAIMING;
+
+        if (fallback == null) {
+            state = CommissionState.CLAIMING;
+            return;
+        }
+
+        CommissionPlanner.Plan<Commission> plan = planner.plan(tasks, mc.player.getBlockPos());
+        CommissionPlanner.Step<Commission> step = plan.first();
+        if (step != null) {
+            currentCommission = step.task.commission;
+            targetArea = step.area;
+            System.out.println("[Glacite] Plan: " + plan + ", next " + currentCommission.type + " near " + targetArea);
+        } else {
+            currentCommission = fallback;
+            targetArea = null;
+        }
     }
 
     private void mineBlocks() {
@@ -72,12 +117,12 @@ public class GlaciteCommissions extends Macro {
             return;
         }
 
-        Block targetBlockType = Blocks.PRISMARINE;
         if (targetBlock == null) {
-            targetBlock = findNearestBlock(targetBlockType);
+            targetBlock = findTarget(currentCommission.type);
         }
         if (targetBlock != null) {
             breakBlock(targetBlock);
+            resourceIndex.markMined(targetBlock);
             currentCommission.progress++;
             targetBlock = null;
         }
@@ -88,19 +133,15 @@ public class GlaciteCommissions extends Macro {
         state = CommissionState.COMPLETE;
     }
 
-    private BlockPos findNearestBlock(Block target) {
-        BlockPos playerPos = mc.player.getBlockPos();
-        for (int x = -30; x <= 30; x++) {
-            for (int y = -10; y <= 10; y++) {
-                for (int z = -30; z <= 30; z++) {
-                    BlockPos pos = playerPos.add(x, y, z);
-                    if (mc.world.getBlockState(pos).getBlock() == target) {
-                        return pos;
-                    }
-                }
-            }
+    /**
+     * Nearest indexed block for the commission: within reach of the player first, then in the area the plan picked
+     */
+    private BlockPos findTarget(CommissionType type) {
+        BlockPos nearest = resourceIndex.nearest(type.resource, mc.player.getPos(), 30);
+        if (nearest == null && targetArea != null) {
+            nearest = resourceIndex.nearest(type.resource, Vec3d.ofCenter(targetArea), 24);
         }
-        return null;
+        return nearest;
     }
 
     private void breakBlock(BlockPos pos) {
@@ -1,6 +1,10 @@
 package com.donut.client.macros.mining;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.metrics.Counter;
+import com.donut.client.metrics.Profiler;
+import com.donut.client.pathfinding.MultiGoalSearch;
+import com.donut.client.render.WorldOverlay;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.block.Block;
 import net.minecraft.block.Blocks;
@@ -16,11 +20,18 @@ import java.util.*;
 public class MithrilMiner extends Macro {
 
     private final MinecraftClient mc;
+    private final MultiGoalSearch targetSearch = new MultiGoalSearch();
+    private final BreakOrderPlanner breakPlanner = new BreakOrderPlanner();
+
+    private static final String OVERLAY_KEY = "mithril_target";
+    private static final double STAND_TOLERANCE = 0.6;
 
     // State
     private MiningState state = MiningState.SCANNING;
     private BlockPos targetBlock = null;
+    private BlockPos highlightedBlock = null;
     private List<BlockPos> vein = new ArrayList<>();
+    private List<BlockPos> veinStands = new ArrayList<>();
     private int veinIndex = 0;
 
     // Settings
@@ -33,7 +44,9 @@ public class MithrilMiner extends Macro {
 
     // Statistics
     private int mithrilMined = 0;
+    private final Counter mithrilMetric = counter("Mithril");
     private int titaniumMined = 0;
+    private final Counter titaniumMetric = counter("Titanium");
     private int gemstoneMined = 0;
     private long powderCollected = 0;
 
@@ -65,6 +78,7 @@ public class MithrilMiner extends Macro {
         System.out.println("[Mithril Miner] Starting...");
         state = MiningState.SCANNING;
         vein.clear();
+        veinStands.clear();
     }
 
     @Override
@@ -72,12 +86,15 @@ public class MithrilMiner extends Macro {
         // Initialize macro
         state = MiningState.SCANNING;
         vein.clear();
+        veinStands.clear();
     }
 
     @Override
     public void onDisable() {
         super.onDisable();
         System.out.println("[Mithril Miner] Stopped");
+        WorldOverlay.getInstance().clear(OVERLAY_KEY);
+        highlightedBlock = null;
         stopMovement();
     }
 
@@ -87,7 +104,12 @@ public class MithrilMiner extends Macro {
 
         switch (state) {
             case SCANNING:
-                scanForMithril();
+                Profiler.push("scan");
+                try {
+                    scanForMithril();
+                } finally {
+                    Profiler.pop();
+                }
                 break;
             case MOVING:
                 moveToTarget();
@@ -104,6 +126,23 @@ public class MithrilMiner extends Macro {
         if (isInventoryFull() && autoSell) {
             state = MiningState.SELLING;
         }
+
+        updateHighlight();
+    }
+
+    /**
+     * Outline the current target in the world overlay when it changes
+     */
+    private void updateHighlight() {
+        if (Objects.equals(targetBlock, highlightedBlock)) return;
+
+        highlightedBlock = targetBlock;
+        if (targetBlock == null) {
+            WorldOverlay.getInstance().clear(OVERLAY_KEY);
+        } else {
+            WorldOverlay.getInstance().setHighlights(OVERLAY_KEY, Collections.singletonList(targetBlock),
+                    WorldOverlay.Shape.OUTLINE, 0xFF55FFFF, 0);
+        }
     }
 
     /**
@@ -111,9 +150,8 @@ public class MithrilMiner extends Macro {
      */
     private void scanForMithril() {
         BlockPos playerPos = mc.player.getBlockPos();
-        BlockPos bestBlock = null;
-        double bestDistance = Double.MAX_VALUE;
-        boolean foundTitanium = false;
+        List<BlockPos> titanium = new ArrayList<>();
+        List<BlockPos> mithril = new ArrayList<>();
 
         // Scan area for mithril/titanium
         for (int x = -scanRadius; x <= scanRadius; x++) {
@@ -122,28 +160,32 @@ public class MithrilMiner extends Macro {
                     BlockPos pos = playerPos.add(x, y, z);
                     Block block = mc.world.getBlockState(pos).getBlock();
 
-                    // Check for titanium (prioritize if enabled)
                     if (titaniumPriority && isTitanium(block)) {
-                        double distance = mc.player.getPos().squaredDistanceTo(Vec3d.ofCenter(pos));
-                        if (distance < bestDistance) {
-                            bestBlock = pos;
-                            bestDistance = distance;
-                            foundTitanium = true;
-                        }
-                    }
-
-                    // Check for mithril (if no titanium found)
-                    if (!foundTitanium && isMithril(block)) {
-                        double distance = mc.player.getPos().squaredDistanceTo(Vec3d.ofCenter(pos));
-                        if (distance < bestDistance) {
-                            bestBlock = pos;
-                            bestDistance = distance;
-                        }
+                        titanium.add(pos);
+                    } else if (isMithril(block)) {
+                        mithril.add(pos);
                     }
                 }
             }
         }
 
+        // Titanium first (if enabled), then mithril - nearest by real walking cost
+        BlockPos bestBlock = selectReachable(playerPos, titanium);
+        boolean foundTitanium = bestBlock != null;
+
+        if (bestBlock == null) {
+            bestBlock = selectReachable(playerPos, mithril);
+        }
+
+        // Nothing reachable - fall back to straight-line distance
+        if (bestBlock == null) {
+            bestBlock = selectClosest(titanium);
+            foundTitanium = bestBlock != null;
+        }
+        if (bestBlock == null) {
+            bestBlock = selectClosest(mithril);
+        }
+
         if (bestBlock != null) {
             targetBlock = bestBlock;
 
@@ -151,6 +193,9 @@ public class MithrilMiner extends Macro {
             if (veinMine) {
                 findVein(bestBlock);
                 veinIndex = 0;
+                if (!vein.isEmpty()) {
+                    targetBlock = vein.get(0);
+                }
             }
 
             state = MiningState.MOVING;
@@ -158,6 +203,25 @@ public class MithrilMiner extends Macro {
         }
     }
 
+    /**
+     * Pick the candidate with the cheapest path (null if none can be reached)
+     */
+    private BlockPos selectReachable(BlockPos playerPos, List<BlockPos> candidates) {
+        if (candidates.isEmpty()) return null;
+
+        MultiGoalSearch.Result result = targetSearch.findNearest(playerPos, candidates, breakRange);
+        return result != null ? result.getGoal() : null;
+    }
+
+    /**
+     * Pick the candidate closest in a straight line
+     */
+    private BlockPos selectClosest(List<BlockPos> candidates) {
+        return candidates.stream()
+                .min(Comparator.comparingDouble(pos -> mc.player.getPos().squaredDistanceTo(Vec3d.ofCenter(pos))))
+                .orElse(null);
+    }
+
     /**
      * Check if block is mithril
      */
@@ -184,7 +248,7 @@ public class MithrilMiner extends Macro {
     private void findVein(BlockPos start) {
         vein.clear();
         Set<BlockPos> visited = new HashSet<>();
-        Queue<BlockPos> queue = new LinkedList<>();
+        Queue<BlockPos> queue = new ArrayDeque<>();
 
         queue.add(start);
         visited.add(start);
@@ -209,13 +273,13 @@ public class MithrilMiner extends Macro {
             }
         }
 
-        // Sort vein by distance from player for efficiency
-        BlockPos playerPos = mc.player.getBlockPos();
-        vein.sort(Comparator.comparingDouble(
-                pos -> pos.getSquaredDistance(playerPos)
-        ));
+        // Few standing spots, short walks between them, small turns at each
+        BreakOrderPlanner.Plan plan = breakPlanner.plan(world(), vein, mc.player.getPos(),
+                mc.player.getYaw(), mc.player.getPitch(), breakRange);
+        vein = plan.getBlocks();
+        veinStands = plan.getStands();
 
-        System.out.println("[Mithril] Found vein with " + vein.size() + " blocks");
+        System.out.println("[Mithril] Found vein with " + vein.size() + " blocks (" + plan.getStopCount() + " stops)");
     }
 
     /**
@@ -241,14 +305,20 @@ public class MithrilMiner extends Macro {
         Vec3d playerPos = mc.player.getPos();
         Vec3d targetPos = Vec3d.ofCenter(targetBlock);
         double distance = playerPos.distanceTo(targetPos);
+        BlockPos stand = getStand();
 
-        // Check if in range to mine
-        if (distance <= breakRange) {
+        // Check if in range to mine (from the planned spot, so the rest of its blocks are in reach too)
+        if (distance <= breakRange && (stand == null || isAtStand(stand) || mc.player.horizontalCollision)) {
             state = MiningState.MINING;
             stopMovement();
             return;
         }
 
+        // Walk to the planned spot rather than the block
+        if (stand != null) {
+            targetPos = Vec3d.ofBottomCenter(stand);
+        }
+
         // Calculate direction
         double dx = targetPos.x - playerPos.x;
         double dz = targetPos.z - playerPos.z;
@@ -276,6 +346,21 @@ public class MithrilMiner extends Macro {
         }
     }
 
+    /**
+     * Planned standing spot for the current target, or null to walk straight at it
+     */
+    private BlockPos getStand() {
+        if (!veinMine || veinIndex >= veinStands.size()) return null;
+        if (!vein.get(veinIndex).equals(targetBlock)) return null;
+        return veinStands.get(veinIndex);
+    }
+
+    private boolean isAtStand(BlockPos stand) {
+        double dx = mc.player.getX() - (stand.getX() + 0.5);
+        double dz = mc.player.getZ() - (stand.getZ() + 0.5);
+        return dx * dx + dz * dz <= STAND_TOLERANCE * STAND_TOLERANCE;
+    }
+
     /**
      * Check if should jump
      */
@@ -302,8 +387,10 @@ public class MithrilMiner extends Macro {
             // Block broken, track stats
             if (isTitanium(block)) {
                 titaniumMined++;
+                titaniumMetric.increment();
             } else {
                 mithrilMined++;
+                mithrilMetric.increment();
             }
 
             // Move to next block in vein
@@ -314,6 +401,7 @@ public class MithrilMiner extends Macro {
             } else {
                 targetBlock = null;
                 vein.clear();
+                veinStands.clear();
                 state = MiningState.SCANNING;
             }
             return;
@@ -0,0 +1,272 @@
+package com.donut.client.macros.mining;
+
+import com.donut.client.event.BlockUpdateHandler;
+import com.donut.client.world.ChunkScanner;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Commission ores in loaded chunks, bucketed per chunk and resource
+ * - Chunks are read by a ChunkScanner; sections with no indexed ore are skipped by their palette
+ * - Block updates add and remove single blocks, so mined ore drops out and regenerated ore comes back
+ * - A chunk's bucket sizes are its per-area counts; nearest-block queries only read buckets in range
+ */
+public class ResourceIndex implements BlockUpdateHandler.BlockUpdateListener {
+
+    private static ResourceIndex instance;
+
+    public enum Resource {
+        MITHRIL(600, Blocks.PRISMARINE, Blocks.LIGHT_BLUE_WOOL, Blocks.LIGHT_BLUE_CONCRETE),
+        TITANIUM(1500, Blocks.WHITE_CONCRETE, Blocks.WHITE_WOOL, Blocks.CALCITE),
+        GLACITE(900, Blocks.PACKED_ICE),
+        UMBER(900, Blocks.TERRACOTTA, Blocks.BROWN_TERRACOTTA, Blocks.SMOOTH_RED_SANDSTONE),
+        TUNGSTEN(900, Blocks.CLAY, Blocks.INFESTED_COBBLESTONE);
+
+        // Rough time to break one block with a mid-game drill
+        public final long breakMillis;
+        private final Block[] blocks;
+
+        Resource(long breakMillis, Block... blocks) {
+            this.breakMillis = breakMillis;
+            this.blocks = blocks;
+        }
+    }
+
+    private static final Resource[] RESOURCES = Resource.values();
+    private static final Map<Block, Resource> BY_BLOCK = new HashMap<>();
+
+    static {
+        for (Resource resource : RESOURCES) {
+            for (Block block : resource.blocks) {
+                BY_BLOCK.put(block, resource);
+            }
+        }
+    }
+
+    private static final Predicate<BlockState> INDEXED = state -> BY_BLOCK.containsKey(state.getBlock());
+
+    // Chunk key -> packed positions per resource ordinal
+    private final Map<Long, Set<Long>[]> chunks = new HashMap<>();
+    private final int[] totals = new int[RESOURCES.length];
+
+    private final ChunkScanner scanner = new ChunkScanner("resourceIndex", INDEXED,
+            (pos, state) -> add(pos.asLong(), BY_BLOCK.get(state.getBlock())), this::clear);
+
+    private ResourceIndex() {
+        BlockUpdateHandler.getInstance().addListener(this);
+        ClientTickEvents.END_CLIENT_TICK.register(client -> scanner.tick());
+    }
+
+    public static ResourceIndex getInstance() {
+        if (instance == null) {
+            instance = new ResourceIndex();
+        }
+        return instance;
+    }
+
+    public static Resource getResource(Block block) {
+        return BY_BLOCK.get(block);
+    }
+
+    /**
+     * Start indexing (queues every loaded chunk) or stop and drop everything
+     */
+    public void setActive(boolean active) {
+        if (scanner.isActive() == active) return;
+
+        clear();
+        scanner.setActive(active);
+    }
+
+    public boolean isActive() {
+        return scanner.isActive();
+    }
+
+    /**
+     * Index every queued chunk now instead of a few sections per tick
+     */
+    public void flush() {
+        scanner.flush();
+    }
+
+    /**
+     * True once the chunk containing pos has been scanned
+     */
+    public boolean isIndexed(BlockPos pos) {
+        scanner.checkWorld();
+        return scanner.isScanned(pos);
+    }
+
+    /**
+     * Nearest indexed block of a resource within radius, or null
+     */
+    public BlockPos nearest(Resource resource, Vec3d from, double radius) {
+        scanner.checkWorld();
+
+        int chunkRadius = (int) Math.ceil(radius / 16.0);
+        int centerX = (int) Math.floor(from.x) >> 4;
+        int centerZ = (int) Math.floor(from.z) >> 4;
+        double bestDist = radius * radius;
+        long best = 0;
+        boolean found = false;
+
+        for (int cx = centerX - chunkRadius; cx <= centerX + chunkRadius; cx++) {
+            for (int cz = centerZ - chunkRadius; cz <= centerZ + chunkRadius; cz++) {
+                Set<Long> blocks = bucket(ChunkPos.toLong(cx, cz), resource);
+                if (blocks == null) continue;
+
+                for (long key : blocks) {
+                    double dist = from.squaredDistanceTo(
+                            BlockPos.unpackLongX(key) + 0.5, BlockPos.unpackLongY(key) + 0.5, BlockPos.unpackLongZ(key) + 0.5);
+                    if (dist < bestDist) {
+                        bestDist = dist;
+                        best = key;
+                        found = true;
+                    }
+                }
+            }
+        }
+        return found ? BlockPos.fromLong(best) : null;
+    }
+
+    /**
+     * Blocks of a resource in the chunks within chunkRadius of the chunk containing center
+     */
+    public int count(Resource resource, BlockPos center, int chunkRadius) {
+        scanner.checkWorld();
+
+        int centerX = center.getX() >> 4;
+        int centerZ = center.getZ() >> 4;
+        int count = 0;
+        for (int cx = centerX - chunkRadius; cx <= centerX + chunkRadius; cx++) {
+            for (int cz = centerZ - chunkRadius; cz <= centerZ + chunkRadius; cz++) {
+                Set<Long> blocks = bucket(ChunkPos.toLong(cx, cz), resource);
+                if (blocks != null) count += blocks.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Chunks holding at least one block of a resource, as chunk keys
+     */
+    public List<Long> getChunks(Resource resource) {
+        scanner.checkWorld();
+
+        List<Long> result = new ArrayList<>();
+        for (Map.Entry<Long, Set<Long>[]> entry : chunks.entrySet()) {
+            Set<Long> blocks = entry.getValue()[resource.ordinal()];
+            if (blocks != null && !blocks.isEmpty()) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Mean height of a resource's blocks in one chunk, or 64 if there are none
+     */
+    public int getMeanY(Resource resource, long chunkKey) {
+        Set<Long> blocks = bucket(chunkKey, resource);
+        if (blocks == null || blocks.isEmpty()) return 64;
+
+        long sum = 0;
+        for (long key : blocks) {
+            sum += BlockPos.unpackLongY(key);
+        }
+        return (int) (sum / blocks.size());
+    }
+
+    public int getTotal(Resource resource) {
+        return totals[resource.ordinal()];
+    }
+
+    /**
+     * Drop a block the caller has just broken, ahead of its block update
+     */
+    public void markMined(BlockPos pos) {
+        remove(pos.asLong());
+    }
+
+    private Set<Long> bucket(long chunkKey, Resource resource) {
+        Set<Long>[] buckets = chunks.get(chunkKey);
+        return buckets == null ? null : buckets[resource.ordinal()];
+    }
+
+    @SuppressWarnings("unchecked")
+    private void add(long key, Resource resource) {
+        long chunkKey = ChunkPos.toLong(BlockPos.unpackLongX(key) >> 4, BlockPos.unpackLongZ(key) >> 4);
+        Set<Long>[] buckets = chunks.computeIfAbsent(chunkKey, k -> new Set[RESOURCES.length]);
+
+        int ordinal = resource.ordinal();
+        if (buckets[ordinal] == null) {
+            buckets[ordinal] = new HashSet<>();
+        }
+        if (buckets[ordinal].add(key)) {
+            totals[ordinal]++;
+        }
+    }
+
+    private void remove(long key) {
+        Set<Long>[] buckets = chunks.get(ChunkPos.toLong(BlockPos.unpackLongX(key) >> 4, BlockPos.unpackLongZ(key) >> 4));
+        if (buckets == null) return;
+
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] != null && buckets[i].remove(key)) {
+                totals[i]--;
+                return;
+            }
+        }
+    }
+
+    private void clear() {
+        chunks.clear();
+        Arrays.fill(totals, 0);
+    }
+
+    @Override
+    public void onBlockUpdate(BlockPos pos, BlockState oldState, BlockState newState) {
+        if (!scanner.isActive()) return;
+        scanner.checkWorld();
+
+        // Unscanned chunks will read the new state when their turn comes
+        if (!scanner.isScanned(pos)) return;
+
+        Resource oldResource = BY_BLOCK.get(oldState.getBlock());
+        Resource newResource = BY_BLOCK.get(newState.getBlock());
+        if (oldResource == newResource) return;
+
+        if (oldResource != null) {
+            remove(pos.asLong());
+        }
+        if (newResource != null) {
+            add(pos.asLong(), newResource);
+        }
+    }
+
+    @Override
+    public void onChunkLoad(WorldChunk chunk) {
+        scanner.onChunkLoad(chunk);
+    }
+
+    @Override
+    public void onChunkUnload(ChunkPos pos) {
+        if (!scanner.onChunkUnload(pos)) return;
+
+        Set<Long>[] buckets = chunks.remove(pos.toLong());
+        if (buckets == null) return;
+
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] != null) totals[i] -= buckets[i].size();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,296 @@
+package com.donut.client.macros.mining;
+
+import com.donut.client.world.WorldView;
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams the break and place operations of a tunnel, one cross-section at a time
+ * - The tunnel is described by a Profile (size, branches, pillars, torches, floor), parsed from a short string
+ * - Cross-section offsets are laid out once per profile in break order (top row first, snaking across rows);
+ *   each section only translates them
+ * - Blocks that already read as air are left out of the break list, and solid blocks out of the place list;
+ *   blocks in unloaded chunks are kept, since nothing is known about them
+ * Sections are built on demand, so the caller can build the next one while still working through the current.
+ */
+public class TunnelGenerator implements Iterator<TunnelGenerator.Section> {
+
+    /**
+     * Tunnel shape. Spacings of 0 turn the feature off
+     */
+    public static class Profile {
+        public final int width;
+        public final int height;
+        public final int branchSpacing;
+        public final int branchLength;
+        public final int pillarSpacing;
+        public final int torchSpacing;
+        public final boolean floor;
+
+        public Profile(int width, int height, int branchSpacing, int branchLength,
+                       int pillarSpacing, int torchSpacing, boolean floor) {
+            this.width = Math.max(1, width);
+            this.height = Math.max(1, height);
+            this.branchSpacing = Math.max(0, branchSpacing);
+            this.branchLength = Math.max(0, branchLength);
+            this.pillarSpacing = Math.max(0, pillarSpacing);
+            this.torchSpacing = Math.max(0, torchSpacing);
+            this.floor = floor;
+        }
+
+        /**
+         * Parse "WxH" followed by any of: "b<spacing>:<length>", "p<spacing>", "t<spacing>", "f".
+         * For example "3x3 b3:8 p5 t8" is a 3 wide, 3 high tunnel with 8 long branches every 3 blocks,
+         * pillars every 5 and torches every 8
+         */
+        public static Profile parse(String descriptor) {
+            String[] parts = descriptor.trim().toLowerCase(Locale.ROOT).split("\\s+");
+            String[] size = parts[0].split("x");
+            if (size.length != 2) {
+                throw new IllegalArgumentException("Tunnel profile must start with WxH: " + descriptor);
+            }
+
+            int width = Integer.parseInt(size[0]);
+            int height = Integer.parseInt(size[1]);
+            int branchSpacing = 0, branchLength = 0, pillarSpacing = 0, torchSpacing = 0;
+            boolean floor = false;
+
+            for (int i = 1; i < parts.length; i++) {
+                String part = parts[i];
+                switch (part.charAt(0)) {
+                    case 'b':
+                        String[] branch = part.substring(1).split(":");
+                        branchSpacing = Integer.parseInt(branch[0]);
+                        branchLength = branch.length > 1 ? Integer.parseInt(branch[1]) : width * 3;
+                        break;
+                    case 'p':
+                        pillarSpacing = Integer.parseInt(part.substring(1));
+                        break;
+                    case 't':
+                        torchSpacing = Integer.parseInt(part.substring(1));
+                        break;
+                    case 'f':
+                        floor = true;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown tunnel profile part '" + part + "' in: " + descriptor);
+                }
+            }
+            return new Profile(width, height, branchSpacing, branchLength, pillarSpacing, torchSpacing, floor);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder().append(width).append('x').append(height);
+            if (branchSpacing > 0) builder.append(" b").append(branchSpacing).append(':').append(branchLength);
+            if (pillarSpacing > 0) builder.append(" p").append(pillarSpacing);
+            if (torchSpacing > 0) builder.append(" t").append(torchSpacing);
+            if (floor) builder.append(" f");
+            return builder.toString();
+        }
+    }
+
+    public static class Op {
+        public final BlockPos pos;
+        public final Block place; // null for a break
+
+        Op(BlockPos pos, Block place) {
+            this.pos = pos;
+            this.place = place;
+        }
+
+        public boolean isBreak() {
+            return place == null;
+        }
+    }
+
+    /**
+     * One cross-section: its centre, whether it belongs to a branch, and its operations in order
+     */
+    public static class Section {
+        public final BlockPos center;
+        public final int index;      // Along the main tunnel
+        public final int branchStep; // 0 on the main tunnel, 1.. along a branch
+        public final List<Op> ops;
+
+        Section(BlockPos center, int index, int branchStep, List<Op> ops) {
+            this.center = center;
+            this.index = index;
+            this.branchStep = branchStep;
+            this.ops = ops;
+        }
+
+        public boolean isBranch() {
+            return branchStep > 0;
+        }
+
+        public boolean isEmpty() {
+            return ops.isEmpty();
+        }
+    }
+
+    private final WorldView world;
+    private final Profile profile;
+    private final BlockPos start;
+    private final int dirX, dirZ;
+    private final int length;
+
+    // Cross-section layout: (across, up) pairs in break order, relative to the section centre
+    private final int[] breakOffsets;
+    private final int left, right; // Outer columns, across is positive to the right
+    private final int bottom;
+
+    private int index = 0;
+    private int branchStep = 0;
+    private int branchSide = 0; // 0 = not in a branch, 1 = right, -1 = left
+
+    /**
+     * Tunnel of length sections from start, heading (dirX, dirZ), which must be one of the four horizontal directions
+     */
+    public TunnelGenerator(WorldView world, Profile profile, BlockPos start, int dirX, int dirZ, int length) {
+        this.world = world;
+        this.profile = profile;
+        this.start = start;
+        this.dirX = dirX;
+        this.dirZ = dirZ;
+        this.length = length;
+
+        this.left = -(profile.width / 2);
+        this.right = left + profile.width - 1;
+        this.bottom = -(profile.height / 2);
+
+        breakOffsets = new int[profile.width * profile.height * 2];
+        int i = 0;
+        boolean reverse = false;
+        for (int up = bottom + profile.height - 1; up >= bottom; up--) {
+            for (int k = 0; k < profile.width; k++) {
+                int across = reverse ? right - k : left + k;
+                breakOffsets[i++] = across;
+                breakOffsets[i++] = up;
+            }
+            reverse = !reverse;
+        }
+    }
+
+    public Profile getProfile() {
+        return profile;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < length;
+    }
+
+    @Override
+    public Section next() {
+        if (!hasNext()) throw new NoSuchElementException();
+
+        Section section;
+        if (branchSide == 0) {
+            section = mainSection(index);
+            if (profile.branchSpacing > 0 && profile.branchLength > 0 && (index + 1) % profile.branchSpacing == 0) {
+                branchSide = 1;
+                branchStep = 1;
+            } else {
+                index++;
+            }
+        } else {
+            section = branchSection(index, branchSide, branchStep);
+            if (++branchStep > profile.branchLength) {
+                branchStep = 1;
+                branchSide = branchSide == 1 ? -1 : 0;
+                if (branchSide == 0) index++;
+            }
+        }
+        return section;
+    }
+
+    private Section mainSection(int index) {
+        BlockPos center = start.add(dirX * index, 0, dirZ * index);
+        // Across the main tunnel is the right-hand side of the heading
+        List<Op> ops = slice(center, -dirZ, dirX, index + 1, false);
+        return new Section(center, index, 0, ops);
+    }
+
+    private Section branchSection(int index, int side, int step) {
+        BlockPos junction = start.add(dirX * index, 0, dirZ * index);
+        int sideX = -dirZ * side;
+        int sideZ = dirX * side;
+        int offset = (side == 1 ? right : -left) + step;
+        BlockPos center = junction.add(sideX * offset, 0, sideZ * offset);
+        // A branch's cross-section runs along the main heading
+        List<Op> ops = slice(center, dirX, dirZ, step, true);
+        return new Section(center, index, step, ops);
+    }
+
+    /**
+     * Operations for one cross-section. position counts from 1 along the tunnel or branch and drives the spacings
+     */
+    private List<Op> slice(BlockPos center, int acrossX, int acrossZ, int position, boolean branch) {
+        boolean pillar = !branch && profile.pillarSpacing > 0 && profile.width >= 3 && position % profile.pillarSpacing == 0;
+        // A pillar section has no free wall to stand a torch against
+        boolean torch = !pillar && profile.torchSpacing > 0 && position % profile.torchSpacing == 0;
+
+        List<Op> ops = new ArrayList<>();
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+
+        for (int i = 0; i < breakOffsets.length; i += 2) {
+            int across = breakOffsets[i];
+            // Pillars are the outer columns of the section, left standing
+            if (pillar && (across == left || across == right)) continue;
+
+            pos.set(center.getX() + acrossX * across, center.getY() + breakOffsets[i + 1], center.getZ() + acrossZ * across);
+            if (!isAir(pos)) {
+                ops.add(new Op(pos.toImmutable(), null));
+            }
+        }
+
+        if (profile.floor) {
+            for (int across = left; across <= right; across++) {
+                addPlace(ops, pos.set(center.getX() + acrossX * across, center.getY() + bottom - 1, center.getZ() + acrossZ * across), Blocks.STONE);
+            }
+        }
+
+        if (pillar) {
+            for (int up = bottom; up < bottom + profile.height; up++) {
+                addPlace(ops, pos.set(center.getX() + acrossX * left, center.getY() + up, center.getZ() + acrossZ * left), Blocks.COBBLESTONE);
+                addPlace(ops, pos.set(center.getX() + acrossX * right, center.getY() + up, center.getZ() + acrossZ * right), Blocks.COBBLESTONE);
+            }
+        }
+
+        if (torch) {
+            // On the floor against the right-hand wall, out of the walking line
+            addPlace(ops, pos.set(center.getX() + acrossX * right, center.getY() + bottom, center.getZ() + acrossZ * right), Blocks.TORCH);
+        }
+
+        return ops.isEmpty() ? Collections.emptyList() : ops;
+    }
+
+    /**
+     * Place only where there is air now, or will be once the section's breaks are done
+     */
+    private void addPlace(List<Op> ops, BlockPos pos, Block block) {
+        if (!isAir(pos) && !breaks(ops, pos)) return;
+        ops.add(new Op(pos.toImmutable(), block));
+    }
+
+    private static boolean breaks(List<Op> ops, BlockPos pos) {
+        for (Op op : ops) {
+            if (op.isBreak() && op.pos.equals(pos)) return true;
+        }
+        return false;
+    }
+
+    private boolean isAir(BlockPos pos) {
+        if (!world.isChunkLoaded(pos.getX() >> 4, pos.getZ() >> 4)) return false;
+        return world.getBlockState(pos).isAir();
+    }
+}
\ No newline at end of file
@@ -1,14 +1,16 @@
 package com.donut.client.macros.mining;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.mining.TunnelGenerator.Op;
+import com.donut.client.macros.mining.TunnelGenerator.Section;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.block.Block;
-import net.minecraft.block.Blocks;
 import net.minecraft.util.math.BlockPos;
 
 /**
  * TunnelsMiner - Creates efficient mining tunnels
  * Features: Straight tunnels, branch mining, automatic pillar placement
+ * Sections come from a TunnelGenerator; the next one is built while the current one is worked through.
  */
 public class TunnelsMiner extends Macro {
 
@@ -17,7 +19,10 @@ public class TunnelsMiner extends Macro {
     // State
     private TunnelState state = TunnelState.SETUP;
     private BlockPos tunnelStart = null;
-    private BlockPos currentTarget = null;
+    private TunnelGenerator generator = null;
+    private Section currentSection = null;
+    private Section nextSection = null;
+    private int opIndex = 0;
     private int tunnelLength = 0;
     private int branchCount = 0;
 
@@ -27,9 +32,13 @@ public class TunnelsMiner extends Macro {
     private int tunnelHeight = 3;
     private int tunnelWidth = 3;
     private int branchSpacing = 3; // Blocks between branches
+    private int branchLength = 8;
     private boolean placePillars = true;
+    private int pillarSpacing = 5;
     private boolean placeFloor = false;
     private boolean autoLight = false;
+    private int torchSpacing = 8;
+    private int opsPerTick = 4;
 
     // Direction
     private TunnelDirection direction = TunnelDirection.NORTH;
@@ -56,7 +65,14 @@ public class TunnelsMiner extends Macro {
     }
 
     public enum TunnelDirection {
-        NORTH, SOUTH, EAST, WEST
+        NORTH(0, -1), SOUTH(0, 1), EAST(1, 0), WEST(-1, 0);
+
+        final int dx, dz;
+
+        TunnelDirection(int dx, int dz) {
+            this.dx = dx;
+            this.dz = dz;
+        }
     }
 
     public TunnelsMiner() {
@@ -71,6 +87,7 @@ public class TunnelsMiner extends Macro {
         state = TunnelState.SETUP;
         tunnelStart = mc.player.getBlockPos();
         tunnelLength = 0;
+        resetSections();
     }
 
     @Override
@@ -81,6 +98,7 @@ public class TunnelsMiner extends Macro {
             tunnelStart = mc.player.getBlockPos();
         }
         tunnelLength = 0;
+        resetSections();
     }
 
     @Override
@@ -99,13 +117,9 @@ public class TunnelsMiner extends Macro {
                 setupTunnel();
                 break;
             case MINING_MAIN:
-                mineMainTunnel();
-                break;
             case MINING_BRANCH:
-                mineBranchTunnel();
-                break;
             case PLACING_PILLAR:
-                placePillar();
+                workSection();
                 break;
             case COMPLETE:
                 completeTunnel();
@@ -117,149 +131,91 @@ public class TunnelsMiner extends Macro {
      * Setup tunnel parameters
      */
     private void setupTunnel() {
-        System.out.println("[Tunnels] Starting tunnel: " + tunnelType);
+        TunnelGenerator.Profile profile = getProfile();
+        System.out.println("[Tunnels] Starting tunnel: " + tunnelType + " (" + profile + ")");
         System.out.println("[Tunnels] Direction: " + direction);
         System.out.println("[Tunnels] Length: " + targetLength);
 
+        generator = new TunnelGenerator(world(), profile, tunnelStart, direction.dx, direction.dz, targetLength);
+        resetSections();
         state = TunnelState.MINING_MAIN;
         tunnelLength = 0;
     }
 
     /**
-     * Mine main tunnel
+     * Settings as a generator profile. Only BRANCH tunnels get branches
      */
-    private void mineMainTunnel() {
-        // Check if tunnel complete
-        if (tunnelLength >= targetLength) {
-            state = TunnelState.COMPLETE;
-            return;
-        }
-
-        // Calculate next section to mine
-        BlockPos nextSection = getNextTunnelSection();
-
-        if (nextSection != null) {
-            // Mine the section (height x width)
-            mineSection(nextSection);
-            tunnelLength++;
-
-            // Place pillar if needed
-            if (placePillars && tunnelLength % 5 == 0) {
-                state = TunnelState.PLACING_PILLAR;
-                return;
-            }
-
-            // Create branch if needed
-            if (tunnelType == TunnelType.BRANCH && tunnelLength % branchSpacing == 0) {
-                state = TunnelState.MINING_BRANCH;
-                branchCount++;
-                return;
-            }
-        }
+    public TunnelGenerator.Profile getProfile() {
+        return new TunnelGenerator.Profile(tunnelWidth, tunnelHeight,
+                tunnelType == TunnelType.BRANCH ? branchSpacing : 0, branchLength,
+                placePillars ? pillarSpacing : 0, autoLight ? torchSpacing : 0, placeFloor);
     }
 
     /**
-     * Get next tunnel section position
+     * Work through up to opsPerTick operations of the current section, moving on to the next when it is done
      */
-    private BlockPos getNextTunnelSection() {
-        if (tunnelStart == null) return null;
-
-        int offset = tunnelLength;
-
-        switch (direction) {
-            case NORTH:
-                return tunnelStart.add(0, 0, -offset);
-            case SOUTH:
-                return tunnelStart.add(0, 0, offset);
-            case EAST:
-                return tunnelStart.add(offset, 0, 0);
-            case WEST:
-                return tunnelStart.add(-offset, 0, 0);
+    private void workSection() {
+        if (currentSection == null && !advanceSection()) {
+            state = TunnelState.COMPLETE;
+            return;
         }
 
-        return tunnelStart;
-    }
-
-    /**
-     * Mine a section (height x width x 1)
-     */
-    private void mineSection(BlockPos center) {
-        int halfWidth = tunnelWidth / 2;
-        int halfHeight = tunnelHeight / 2;
-
-        // Mine all blocks in section
-        for (int y = -halfHeight; y <= halfHeight; y++) {
-            for (int x = -halfWidth; x <= halfWidth; x++) {
-                BlockPos pos = center.add(x, y, 0);
-
-                Block block = mc.world.getBlockState(pos).getBlock();
-                if (!block.equals(Blocks.AIR)) {
-                    // Break block
-                    breakBlock(pos);
-                    blocksMined++;
+        int budget = opsPerTick;
+        while (budget > 0) {
+            if (opIndex >= currentSection.ops.size()) {
+                finishSection();
+                if (!advanceSection()) {
+                    state = TunnelState.COMPLETE;
+                    return;
                 }
+                continue;
             }
-        }
-
-        // Place floor if enabled
-        if (placeFloor) {
-            placeFloorSection(center);
-        }
 
-        // Place torches if enabled
-        if (autoLight && tunnelLength % 8 == 0) {
-            placeTorch(center);
+            Op op = currentSection.ops.get(opIndex++);
+            if (op.isBreak()) {
+                state = currentSection.isBranch() ? TunnelState.MINING_BRANCH : TunnelState.MINING_MAIN;
+                // Listed when the section was built; it may have been cleared since (or fallen in)
+                if (world().getBlockState(op.pos).isAir()) continue;
+                breakBlock(op.pos);
+                blocksMined++;
+            } else {
+                // Floor and torch placements share the placing state with pillars
+                state = TunnelState.PLACING_PILLAR;
+                placeBlock(op.pos, op.place);
+            }
+            budget--;
         }
     }
 
     /**
-     * Mine branch tunnel
+     * Make the pipelined section current and build the one after it. False once the tunnel is done
      */
-    private void mineBranchTunnel() {
-        System.out.println("[Tunnels] Mining branch " + branchCount);
-
-        // TODO: Implement branch mining logic
-        // Mine perpendicular tunnel from main tunnel
+    private boolean advanceSection() {
+        if (generator == null) return false;
 
-        // Return to main tunnel
-        state = TunnelState.MINING_MAIN;
-    }
+        currentSection = nextSection != null ? nextSection : (generator.hasNext() ? generator.next() : null);
+        nextSection = generator.hasNext() ? generator.next() : null;
+        opIndex = 0;
 
-    /**
-     * Place support pillar
-     */
-    private void placePillar() {
-        System.out.println("[Tunnels] Placing pillar at length " + tunnelLength);
-
-        BlockPos pillarPos = getNextTunnelSection();
-        if (pillarPos != null) {
-            // Place pillar blocks (cobblestone or stone)
-            for (int y = -1; y < tunnelHeight; y++) {
-                placeBlock(pillarPos.add(0, y, 0), Blocks.COBBLESTONE);
-            }
+        if (currentSection == null) return false;
+        if (currentSection.isBranch() && currentSection.branchStep == 1) {
+            branchCount++;
+            System.out.println("[Tunnels] Mining branch " + branchCount);
         }
-
-        state = TunnelState.MINING_MAIN;
+        return true;
     }
 
-    /**
-     * Place floor section
-     */
-    private void placeFloorSection(BlockPos center) {
-        int halfWidth = tunnelWidth / 2;
-
-        for (int x = -halfWidth; x <= halfWidth; x++) {
-            BlockPos floorPos = center.add(x, -tunnelHeight/2 - 1, 0);
-            placeBlock(floorPos, Blocks.STONE);
+    private void finishSection() {
+        if (!currentSection.isBranch()) {
+            tunnelLength = currentSection.index + 1;
         }
+        currentSection = null;
     }
 
-    /**
-     * Place torch
-     */
-    private void placeTorch(BlockPos center) {
-        BlockPos torchPos = center.add(0, 0, 0);
-        placeBlock(torchPos, Blocks.TORCH);
+    private void resetSections() {
+        currentSection = null;
+        nextSection = null;
+        opIndex = 0;
     }
 
     /**
@@ -297,6 +253,8 @@ public class TunnelsMiner extends Macro {
         state = TunnelState.SETUP;
         tunnelStart = mc.player.getBlockPos();
         tunnelLength = 0;
+        generator = null;
+        resetSections();
     }
 
     /**
@@ -352,6 +310,10 @@ public class TunnelsMiner extends Macro {
         this.branchSpacing = spacing;
     }
 
+    public void setBranchLength(int length) {
+        this.branchLength = length;
+    }
+
     public void setPlacePillars(boolean place) {
         this.placePillars = place;
     }
@@ -364,6 +326,31 @@ public class TunnelsMiner extends Macro {
         this.autoLight = auto;
     }
 
+    public void setOpsPerTick(int ops) {
+        this.opsPerTick = Math.max(1, ops);
+    }
+
+    /**
+     * Apply a profile descriptor such as "3x3 b3:8 p5 t8 f" (see TunnelGenerator.Profile.parse)
+     */
+    public void setProfile(String descriptor) {
+        TunnelGenerator.Profile profile = TunnelGenerator.Profile.parse(descriptor);
+        this.tunnelWidth = profile.width;
+        this.tunnelHeight = profile.height;
+        if (profile.branchSpacing > 0) {
+            this.tunnelType = TunnelType.BRANCH;
+            this.branchSpacing = profile.branchSpacing;
+            this.branchLength = profile.branchLength;
+        } else if (tunnelType == TunnelType.BRANCH) {
+            this.tunnelType = TunnelType.STRAIGHT;
+        }
+        this.placePillars = profile.pillarSpacing > 0;
+        if (placePillars) this.pillarSpacing = profile.pillarSpacing;
+        this.autoLight = profile.torchSpacing > 0;
+        if (autoLight) this.torchSpacing = profile.torchSpacing;
+        this.placeFloor = profile.floor;
+    }
+
     public void setDirection(TunnelDirection dir) {
         this.direction = dir;
     }
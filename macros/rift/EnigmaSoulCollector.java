@@ -1,6 +1,9 @@
 package com.donut.client.macros.rift;
 
+import com.donut.client.data.RouteData;
+import com.donut.client.data.RouteStore;
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
@@ -58,6 +61,9 @@ public class EnigmaSoulCollector extends Macro {
     public void onTick() {
         if (!enabled || mc.player == null || mc.world == null) return;
 
+        // Waiting on a scheduled step
+        if (!timeline().isIdle()) return;
+
         switch (state) {
             case IDLE:
                 break;
@@ -77,65 +83,15 @@ public class EnigmaSoulCollector extends Macro {
      * Load all 42 Enigma Soul locations
      */
     private void loadEnigmaSouls() {
-        // Wizard Tower (5 souls)
-        souls.add(new EnigmaSoul("Wizard Tower Top", new BlockPos(-43, 120, 73), "wizardtower1"));
-        souls.add(new EnigmaSoul("Wizard Tower Mid", new BlockPos(-50, 100, 65), "wizardtower2"));
-        souls.add(new EnigmaSoul("Wizard Tower Base", new BlockPos(-38, 85, 80), "wizardtower3"));
-        souls.add(new EnigmaSoul("Wizard Tower Secret", new BlockPos(-45, 95, 55), "wizardtower4"));
-        souls.add(new EnigmaSoul("Wizard Tower Bridge", new BlockPos(-55, 90, 70), "wizardtower5"));
-
-        // Village Plaza (6 souls)
-        souls.add(new EnigmaSoul("Plaza Center", new BlockPos(-100, 70, -50), "plaza1"));
-        souls.add(new EnigmaSoul("Plaza Fountain", new BlockPos(-95, 72, -45), "plaza2"));
-        souls.add(new EnigmaSoul("Plaza Rooftop", new BlockPos(-110, 85, -55), "plaza3"));
-        souls.add(new EnigmaSoul("Plaza Basement", new BlockPos(-105, 65, -48), "plaza4"));
-        souls.add(new EnigmaSoul("Plaza Garden", new BlockPos(-90, 71, -60), "plaza5"));
-        souls.add(new EnigmaSoul("Plaza Bell Tower", new BlockPos(-108, 95, -52), "plaza6"));
-
-        // West Village (5 souls)
-        souls.add(new EnigmaSoul("West House 1", new BlockPos(-150, 73, -20), "west1"));
-        souls.add(new EnigmaSoul("West House 2", new BlockPos(-165, 75, -15), "west2"));
-        souls.add(new EnigmaSoul("West Barn", new BlockPos(-155, 72, -30), "west3"));
-        souls.add(new EnigmaSoul("West Tree", new BlockPos(-170, 80, -25), "west4"));
-        souls.add(new EnigmaSoul("West Underground", new BlockPos(-160, 60, -18), "west5"));
-
-        // Dreadfarm (5 souls)
-        souls.add(new EnigmaSoul("Dreadfarm House", new BlockPos(30, 75, -120), "dread1"));
-        souls.add(new EnigmaSoul("Dreadfarm Barn", new BlockPos(25, 73, -130), "dread2"));
-        souls.add(new EnigmaSoul("Dreadfarm Field", new BlockPos(40, 71, -125), "dread3"));
-        souls.add(new EnigmaSoul("Dreadfarm Well", new BlockPos(35, 72, -115), "dread4"));
-        souls.add(new EnigmaSoul("Dreadfarm Silo", new BlockPos(20, 85, -135), "dread5"));
-
-        // Stillgore Château (6 souls)
-        souls.add(new EnigmaSoul("Château Entrance", new BlockPos(150, 80, 200), "chateau1"));
-        souls.add(new EnigmaSoul("Château Ballroom", new BlockPos(160, 85, 210), "chateau2"));
-        souls.add(new EnigmaSoul("Château Library", new BlockPos(155, 90, 205), "chateau3"));
-        souls.add(new EnigmaSoul("Château Tower", new BlockPos(165, 100, 215), "chateau4"));
-        souls.add(new EnigmaSoul("Château Garden", new BlockPos(145, 78, 195), "chateau5"));
-        souls.add(new EnigmaSoul("Château Dungeon", new BlockPos(158, 70, 208), "chateau6"));
-
-        // Black Lagoon (5 souls)
-        souls.add(new EnigmaSoul("Lagoon Shore", new BlockPos(-200, 65, 150), "lagoon1"));
-        souls.add(new EnigmaSoul("Lagoon Island", new BlockPos(-210, 70, 160), "lagoon2"));
-        souls.add(new EnigmaSoul("Lagoon Cave", new BlockPos(-205, 60, 155), "lagoon3"));
-        souls.add(new EnigmaSoul("Lagoon Tree", new BlockPos(-195, 80, 145), "lagoon4"));
-        souls.add(new EnigmaSoul("Lagoon Depths", new BlockPos(-215, 55, 165), "lagoon5"));
-
-        // Colosseum (4 souls)
-        souls.add(new EnigmaSoul("Colosseum Arena", new BlockPos(0, 75, 300), "colosseum1"));
-        souls.add(new EnigmaSoul("Colosseum Stands", new BlockPos(10, 85, 310), "colosseum2"));
-        souls.add(new EnigmaSoul("Colosseum Entrance", new BlockPos(-5, 73, 295), "colosseum3"));
-        souls.add(new EnigmaSoul("Colosseum Underground", new BlockPos(5, 65, 305), "colosseum4"));
-
-        // Living Cave (3 souls)
-        souls.add(new EnigmaSoul("Cave Entrance", new BlockPos(100, 50, -200), "cave1"));
-        souls.add(new EnigmaSoul("Cave Depths", new BlockPos(110, 45, -210), "cave2"));
-        souls.add(new EnigmaSoul("Cave Secret", new BlockPos(105, 40, -205), "cave3"));
-
-        // Mirrorverse (3 souls)
-        souls.add(new EnigmaSoul("Mirror Center", new BlockPos(-300, 80, -300), "mirror1"));
-        souls.add(new EnigmaSoul("Mirror Edge", new BlockPos(-310, 82, -310), "mirror2"));
-        souls.add(new EnigmaSoul("Mirror Hidden", new BlockPos(-305, 78, -305), "mirror3"));
+        RouteData route = RouteStore.getInstance().get("rift/enigma_souls");
+        if (route == null) {
+            System.err.println("[Enigma Souls] Missing route: rift/enigma_souls");
+            return;
+        }
+
+        for (int i = 0; i < route.size(); i++) {
+            souls.add(new EnigmaSoul(route.getLabel(i), route.getWaypoint(i), route.getTag(i)));
+        }
 
         System.out.println("[Enigma Souls] Loaded " + souls.size() + " soul locations");
     }
@@ -184,21 +140,19 @@ public class EnigmaSoulCollector extends Macro {
 
         // TODO: Right click on soul entity/block
 
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        // Mark as collected
-        collectedSouls.add(soul.id);
-        soulsCollected++;
+        timeline().schedule(
+                Actions.delayMillis(500),
+                Actions.run(() -> {
+                    // Mark as collected
+                    collectedSouls.add(soul.id);
+                    soulsCollected++;
 
-        System.out.println("[Enigma Souls] Collected! (" + soulsCollected + "/" + souls.size() + ")");
+                    System.out.println("[Enigma Souls] Collected! (" + soulsCollected + "/" + souls.size() + ")");
 
-        // Move to next soul
-        currentSoulIndex++;
-        state = CollectorState.NAVIGATING;
+                    // Move to next soul
+                    currentSoulIndex++;
+                    state = CollectorState.NAVIGATING;
+                }));
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.donut.client.macros.rift;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
@@ -74,6 +75,9 @@ public class MontezumaSoulPieces extends Macro {
     public void onTick() {
         if (!enabled || mc.player == null || mc.world == null) return;
 
+        // Waiting on a scheduled step
+        if (!timeline().isIdle()) return;
+
         switch (state) {
             case IDLE:
                 break;
@@ -257,19 +261,17 @@ public class MontezumaSoulPieces extends Macro {
         // TODO: Check inventory for soul pieces
         // TODO: Pick up nearby items
 
-        try {
-            Thread.sleep(300);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        // Check for soul piece drop
-        if (checkForSoulPiece()) {
-            soulPiecesObtained++;
-            System.out.println("[Montezuma] ★ SOUL PIECE OBTAINED! ★ Total: " + soulPiecesObtained);
-        }
+        timeline().schedule(
+                Actions.delayMillis(300),
+                Actions.run(() -> {
+                    // Check for soul piece drop
+                    if (checkForSoulPiece()) {
+                        soulPiecesObtained++;
+                        System.out.println("[Montezuma] ★ SOUL PIECE OBTAINED! ★ Total: " + soulPiecesObtained);
+                    }
 
-        state = MontezumaState.HUNTING_MOBS;
+                    state = MontezumaState.HUNTING_MOBS;
+                }));
     }
 
     /**
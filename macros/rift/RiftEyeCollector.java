@@ -1,6 +1,9 @@
 package com.donut.client.macros.rift;
 
+import com.donut.client.data.RouteData;
+import com.donut.client.data.RouteStore;
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
@@ -73,6 +76,9 @@ public class RiftEyeCollector extends Macro {
     public void onTick() {
         if (!enabled || mc.player == null || mc.world == null) return;
 
+        // Waiting on a scheduled step
+        if (!timeline().isIdle()) return;
+
         switch (state) {
             case IDLE:
                 break;
@@ -92,33 +98,35 @@ public class RiftEyeCollector extends Macro {
      * Load all eye locations
      */
     private void loadEyeLocations() {
-        // Yellow eyes (Dreadfarm) - 4 eyes
-        eyes.add(new RiftEye("Dreadfarm Barn Eye", new BlockPos(25, 78, -130), EyeType.YELLOW));
-        eyes.add(new RiftEye("Dreadfarm Field Eye", new BlockPos(35, 72, -125), EyeType.YELLOW));
-        eyes.add(new RiftEye("Dreadfarm House Eye", new BlockPos(30, 80, -120), EyeType.YELLOW));
-        eyes.add(new RiftEye("Dreadfarm Well Eye", new BlockPos(38, 74, -115), EyeType.YELLOW));
-
-        // Blue eyes (Stillgore Château) - 5 eyes
-        eyes.add(new RiftEye("Château Entrance Eye", new BlockPos(150, 82, 200), EyeType.BLUE));
-        eyes.add(new RiftEye("Château Ballroom Eye", new BlockPos(160, 88, 210), EyeType.BLUE));
-        eyes.add(new RiftEye("Château Library Eye", new BlockPos(155, 92, 205), EyeType.BLUE));
-        eyes.add(new RiftEye("Château Tower Eye", new BlockPos(165, 102, 215), EyeType.BLUE));
-        eyes.add(new RiftEye("Château Garden Eye", new BlockPos(145, 80, 195), EyeType.BLUE));
-
-        // Red eyes (Colosseum) - 3 eyes
-        eyes.add(new RiftEye("Colosseum Arena Eye", new BlockPos(0, 77, 300), EyeType.RED));
-        eyes.add(new RiftEye("Colosseum Stands Eye", new BlockPos(10, 87, 310), EyeType.RED));
-        eyes.add(new RiftEye("Colosseum Underground Eye", new BlockPos(5, 67, 305), EyeType.RED));
-
-        // Green eyes (Living Cave) - 4 eyes
-        eyes.add(new RiftEye("Cave Entrance Eye", new BlockPos(100, 52, -200), EyeType.GREEN));
-        eyes.add(new RiftEye("Cave Depths Eye", new BlockPos(110, 47, -210), EyeType.GREEN));
-        eyes.add(new RiftEye("Cave Secret Eye", new BlockPos(105, 42, -205), EyeType.GREEN));
-        eyes.add(new RiftEye("Cave Crystal Eye", new BlockPos(115, 50, -215), EyeType.GREEN));
+        RouteData route = RouteStore.getInstance().get("rift/eyes");
+        if (route == null) {
+            System.err.println("[Eye Collector] Missing route: rift/eyes");
+            return;
+        }
+
+        for (int i = 0; i < route.size(); i++) {
+            EyeType type = parseEyeType(route.getTag(i));
+            if (type == null) {
+                System.err.println("[Eye Collector] Skipping waypoint " + (i + 1) + ", unknown eye type: " + route.getTag(i));
+                continue;
+            }
+            eyes.add(new RiftEye(route.getLabel(i), route.getWaypoint(i), type));
+        }
 
         System.out.println("[Eye Collector] Loaded " + eyes.size() + " eye locations");
     }
 
+    /**
+     * Eye colour from a route tag, or null when missing or not a colour
+     */
+    private static EyeType parseEyeType(String tag) {
+        if (tag == null) return null;
+        for (EyeType type : EyeType.values()) {
+            if (type != EyeType.ALL && type.name().equalsIgnoreCase(tag)) return type;
+        }
+        return null;
+    }
+
     /**
      * Navigate to next eye
      */
@@ -162,21 +170,19 @@ public class RiftEyeCollector extends Macro {
 
         // TODO: Right click on eye entity
 
-        try {
-            Thread.sleep(300);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        // Mark as collected
-        eyesByType.put(eye.type, eyesByType.get(eye.type) + 1);
-        eyesCollected++;
+        timeline().schedule(
+                Actions.delayMillis(300),
+                Actions.run(() -> {
+                    // Mark as collected
+                    eyesByType.put(eye.type, eyesByType.get(eye.type) + 1);
+                    eyesCollected++;
 
-        System.out.println("[Eye Collector] Collected " + eye.type + " eye! (" + eyesCollected + "/" + eyes.size() + ")");
+                    System.out.println("[Eye Collector] Collected " + eye.type + " eye! (" + eyesCollected + "/" + eyes.size() + ")");
 
-        // Move to next eye
-        currentEyeIndex++;
-        state = EyeState.NAVIGATING;
+                    // Move to next eye
+                    currentEyeIndex++;
+                    state = EyeState.NAVIGATING;
+                }));
     }
 
     /**
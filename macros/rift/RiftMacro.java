@@ -91,6 +91,7 @@ public class RiftMacro extends Macro {
         }
 
         if (currentMacro != null) {
+            shareTimeline(currentMacro);
             currentMacro.start();
             currentMacro.onEnable();
         }
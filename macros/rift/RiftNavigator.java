@@ -1,5 +1,7 @@
 package com.donut.client.macros.rift;
 
+import com.donut.client.data.RouteData;
+import com.donut.client.data.RouteStore;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
@@ -30,21 +32,15 @@ public class RiftNavigator {
      * Load all Rift waypoints
      */
     private void loadWaypoints() {
-        // Main areas
-        waypoints.put("Wizard Tower", new BlockPos(-43, 90, 73));
-        waypoints.put("Village Plaza", new BlockPos(-100, 70, -50));
-        waypoints.put("West Village", new BlockPos(-150, 73, -20));
-        waypoints.put("Dreadfarm", new BlockPos(30, 75, -120));
-        waypoints.put("Stillgore Château", new BlockPos(150, 80, 200));
-        waypoints.put("Black Lagoon", new BlockPos(-200, 65, 150));
-        waypoints.put("Colosseum", new BlockPos(0, 75, 300));
-        waypoints.put("Living Cave", new BlockPos(100, 50, -200));
-        waypoints.put("Mirrorverse", new BlockPos(-300, 80, -300));
-
-        // Utility locations
-        waypoints.put("Barry Center", new BlockPos(-85, 72, -40));
-        waypoints.put("Motes Grubber", new BlockPos(-102, 70, -48));
-        waypoints.put("Rift Portal", new BlockPos(-90, 70, -55));
+        RouteData route = RouteStore.getInstance().get("rift/waypoints");
+        if (route == null) {
+            System.err.println("[Rift Navigator] Missing route: rift/waypoints");
+            return;
+        }
+
+        for (int i = 0; i < route.size(); i++) {
+            waypoints.put(route.getLabel(i), route.getWaypoint(i));
+        }
 
         System.out.println("[Rift Navigator] Loaded " + waypoints.size() + " waypoints");
     }
@@ -1,6 +1,7 @@
 package com.donut.client.macros.rift;
 
 import com.donut.client.macros.Macro;
+import com.donut.client.macros.timeline.Actions;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.Entity;
 import net.minecraft.util.math.Vec3d;
@@ -86,6 +87,9 @@ public class RiftTimecharmFarmer extends Macro {
     public void onTick() {
         if (!enabled || mc.player == null || mc.world == null) return;
 
+        // Waiting on a scheduled step
+        if (!timeline().isIdle()) return;
+
         switch (state) {
             case IDLE:
                 break;
@@ -194,22 +198,20 @@ public class RiftTimecharmFarmer extends Macro {
 
         // TODO: Check inventory for timecharms
 
-        try {
-            Thread.sleep(300);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-
-        // Check for timecharm drop
-        if (checkForTimecharm()) {
-            TimecharmType type = getTimecharmType();
-            charmsByType.put(type, charmsByType.get(type) + 1);
-            timecharmsObtained++;
+        timeline().schedule(
+                Actions.delayMillis(300),
+                Actions.run(() -> {
+                    // Check for timecharm drop
+                    if (checkForTimecharm()) {
+                        TimecharmType type = getTimecharmType();
+                        charmsByType.put(type, charmsByType.get(type) + 1);
+                        timecharmsObtained++;
 
-            System.out.println("[Timecharm Farmer] ★ TIMECHARM OBTAINED! ★ (" + type + ") Total: " + timecharmsObtained);
-        }
+                        System.out.println("[Timecharm Farmer] ★ TIMECHARM OBTAINED! ★ (" + type + ") Total: " + timecharmsObtained);
+                    }
 
-        state = FarmerState.FARMING;
+                    state = FarmerState.FARMING;
+                }));
     }
 
     /**
@@ -0,0 +1,24 @@
+package com.donut.client.macros.timeline;
+
+/**
+ * One step on an ActionTimeline
+ * - Advanced once per client tick until it reports it is done
+ * - Actions hold their own progress, so build a fresh one each time it is scheduled
+ */
+public interface Action {
+
+    /**
+     * Called right before the first tick()
+     */
+    default void start() {}
+
+    /**
+     * Advance by one client tick. Returns true once finished
+     */
+    boolean tick();
+
+    /**
+     * Called if the action is dropped before it finished
+     */
+    default void cancel() {}
+}
\ No newline at end of file
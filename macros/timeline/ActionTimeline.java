@@ -0,0 +1,86 @@
+package com.donut.client.macros.timeline;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs scheduled actions on the client tick instead of sleeping the client thread
+ * - Every scheduled action runs side by side; use Actions.sequence for steps in order
+ * - Actions scheduled while the timeline ticks start on the next tick
+ * - A failing action is logged and dropped without touching the others
+ */
+public class ActionTimeline {
+
+    private final List<Action> running = new ArrayList<>();
+    private final List<Action> incoming = new ArrayList<>();
+
+    /**
+     * Start an action on the next tick
+     */
+    public void schedule(Action action) {
+        incoming.add(action);
+    }
+
+    /**
+     * Run the steps one after another
+     */
+    public void schedule(Action... steps) {
+        schedule(Actions.sequence(steps));
+    }
+
+    /**
+     * Advance every running action by one tick
+     */
+    public void tick() {
+        if (!incoming.isEmpty()) {
+            List<Action> started = new ArrayList<>(incoming);
+            incoming.clear();
+            for (Action action : started) {
+                try {
+                    action.start();
+                    running.add(action);
+                } catch (Exception e) {
+                    System.err.println("[Timeline] Action error: " + e.getMessage());
+                }
+            }
+        }
+
+        for (int i = 0; i < running.size(); i++) {
+            boolean done;
+            try {
+                done = running.get(i).tick();
+            } catch (Exception e) {
+                System.err.println("[Timeline] Action error: " + e.getMessage());
+                done = true;
+            }
+
+            if (done) {
+                running.remove(i--);
+            }
+        }
+    }
+
+    /**
+     * Drop every action, pending ones included
+     */
+    public void cancelAll() {
+        List<Action> cancelled = new ArrayList<>(running);
+        running.clear();
+        incoming.clear();
+
+        for (Action action : cancelled) {
+            action.cancel();
+        }
+    }
+
+    /**
+     * True when nothing is running or waiting to start
+     */
+    public boolean isIdle() {
+        return running.isEmpty() && incoming.isEmpty();
+    }
+
+    public int getRunningCount() {
+        return running.size() + incoming.size();
+    }
+}
\ No newline at end of file
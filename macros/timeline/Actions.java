@@ -0,0 +1,223 @@
+package com.donut.client.macros.timeline;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Building blocks for ActionTimeline
+ * - run: do something once
+ * - delay / delayMillis: wait a number of client ticks
+ * - waitUntil: wait for a condition, checked every tick
+ * - sequence / parallel / repeat: combine steps
+ * - timeout: give up on a step after a number of ticks
+ */
+public final class Actions {
+
+    public static final long MILLIS_PER_TICK = 50;
+
+    private Actions() {}
+
+    /**
+     * Run once and finish on the same tick
+     */
+    public static Action run(Runnable runnable) {
+        return () -> {
+            runnable.run();
+            return true;
+        };
+    }
+
+    /**
+     * Finish after the given number of ticks (0 finishes immediately)
+     */
+    public static Action delay(int ticks) {
+        return new Action() {
+            private int elapsed;
+
+            @Override
+            public void start() {
+                elapsed = 0;
+            }
+
+            @Override
+            public boolean tick() {
+                return ++elapsed >= ticks;
+            }
+        };
+    }
+
+    /**
+     * Delay rounded up to whole ticks
+     */
+    public static Action delayMillis(long millis) {
+        return delay((int) ((Math.max(0, millis) + MILLIS_PER_TICK - 1) / MILLIS_PER_TICK));
+    }
+
+    /**
+     * Finish on the first tick the condition holds
+     */
+    public static Action waitUntil(BooleanSupplier condition) {
+        return condition::getAsBoolean;
+    }
+
+    /**
+     * Steps in order. A step that finishes hands over to the next one on the same tick
+     */
+    public static Action sequence(Action... steps) {
+        return new Sequence(Arrays.asList(steps));
+    }
+
+    /**
+     * All steps side by side, finished once every one of them is
+     */
+    public static Action parallel(Action... steps) {
+        return new Parallel(Arrays.asList(steps));
+    }
+
+    /**
+     * Run a fresh step from the factory the given number of times, one after another
+     */
+    public static Action repeat(int times, Supplier<Action> factory) {
+        Action[] steps = new Action[Math.max(0, times)];
+        for (int i = 0; i < steps.length; i++) {
+            steps[i] = lazy(factory);
+        }
+        return new Sequence(Arrays.asList(steps));
+    }
+
+    /**
+     * Cancel the step if it is still running after the given number of ticks, then call onTimeout
+     */
+    public static Action timeout(Action step, int ticks, Runnable onTimeout) {
+        return new Action() {
+            private int elapsed;
+
+            @Override
+            public void start() {
+                elapsed = 0;
+                step.start();
+            }
+
+            @Override
+            public boolean tick() {
+                if (step.tick()) return true;
+
+                if (++elapsed >= ticks) {
+                    step.cancel();
+                    if (onTimeout != null) onTimeout.run();
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public void cancel() {
+                step.cancel();
+            }
+        };
+    }
+
+    /**
+     * Build the step when it starts, so repeated steps don't share state
+     */
+    private static Action lazy(Supplier<Action> factory) {
+        return new Action() {
+            private Action step;
+
+            @Override
+            public void start() {
+                step = factory.get();
+                step.start();
+            }
+
+            @Override
+            public boolean tick() {
+                return step.tick();
+            }
+
+            @Override
+            public void cancel() {
+                if (step != null) step.cancel();
+            }
+        };
+    }
+
+    private static class Sequence implements Action {
+        private final List<Action> steps;
+        private int index;
+        private boolean started;
+
+        Sequence(List<Action> steps) {
+            this.steps = steps;
+        }
+
+        @Override
+        public void start() {
+            index = 0;
+            started = false;
+        }
+
+        @Override
+        public boolean tick() {
+            while (index < steps.size()) {
+                Action step = steps.get(index);
+                if (!started) {
+                    step.start();
+                    started = true;
+                }
+
+                if (!step.tick()) return false;
+
+                index++;
+                started = false;
+            }
+            return true;
+        }
+
+        @Override
+        public void cancel() {
+            if (started && index < steps.size()) {
+                steps.get(index).cancel();
+            }
+        }
+    }
+
+    private static class Parallel implements Action {
+        private final List<Action> steps;
+        private final boolean[] done;
+
+        Parallel(List<Action> steps) {
+            this.steps = steps;
+            this.done = new boolean[steps.size()];
+        }
+
+        @Override
+        public void start() {
+            Arrays.fill(done, false);
+            for (Action step : steps) {
+                step.start();
+            }
+        }
+
+        @Override
+        public boolean tick() {
+            boolean finished = true;
+            for (int i = 0; i < steps.size(); i++) {
+                if (done[i]) continue;
+
+                done[i] = steps.get(i).tick();
+                finished &= done[i];
+            }
+            return finished;
+        }
+
+        @Override
+        public void cancel() {
+            for (int i = 0; i < steps.size(); i++) {
+                if (!done[i]) steps.get(i).cancel();
+            }
+        }
+    }
+}
\ No newline at end of file
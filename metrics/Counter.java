@@ -0,0 +1,37 @@
+package com.donut.client.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Striped counter: increments from any thread never contend on one field
+ */
+public class Counter extends Metric {
+
+    private final LongAdder adder = new LongAdder();
+
+    Counter(String name) {
+        super(name, true);
+    }
+
+    public void increment() {
+        adder.increment();
+    }
+
+    public void add(long amount) {
+        adder.add(amount);
+    }
+
+    public long get() {
+        return adder.sum();
+    }
+
+    @Override
+    public double value() {
+        return adder.sum();
+    }
+
+    @Override
+    public void reset() {
+        adder.reset();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.donut.client.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Value read on demand from existing state (a field, a collection size, ...)
+ */
+public class Gauge extends Metric {
+
+    private final DoubleSupplier supplier;
+
+    Gauge(String name, DoubleSupplier supplier, boolean cumulative) {
+        super(name, cumulative);
+        this.supplier = supplier;
+    }
+
+    @Override
+    public double value() {
+        return supplier.getAsDouble();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.donut.client.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear latency histogram in the style of HdrHistogram
+ * - Values in nanoseconds; every power of two is split into 16 sub-buckets (~6% error)
+ * - Recording is one array increment, no locks and no allocation
+ * - Readers copy the counts with snapshot() and diff two snapshots for a recent window
+ */
+public class LatencyHistogram extends Metric {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+
+    // Values past 2^40 ns (~18 minutes) share the last bucket
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    public static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BITS + 2) * SUB_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    LatencyHistogram(String name) {
+        super(name, true);
+    }
+
+    public void record(long nanos) {
+        counts.incrementAndGet(bucketOf(Math.min(Math.max(nanos, 0), MAX_VALUE)));
+    }
+
+    /**
+     * Copy of the bucket counts. Not atomic across buckets, which is fine for display
+     */
+    public long[] snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return copy;
+    }
+
+    /**
+     * Samples recorded so far
+     */
+    @Override
+    public double value() {
+        return total(snapshot());
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    /**
+     * Value at quantile q (0..1) of a snapshot, in nanoseconds, or -1 if it is empty
+     */
+    public static long percentile(long[] snapshot, double q) {
+        long total = total(snapshot);
+        if (total == 0) return -1;
+
+        long rank = Math.max(1, (long) Math.ceil(q * total));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return midpointOf(i);
+            }
+        }
+        return midpointOf(snapshot.length - 1);
+    }
+
+    /**
+     * Per-bucket difference of two snapshots: the samples recorded between them
+     */
+    public static long[] delta(long[] current, long[] previous) {
+        long[] delta = new long[current.length];
+        for (int i = 0; i < current.length; i++) {
+            delta[i] = Math.max(0, current[i] - previous[i]);
+        }
+        return delta;
+    }
+
+    public static long total(long[] snapshot) {
+        long total = 0;
+        for (long count : snapshot) {
+            total += count;
+        }
+        return total;
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+        return (exponent - SUB_BITS + 1) * SUB_COUNT + sub;
+    }
+
+    private static long midpointOf(int bucket) {
+        if (bucket < SUB_COUNT) {
+            return bucket;
+        }
+
+        int exponent = bucket / SUB_COUNT + SUB_BITS - 1;
+        int sub = bucket % SUB_COUNT;
+        long width = 1L << (exponent - SUB_BITS);
+        return (SUB_COUNT + sub) * width + width / 2;
+    }
+}
\ No newline at end of file
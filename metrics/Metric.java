@@ -0,0 +1,32 @@
+package com.donut.client.metrics;
+
+/**
+ * A named value in the metric registry
+ * - Readers call value() from any thread without locking
+ * - Cumulative metrics only grow during a session, so readers may turn them into rates
+ */
+public abstract class Metric {
+
+    private final String name;
+    private final boolean cumulative;
+
+    protected Metric(String name, boolean cumulative) {
+        this.name = name;
+        this.cumulative = cumulative;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isCumulative() {
+        return cumulative;
+    }
+
+    public abstract double value();
+
+    /**
+     * Start a new session. Gauges read someone else's state and ignore this
+     */
+    public void reset() {}
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.donut.client.metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Central registry for live statistics
+ * - Metrics are grouped by owner (usually a macro name), kept in registration order
+ * - Registering the same owner/name twice returns the existing metric
+ * - Groups are copy-on-write, so the HUD iterates them without locking
+ */
+public class MetricRegistry {
+
+    private static MetricRegistry instance;
+
+    private final Map<String, List<Metric>> groups = new ConcurrentHashMap<>();
+
+    private MetricRegistry() {}
+
+    public static synchronized MetricRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricRegistry();
+        }
+        return instance;
+    }
+
+    public Counter counter(String owner, String name) {
+        return register(owner, name, Counter.class, () -> new Counter(name));
+    }
+
+    public LatencyHistogram histogram(String owner, String name) {
+        return register(owner, name, LatencyHistogram.class, () -> new LatencyHistogram(name));
+    }
+
+    /**
+     * Gauge over existing state. Cumulative gauges only grow during a session and get a rate
+     */
+    public Gauge gauge(String owner, String name, DoubleSupplier supplier, boolean cumulative) {
+        return register(owner, name, Gauge.class, () -> new Gauge(name, supplier, cumulative));
+    }
+
+    /**
+     * Metrics of an owner in registration order (empty if none)
+     */
+    public List<Metric> getMetrics(String owner) {
+        List<Metric> metrics = groups.get(owner);
+        return metrics == null ? Collections.emptyList() : Collections.unmodifiableList(metrics);
+    }
+
+    /**
+     * Start a new session for every metric of an owner
+     */
+    public void reset(String owner) {
+        for (Metric metric : getMetrics(owner)) {
+            metric.reset();
+        }
+    }
+
+    private synchronized <T extends Metric> T register(String owner, String name, Class<T> type, Supplier<T> factory) {
+        List<Metric> metrics = groups.computeIfAbsent(owner, k -> new CopyOnWriteArrayList<>());
+
+        for (Metric metric : metrics) {
+            if (!metric.getName().equals(name)) continue;
+            if (!type.isInstance(metric)) {
+                throw new IllegalArgumentException("Metric " + owner + "." + name + " is already a "
+                        + metric.getClass().getSimpleName());
+            }
+            return type.cast(metric);
+        }
+
+        T metric = factory.get();
+        metrics.add(metric);
+        return metric;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,246 @@
+package com.donut.client.metrics;
+
+import net.fabricmc.loader.api.FabricLoader;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in instrumenting profiler for the client's own work
+ * - push(name)/pop() around a section; nesting builds a call tree per distinct stack
+ * - Finished spans (stack id, total ns, self ns) go into a fixed ring buffer
+ * - exportCollapsed() writes "a;b;c self_us" lines for flame graph tools
+ * Costs one volatile read per call while disabled; no allocation once a stack has been seen.
+ */
+public final class Profiler {
+
+    private static final int CAPACITY = 1 << 16;
+    private static final int MASK = CAPACITY - 1;
+    private static final int MAX_DEPTH = 64;
+
+    private static volatile boolean enabled = false;
+    private static volatile int generation = 0;
+
+    // Call tree; frames are looked up by id when exporting
+    private static final Frame ROOT = new Frame(null, "client", -1);
+    private static final List<Frame> frames = new CopyOnWriteArrayList<>();
+
+    // Ring buffer of finished spans. A slot being written during export may be torn, which only skews one sample
+    private static final int[] spanFrames = new int[CAPACITY];
+    private static final long[] spanTotals = new long[CAPACITY];
+    private static final long[] spanSelfs = new long[CAPACITY];
+    private static final AtomicLong cursor = new AtomicLong();
+
+    private static final ThreadLocal<ThreadStack> stacks = ThreadLocal.withInitial(ThreadStack::new);
+
+    private Profiler() {}
+
+    /**
+     * Clear the buffer and start recording
+     */
+    public static void start() {
+        cursor.set(0);
+        generation++;
+        enabled = true;
+    }
+
+    public static void stop() {
+        enabled = false;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enter a section. Must be paired with pop(), ideally in a finally block
+     */
+    public static void push(String name) {
+        if (!enabled) return;
+
+        ThreadStack stack = stacks.get();
+        stack.sync();
+
+        if (stack.depth == MAX_DEPTH) {
+            stack.overflow++;
+            return;
+        }
+
+        Frame parent = stack.depth == 0 ? ROOT : stack.frames[stack.depth - 1];
+        stack.frames[stack.depth] = parent.child(name);
+        stack.childNanos[stack.depth] = 0;
+        stack.starts[stack.depth] = System.nanoTime();
+        stack.depth++;
+    }
+
+    /**
+     * Leave the innermost section and record its span
+     */
+    public static void pop() {
+        if (!enabled) return;
+
+        long end = System.nanoTime();
+        ThreadStack stack = stacks.get();
+        if (!stack.sync()) return;
+
+        if (stack.overflow > 0) {
+            stack.overflow--;
+            return;
+        }
+        if (stack.depth == 0) return;
+
+        int depth = --stack.depth;
+        long total = end - stack.starts[depth];
+        if (depth > 0) {
+            stack.childNanos[depth - 1] += total;
+        }
+
+        int slot = (int) (cursor.getAndIncrement() & MASK);
+        spanFrames[slot] = stack.frames[depth].id;
+        spanTotals[slot] = total;
+        spanSelfs[slot] = total - stack.childNanos[depth];
+    }
+
+    /**
+     * Spans currently held in the buffer
+     */
+    public static int getSpanCount() {
+        return (int) Math.min(cursor.get(), CAPACITY);
+    }
+
+    /**
+     * Write the buffer as collapsed stacks (self time in microseconds) to the given file
+     */
+    public static void exportCollapsed(Path file) throws IOException {
+        int count = getSpanCount();
+        long[] self = new long[frames.size()];
+        for (int i = 0; i < count; i++) {
+            int id = spanFrames[i];
+            if (id >= 0 && id < self.length) {
+                self[id] += spanSelfs[i];
+            }
+        }
+
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int id = 0; id < self.length; id++) {
+                long micros = self[id] / 1000;
+                if (micros <= 0) continue;
+
+                writer.write(frames.get(id).path);
+                writer.write(' ');
+                writer.write(Long.toString(micros));
+                writer.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Export to .minecraft/donutclient/profiles/ and return the file written
+     */
+    public static Path exportCollapsed() throws IOException {
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        Path file = FabricLoader.getInstance().getGameDir()
+                .resolve("donutclient").resolve("profiles").resolve("profile-" + stamp + ".collapsed");
+        exportCollapsed(file);
+        return file;
+    }
+
+    /**
+     * Sections with the most total time in the buffer, as "path: total ms (self ms) xN" lines
+     */
+    public static List<String> getTopSections(int limit) {
+        int count = getSpanCount();
+        long[] total = new long[frames.size()];
+        long[] self = new long[frames.size()];
+        int[] calls = new int[frames.size()];
+        for (int i = 0; i < count; i++) {
+            int id = spanFrames[i];
+            if (id < 0 || id >= total.length) continue;
+            total[id] += spanTotals[i];
+            self[id] += spanSelfs[i];
+            calls[id]++;
+        }
+
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 0; id < total.length; id++) {
+            if (calls[id] > 0) ids.add(id);
+        }
+        ids.sort((a, b) -> Long.compare(total[b], total[a]));
+
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < Math.min(limit, ids.size()); i++) {
+            int id = ids.get(i);
+            lines.add(String.format("%s: %.2fms (self %.2fms) x%d",
+                    frames.get(id).path, total[id] / 1_000_000.0, self[id] / 1_000_000.0, calls[id]));
+        }
+        return lines;
+    }
+
+    /**
+     * One node of the call tree (a distinct stack)
+     */
+    private static final class Frame {
+        final int id;
+        final String path;
+        final Map<String, Frame> children = new ConcurrentHashMap<>();
+
+        Frame(Frame parent, String name, int id) {
+            this.id = id;
+            String safe = name.replace(';', ':');
+            this.path = parent == null ? safe : parent.path + ";" + safe;
+        }
+
+        Frame child(String name) {
+            Frame child = children.get(name);
+            if (child == null) {
+                child = newChild(name);
+            }
+            return child;
+        }
+
+        private Frame newChild(String name) {
+            synchronized (frames) {
+                return children.computeIfAbsent(name, k -> {
+                    Frame frame = new Frame(this, k, frames.size());
+                    frames.add(frame);
+                    return frame;
+                });
+            }
+        }
+    }
+
+    /**
+     * Open sections of one thread
+     */
+    private static final class ThreadStack {
+        final Frame[] frames = new Frame[MAX_DEPTH];
+        final long[] starts = new long[MAX_DEPTH];
+        final long[] childNanos = new long[MAX_DEPTH];
+        int depth = 0;
+        int overflow = 0;
+        int generation = -1;
+
+        /**
+         * Drop sections left over from an earlier recording. Returns false if that happened
+         */
+        boolean sync() {
+            if (generation == Profiler.generation) return true;
+            generation = Profiler.generation;
+            depth = 0;
+            overflow = 0;
+            return false;
+        }
+    }
+}
\ No newline at end of file
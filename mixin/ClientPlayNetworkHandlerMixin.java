@@ -0,0 +1,69 @@
+package com.donut.client.mixin;
+
+import com.donut.client.event.FishingEventHandler;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayNetworkHandler;
+import net.minecraft.entity.Entity;
+import net.minecraft.network.packet.s2c.play.EntitiesDestroyS2CPacket;
+import net.minecraft.network.packet.s2c.play.EntitySpawnS2CPacket;
+import net.minecraft.network.packet.s2c.play.EntityTrackerUpdateS2CPacket;
+import net.minecraft.network.packet.s2c.play.EntityVelocityUpdateS2CPacket;
+import net.minecraft.network.packet.s2c.play.GameMessageS2CPacket;
+import net.minecraft.network.packet.s2c.play.ParticleS2CPacket;
+import net.minecraft.network.packet.s2c.play.PlaySoundS2CPacket;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Forwards fishing-related packets to FishingEventHandler
+ * Injected at TAIL: the network thread re-queues these packets onto the client thread before reaching it,
+ * so each packet is forwarded once, on the client thread, after vanilla has applied it.
+ */
+@Mixin(ClientPlayNetworkHandler.class)
+public class ClientPlayNetworkHandlerMixin {
+
+    @Inject(method = "onEntityVelocityUpdate", at = @At("TAIL"))
+    private void onVelocity(EntityVelocityUpdateS2CPacket packet, CallbackInfo ci) {
+        FishingEventHandler.getInstance().onVelocity(packet.getId(), packet.getVelocityY());
+    }
+
+    @Inject(method = "onPlaySound", at = @At("TAIL"))
+    private void onSound(PlaySoundS2CPacket packet, CallbackInfo ci) {
+        FishingEventHandler.getInstance().onSound(packet.getSound().value(), packet.getX(), packet.getY(), packet.getZ());
+    }
+
+    @Inject(method = "onParticle", at = @At("TAIL"))
+    private void onParticle(ParticleS2CPacket packet, CallbackInfo ci) {
+        FishingEventHandler.getInstance().onParticle(packet.getParameters(), packet.getX(), packet.getY(), packet.getZ(),
+                packet.getCount());
+    }
+
+    @Inject(method = "onEntitiesDestroy", at = @At("HEAD"))
+    private void onEntitiesDestroy(EntitiesDestroyS2CPacket packet, CallbackInfo ci) {
+        // HEAD so the bobber is still in the world to read its position; only act on the client thread
+        if (!MinecraftClient.getInstance().isOnThread()) return;
+        packet.getEntityIds().forEach(id -> FishingEventHandler.getInstance().onEntityRemoved(id));
+    }
+
+    @Inject(method = "onEntitySpawn", at = @At("TAIL"))
+    private void onEntitySpawn(EntitySpawnS2CPacket packet, CallbackInfo ci) {
+        Entity entity = MinecraftClient.getInstance().world == null ? null : MinecraftClient.getInstance().world.getEntityById(packet.getEntityId());
+        if (entity != null) {
+            FishingEventHandler.getInstance().onEntitySpawned(entity);
+        }
+    }
+
+    @Inject(method = "onEntityTrackerUpdate", at = @At("TAIL"))
+    private void onEntityTrackerUpdate(EntityTrackerUpdateS2CPacket packet, CallbackInfo ci) {
+        FishingEventHandler.getInstance().onTrackedData(packet.id());
+    }
+
+    @Inject(method = "onGameMessage", at = @At("TAIL"))
+    private void onGameMessage(GameMessageS2CPacket packet, CallbackInfo ci) {
+        if (!packet.overlay()) {
+            FishingEventHandler.getInstance().onChat(packet.content());
+        }
+    }
+}
\ No newline at end of file
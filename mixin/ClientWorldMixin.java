@@ -0,0 +1,23 @@
+package com.donut.client.mixin;
+
+import com.donut.client.event.BlockUpdateHandler;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Forwards server block updates to BlockUpdateHandler
+ */
+@Mixin(ClientWorld.class)
+public class ClientWorldMixin {
+
+    @Inject(method = "handleBlockUpdate", at = @At("HEAD"))
+    private void onHandleBlockUpdate(BlockPos pos, BlockState state, int flags, CallbackInfo ci) {
+        BlockState oldState = ((ClientWorld) (Object) this).getBlockState(pos);
+        BlockUpdateHandler.getInstance().fireBlockUpdate(pos, oldState, state);
+    }
+}
\ No newline at end of file
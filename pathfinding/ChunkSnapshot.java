@@ -0,0 +1,271 @@
+package com.donut.client.pathfinding;
+
+import com.donut.client.event.BlockUpdateHandler;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable copy of block collision data for a region of the world
+ * - One bit per block, stored per 16x16x16 chunk section
+ * - All-air sections are not stored at all (sparse)
+ * - Unloaded chunks are treated as solid
+ * Lets planners query thousands of blocks without touching the live world.
+ * Section bits are shared through a cache that block updates and chunk (un)loads invalidate,
+ * so repeated captures over the same area only re-read the sections that changed.
+ */
+public class ChunkSnapshot {
+
+    private static final MinecraftClient mc = MinecraftClient.getInstance();
+
+    private static final SectionCache cache = new SectionCache();
+
+    private final int minX, minY, minZ;
+    private final int maxX, maxY, maxZ;
+
+    // Section key -> 4096 collision bits. Missing key = empty section
+    private final Map<Long, long[]> sections = new HashMap<>();
+    private final Set<Long> unloadedSections = new HashSet<>();
+
+    private ChunkSnapshot(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+    }
+
+    /**
+     * Capture collision data for every block between min and max (inclusive)
+     */
+    public static ChunkSnapshot capture(BlockPos min, BlockPos max) {
+        int bottomY = mc.world != null ? mc.world.getBottomY() : min.getY();
+        int topY = mc.world != null ? mc.world.getTopYInclusive() : max.getY();
+
+        ChunkSnapshot snapshot = new ChunkSnapshot(
+                Math.min(min.getX(), max.getX()),
+                Math.max(Math.min(min.getY(), max.getY()), bottomY),
+                Math.min(min.getZ(), max.getZ()),
+                Math.max(min.getX(), max.getX()),
+                Math.min(Math.max(min.getY(), max.getY()), topY),
+                Math.max(min.getZ(), max.getZ())
+        );
+
+        snapshot.load();
+        return snapshot;
+    }
+
+    private void load() {
+        int minSX = ChunkSectionPos.getSectionCoord(minX);
+        int minSY = ChunkSectionPos.getSectionCoord(minY);
+        int minSZ = ChunkSectionPos.getSectionCoord(minZ);
+        int maxSX = ChunkSectionPos.getSectionCoord(maxX);
+        int maxSY = ChunkSectionPos.getSectionCoord(maxY);
+        int maxSZ = ChunkSectionPos.getSectionCoord(maxZ);
+
+        cache.checkWorld();
+
+        for (int sx = minSX; sx <= maxSX; sx++) {
+            for (int sz = minSZ; sz <= maxSZ; sz++) {
+                WorldChunk chunk = mc.world != null ? mc.world.getChunkManager().getWorldChunk(sx, sz) : null;
+
+                for (int sy = minSY; sy <= maxSY; sy++) {
+                    long key = ChunkSectionPos.asLong(sx, sy, sz);
+
+                    if (chunk == null) {
+                        unloadedSections.add(key);
+                        continue;
+                    }
+
+                    long[] bits = cache.get(key, chunk);
+                    if (bits != SectionCache.EMPTY) {
+                        sections.put(key, bits);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Collision bits of one section of a loaded chunk, or null if nothing in it has collision
+     */
+    private static long[] readSection(WorldChunk chunk, long key) {
+        int sx = ChunkSectionPos.unpackX(key);
+        int sy = ChunkSectionPos.unpackY(key);
+        int sz = ChunkSectionPos.unpackZ(key);
+
+        ChunkSection section = chunk.getSectionArray()[mc.world.sectionCoordToIndex(sy)];
+        if (section == null || section.isEmpty()) return null;
+
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        long[] bits = new long[64];
+        boolean any = false;
+
+        for (int ly = 0; ly < 16; ly++) {
+            for (int lz = 0; lz < 16; lz++) {
+                for (int lx = 0; lx < 16; lx++) {
+                    BlockState state = section.getBlockState(lx, ly, lz);
+                    if (state.isAir()) continue;
+
+                    pos.set((sx << 4) + lx, (sy << 4) + ly, (sz << 4) + lz);
+                    if (!state.getCollisionShape(mc.world, pos).isEmpty()) {
+                        int index = (ly << 8) | (lz << 4) | lx;
+                        bits[index >> 6] |= 1L << (index & 63);
+                        any = true;
+                    }
+                }
+            }
+        }
+
+        return any ? bits : null;
+    }
+
+    /**
+     * Check if a block has collision. Out of bounds and unloaded = solid
+     */
+    public boolean isSolid(int x, int y, int z) {
+        if (!contains(x, y, z)) return true;
+
+        long key = ChunkSectionPos.asLong(x >> 4, y >> 4, z >> 4);
+        if (unloadedSections.contains(key)) return true;
+
+        long[] bits = sections.get(key);
+        if (bits == null) return false;
+
+        int index = ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+        return (bits[index >> 6] & (1L << (index & 63))) != 0;
+    }
+
+    public boolean isSolid(BlockPos pos) {
+        return isSolid(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Check if a player (2 blocks tall) can't occupy this position
+     */
+    public boolean isBlocked(int x, int y, int z) {
+        return isSolid(x, y, z) || isSolid(x, y + 1, z);
+    }
+
+    /**
+     * Check if every block in the region is loaded, in bounds and collision-free.
+     * Only looks at section emptiness, so it's cheap but conservative
+     */
+    public boolean isRegionEmpty(int x1, int y1, int z1, int x2, int y2, int z2) {
+        if (!contains(x1, y1, z1) || !contains(x2, y2, z2)) return false;
+
+        for (int sx = x1 >> 4; sx <= x2 >> 4; sx++) {
+            for (int sy = y1 >> 4; sy <= y2 >> 4; sy++) {
+                for (int sz = z1 >> 4; sz <= z2 >> 4; sz++) {
+                    long key = ChunkSectionPos.asLong(sx, sy, sz);
+                    if (sections.containsKey(key) || unloadedSections.contains(key)) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    public boolean contains(int x, int y, int z) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+    }
+
+    public boolean contains(BlockPos pos) {
+        return contains(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public int getMinX() { return minX; }
+    public int getMinY() { return minY; }
+    public int getMinZ() { return minZ; }
+    public int getMaxX() { return maxX; }
+    public int getMaxY() { return maxY; }
+    public int getMaxZ() { return maxZ; }
+
+    /**
+     * Number of sections holding at least one solid block
+     */
+    public int getSolidSectionCount() {
+        return sections.size();
+    }
+
+    /**
+     * Collision bits per section, shared by every snapshot
+     * - Filled on first capture of a section; arrays are never mutated once cached
+     * - A block update drops its section, a chunk load/unload drops the whole chunk
+     * - Least recently used sections are dropped past MAX_SECTIONS (512 bytes each)
+     */
+    private static class SectionCache implements BlockUpdateHandler.BlockUpdateListener {
+
+        static final long[] EMPTY = new long[0];
+
+        private static final int MAX_SECTIONS = 8192;
+
+        private final LinkedHashMap<Long, long[]> sections = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, long[]> eldest) {
+                return size() > MAX_SECTIONS;
+            }
+        };
+
+        private ClientWorld cachedWorld = null;
+        private boolean registered = false;
+
+        long[] get(long key, WorldChunk chunk) {
+            if (!registered) {
+                BlockUpdateHandler.getInstance().addListener(this);
+                registered = true;
+            }
+
+            long[] bits = sections.get(key);
+            if (bits == null) {
+                bits = readSection(chunk, key);
+                if (bits == null) bits = EMPTY;
+                sections.put(key, bits);
+            }
+            return bits;
+        }
+
+        /**
+         * Sections from another world are meaningless
+         */
+        void checkWorld() {
+            if (mc.world != cachedWorld) {
+                sections.clear();
+                cachedWorld = mc.world;
+            }
+        }
+
+        @Override
+        public void onBlockUpdate(BlockPos pos, BlockState oldState, BlockState newState) {
+            sections.remove(ChunkSectionPos.toLong(pos));
+        }
+
+        @Override
+        public void onChunkLoad(WorldChunk chunk) {
+            dropChunk(chunk.getPos());
+        }
+
+        @Override
+        public void onChunkUnload(ChunkPos pos) {
+            dropChunk(pos);
+        }
+
+        private void dropChunk(ChunkPos pos) {
+            sections.keySet().removeIf(key -> ChunkSectionPos.unpackX(key) == pos.x && ChunkSectionPos.unpackZ(key) == pos.z);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,260 @@
+package com.donut.client.pathfinding;
+
+import com.donut.client.pathfinding.movements.Movement;
+import com.donut.client.pathfinding.movements.MovementProvider;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Reverse-Dijkstra distance field around a fixed goal
+ * - Exact movement cost to the anchor for every standable block in a box around it
+ * - One short per block (cost in tenths, rounded down so it never overestimates), plus the index of
+ *   the node its best route continues through
+ * - Built a few hundred nodes at a time and repaired locally on block changes: only nodes routed
+ *   through a move the change broke are dropped
+ */
+public class DistanceField {
+
+    public static final int HORIZONTAL_RADIUS = 48;
+    public static final int VERTICAL_RADIUS = 16;
+
+    private static final short UNREACHED = Short.MAX_VALUE;
+    private static final int SCALE = 10;
+
+    // Movements reach up to 4 blocks across and 10 blocks down
+    private static final int REACH_HORIZONTAL = 5;
+    private static final int REACH_DOWN = 3;
+    private static final int REACH_UP = 11;
+
+    private final BlockPos anchor;
+    private final int minX, minY, minZ;
+    private final int sizeX, sizeY, sizeZ;
+    private final short[] distances;
+    private final int[] parents; // -1 for the anchor and unreached nodes
+
+    private final MovementProvider movementProvider = new MovementProvider();
+
+    // Packed (distance << 32 | index); entries older than the stored distance are skipped
+    private final PriorityQueue<Long> open = new PriorityQueue<>();
+
+    private int reachedCount = 0;
+
+    public DistanceField(BlockPos anchor) {
+        this.anchor = anchor.toImmutable();
+        this.minX = anchor.getX() - HORIZONTAL_RADIUS;
+        this.minY = anchor.getY() - VERTICAL_RADIUS;
+        this.minZ = anchor.getZ() - HORIZONTAL_RADIUS;
+        this.sizeX = HORIZONTAL_RADIUS * 2 + 1;
+        this.sizeY = VERTICAL_RADIUS * 2 + 1;
+        this.sizeZ = HORIZONTAL_RADIUS * 2 + 1;
+        this.distances = new short[sizeX * sizeY * sizeZ];
+        this.parents = new int[distances.length];
+
+        movementProvider.setAllowDiagonal(true);
+        movementProvider.setAllowParkour(true);
+
+        reset();
+    }
+
+    /**
+     * Throw away every distance and start again from the anchor
+     */
+    public void reset() {
+        Arrays.fill(distances, UNREACHED);
+        Arrays.fill(parents, -1);
+        open.clear();
+        reachedCount = 0;
+
+        int index = indexOf(anchor.getX(), anchor.getY(), anchor.getZ());
+        distances[index] = 0;
+        reachedCount++;
+        open.add(pack(0, index));
+    }
+
+    /**
+     * Settle up to budget nodes. Returns true once the field is complete
+     */
+    public boolean step(int budget) {
+        while (budget-- > 0 && !open.isEmpty()) {
+            long entry = open.poll();
+            int distance = (int) (entry >>> 32);
+            int index = (int) entry;
+
+            if (distances[index] != distance) continue;
+
+            BlockPos pos = positionOf(index);
+            for (Movement movement : movementProvider.getMovementsInto(pos)) {
+                BlockPos src = movement.getSrc();
+                if (!contains(src.getX(), src.getY(), src.getZ())) continue;
+
+                int srcIndex = indexOf(src.getX(), src.getY(), src.getZ());
+                if (distances[srcIndex] <= distance) continue;
+                if (!movement.calculate()) continue;
+
+                int edge = Math.max(1, (int) (movement.getCost() * SCALE));
+                int next = Math.min(distance + edge, UNREACHED - 1);
+
+                if (next < distances[srcIndex]) {
+                    if (distances[srcIndex] == UNREACHED) reachedCount++;
+                    distances[srcIndex] = (short) next;
+                    parents[srcIndex] = index;
+                    open.add(pack(next, srcIndex));
+                }
+            }
+        }
+
+        return open.isEmpty();
+    }
+
+    /**
+     * Repair the field after the block at pos changed.
+     * - Reached nodes whose move to their parent could cross the change re-check that move; if it is gone
+     *   or got dearer, the node and every node routed through it are dropped
+     * - Reached nodes next to the dropped ones are re-expanded, so those get their best remaining distance
+     * - Reached nodes within a movement of the change are re-expanded, so routes it opened up are found
+     * Returns false if the change was outside the field
+     */
+    public boolean invalidate(BlockPos pos) {
+        int cx = pos.getX(), cy = pos.getY(), cz = pos.getZ();
+        if (cx < minX - REACH_HORIZONTAL || cx >= minX + sizeX + REACH_HORIZONTAL
+                || cy < minY - REACH_UP || cy >= minY + sizeY + REACH_DOWN
+                || cz < minZ - REACH_HORIZONTAL || cz >= minZ + sizeZ + REACH_HORIZONTAL) {
+            return false;
+        }
+
+        // Nodes whose move to their parent could cross the changed block
+        List<Integer> dropped = new ArrayList<>();
+        for (int x = cx - REACH_HORIZONTAL; x <= cx + REACH_HORIZONTAL; x++) {
+            for (int y = cy - REACH_DOWN; y <= cy + REACH_UP; y++) {
+                for (int z = cz - REACH_HORIZONTAL; z <= cz + REACH_HORIZONTAL; z++) {
+                    if (!contains(x, y, z)) continue;
+                    int index = indexOf(x, y, z);
+                    if (distances[index] == UNREACHED || parents[index] < 0) continue;
+                    if (!parentMoveHolds(index)) {
+                        drop(index, dropped);
+                    }
+                }
+            }
+        }
+
+        // Children of a dropped node are sources of a movement into it
+        for (int i = 0; i < dropped.size(); i++) {
+            int index = dropped.get(i);
+            for (Movement movement : movementProvider.getMovementsInto(positionOf(index))) {
+                BlockPos src = movement.getSrc();
+                if (!contains(src.getX(), src.getY(), src.getZ())) continue;
+
+                int srcIndex = indexOf(src.getX(), src.getY(), src.getZ());
+                if (parents[srcIndex] == index && distances[srcIndex] != UNREACHED) {
+                    drop(srcIndex, dropped);
+                }
+            }
+        }
+
+        // Dropped nodes are refilled from the reached nodes they can move to
+        for (int index : dropped) {
+            for (Movement movement : movementProvider.getMovements(positionOf(index))) {
+                BlockPos dest = movement.getDest();
+                if (contains(dest.getX(), dest.getY(), dest.getZ())) {
+                    requeue(indexOf(dest.getX(), dest.getY(), dest.getZ()));
+                }
+            }
+        }
+
+        // New routes can only start near the change: re-expand every reached node within one more movement of it,
+        // so sources the change has opened up (possibly into unreached space) are found
+        for (int x = cx - 2 * REACH_HORIZONTAL; x <= cx + 2 * REACH_HORIZONTAL; x++) {
+            for (int y = cy - REACH_DOWN - REACH_UP; y <= cy + REACH_UP + REACH_DOWN; y++) {
+                for (int z = cz - 2 * REACH_HORIZONTAL; z <= cz + 2 * REACH_HORIZONTAL; z++) {
+                    if (contains(x, y, z)) {
+                        requeue(indexOf(x, y, z));
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * True if a move from the node to its recorded parent is still valid and no dearer than recorded
+     */
+    private boolean parentMoveHolds(int index) {
+        int parent = parents[index];
+        if (distances[parent] == UNREACHED) return false;
+
+        BlockPos dest = positionOf(parent);
+        for (Movement movement : movementProvider.getMovements(positionOf(index))) {
+            if (!movement.getDest().equals(dest) || !movement.calculate()) continue;
+
+            int edge = Math.max(1, (int) (movement.getCost() * SCALE));
+            if (Math.min(distances[parent] + edge, UNREACHED - 1) <= distances[index]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drop(int index, List<Integer> dropped) {
+        distances[index] = UNREACHED;
+        parents[index] = -1;
+        reachedCount--;
+        dropped.add(index);
+    }
+
+    private void requeue(int index) {
+        if (distances[index] != UNREACHED) {
+            open.add(pack(distances[index], index));
+        }
+    }
+
+    /**
+     * Movement cost from pos to the anchor, or -1 if unknown
+     */
+    public double getDistance(BlockPos pos) {
+        if (!contains(pos.getX(), pos.getY(), pos.getZ())) return -1;
+
+        short distance = distances[indexOf(pos.getX(), pos.getY(), pos.getZ())];
+        return distance == UNREACHED ? -1 : (double) distance / SCALE;
+    }
+
+    public boolean isComplete() {
+        return open.isEmpty();
+    }
+
+    public boolean contains(int x, int y, int z) {
+        return x >= minX && x < minX + sizeX
+                && y >= minY && y < minY + sizeY
+                && z >= minZ && z < minZ + sizeZ;
+    }
+
+    public BlockPos getAnchor() {
+        return anchor;
+    }
+
+    /**
+     * Standable blocks with a known distance
+     */
+    public int getReachedCount() {
+        return reachedCount;
+    }
+
+    private int indexOf(int x, int y, int z) {
+        return ((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX);
+    }
+
+    private BlockPos positionOf(int index) {
+        int x = index % sizeX;
+        int z = (index / sizeX) % sizeZ;
+        int y = index / (sizeX * sizeZ);
+        return new BlockPos(minX + x, minY + y, minZ + z);
+    }
+
+    private static long pack(int distance, int index) {
+        return ((long) distance << 32) | (index & 0xFFFFFFFFL);
+    }
+}
\ No newline at end of file
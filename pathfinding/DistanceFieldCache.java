@@ -0,0 +1,157 @@
+package com.donut.client.pathfinding;
+
+import com.donut.client.event.BlockUpdateHandler;
+import com.donut.client.metrics.Profiler;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.*;
+
+/**
+ * Distance fields for goals macros keep walking back to (NPCs, composters, fishing spots)
+ * - Anchors are registered by the macros that own them
+ * - Fields are built in the background, a fixed number of nodes per tick
+ * - Block changes repair the affected part of a field instead of rebuilding it
+ * - PathFinder uses a finished field as its heuristic toward that anchor
+ */
+public class DistanceFieldCache implements BlockUpdateHandler.BlockUpdateListener {
+
+    private static DistanceFieldCache instance;
+
+    private final MinecraftClient mc = MinecraftClient.getInstance();
+
+    private static final int MAX_ANCHORS = 8;
+    private static final int NODES_PER_TICK = 400;
+    private static final double BUILD_RANGE = 128.0;
+
+    private final Map<BlockPos, DistanceField> fields = new LinkedHashMap<>();
+
+    private ClientWorld cachedWorld = null;
+
+    private DistanceFieldCache() {
+        BlockUpdateHandler.getInstance().addListener(this);
+        ClientTickEvents.END_CLIENT_TICK.register(client -> tick());
+    }
+
+    public static DistanceFieldCache getInstance() {
+        if (instance == null) {
+            instance = new DistanceFieldCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Start keeping a field for this goal. Oldest anchor is dropped when full
+     */
+    public void registerAnchor(BlockPos anchor) {
+        if (anchor == null) return;
+
+        BlockPos key = anchor.toImmutable();
+        if (fields.containsKey(key)) return;
+
+        if (fields.size() >= MAX_ANCHORS) {
+            Iterator<BlockPos> it = fields.keySet().iterator();
+            it.next();
+            it.remove();
+        }
+
+        fields.put(key, new DistanceField(key));
+    }
+
+    public void unregisterAnchor(BlockPos anchor) {
+        if (anchor == null) return;
+        fields.remove(anchor);
+    }
+
+    /**
+     * Finished field for this goal, or null if there is none yet
+     */
+    public DistanceField getField(BlockPos goal) {
+        checkWorld();
+
+        DistanceField field = fields.get(goal);
+        return field != null && field.isComplete() ? field : null;
+    }
+
+    /**
+     * Spend this tick's node budget on fields near the player
+     */
+    private void tick() {
+        checkWorld();
+        if (mc.player == null || mc.world == null || fields.isEmpty()) return;
+
+        // Fields hold ground movement only
+        if (mc.player.getAbilities().flying) return;
+
+        for (DistanceField field : fields.values()) {
+            if (field.isComplete()) continue;
+            if (!isBuildable(field.getAnchor())) continue;
+
+            Profiler.push("distanceField");
+            try {
+                field.step(NODES_PER_TICK);
+            } finally {
+                Profiler.pop();
+            }
+            return;
+        }
+    }
+
+    private boolean isBuildable(BlockPos anchor) {
+        if (!mc.world.isChunkLoaded(anchor.getX() >> 4, anchor.getZ() >> 4)) return false;
+        return mc.player.getBlockPos().isWithinDistance(anchor, BUILD_RANGE);
+    }
+
+    @Override
+    public void onBlockUpdate(BlockPos pos, BlockState oldState, BlockState newState) {
+        if (fields.isEmpty() || mc.world == null) return;
+
+        // Crop growth and similar don't change where the player can stand
+        boolean wasSolid = !oldState.getCollisionShape(mc.world, pos).isEmpty();
+        boolean isSolid = !newState.getCollisionShape(mc.world, pos).isEmpty();
+        if (wasSolid == isSolid && oldState.getBlock() == newState.getBlock()) return;
+
+        for (DistanceField field : fields.values()) {
+            field.invalidate(pos);
+        }
+    }
+
+    @Override
+    public void onChunkLoad(WorldChunk chunk) {
+        int minX = chunk.getPos().getStartX();
+        int minZ = chunk.getPos().getStartZ();
+
+        // Distances were computed with this chunk missing
+        for (DistanceField field : fields.values()) {
+            BlockPos anchor = field.getAnchor();
+            if (Math.abs(minX + 8 - anchor.getX()) <= DistanceField.HORIZONTAL_RADIUS + 8
+                    && Math.abs(minZ + 8 - anchor.getZ()) <= DistanceField.HORIZONTAL_RADIUS + 8) {
+                field.reset();
+            }
+        }
+    }
+
+    /**
+     * Distances from another world/server are meaningless; anchors are kept
+     */
+    private void checkWorld() {
+        if (mc.world != cachedWorld) {
+            for (DistanceField field : fields.values()) {
+                field.reset();
+            }
+            cachedWorld = mc.world;
+        }
+    }
+
+    public void clear() {
+        fields.clear();
+    }
+
+    public int getAnchorCount() {
+        return fields.size();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,252 @@
+package com.donut.client.pathfinding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sparse octree of free space built from a ChunkSnapshot
+ * - Leaves are the largest axis-aligned cubes a flying player can occupy anywhere in
+ * - Solid space is not stored
+ * - All-air chunk sections collapse into a single cell without per-block checks
+ * - Nodes are clipped to the snapshot: the part of a node outside it is treated as solid,
+ *   so open air at the edge of the snapshot does not force subdivision. Cells are boxes, not always cubes
+ */
+public class FlightOctree {
+
+    private static final int FREE = 0;
+    private static final int SOLID = 1;
+    private static final int MIXED = 2;
+
+    private final ChunkSnapshot snapshot;
+    private final List<Cell> cells = new ArrayList<>();
+    private final OctreeNode root;
+
+    public FlightOctree(ChunkSnapshot snapshot) {
+        this.snapshot = snapshot;
+
+        int spanX = snapshot.getMaxX() - snapshot.getMinX() + 1;
+        int spanY = snapshot.getMaxY() - snapshot.getMinY() + 1;
+        int spanZ = snapshot.getMaxZ() - snapshot.getMinZ() + 1;
+
+        int size = 1;
+        while (size < Math.max(spanX, Math.max(spanY, spanZ))) {
+            size <<= 1;
+        }
+
+        this.root = new OctreeNode(snapshot.getMinX(), snapshot.getMinY(), snapshot.getMinZ(), size);
+        int state = build(root);
+        if (state == FREE) {
+            emit(root);
+        }
+    }
+
+    /**
+     * Classify a node, subdividing mixed nodes and emitting their free children as cells
+     */
+    private int build(OctreeNode node) {
+        int size = node.size;
+
+        int[] box = clip(node);
+        if (box == null) {
+            node.state = SOLID;
+            return SOLID;
+        }
+
+        // Includes the head block above the top layer
+        if (snapshot.isRegionEmpty(box[0], box[1], box[2], box[3], box[4] + 1, box[5])) {
+            node.state = FREE;
+            return FREE;
+        }
+
+        if (size == 1) {
+            node.state = snapshot.isBlocked(node.x, node.y, node.z) ? SOLID : FREE;
+            return node.state;
+        }
+
+        int half = size >> 1;
+        node.children = new OctreeNode[8];
+
+        boolean allFree = true;
+        boolean allSolid = true;
+
+        for (int i = 0; i < 8; i++) {
+            OctreeNode child = new OctreeNode(
+                    node.x + ((i & 1) != 0 ? half : 0),
+                    node.y + ((i & 2) != 0 ? half : 0),
+                    node.z + ((i & 4) != 0 ? half : 0),
+                    half
+            );
+            node.children[i] = child;
+
+            int state = build(child);
+            if (state != FREE) allFree = false;
+            if (state != SOLID) allSolid = false;
+        }
+
+        if (allFree || allSolid) {
+            node.children = null;
+            node.state = allFree ? FREE : SOLID;
+            return node.state;
+        }
+
+        for (OctreeNode child : node.children) {
+            if (child.state == FREE) {
+                emit(child);
+            }
+        }
+
+        node.state = MIXED;
+        return MIXED;
+    }
+
+    /**
+     * Part of the node a player's feet can be in: inside the snapshot, with the head block below its top.
+     * {x1, y1, z1, x2, y2, z2} inclusive, or null if nothing is left
+     */
+    private int[] clip(OctreeNode node) {
+        int x1 = Math.max(node.x, snapshot.getMinX());
+        int y1 = Math.max(node.y, snapshot.getMinY());
+        int z1 = Math.max(node.z, snapshot.getMinZ());
+        int x2 = Math.min(node.x + node.size - 1, snapshot.getMaxX());
+        int y2 = Math.min(node.y + node.size - 1, snapshot.getMaxY() - 1);
+        int z2 = Math.min(node.z + node.size - 1, snapshot.getMaxZ());
+
+        if (x1 > x2 || y1 > y2 || z1 > z2) return null;
+        return new int[]{x1, y1, z1, x2, y2, z2};
+    }
+
+    private void emit(OctreeNode node) {
+        int[] box = clip(node);
+        Cell cell = new Cell(cells.size(), box[0], box[1], box[2],
+                box[3] - box[0] + 1, box[4] - box[1] + 1, box[5] - box[2] + 1);
+        node.cell = cell;
+        cells.add(cell);
+    }
+
+    /**
+     * Find the free cell containing a block position (null if solid/out of bounds)
+     */
+    public Cell getCell(int x, int y, int z) {
+        OctreeNode node = root;
+        if (!node.contains(x, y, z)) return null;
+
+        while (node.children != null) {
+            int half = node.size >> 1;
+            int index = (x >= node.x + half ? 1 : 0)
+                    | (y >= node.y + half ? 2 : 0)
+                    | (z >= node.z + half ? 4 : 0);
+            node = node.children[index];
+        }
+
+        // A leaf's cell is clipped to the snapshot, so it may not cover the whole leaf
+        return node.cell != null && node.cell.contains(x, y, z) ? node.cell : null;
+    }
+
+    /**
+     * Get all free cells sharing a face with this cell.
+     * Scans the outside of each face, skipping over the area covered by each found neighbour
+     */
+    public List<Cell> getNeighbours(Cell cell) {
+        if (cell.neighbours != null) return cell.neighbours;
+
+        List<Cell> result = new ArrayList<>();
+        int[] p = new int[3];
+
+        for (int axis = 0; axis < 3; axis++) {
+            for (int side = 0; side < 2; side++) {
+                int fixed = side == 0 ? cell.min(axis) - 1 : cell.min(axis) + cell.size(axis);
+                int uAxis = (axis + 1) % 3;
+                int vAxis = (axis + 2) % 3;
+
+                for (int u = cell.min(uAxis); u < cell.min(uAxis) + cell.size(uAxis); u++) {
+                    int v = cell.min(vAxis);
+                    while (v < cell.min(vAxis) + cell.size(vAxis)) {
+                        p[axis] = fixed;
+                        p[uAxis] = u;
+                        p[vAxis] = v;
+
+                        Cell neighbour = getCell(p[0], p[1], p[2]);
+                        if (neighbour == null) {
+                            v++;
+                            continue;
+                        }
+
+                        if (!result.contains(neighbour)) {
+                            result.add(neighbour);
+                        }
+                        v = neighbour.min(vAxis) + neighbour.size(vAxis);
+                    }
+                }
+            }
+        }
+
+        cell.neighbours = result;
+        return result;
+    }
+
+    public int getCellCount() {
+        return cells.size();
+    }
+
+    private static class OctreeNode {
+        final int x, y, z, size;
+        OctreeNode[] children;
+        int state;
+        Cell cell;
+
+        OctreeNode(int x, int y, int z, int size) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.size = size;
+        }
+
+        boolean contains(int px, int py, int pz) {
+            return px >= x && px < x + size && py >= y && py < y + size && pz >= z && pz < z + size;
+        }
+    }
+
+    /**
+     * A free box of space (a cube unless clipped by the snapshot). Any block inside can hold a flying player
+     */
+    public static class Cell {
+        private final int id;
+        private final int x, y, z;
+        private final int sizeX, sizeY, sizeZ;
+        private List<Cell> neighbours;
+
+        Cell(int id, int x, int y, int z, int sizeX, int sizeY, int sizeZ) {
+            this.id = id;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.sizeX = sizeX;
+            this.sizeY = sizeY;
+            this.sizeZ = sizeZ;
+        }
+
+        int min(int axis) {
+            return axis == 0 ? x : axis == 1 ? y : z;
+        }
+
+        int size(int axis) {
+            return axis == 0 ? sizeX : axis == 1 ? sizeY : sizeZ;
+        }
+
+        boolean contains(int px, int py, int pz) {
+            return px >= x && px < x + sizeX && py >= y && py < y + sizeY && pz >= z && pz < z + sizeZ;
+        }
+
+        public int getId() { return id; }
+        public int getX() { return x; }
+        public int getY() { return y; }
+        public int getZ() { return z; }
+        public int getSizeX() { return sizeX; }
+        public int getSizeY() { return sizeY; }
+        public int getSizeZ() { return sizeZ; }
+
+        public double getCenterX() { return x + sizeX / 2.0; }
+        public double getCenterY() { return y + sizeY / 2.0; }
+        public double getCenterZ() { return z + sizeZ / 2.0; }
+    }
+}
\ No newline at end of file
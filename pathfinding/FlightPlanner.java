@@ -0,0 +1,264 @@
+package com.donut.client.pathfinding;
+
+import com.donut.client.pathfinding.movements.MovementFly;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.*;
+
+/**
+ * Flight pathfinding over an octree of free space
+ * - Snapshots the area around start/goal once
+ * - A* between free cells of varying size instead of single blocks
+ * - Result smoothed into straight MovementFly segments
+ */
+public class FlightPlanner {
+
+    private static final int HORIZONTAL_MARGIN = 16;
+    private static final int VERTICAL_MARGIN = 12;
+    private static final int MAX_SPAN = 512;
+    private static final int MAX_EXPANSIONS = 50000;
+
+    private int lastExpansions = 0;
+    private int lastCellCount = 0;
+
+    /**
+     * Find a flight path from start to goal.
+     * Returns null if the area is too large or no path exists
+     */
+    public List<BlockPos> findPath(BlockPos start, BlockPos goal) {
+        lastExpansions = 0;
+
+        BlockPos min = new BlockPos(
+                Math.min(start.getX(), goal.getX()) - HORIZONTAL_MARGIN,
+                Math.min(start.getY(), goal.getY()) - VERTICAL_MARGIN,
+                Math.min(start.getZ(), goal.getZ()) - HORIZONTAL_MARGIN
+        );
+        BlockPos max = new BlockPos(
+                Math.max(start.getX(), goal.getX()) + HORIZONTAL_MARGIN,
+                Math.max(start.getY(), goal.getY()) + VERTICAL_MARGIN,
+                Math.max(start.getZ(), goal.getZ()) + HORIZONTAL_MARGIN
+        );
+
+        if (max.getX() - min.getX() > MAX_SPAN || max.getZ() - min.getZ() > MAX_SPAN) {
+            return null;
+        }
+
+        ChunkSnapshot snapshot = ChunkSnapshot.capture(min, max);
+        FlightOctree octree = new FlightOctree(snapshot);
+        lastCellCount = octree.getCellCount();
+
+        FlightOctree.Cell startCell = octree.getCell(start.getX(), start.getY(), start.getZ());
+        FlightOctree.Cell goalCell = octree.getCell(goal.getX(), goal.getY(), goal.getZ());
+        if (startCell == null || goalCell == null) {
+            return null;
+        }
+
+        List<FlightOctree.Cell> cells = search(octree, startCell, goalCell, goal);
+        if (cells == null) {
+            return null;
+        }
+
+        List<BlockPos> waypoints = toWaypoints(cells, start, goal);
+        return smooth(waypoints, snapshot);
+    }
+
+    /**
+     * A* over free cells. Costs are distances between cell centres
+     */
+    private List<FlightOctree.Cell> search(FlightOctree octree, FlightOctree.Cell startCell,
+                                           FlightOctree.Cell goalCell, BlockPos goal) {
+        Map<FlightOctree.Cell, Double> gScores = new HashMap<>();
+        Map<FlightOctree.Cell, FlightOctree.Cell> parents = new HashMap<>();
+        Set<FlightOctree.Cell> closed = new HashSet<>();
+        PriorityQueue<OpenEntry> open = new PriorityQueue<>(Comparator.comparingDouble(e -> e.fScore));
+
+        gScores.put(startCell, 0.0);
+        open.add(new OpenEntry(startCell, distance(startCell, goal)));
+
+        while (!open.isEmpty() && lastExpansions < MAX_EXPANSIONS) {
+            FlightOctree.Cell current = open.poll().cell;
+            if (!closed.add(current)) continue;
+
+            lastExpansions++;
+
+            if (current == goalCell) {
+                List<FlightOctree.Cell> path = new ArrayList<>();
+                for (FlightOctree.Cell cell = current; cell != null; cell = parents.get(cell)) {
+                    path.add(cell);
+                }
+                Collections.reverse(path);
+                return path;
+            }
+
+            double currentG = gScores.get(current);
+
+            for (FlightOctree.Cell neighbour : octree.getNeighbours(current)) {
+                if (closed.contains(neighbour)) continue;
+
+                double g = currentG + distance(current, neighbour);
+                Double existing = gScores.get(neighbour);
+                if (existing != null && existing <= g) continue;
+
+                gScores.put(neighbour, g);
+                parents.put(neighbour, current);
+                open.add(new OpenEntry(neighbour, g + distance(neighbour, goal)));
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Turn a cell sequence into block waypoints.
+     * Crosses each shared face through a block on either side of it, so every
+     * segment stays inside a single free cell
+     */
+    private List<BlockPos> toWaypoints(List<FlightOctree.Cell> cells, BlockPos start, BlockPos goal) {
+        List<BlockPos> waypoints = new ArrayList<>();
+        waypoints.add(start);
+
+        for (int i = 0; i < cells.size() - 1; i++) {
+            FlightOctree.Cell a = cells.get(i);
+            FlightOctree.Cell b = cells.get(i + 1);
+
+            addWaypoint(waypoints, portal(b, a));
+            addWaypoint(waypoints, portal(a, b));
+            if (i + 1 < cells.size() - 1) {
+                addWaypoint(waypoints, center(b));
+            }
+        }
+
+        addWaypoint(waypoints, goal);
+        return waypoints;
+    }
+
+    private void addWaypoint(List<BlockPos> waypoints, BlockPos pos) {
+        if (!waypoints.get(waypoints.size() - 1).equals(pos)) {
+            waypoints.add(pos);
+        }
+    }
+
+    /**
+     * Block in b at the middle of the face shared by a and b
+     */
+    private BlockPos portal(FlightOctree.Cell a, FlightOctree.Cell b) {
+        int x = portalAxis(a.getX(), a.getSizeX(), b.getX(), b.getSizeX());
+        int y = portalAxis(a.getY(), a.getSizeY(), b.getY(), b.getSizeY());
+        int z = portalAxis(a.getZ(), a.getSizeZ(), b.getZ(), b.getSizeZ());
+        return new BlockPos(x, y, z);
+    }
+
+    private int portalAxis(int aMin, int aSize, int bMin, int bSize) {
+        int lo = Math.max(aMin, bMin);
+        int hi = Math.min(aMin + aSize, bMin + bSize) - 1;
+
+        // Touching on this axis: step into b
+        if (lo > hi) {
+            return bMin >= aMin + aSize ? bMin : bMin + bSize - 1;
+        }
+        return (lo + hi) / 2;
+    }
+
+    private BlockPos center(FlightOctree.Cell cell) {
+        return new BlockPos(cell.getX() + (cell.getSizeX() - 1) / 2,
+                cell.getY() + (cell.getSizeY() - 1) / 2,
+                cell.getZ() + (cell.getSizeZ() - 1) / 2);
+    }
+
+    /**
+     * Greedily join waypoints with the longest straight segments that are clear
+     * in the snapshot and valid as a MovementFly
+     */
+    private List<BlockPos> smooth(List<BlockPos> waypoints, ChunkSnapshot snapshot) {
+        if (waypoints.size() <= 2) {
+            return waypoints;
+        }
+
+        List<BlockPos> smoothed = new ArrayList<>();
+        smoothed.add(waypoints.get(0));
+
+        int current = 0;
+        while (current < waypoints.size() - 1) {
+            int furthest = current + 1;
+
+            for (int i = waypoints.size() - 1; i > current + 1; i--) {
+                BlockPos from = waypoints.get(current);
+                BlockPos to = waypoints.get(i);
+
+                if (isLineClear(snapshot, from, to) && new MovementFly(from, to).calculate()) {
+                    furthest = i;
+                    break;
+                }
+            }
+
+            smoothed.add(waypoints.get(furthest));
+            current = furthest;
+        }
+
+        return smoothed;
+    }
+
+    /**
+     * Sample the segment every quarter block against the snapshot
+     */
+    private boolean isLineClear(ChunkSnapshot snapshot, BlockPos from, BlockPos to) {
+        double dx = to.getX() - from.getX();
+        double dy = to.getY() - from.getY();
+        double dz = to.getZ() - from.getZ();
+
+        int steps = (int) Math.ceil(Math.sqrt(dx * dx + dy * dy + dz * dz) * 4);
+        for (int i = 1; i < steps; i++) {
+            double t = (double) i / steps;
+            int x = (int) Math.floor(from.getX() + 0.5 + dx * t);
+            int y = (int) Math.floor(from.getY() + 0.5 + dy * t);
+            int z = (int) Math.floor(from.getZ() + 0.5 + dz * t);
+
+            if (snapshot.isBlocked(x, y, z)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private double distance(FlightOctree.Cell a, FlightOctree.Cell b) {
+        double dx = a.getCenterX() - b.getCenterX();
+        double dy = a.getCenterY() - b.getCenterY();
+        double dz = a.getCenterZ() - b.getCenterZ();
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    private double distance(FlightOctree.Cell cell, BlockPos pos) {
+        double dx = cell.getCenterX() - (pos.getX() + 0.5);
+        double dy = cell.getCenterY() - (pos.getY() + 0.5);
+        double dz = cell.getCenterZ() - (pos.getZ() + 0.5);
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    /**
+     * Cells expanded by the last search
+     */
+    public int getLastExpansions() {
+        return lastExpansions;
+    }
+
+    /**
+     * Free cells in the last octree
+     */
+    public int getLastCellCount() {
+        return lastCellCount;
+    }
+
+    /**
+     * Queue entry; stale entries are skipped via the closed set
+     */
+    private static class OpenEntry {
+        final FlightOctree.Cell cell;
+        final double fScore;
+
+        OpenEntry(FlightOctree.Cell cell, double fScore) {
+            this.cell = cell;
+            this.fScore = fScore;
+        }
+    }
+}
\ No newline at end of file
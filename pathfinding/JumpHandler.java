@@ -16,11 +16,10 @@ import net.minecraft.util.math.Vec3d;
 public class JumpHandler {
 
     private final MinecraftClient mc = MinecraftClient.getInstance();
+    private final JumpSimulator jumpSimulator = JumpSimulator.getInstance();
 
     private long lastJumpTime = 0;
     private static final long JUMP_COOLDOWN = 250; // ms between jumps
-    private static final double SPRINT_JUMP_DISTANCE = 4.0;
-    private static final double NORMAL_JUMP_DISTANCE = 2.5;
 
     /**
      * Determines if the player should jump at the current position
@@ -93,10 +92,9 @@ public class JumpHandler {
                         Math.pow(target.getZ() - current.getZ(), 2)
         );
 
-        // If distance is jumpable but there's no ground in between
-        if (horizontalDistance > 1.0 && horizontalDistance <= 4.0) {
-            // Check if there's a gap
-            return hasGap(current, target);
+        // If there's no ground in between, jump only if physics says we can make it
+        if (horizontalDistance > 1.0 && hasGap(current, target)) {
+            return jumpSimulator.canJump(current, target);
         }
 
         return false;
@@ -132,28 +130,17 @@ public class JumpHandler {
     }
 
     /**
-     * Calculates if a jump is possible based on distance
+     * Calculates if a jump is possible using simulated physics
      */
     public boolean canJumpDistance(BlockPos from, BlockPos to, boolean sprinting) {
-        double distance = Math.sqrt(
-                Math.pow(to.getX() - from.getX(), 2) +
-                        Math.pow(to.getZ() - from.getZ(), 2)
-        );
-
-        double maxDistance = sprinting ? SPRINT_JUMP_DISTANCE : NORMAL_JUMP_DISTANCE;
-        return distance <= maxDistance;
+        return jumpSimulator.simulate(from, to, sprinting).isReachable();
     }
 
     /**
      * Determines if player should sprint for the jump
      */
     public boolean shouldSprintJump(BlockPos from, BlockPos to) {
-        double distance = Math.sqrt(
-                Math.pow(to.getX() - from.getX(), 2) +
-                        Math.pow(to.getZ() - from.getZ(), 2)
-        );
-
-        return distance > NORMAL_JUMP_DISTANCE && distance <= SPRINT_JUMP_DISTANCE;
+        return !jumpSimulator.canJumpWalking(from, to) && jumpSimulator.simulate(from, to, true).isReachable();
     }
 
     /**
@@ -0,0 +1,289 @@
+package com.donut.client.pathfinding;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.entity.effect.StatusEffects;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Deterministic player physics simulation for jumps
+ * - Vanilla gravity, drag, ground friction and sprint-jump boost
+ * - Surface slipperiness from TerrainAnalyzer (ice, slime, honey, soul sand)
+ * - Slab/partial block heights from FractionalNavigator
+ * - Verdicts memoised by (start surface, offset, modifiers)
+ */
+public class JumpSimulator {
+
+    private static JumpSimulator instance;
+
+    private final MinecraftClient mc = MinecraftClient.getInstance();
+    private final TerrainAnalyzer terrainAnalyzer = new TerrainAnalyzer();
+    private final FractionalNavigator fractionalNavigator = new FractionalNavigator();
+
+    // Vanilla constants (per tick)
+    private static final double GRAVITY = 0.08;
+    private static final double VERTICAL_DRAG = 0.98;
+    private static final double AIR_DRAG = 0.91;
+    private static final double JUMP_VELOCITY = 0.42;
+    private static final double JUMP_BOOST_PER_LEVEL = 0.1;
+    private static final double SPRINT_JUMP_BOOST = 0.2;
+    private static final double WALK_SPEED = 0.1;
+    private static final double SPRINT_MULTIPLIER = 1.3;
+    private static final double SPEED_PER_LEVEL = 0.2;
+    private static final double AIR_ACCELERATION = 0.02;
+    private static final double SPRINT_AIR_ACCELERATION = 0.026;
+    private static final double DEFAULT_SLIPPERINESS = 0.6;
+
+    private static final double PLAYER_HALF_WIDTH = 0.3;
+    private static final int MAX_GROUND_TICKS = 40;
+    private static final int MAX_AIR_TICKS = 60;
+    private static final int MAX_CACHE_SIZE = 4096;
+
+    private final Map<Long, JumpResult> cache = new HashMap<>();
+    private int cacheHits = 0;
+    private int simulations = 0;
+
+    public static JumpSimulator getInstance() {
+        if (instance == null) {
+            instance = new JumpSimulator();
+        }
+        return instance;
+    }
+
+    /**
+     * Simulate a jump from src to dest using the player's current modifiers
+     */
+    public JumpResult simulate(BlockPos src, BlockPos dest) {
+        // Sprinting needs more than 6 hunger
+        boolean canSprint = mc.player == null || mc.player.getHungerManager().getFoodLevel() > 6;
+        return simulate(src, dest, canSprint);
+    }
+
+    /**
+     * Simulate a jump from src to dest, forcing sprint on or off
+     */
+    public JumpResult simulate(BlockPos src, BlockPos dest, boolean sprinting) {
+        TerrainAnalyzer.TerrainType surface = terrainAnalyzer.getTerrainType(src.down());
+        int startHeight = quantize(getSurfaceHeight(src));
+        int landHeight = quantize(getSurfaceHeight(dest));
+        int jumpBoost = getEffectLevel(true);
+        int speed = getEffectLevel(false);
+
+        int dx = dest.getX() - src.getX();
+        int dy = dest.getY() - src.getY();
+        int dz = dest.getZ() - src.getZ();
+
+        long key = packKey(surface, startHeight, landHeight, dx, dy, dz, sprinting, jumpBoost, speed);
+
+        JumpResult cached = cache.get(key);
+        if (cached != null) {
+            cacheHits++;
+            return cached;
+        }
+
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            cache.clear();
+        }
+
+        double horizontal = Math.sqrt(dx * dx + dz * dz);
+        double rise = dy + (landHeight - startHeight) / 16.0;
+
+        JumpResult result = run(surface, horizontal, rise, sprinting, jumpBoost, speed);
+        cache.put(key, result);
+        simulations++;
+        return result;
+    }
+
+    /**
+     * Check if the jump from src to dest can be made
+     */
+    public boolean canJump(BlockPos src, BlockPos dest) {
+        return simulate(src, dest).isReachable();
+    }
+
+    /**
+     * Check if the jump can be made without sprinting
+     */
+    public boolean canJumpWalking(BlockPos src, BlockPos dest) {
+        return simulate(src, dest, false).isReachable();
+    }
+
+    /**
+     * Run the tick simulation along the jump axis.
+     * The player starts at rest one block behind src (the run-up block), accelerates
+     * to the edge of src and jumps when their hitbox is about to leave it.
+     */
+    private JumpResult run(TerrainAnalyzer.TerrainType surface, double horizontal, double rise,
+                           boolean sprinting, int jumpBoost, int speed) {
+        double slipperiness = getSlipperiness(surface);
+        double velocityMultiplier = getVelocityMultiplier(surface);
+        double jumpMultiplier = surface == TerrainAnalyzer.TerrainType.HONEY ? 0.5 : 1.0;
+
+        double moveSpeed = WALK_SPEED * (1.0 + SPEED_PER_LEVEL * speed);
+        if (sprinting) moveSpeed *= SPRINT_MULTIPLIER;
+
+        double friction = slipperiness * AIR_DRAG;
+        double groundAccel = moveSpeed * (0.16277136 / (friction * friction * friction));
+
+        // Positions are relative to the centre of src, along the jump direction
+        double x = -1.0;
+        double vx = 0.0;
+        double takeoff = 0.5 + PLAYER_HALF_WIDTH;
+
+        int groundTicks = 0;
+        while (x < takeoff - vx && groundTicks < MAX_GROUND_TICKS) {
+            vx += groundAccel;
+            x += vx * velocityMultiplier;
+            vx *= friction;
+            groundTicks++;
+        }
+
+        vx *= velocityMultiplier;
+        if (sprinting) vx += SPRINT_JUMP_BOOST;
+
+        double y = 0.0;
+        double vy = (JUMP_VELOCITY + JUMP_BOOST_PER_LEVEL * jumpBoost) * jumpMultiplier;
+        double airAccel = sprinting ? SPRINT_AIR_ACCELERATION : AIR_ACCELERATION;
+        double apex = 0.0;
+
+        // Landing block spans [horizontal - 0.5, horizontal + 0.5]; hitbox may overhang by half width
+        double landStart = horizontal - 0.5 - PLAYER_HALF_WIDTH;
+
+        for (int tick = 1; tick <= MAX_AIR_TICKS; tick++) {
+            vx += airAccel;
+            x += vx;
+            y += vy;
+            apex = Math.max(apex, y);
+
+            if (vy < 0 && y <= rise) {
+                return new JumpResult(apex >= rise && x >= landStart, tick, x - landStart, apex);
+            }
+
+            vx *= AIR_DRAG;
+            vy = (vy - GRAVITY) * VERTICAL_DRAG;
+        }
+
+        return new JumpResult(false, MAX_AIR_TICKS, x - landStart, apex);
+    }
+
+    /**
+     * Height of the standing surface relative to the feet block's Y
+     */
+    private double getSurfaceHeight(BlockPos feet) {
+        if (fractionalNavigator.isPartialBlock(feet)) {
+            return fractionalNavigator.getBlockTopY(feet) - feet.getY();
+        }
+        return fractionalNavigator.getBlockTopY(feet.down()) - feet.getY();
+    }
+
+    private double getSlipperiness(TerrainAnalyzer.TerrainType surface) {
+        switch (surface) {
+            case ICE:
+                return 0.98;
+            case SLIME:
+                return 0.8;
+            default:
+                return DEFAULT_SLIPPERINESS;
+        }
+    }
+
+    private double getVelocityMultiplier(TerrainAnalyzer.TerrainType surface) {
+        switch (surface) {
+            case SOUL_SAND:
+            case HONEY:
+                return 0.4;
+            default:
+                return 1.0;
+        }
+    }
+
+    private int getEffectLevel(boolean jumpBoost) {
+        if (mc.player == null) return 0;
+
+        StatusEffectInstance effect = mc.player.getStatusEffect(jumpBoost ? StatusEffects.JUMP_BOOST : StatusEffects.SPEED);
+        return effect == null ? 0 : Math.min(effect.getAmplifier() + 1, 15);
+    }
+
+    /**
+     * Heights are stored in sixteenths of a block
+     */
+    private int quantize(double height) {
+        return (int) Math.round(height * 16.0);
+    }
+
+    private long packKey(TerrainAnalyzer.TerrainType surface, int startHeight, int landHeight,
+                         int dx, int dy, int dz, boolean sprinting, int jumpBoost, int speed) {
+        long key = surface.ordinal();
+        key = (key << 8) | (startHeight & 0xFF);
+        key = (key << 8) | (landHeight & 0xFF);
+        key = (key << 8) | (dx & 0xFF);
+        key = (key << 8) | (dy & 0xFF);
+        key = (key << 8) | (dz & 0xFF);
+        key = (key << 1) | (sprinting ? 1 : 0);
+        key = (key << 4) | (jumpBoost & 0xF);
+        key = (key << 4) | (speed & 0xF);
+        return key;
+    }
+
+    /**
+     * Clear memoised verdicts
+     */
+    public void clearCache() {
+        cache.clear();
+        cacheHits = 0;
+        simulations = 0;
+    }
+
+    public int getCacheHits() {
+        return cacheHits;
+    }
+
+    public int getSimulations() {
+        return simulations;
+    }
+
+    /**
+     * Outcome of a simulated jump
+     */
+    public static class JumpResult {
+        private final boolean reachable;
+        private final int airTicks;
+        private final double margin;
+        private final double apex;
+
+        public JumpResult(boolean reachable, int airTicks, double margin, double apex) {
+            this.reachable = reachable;
+            this.airTicks = airTicks;
+            this.margin = margin;
+            this.apex = apex;
+        }
+
+        public boolean isReachable() {
+            return reachable;
+        }
+
+        /**
+         * Ticks spent in the air before landing
+         */
+        public int getAirTicks() {
+            return airTicks;
+        }
+
+        /**
+         * Horizontal distance (blocks) past the first landable point; negative = short
+         */
+        public double getMargin() {
+            return margin;
+        }
+
+        /**
+         * Highest point reached above the start surface
+         */
+        public double getApex() {
+            return apex;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,255 @@
+package com.donut.client.pathfinding;
+
+import com.donut.client.pathfinding.movements.Movement;
+import com.donut.client.pathfinding.movements.MovementProvider;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.*;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Finds the candidate goal with the lowest real path cost in a single search
+ * - Multi-target A* (Dijkstra for large candidate sets)
+ * - A goal counts as reached from any node within reach (break/attack range)
+ * - Optional per-goal penalty so macros can still weigh quality vs. travel
+ * - Goals are bucketed by reach, so large candidate sets cost little per expanded node;
+ *   callers should still pass one goal per target (e.g. one block per vein), not every block
+ */
+public class MultiGoalSearch {
+
+
+    private static final int MAX_EXPANSIONS = 6000;
+    private static final int HEURISTIC_GOAL_LIMIT = 32;
+    private static final double EYE_HEIGHT = 1.62;
+
+    private final MovementProvider movementProvider = new MovementProvider();
+
+    private boolean allowDiagonal = true;
+    private boolean allowParkour = false;
+
+    private int lastExpansions = 0;
+
+    /**
+     * Outcome of a multi-goal search
+     */
+    public static class Result {
+        private final BlockPos goal;
+        private final List<BlockPos> path;
+        private final double cost;
+
+        public Result(BlockPos goal, List<BlockPos> path, double cost) {
+            this.goal = goal;
+            this.path = path;
+            this.cost = cost;
+        }
+
+        /**
+         * The chosen candidate
+         */
+        public BlockPos getGoal() {
+            return goal;
+        }
+
+        /**
+         * Path to the standing position the goal is reached from
+         */
+        public List<BlockPos> getPath() {
+            return path;
+        }
+
+        /**
+         * Path cost plus the goal's penalty
+         */
+        public double getCost() {
+            return cost;
+        }
+    }
+
+    /**
+     * Find the goal with the cheapest path from start.
+     * Returns null if none can be reached
+     */
+    public Result findNearest(BlockPos start, Collection<BlockPos> goals, double reach) {
+        return findNearest(start, goals, reach, pos -> 0.0);
+    }
+
+    /**
+     * Find the goal minimising path cost + penalty(goal). Penalties must be >= 0.
+     * Runs on the calling thread: movements read the live world, so this must be the client thread
+     */
+    public Result findNearest(BlockPos start, Collection<BlockPos> goals, double reach, ToDoubleFunction<BlockPos> penalty) {
+        if (goals.isEmpty()) return null;
+        return search(start, new ArrayList<>(goals), reach, penalty);
+    }
+
+    /**
+     * Multi-target A*. Each expanded node checks the goals within reach of it;
+     * the search stops once no open node can beat the best goal found
+     */
+    private Result search(BlockPos start, List<BlockPos> goals, double reach, ToDoubleFunction<BlockPos> penalty) {
+        movementProvider.setAllowDiagonal(allowDiagonal);
+        movementProvider.setAllowParkour(allowParkour);
+
+        GoalIndex index = new GoalIndex(goals, reach);
+        boolean useHeuristic = goals.size() <= HEURISTIC_GOAL_LIMIT
+                && !PathBlocks.isFlying();
+
+        Map<BlockPos, Double> gScores = new HashMap<>();
+        Set<BlockPos> closed = new HashSet<>();
+        PriorityQueue<Node> open = new PriorityQueue<>(Comparator.comparingDouble(Node::getFScore));
+
+        Node startNode = new Node(start);
+        startNode.setGScore(0);
+        startNode.setHScore(useHeuristic ? index.heuristic(start) : 0);
+        gScores.put(start, 0.0);
+        open.add(startNode);
+
+        Node bestNode = null;
+        BlockPos bestGoal = null;
+        double bestCost = Double.MAX_VALUE;
+        int expansions = 0;
+
+        while (!open.isEmpty() && expansions < MAX_EXPANSIONS) {
+            Node current = open.peek();
+            if (current.getFScore() >= bestCost) break;
+
+            open.poll();
+            if (!closed.add(current.getPos())) continue;
+            expansions++;
+
+            for (BlockPos goal : index.goalsInReach(current.getPos())) {
+                double total = current.getGScore() + penalty.applyAsDouble(goal);
+                if (total < bestCost) {
+                    bestCost = total;
+                    bestGoal = goal;
+                    bestNode = current;
+                }
+            }
+
+            for (Movement movement : movementProvider.getMovements(current.getPos())) {
+                BlockPos dest = movement.getDest();
+                if (closed.contains(dest)) continue;
+                if (!movement.calculate()) continue;
+
+                double g = current.getGScore() + movement.getCost();
+                Double existing = gScores.get(dest);
+                if (existing != null && g >= existing) continue;
+
+                gScores.put(dest, g);
+                Node next = new Node(dest);
+                next.setParent(current);
+                next.setGScore(g);
+                next.setHScore(useHeuristic ? index.heuristic(dest) : 0);
+                open.add(next);
+            }
+        }
+
+        lastExpansions = expansions;
+
+        if (bestGoal == null) return null;
+
+        List<BlockPos> path = new ArrayList<>();
+        for (Node node = bestNode; node != null; node = node.getParent()) {
+            path.add(node.getPos());
+        }
+        Collections.reverse(path);
+
+        return new Result(bestGoal, path, bestCost);
+    }
+
+    /**
+     * Spatial hash of goal blocks, bucketed by reach distance
+     */
+    private static class GoalIndex {
+        private final Map<Long, List<BlockPos>> buckets = new HashMap<>();
+        private final List<BlockPos> goals;
+        private final double reachSq;
+        private final double reach;
+        private final int bucketSize;
+
+        GoalIndex(List<BlockPos> goals, double reach) {
+            this.goals = goals;
+            this.reach = reach;
+            this.reachSq = reach * reach;
+            this.bucketSize = Math.max(1, (int) Math.ceil(reach));
+
+            for (BlockPos goal : goals) {
+                buckets.computeIfAbsent(bucketKey(goal.getX(), goal.getY(), goal.getZ()), k -> new ArrayList<>()).add(goal);
+            }
+        }
+
+        private long bucketKey(int x, int y, int z) {
+            return BlockPos.asLong(
+                    Math.floorDiv(x, bucketSize),
+                    Math.floorDiv(y, bucketSize),
+                    Math.floorDiv(z, bucketSize)
+            );
+        }
+
+        /**
+         * Goals whose centre is within reach of the player's eyes standing at pos
+         */
+        List<BlockPos> goalsInReach(BlockPos pos) {
+            double eyeX = pos.getX() + 0.5;
+            double eyeY = pos.getY() + EYE_HEIGHT;
+            double eyeZ = pos.getZ() + 0.5;
+
+            int bx = Math.floorDiv((int) Math.floor(eyeX), bucketSize);
+            int by = Math.floorDiv((int) Math.floor(eyeY), bucketSize);
+            int bz = Math.floorDiv((int) Math.floor(eyeZ), bucketSize);
+
+            List<BlockPos> result = Collections.emptyList();
+
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dz = -1; dz <= 1; dz++) {
+                        List<BlockPos> bucket = buckets.get(BlockPos.asLong(bx + dx, by + dy, bz + dz));
+                        if (bucket == null) continue;
+
+                        for (BlockPos goal : bucket) {
+                            double gx = goal.getX() + 0.5 - eyeX;
+                            double gy = goal.getY() + 0.5 - eyeY;
+                            double gz = goal.getZ() + 0.5 - eyeZ;
+
+                            if (gx * gx + gy * gy + gz * gz <= reachSq) {
+                                if (result.isEmpty()) result = new ArrayList<>();
+                                result.add(goal);
+                            }
+                        }
+                    }
+                }
+            }
+
+            return result;
+        }
+
+        /**
+         * Horizontal distance to the nearest goal minus reach.
+         * Ground moves never cost less than the horizontal distance they cover
+         */
+        double heuristic(BlockPos pos) {
+            double best = Double.MAX_VALUE;
+            for (BlockPos goal : goals) {
+                double dx = goal.getX() - pos.getX();
+                double dz = goal.getZ() - pos.getZ();
+                best = Math.min(best, dx * dx + dz * dz);
+            }
+            return Math.max(0, Math.sqrt(best) - reach);
+        }
+    }
+
+    public void setAllowDiagonal(boolean allow) {
+        this.allowDiagonal = allow;
+    }
+
+    public void setAllowParkour(boolean allow) {
+        this.allowParkour = allow;
+    }
+
+    /**
+     * Nodes expanded by the last search
+     */
+    public int getLastExpansions() {
+        return lastExpansions;
+    }
+}
\ No newline at end of file
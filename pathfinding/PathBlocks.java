@@ -0,0 +1,73 @@
+package com.donut.client.pathfinding;
+
+import com.donut.client.utils.BlockUtils;
+import com.donut.client.world.WorldProvider;
+import com.donut.client.world.WorldView;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.registry.tag.BlockTags;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Block and player queries used by movements, smoothing and searches
+ * - In game: BlockUtils and the client player, as before
+ * - Headless: answered from the installed WorldView's block states, using the same
+ *   "blocks movement" rule HeadlessWorld moves its player by; a headless player never flies
+ * Lets PathFinder, MultiGoalSearch and PathSmoother run in replays and benchmarks.
+ */
+public final class PathBlocks {
+
+    private static final MinecraftClient mc = MinecraftClient.getInstance();
+
+    private PathBlocks() {}
+
+    /**
+     * True while there is a world and a player to path in
+     */
+    public static boolean isReady() {
+        return WorldProvider.getInstance().getView().isReady();
+    }
+
+    public static boolean isFlying() {
+        if (WorldProvider.getInstance().isHeadless()) return false;
+        return mc.player != null && mc.player.getAbilities().flying;
+    }
+
+    public static boolean hasCollision(BlockPos pos) {
+        WorldView view = headlessView();
+        return view != null ? view.getBlockState(pos).blocksMovement() : BlockUtils.hasCollision(pos);
+    }
+
+    public static boolean isSolid(BlockPos pos) {
+        WorldView view = headlessView();
+        return view != null ? view.getBlockState(pos).blocksMovement() : BlockUtils.isSolid(pos);
+    }
+
+    public static boolean isAir(BlockPos pos) {
+        WorldView view = headlessView();
+        return view != null ? view.getBlockState(pos).isAir() : BlockUtils.isAir(pos);
+    }
+
+    public static boolean isPassable(BlockPos pos) {
+        WorldView view = headlessView();
+        if (view == null) return BlockUtils.isPassable(pos);
+
+        BlockState state = view.getBlockState(pos);
+        return !state.blocksMovement() && state.getFluidState().isEmpty();
+    }
+
+    public static boolean isLiquid(BlockPos pos) {
+        WorldView view = headlessView();
+        return view != null ? !view.getBlockState(pos).getFluidState().isEmpty() : BlockUtils.isLiquid(pos);
+    }
+
+    public static boolean isClimbable(BlockPos pos) {
+        WorldView view = headlessView();
+        return view != null ? view.getBlockState(pos).isIn(BlockTags.CLIMBABLE) : BlockUtils.isClimbable(pos);
+    }
+
+    private static WorldView headlessView() {
+        WorldProvider provider = WorldProvider.getInstance();
+        return provider.isHeadless() ? provider.getView() : null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,287 @@
+package com.donut.client.pathfinding;
+
+import com.donut.client.event.BlockUpdateHandler;
+import com.donut.client.utils.BlockUtils;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.*;
+
+/**
+ * Cache of finished paths for routes that are requested over and over
+ * - Keyed by quantized start/goal and movement capabilities
+ * - Each entry remembers the chunk sections its path runs through
+ * - A block update in one of those sections evicts the entry
+ * - Hits are re-validated cheaply before being returned
+ * Only PathFinder.findPath callers benefit (currently /donut goto); macros that walk their own routes bypass it.
+ */
+public class PathCache implements BlockUpdateHandler.BlockUpdateListener {
+
+    private static PathCache instance;
+
+    private final MinecraftClient mc = MinecraftClient.getInstance();
+
+    private static final int QUANTUM = 2;
+    private static final int MAX_ENTRIES = 256;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            if (size() > MAX_ENTRIES) {
+                unindex(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    // Section key -> cache keys whose path depends on that section
+    private final Map<Long, Set<Key>> sectionIndex = new HashMap<>();
+
+    private ClientWorld cachedWorld = null;
+
+    // Statistics
+    private int hits = 0;
+    private int misses = 0;
+    private int evictions = 0;
+
+    private PathCache() {
+        BlockUpdateHandler.getInstance().addListener(this);
+    }
+
+    public static PathCache getInstance() {
+        if (instance == null) {
+            instance = new PathCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Get a cached path, or null if there is none or it no longer holds
+     */
+    public List<BlockPos> get(BlockPos start, BlockPos goal, int capabilities) {
+        checkWorld();
+
+        Key key = new Key(start, goal, capabilities);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+
+        if (!isStillValid(entry, (capabilities & PathFinder.CAPABILITY_FLYING) != 0)) {
+            remove(key);
+            misses++;
+            return null;
+        }
+
+        // Join the exact start/goal onto the cached route. A quantum cell can hold both ends of a step,
+        // so only a start/goal one block from the route (with room for the player) can be joined
+        List<BlockPos> path = new ArrayList<>(entry.path);
+        if (!path.get(0).equals(start)) {
+            if (!isJoinable(start, path.get(0))) {
+                misses++;
+                return null;
+            }
+            path.add(0, start);
+        }
+        if (!path.get(path.size() - 1).equals(goal)) {
+            if (!isJoinable(goal, path.get(path.size() - 1))) {
+                misses++;
+                return null;
+            }
+            path.add(goal);
+        }
+
+        hits++;
+        return path;
+    }
+
+    private static boolean isJoinable(BlockPos end, BlockPos node) {
+        boolean adjacent = Math.abs(end.getX() - node.getX()) <= 1
+                && Math.abs(end.getY() - node.getY()) <= 1
+                && Math.abs(end.getZ() - node.getZ()) <= 1;
+        return adjacent && !BlockUtils.hasCollision(end) && !BlockUtils.hasCollision(end.up());
+    }
+
+    /**
+     * Store a complete path
+     */
+    public void put(BlockPos start, BlockPos goal, int capabilities, List<BlockPos> path) {
+        if (path == null || path.size() < 2) return;
+        if (!path.get(path.size() - 1).equals(goal)) return; // Partial paths aren't cached
+
+        checkWorld();
+
+        Key key = new Key(start, goal, capabilities);
+        remove(key);
+
+        Set<Long> sections = new HashSet<>();
+        for (BlockPos pos : path) {
+            // Feet, head and ground can all sit in different sections
+            sections.add(ChunkSectionPos.toLong(pos));
+            sections.add(ChunkSectionPos.toLong(pos.up()));
+            sections.add(ChunkSectionPos.toLong(pos.down()));
+        }
+
+        Entry entry = new Entry(new ArrayList<>(path), sections);
+        entries.put(key, entry);
+
+        for (long section : sections) {
+            sectionIndex.computeIfAbsent(section, k -> new HashSet<>()).add(key);
+        }
+    }
+
+    /**
+     * Cheap re-check of a cached path: every node still has room for the player
+     */
+    private boolean isStillValid(Entry entry, boolean flying) {
+        for (BlockPos pos : entry.path) {
+            if (BlockUtils.hasCollision(pos) || BlockUtils.hasCollision(pos.up())) {
+                return false;
+            }
+        }
+
+        if (!flying) {
+            BlockPos last = entry.path.get(entry.path.size() - 1);
+            return BlockUtils.isSolid(last.down()) || BlockUtils.isLiquid(last) || BlockUtils.isClimbable(last);
+        }
+
+        return true;
+    }
+
+    @Override
+    public void onBlockUpdate(BlockPos pos, BlockState oldState, BlockState newState) {
+        invalidateSection(ChunkSectionPos.toLong(pos));
+    }
+
+    @Override
+    public void onChunkLoad(WorldChunk chunk) {
+        // Fresh chunk data may differ from what the path was planned on
+        int cx = chunk.getPos().x;
+        int cz = chunk.getPos().z;
+
+        List<Long> affected = new ArrayList<>();
+        for (long section : sectionIndex.keySet()) {
+            if (ChunkSectionPos.unpackX(section) == cx && ChunkSectionPos.unpackZ(section) == cz) {
+                affected.add(section);
+            }
+        }
+
+        for (long section : affected) {
+            invalidateSection(section);
+        }
+    }
+
+    private void invalidateSection(long section) {
+        Set<Key> keys = sectionIndex.remove(section);
+        if (keys == null) return;
+
+        for (Key key : keys) {
+            if (remove(key)) {
+                evictions++;
+            }
+        }
+    }
+
+    private boolean remove(Key key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) return false;
+
+        unindex(key, entry);
+        return true;
+    }
+
+    private void unindex(Key key, Entry entry) {
+        for (long section : entry.sections) {
+            Set<Key> keys = sectionIndex.get(section);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    sectionIndex.remove(section);
+                }
+            }
+        }
+    }
+
+    /**
+     * Paths from another world/server are meaningless
+     */
+    private void checkWorld() {
+        if (mc.world != cachedWorld) {
+            clear();
+            cachedWorld = mc.world;
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        sectionIndex.clear();
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    public int getEvictions() {
+        return evictions;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static class Entry {
+        final List<BlockPos> path;
+        final Set<Long> sections;
+
+        Entry(List<BlockPos> path, Set<Long> sections) {
+            this.path = path;
+            this.sections = sections;
+        }
+    }
+
+    /**
+     * Quantized start/goal + capability bits
+     */
+    private static class Key {
+        final long start;
+        final long goal;
+        final int capabilities;
+
+        Key(BlockPos start, BlockPos goal, int capabilities) {
+            this.start = quantize(start);
+            this.goal = quantize(goal);
+            this.capabilities = capabilities;
+        }
+
+        private static long quantize(BlockPos pos) {
+            return BlockPos.asLong(
+                    Math.floorDiv(pos.getX(), QUANTUM),
+                    Math.floorDiv(pos.getY(), QUANTUM),
+                    Math.floorDiv(pos.getZ(), QUANTUM)
+            );
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key other = (Key) obj;
+            return start == other.start && goal == other.goal && capabilities == other.capabilities;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(start, goal, capabilities);
+        }
+    }
+}
\ No newline at end of file
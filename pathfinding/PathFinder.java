@@ -1,15 +1,39 @@
 package com.donut.client.pathfinding;
 
+import com.donut.client.metrics.Profiler;
+import com.donut.client.pathfinding.movements.Movement;
+import com.donut.client.pathfinding.movements.MovementProvider;
+import com.donut.client.world.WorldProvider;
 import net.minecraft.util.math.BlockPos;
 import java.util.*;
 
 /**
  * PathFinder - A* pathfinding implementation
+ * - Ground: A* over MovementProvider moves
+ * - Flying: octree flight planner, falling back to per-block A*
  */
 public class PathFinder {
 
+    private final MovementProvider movementProvider = new MovementProvider();
+    private final FlightPlanner flightPlanner = new FlightPlanner();
+    private final PathCache pathCache = PathCache.getInstance();
+    private final DistanceFieldCache distanceFields = DistanceFieldCache.getInstance();
+
+    private static final int MAX_EXPANSIONS = 20000;
+
+    // Movement capability bits (part of the path cache key)
+    public static final int CAPABILITY_DIAGONAL = 1;
+    public static final int CAPABILITY_PARKOUR = 2;
+    public static final int CAPABILITY_FLYING = 4;
+
     private boolean allowDiagonal = true;
     private boolean allowParkour = false;
+    private boolean useCache = true;
+
+    private int lastExpansions = 0;
+
+    // Distance field for the current goal, if one has been built
+    private DistanceField goalField = null;
 
     /**
      * Set diagonal movement
@@ -25,14 +49,146 @@ public class PathFinder {
         this.allowParkour = allow;
     }
 
+    /**
+     * Enable/disable the shared path cache
+     */
+    public void setUseCache(boolean useCache) {
+        this.useCache = useCache;
+    }
+
     /**
      * Find path from start to end
      */
     public List<BlockPos> findPath(BlockPos start, BlockPos end) {
-        // Placeholder - implement A* algorithm here
+        int capabilities = getCapabilities();
+        // The cache is invalidated from the client's block updates, which a headless world doesn't send
+        boolean cache = useCache && !WorldProvider.getInstance().isHeadless();
+
+        if (cache) {
+            List<BlockPos> cached = pathCache.get(start, end, capabilities);
+            if (cached != null) {
+                lastExpansions = 0;
+                return cached;
+            }
+        }
+
+        List<BlockPos> path;
+        Profiler.push("findPath");
+        try {
+            path = search(start, end);
+        } finally {
+            Profiler.pop();
+        }
+
+        if (cache) {
+            pathCache.put(start, end, capabilities, path);
+        }
+
+        return path;
+    }
+
+    private List<BlockPos> search(BlockPos start, BlockPos end) {
+        if (PathBlocks.isFlying()) {
+            List<BlockPos> flight = flightPlanner.findPath(start, end);
+            if (flight != null) {
+                lastExpansions = flightPlanner.getLastExpansions();
+                return flight;
+            }
+        }
+
+        movementProvider.setAllowDiagonal(allowDiagonal);
+        movementProvider.setAllowParkour(allowParkour);
+        // Fields are built from client ticks, so there are none headless
+        goalField = WorldProvider.getInstance().isHeadless() ? null : distanceFields.getField(end);
+
+        // Improved nodes are re-queued as new entries; stale ones are skipped via the closed set
+        Map<BlockPos, Double> gScores = new HashMap<>();
+        Set<BlockPos> closed = new HashSet<>();
+        PriorityQueue<Node> open = new PriorityQueue<>(Comparator.comparingDouble(Node::getFScore));
+
+        Node startNode = new Node(start);
+        startNode.setGScore(0);
+        startNode.setHScore(heuristic(start, end));
+        gScores.put(start, 0.0);
+        open.add(startNode);
+
+        Node best = startNode;
+        lastExpansions = 0;
+
+        while (!open.isEmpty() && lastExpansions < MAX_EXPANSIONS) {
+            Node current = open.poll();
+            if (!closed.add(current.getPos())) continue;
+
+            lastExpansions++;
+
+            if (current.getPos().equals(end)) {
+                return buildPath(current);
+            }
+
+            if (current.getHScore() < best.getHScore()) {
+                best = current;
+            }
+
+            for (Movement movement : movementProvider.getMovements(current.getPos())) {
+                BlockPos dest = movement.getDest();
+                if (closed.contains(dest)) continue;
+                if (!movement.calculate()) continue;
+
+                double g = current.getGScore() + movement.getCost();
+                Double existing = gScores.get(dest);
+                if (existing != null && g >= existing) continue;
+
+                gScores.put(dest, g);
+                Node next = new Node(dest);
+                next.setParent(current);
+                next.setGScore(g);
+                next.setHScore(heuristic(dest, end));
+                open.add(next);
+            }
+        }
+
+        // Goal not reached - return the closest we got
+        return buildPath(best);
+    }
+
+    private int getCapabilities() {
+        int capabilities = 0;
+        if (allowDiagonal) capabilities |= CAPABILITY_DIAGONAL;
+        if (allowParkour) capabilities |= CAPABILITY_PARKOUR;
+        if (PathBlocks.isFlying()) capabilities |= CAPABILITY_FLYING;
+        return capabilities;
+    }
+
+    /**
+     * Estimated cost from pos to goal.
+     * Uses the exact cost from a distance field when the goal is a registered anchor
+     */
+    protected double heuristic(BlockPos pos, BlockPos goal) {
+        double euclidean = Math.sqrt(pos.getSquaredDistance(goal));
+
+        if (goalField != null && goalField.getAnchor().equals(goal)) {
+            double distance = goalField.getDistance(pos);
+            if (distance >= 0) {
+                return Math.max(distance, euclidean);
+            }
+        }
+
+        return euclidean;
+    }
+
+    private List<BlockPos> buildPath(Node end) {
         List<BlockPos> path = new ArrayList<>();
-        path.add(start);
-        path.add(end);
+        for (Node node = end; node != null; node = node.getParent()) {
+            path.add(node.getPos());
+        }
+        Collections.reverse(path);
         return path;
     }
+
+    /**
+     * Nodes (or flight cells) expanded by the last search
+     */
+    public int getLastExpansions() {
+        return lastExpansions;
+    }
 }
\ No newline at end of file
@@ -4,105 +4,217 @@ import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.*;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Vec3d;
 
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * PathRenderer - Draws the current path
+ * - Geometry is built once per path, relative to the first node
+ * - Straight runs can be merged into single boxes/lines (level of detail)
+ * - Runs outside the frustum or render distance are skipped
+ * - Only the colours around the current index change between frames
+ */
 public class PathRenderer {
     private final MinecraftClient mc;
 
     private boolean enabled = true;
     private boolean renderBoxes = true;
     private boolean renderLines = true;
+    private boolean mergeRuns = true;
+    private double renderDistance = 96.0;
+
+    // Cached geometry for the last path
+    private List<Node> cachedPath = null;
+    private int cachedSize = 0;
+    private boolean cachedMerge = true;
+    private BlockPos origin = BlockPos.ORIGIN;
+    private int[] coords = new int[0];
+    private final List<Run> runs = new ArrayList<>();
 
     public PathRenderer() {
         this.mc = MinecraftClient.getInstance();
     }
 
     public void render(MatrixStack matrices, List<Node> path, int currentNodeIndex, VertexConsumerProvider vertexConsumers) {
+        render(matrices, path, currentNodeIndex, vertexConsumers, null);
+    }
+
+    /**
+     * Render with frustum culling (frustum may be null)
+     */
+    public void render(MatrixStack matrices, List<Node> path, int currentNodeIndex,
+                       VertexConsumerProvider vertexConsumers, Frustum frustum) {
         if (!enabled || path == null || path.isEmpty() || mc.player == null) {
             return;
         }
 
+        if (path != cachedPath || path.size() != cachedSize || mergeRuns != cachedMerge) {
+            rebuild(path);
+        }
+
+        Vec3d cameraPos = mc.gameRenderer.getCamera().getPos();
+        List<Run> visible = getVisibleRuns(cameraPos, frustum);
+        if (visible.isEmpty()) return;
+
+        // One translation for the whole path instead of per-vertex camera offsets
+        matrices.push();
+        matrices.translate(origin.getX() - cameraPos.x, origin.getY() - cameraPos.y, origin.getZ() - cameraPos.z);
+        MatrixStack.Entry entry = matrices.peek();
+
         if (renderLines) {
-            renderPathLines(matrices, path, currentNodeIndex, vertexConsumers);
+            renderPathLines(entry, visible, currentNodeIndex, vertexConsumers);
         }
 
         if (renderBoxes) {
-            renderPathBoxes(matrices, path, currentNodeIndex, vertexConsumers);
+            renderPathBoxes(entry, visible, currentNodeIndex, vertexConsumers);
+        }
+
+        matrices.pop();
+    }
+
+    /**
+     * Rebuild node coordinates and runs for a new path
+     */
+    private void rebuild(List<Node> path) {
+        int size = path.size();
+        origin = path.get(0).getPos();
+        coords = new int[size * 3];
+
+        for (int i = 0; i < size; i++) {
+            BlockPos pos = path.get(i).getPos();
+            coords[i * 3] = pos.getX() - origin.getX();
+            coords[i * 3 + 1] = pos.getY() - origin.getY();
+            coords[i * 3 + 2] = pos.getZ() - origin.getZ();
         }
+
+        // The goal always gets its own run so it keeps its colour
+        runs.clear();
+        int last = size - 1;
+        int start = 0;
+        for (int i = 1; i <= size; i++) {
+            if (i < last && mergeRuns && continuesRun(start, i)) continue;
+
+            runs.add(new Run(start, i - 1, getBounds(start, i - 1)));
+            start = i;
+        }
+
+        cachedPath = path;
+        cachedSize = size;
+        cachedMerge = mergeRuns;
+    }
+
+    /**
+     * Check if node i extends the straight, axis-aligned run starting at start
+     */
+    private boolean continuesRun(int start, int i) {
+        int dx = coords[i * 3] - coords[(i - 1) * 3];
+        int dy = coords[i * 3 + 1] - coords[(i - 1) * 3 + 1];
+        int dz = coords[i * 3 + 2] - coords[(i - 1) * 3 + 2];
+        if (Math.abs(dx) + Math.abs(dy) + Math.abs(dz) != 1) return false;
+
+        if (i - 1 == start) return true;
+
+        return dx == coords[(start + 1) * 3] - coords[start * 3]
+                && dy == coords[(start + 1) * 3 + 1] - coords[start * 3 + 1]
+                && dz == coords[(start + 1) * 3 + 2] - coords[start * 3 + 2];
     }
 
-    private void renderPathLines(MatrixStack matrices, List<Node> path, int currentIndex, VertexConsumerProvider vertexConsumers) {
-        if (path.size() < 2) return;
+    private List<Run> getVisibleRuns(Vec3d cameraPos, Frustum frustum) {
+        List<Run> visible = new ArrayList<>();
+        double maxDistanceSq = renderDistance * renderDistance;
+
+        for (Run run : runs) {
+            if (squaredDistance(run.bounds, cameraPos) > maxDistanceSq) continue;
+            if (frustum != null && !frustum.isVisible(run.bounds)) continue;
+            visible.add(run);
+        }
+
+        return visible;
+    }
+
+    private void renderPathLines(MatrixStack.Entry entry, List<Run> visible, int currentIndex, VertexConsumerProvider vertexConsumers) {
+        if (cachedSize < 2) return;
 
         VertexConsumer buffer = vertexConsumers.getBuffer(RenderLayer.getLines());
-        MatrixStack.Entry entry = matrices.peek();
-        Vec3d cameraPos = mc.gameRenderer.getCamera().getPos();
 
-        for (int i = 0; i < path.size() - 1; i++) {
-            BlockPos pos1 = path.get(i).getPos();
-            BlockPos pos2 = path.get(i + 1).getPos();
-
-            Vec3d start = new Vec3d(
-                    pos1.getX() + 0.5 - cameraPos.x,
-                    pos1.getY() + 0.5 - cameraPos.y,
-                    pos1.getZ() + 0.5 - cameraPos.z
-            );
-            Vec3d end = new Vec3d(
-                    pos2.getX() + 0.5 - cameraPos.x,
-                    pos2.getY() + 0.5 - cameraPos.y,
-                    pos2.getZ() + 0.5 - cameraPos.z
-            );
-
-            int color;
-            if (i < currentIndex) {
-                color = 0x8000FF00;
-            } else if (i == currentIndex) {
-                color = 0xFFFFFF00;
-            } else {
-                color = 0xB300FFFF;
+        for (Run run : visible) {
+            int s = run.start;
+            int e = run.end;
+
+            // Segments s..e-1 inside the run, split around the current segment
+            if (e > s) {
+                if (currentIndex > s) {
+                    renderLine(entry, s, Math.min(currentIndex, e), 0x8000FF00, buffer);
+                }
+                if (currentIndex >= s && currentIndex < e) {
+                    renderLine(entry, currentIndex, currentIndex + 1, 0xFFFFFF00, buffer);
+                }
+                int from = Math.max(s, currentIndex + 1);
+                if (from < e) {
+                    renderLine(entry, from, e, 0xB300FFFF, buffer);
+                }
+            }
+
+            // Connector to the next run
+            if (e + 1 < cachedSize) {
+                renderLine(entry, e, e + 1, getLineColor(e, currentIndex), buffer);
             }
+        }
+    }
 
-            buffer.vertex(entry, (float)start.x, (float)start.y, (float)start.z)
-                    .color(color)
-                    .normal(entry, 0f, 1f, 0f);
-            buffer.vertex(entry, (float)end.x, (float)end.y, (float)end.z)
-                    .color(color)
-                    .normal(entry, 0f, 1f, 0f);
+    private int getLineColor(int segment, int currentIndex) {
+        if (segment < currentIndex) {
+            return 0x8000FF00;
+        } else if (segment == currentIndex) {
+            return 0xFFFFFF00;
         }
+        return 0xB300FFFF;
+    }
+
+    private void renderLine(MatrixStack.Entry entry, int from, int to, int color, VertexConsumer buffer) {
+        buffer.vertex(entry, coords[from * 3] + 0.5f, coords[from * 3 + 1] + 0.5f, coords[from * 3 + 2] + 0.5f)
+                .color(color)
+                .normal(entry, 0f, 1f, 0f);
+        buffer.vertex(entry, coords[to * 3] + 0.5f, coords[to * 3 + 1] + 0.5f, coords[to * 3 + 2] + 0.5f)
+                .color(color)
+                .normal(entry, 0f, 1f, 0f);
     }
 
-    private void renderPathBoxes(MatrixStack matrices, List<Node> path, int currentIndex, VertexConsumerProvider vertexConsumers) {
+    private void renderPathBoxes(MatrixStack.Entry entry, List<Run> visible, int currentIndex, VertexConsumerProvider vertexConsumers) {
         VertexConsumer buffer = vertexConsumers.getBuffer(RenderLayer.getDebugQuads());
-        MatrixStack.Entry entry = matrices.peek();
-        Vec3d cameraPos = mc.gameRenderer.getCamera().getPos();
+        int goal = cachedSize - 1;
 
-        for (int i = 0; i < path.size(); i++) {
-            BlockPos pos = path.get(i).getPos();
+        for (Run run : visible) {
+            int s = run.start;
+            int e = run.end;
 
-            int color;
-            if (i < currentIndex) {
-                color = 0x33008000;
-            } else if (i == currentIndex) {
-                color = 0x66FFFF00;
-            } else if (i == path.size() - 1) {
-                color = 0x80FF0000;
-            } else {
-                color = 0x4D00CCFF;
+            // Split the run into passed / current / upcoming parts
+            if (currentIndex > s) {
+                renderBox(entry, s, Math.min(currentIndex - 1, e), 0x33008000, buffer);
+            }
+            if (currentIndex >= s && currentIndex <= e) {
+                renderBox(entry, currentIndex, currentIndex, 0x66FFFF00, buffer);
+            }
+            int from = Math.max(s, currentIndex + 1);
+            if (from <= e) {
+                renderBox(entry, from, e, e == goal ? 0x80FF0000 : 0x4D00CCFF, buffer);
             }
-
-            renderBox(entry, pos, cameraPos, color, buffer);
         }
     }
 
-    private void renderBox(MatrixStack.Entry entry, BlockPos pos, Vec3d cameraPos, int color, VertexConsumer buffer) {
-        float x1 = (float)(pos.getX() - cameraPos.x);
-        float y1 = (float)(pos.getY() - cameraPos.y);
-        float z1 = (float)(pos.getZ() - cameraPos.z);
-        float x2 = x1 + 1;
-        float y2 = y1 + 1;
-        float z2 = z1 + 1;
+    /**
+     * Box covering nodes from..to of a straight run
+     */
+    private void renderBox(MatrixStack.Entry entry, int from, int to, int color, VertexConsumer buffer) {
+        float x1 = Math.min(coords[from * 3], coords[to * 3]);
+        float y1 = Math.min(coords[from * 3 + 1], coords[to * 3 + 1]);
+        float z1 = Math.min(coords[from * 3 + 2], coords[to * 3 + 2]);
+        float x2 = Math.max(coords[from * 3], coords[to * 3]) + 1;
+        float y2 = Math.max(coords[from * 3 + 1], coords[to * 3 + 1]) + 1;
+        float z2 = Math.max(coords[from * 3 + 2], coords[to * 3 + 2]) + 1;
 
         // Bottom
         buffer.vertex(entry, x1, y1, z1).color(color);
@@ -141,6 +253,36 @@ public class PathRenderer {
         buffer.vertex(entry, x2, y2, z2).color(color);
     }
 
+    /**
+     * World-space bounds of nodes from..to, including the connector to the next node
+     */
+    private Box getBounds(int from, int to) {
+        int end = Math.min(to + 1, coords.length / 3 - 1);
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+
+        for (int i : new int[]{from, to, end}) {
+            minX = Math.min(minX, coords[i * 3]);
+            minY = Math.min(minY, coords[i * 3 + 1]);
+            minZ = Math.min(minZ, coords[i * 3 + 2]);
+            maxX = Math.max(maxX, coords[i * 3]);
+            maxY = Math.max(maxY, coords[i * 3 + 1]);
+            maxZ = Math.max(maxZ, coords[i * 3 + 2]);
+        }
+
+        return new Box(
+                origin.getX() + minX, origin.getY() + minY, origin.getZ() + minZ,
+                origin.getX() + maxX + 1, origin.getY() + maxY + 1, origin.getZ() + maxZ + 1
+        );
+    }
+
+    private double squaredDistance(Box box, Vec3d pos) {
+        double dx = Math.max(Math.max(box.minX - pos.x, 0), pos.x - box.maxX);
+        double dy = Math.max(Math.max(box.minY - pos.y, 0), pos.y - box.maxY);
+        double dz = Math.max(Math.max(box.minZ - pos.z, 0), pos.z - box.maxZ);
+        return dx * dx + dy * dy + dz * dz;
+    }
+
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
     }
@@ -153,7 +295,40 @@ public class PathRenderer {
         this.renderLines = render;
     }
 
+    /**
+     * Merge straight runs of nodes into single boxes/lines
+     */
+    public void setMergeRuns(boolean merge) {
+        this.mergeRuns = merge;
+    }
+
+    public void setRenderDistance(double distance) {
+        this.renderDistance = distance;
+    }
+
+    /**
+     * Force the geometry to be rebuilt (e.g. after the path list was edited in place)
+     */
+    public void invalidate() {
+        this.cachedPath = null;
+    }
+
     public boolean isEnabled() {
         return enabled;
     }
+
+    /**
+     * A straight run of nodes start..end (inclusive)
+     */
+    private static class Run {
+        final int start;
+        final int end;
+        final Box bounds;
+
+        Run(int start, int end, Box bounds) {
+            this.start = start;
+            this.end = end;
+            this.bounds = bounds;
+        }
+    }
 }
\ No newline at end of file
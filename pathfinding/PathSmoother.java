@@ -1,14 +1,11 @@
 package com.donut.client.pathfinding;
 
-import com.donut.client.utils.BlockUtils;
-import net.minecraft.client.MinecraftClient;
 import net.minecraft.util.math.BlockPos;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class PathSmoother {
-    private static final MinecraftClient mc = MinecraftClient.getInstance();
 
     /**
      * Smooth a path by removing unnecessary intermediate nodes
@@ -48,7 +45,7 @@ public class PathSmoother {
      * Check if we can reach target directly from source
      */
     private static boolean canReachDirectly(BlockPos from, BlockPos to) {
-        if (mc.world == null) return false;
+        if (!PathBlocks.isReady()) return false;
 
         // Don't smooth if too far apart
         double distance = Math.sqrt(from.getSquaredDistance(to));
@@ -71,18 +68,18 @@ public class PathSmoother {
             );
 
             // Check if position is blocked
-            if (BlockUtils.hasCollision(check)) {
+            if (PathBlocks.hasCollision(check)) {
                 return false;
             }
 
             // Check headroom
-            if (BlockUtils.hasCollision(check.up())) {
+            if (PathBlocks.hasCollision(check.up())) {
                 return false;
             }
 
             // If not flying, need ground below (unless going down)
-            if (mc.player != null && !mc.player.getAbilities().flying) {
-                if (dy >= 0 && !BlockUtils.isSolid(check.down())) {
+            if (!PathBlocks.isFlying()) {
+                if (dy >= 0 && !PathBlocks.isSolid(check.down())) {
                     return false;
                 }
             }
@@ -1,11 +1,9 @@
 package com.donut.client.pathfinding.movements;
 
-import com.donut.client.utils.BlockUtils;
-import net.minecraft.client.MinecraftClient;
+import com.donut.client.pathfinding.PathBlocks;
 import net.minecraft.util.math.BlockPos;
 
 public class MovementAscend extends Movement {
-    private static final MinecraftClient mc = MinecraftClient.getInstance();
 
     private final int height;
 
@@ -39,25 +37,25 @@ public class MovementAscend extends Movement {
         }
 
         // CRITICAL: Check headroom - need 2 full blocks of space
-        if (!BlockUtils.isAir(dest.up()) && !BlockUtils.isPassable(dest.up())) {
+        if (!PathBlocks.isAir(dest.up()) && !PathBlocks.isPassable(dest.up())) {
             valid = false;
             return false;
         }
 
         // Extra headroom check for jumping
-        if (!BlockUtils.isAir(dest.up(2)) && !BlockUtils.isPassable(dest.up(2))) {
+        if (!PathBlocks.isAir(dest.up(2)) && !PathBlocks.isPassable(dest.up(2))) {
             valid = false;
             return false;
         }
 
         // Check ground at destination
-        if (!BlockUtils.isSolid(dest.down())) {
+        if (!PathBlocks.isSolid(dest.down())) {
             valid = false;
             return false;
         }
 
         // Check we have solid ground at source to jump from
-        if (!BlockUtils.isSolid(src.down())) {
+        if (!PathBlocks.isSolid(src.down())) {
             valid = false;
             return false;
         }
@@ -78,7 +76,7 @@ public class MovementAscend extends Movement {
             }
 
             // Need headroom at intermediate
-            if (!BlockUtils.isAir(intermediate.up()) && !BlockUtils.isPassable(intermediate.up())) {
+            if (!PathBlocks.isAir(intermediate.up()) && !PathBlocks.isPassable(intermediate.up())) {
                 valid = false;
                 return false;
             }
@@ -92,20 +90,20 @@ public class MovementAscend extends Movement {
             BlockPos between = src.add(stepX, 0, stepZ);
 
             // Need clearance above the block we're jumping from
-            if (!BlockUtils.isAir(src.up()) && !BlockUtils.isPassable(src.up())) {
+            if (!PathBlocks.isAir(src.up()) && !PathBlocks.isPassable(src.up())) {
                 valid = false;
                 return false;
             }
 
-            if (!BlockUtils.isAir(src.up(2)) && !BlockUtils.isPassable(src.up(2))) {
+            if (!PathBlocks.isAir(src.up(2)) && !PathBlocks.isPassable(src.up(2))) {
                 valid = false;
                 return false;
             }
 
             // The "between" block should either be solid (we jump over it) or air
             // If it's solid, we need clearance above it
-            if (BlockUtils.isSolid(between)) {
-                if (!BlockUtils.isAir(between.up()) && !BlockUtils.isPassable(between.up())) {
+            if (PathBlocks.isSolid(between)) {
+                if (!PathBlocks.isAir(between.up()) && !PathBlocks.isPassable(between.up())) {
                     valid = false;
                     return false;
                 }
@@ -135,7 +133,7 @@ public class MovementAscend extends Movement {
     }
 
     private boolean isWalkable(BlockPos pos) {
-        if (mc.world == null) return false;
-        return BlockUtils.isAir(pos) || BlockUtils.isPassable(pos);
+        if (!PathBlocks.isReady()) return false;
+        return PathBlocks.isAir(pos) || PathBlocks.isPassable(pos);
     }
 }
\ No newline at end of file
@@ -1,11 +1,9 @@
 package com.donut.client.pathfinding.movements;
 
-import com.donut.client.utils.BlockUtils;
-import net.minecraft.client.MinecraftClient;
+import com.donut.client.pathfinding.PathBlocks;
 import net.minecraft.util.math.BlockPos;
 
 public class MovementDescend extends Movement {
-    private static final MinecraftClient mc = MinecraftClient.getInstance();
     private static final int MAX_FALL = 10;
 
     public MovementDescend(BlockPos src, BlockPos dest) {
@@ -33,13 +31,13 @@ public class MovementDescend extends Movement {
         }
 
         // Check headroom at destination
-        if (!BlockUtils.isAir(dest.up()) && !BlockUtils.isPassable(dest.up())) {
+        if (!PathBlocks.isAir(dest.up()) && !PathBlocks.isPassable(dest.up())) {
             valid = false;
             return false;
         }
 
         // Check ground at destination (must land on something solid or in water)
-        if (!BlockUtils.isSolid(dest.down()) && !BlockUtils.isLiquid(dest)) {
+        if (!PathBlocks.isSolid(dest.down()) && !PathBlocks.isLiquid(dest)) {
             valid = false;
             return false;
         }
@@ -80,6 +78,6 @@ public class MovementDescend extends Movement {
     }
 
     private boolean isWalkable(BlockPos pos) {
-        return BlockUtils.isAir(pos) || BlockUtils.isPassable(pos);
+        return PathBlocks.isAir(pos) || PathBlocks.isPassable(pos);
     }
 }
\ No newline at end of file
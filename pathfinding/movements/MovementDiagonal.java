@@ -1,11 +1,9 @@
 package com.donut.client.pathfinding.movements;
 
-import com.donut.client.utils.BlockUtils;
-import net.minecraft.client.MinecraftClient;
+import com.donut.client.pathfinding.PathBlocks;
 import net.minecraft.util.math.BlockPos;
 
 public class MovementDiagonal extends Movement {
-    private static final MinecraftClient mc = MinecraftClient.getInstance();
 
     public MovementDiagonal(BlockPos src, BlockPos dest) {
         super(src, dest);
@@ -21,13 +19,13 @@ public class MovementDiagonal extends Movement {
         }
 
         // Check headroom
-        if (!BlockUtils.isAir(dest.up()) && !BlockUtils.isPassable(dest.up())) {
+        if (!PathBlocks.isAir(dest.up()) && !PathBlocks.isPassable(dest.up())) {
             valid = false;
             return false;
         }
 
         // Check ground
-        if (!BlockUtils.isSolid(dest.down())) {
+        if (!PathBlocks.isSolid(dest.down())) {
             valid = false;
             return false;
         }
@@ -68,6 +66,6 @@ public class MovementDiagonal extends Movement {
     }
 
     private boolean isWalkable(BlockPos pos) {
-        return BlockUtils.isAir(pos) || BlockUtils.isPassable(pos);
+        return PathBlocks.isAir(pos) || PathBlocks.isPassable(pos);
     }
 }
\ No newline at end of file
@@ -1,11 +1,9 @@
 package com.donut.client.pathfinding.movements;
 
-import com.donut.client.utils.BlockUtils;
-import net.minecraft.client.MinecraftClient;
+import com.donut.client.pathfinding.PathBlocks;
 import net.minecraft.util.math.BlockPos;
 
 public class MovementFly extends Movement {
-    private static final MinecraftClient mc = MinecraftClient.getInstance();
 
     public MovementFly(BlockPos src, BlockPos dest) {
         super(src, dest);
@@ -30,25 +28,25 @@ public class MovementFly extends Movement {
 
     @Override
     public boolean calculate() {
-        if (mc.world == null) {
+        if (!PathBlocks.isReady()) {
             valid = false;
             return false;
         }
 
         // Check if player can actually fly
-        if (mc.player == null || !mc.player.getAbilities().flying) {
+        if (!PathBlocks.isFlying()) {
             valid = false;
             return false;
         }
 
         // STRICT: Check destination has NO collision
-        if (BlockUtils.hasCollision(dest)) {
+        if (PathBlocks.hasCollision(dest)) {
             valid = false;
             return false;
         }
 
         // STRICT: Check we have clearance (flying hitbox is still 2 blocks tall)
-        if (BlockUtils.hasCollision(dest.up())) {
+        if (PathBlocks.hasCollision(dest.up())) {
             valid = false;
             return false;
         }
@@ -77,11 +75,11 @@ public class MovementFly extends Movement {
     }
 
     private boolean isPassable(BlockPos pos) {
-        return BlockUtils.isAir(pos) || BlockUtils.isPassable(pos) || BlockUtils.isLiquid(pos);
+        return PathBlocks.isAir(pos) || PathBlocks.isPassable(pos) || PathBlocks.isLiquid(pos);
     }
 
     private boolean isPathClear(BlockPos from, BlockPos to) {
-        if (mc.world == null) return false;
+        if (!PathBlocks.isReady()) return false;
 
         int dx = to.getX() - from.getX();
         int dy = to.getY() - from.getY();
@@ -99,12 +97,12 @@ public class MovementFly extends Movement {
             );
 
             // STRICT: No collision allowed
-            if (BlockUtils.hasCollision(check)) {
+            if (PathBlocks.hasCollision(check)) {
                 return false;
             }
 
             // Check player height (2 blocks tall)
-            if (BlockUtils.hasCollision(check.up())) {
+            if (PathBlocks.hasCollision(check.up())) {
                 return false;
             }
         }
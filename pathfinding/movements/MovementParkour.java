@@ -1,11 +1,10 @@
 package com.donut.client.pathfinding.movements;
 
-import com.donut.client.utils.BlockUtils;
-import net.minecraft.client.MinecraftClient;
+import com.donut.client.pathfinding.JumpSimulator;
+import com.donut.client.pathfinding.PathBlocks;
 import net.minecraft.util.math.BlockPos;
 
 public class MovementParkour extends Movement {
-    private static final MinecraftClient mc = MinecraftClient.getInstance();
 
     private final int distance;
 
@@ -36,16 +35,16 @@ public class MovementParkour extends Movement {
         }
 
         // Check source has solid ground (need sprint speed)
-        if (!BlockUtils.isSolid(src.down())) {
+        if (!PathBlocks.isSolid(src.down())) {
             valid = false;
             return false;
         }
 
         // Check we have running space (1 block behind)
         BlockPos behind = getBlockBehind(src, dest);
-        if (!BlockUtils.isSolid(behind.down()) ||
-                !BlockUtils.isAir(behind) ||
-                !BlockUtils.isAir(behind.up())) {
+        if (!PathBlocks.isSolid(behind.down()) ||
+                !PathBlocks.isAir(behind) ||
+                !PathBlocks.isAir(behind.up())) {
             valid = false;
             return false;
         }
@@ -57,13 +56,13 @@ public class MovementParkour extends Movement {
         }
 
         // Check headroom at destination
-        if (!BlockUtils.isAir(dest.up()) && !BlockUtils.isPassable(dest.up())) {
+        if (!PathBlocks.isAir(dest.up()) && !PathBlocks.isPassable(dest.up())) {
             valid = false;
             return false;
         }
 
         // Check landing has solid ground
-        if (!BlockUtils.isSolid(dest.down())) {
+        if (!PathBlocks.isSolid(dest.down())) {
             valid = false;
             return false;
         }
@@ -74,6 +73,18 @@ public class MovementParkour extends Movement {
             return false;
         }
 
+        // Check the jump is physically possible (sprint, ice, slabs, jump boost)
+        JumpSimulator.JumpResult jump = JumpSimulator.getInstance().simulate(src, dest);
+        if (!jump.isReachable()) {
+            valid = false;
+            return false;
+        }
+
+        // Barely-makeable jumps are riskier
+        if (jump.getMargin() < 0.3) {
+            cost += 1.0;
+        }
+
         valid = true;
         return true;
     }
@@ -95,7 +106,7 @@ public class MovementParkour extends Movement {
     }
 
     private boolean isWalkable(BlockPos pos) {
-        return BlockUtils.isAir(pos) || BlockUtils.isPassable(pos);
+        return PathBlocks.isAir(pos) || PathBlocks.isPassable(pos);
     }
 
     private BlockPos getBlockBehind(BlockPos from, BlockPos to) {
@@ -124,12 +135,12 @@ public class MovementParkour extends Movement {
             );
 
             // Should be air above the gap
-            if (!BlockUtils.isAir(check) && !BlockUtils.isPassable(check)) {
+            if (!PathBlocks.isAir(check) && !PathBlocks.isPassable(check)) {
                 return false;
             }
 
             // Gap below should have no ground
-            if (BlockUtils.isSolid(check.down())) {
+            if (PathBlocks.isSolid(check.down())) {
                 return false;
             }
         }
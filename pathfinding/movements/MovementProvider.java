@@ -1,6 +1,6 @@
 package com.donut.client.pathfinding.movements;
 
-import net.minecraft.client.MinecraftClient;
+import com.donut.client.pathfinding.PathBlocks;
 import net.minecraft.util.math.BlockPos;
 
 import java.util.ArrayList;
@@ -8,46 +8,76 @@ import java.util.List;
 
 public class MovementProvider {
 
-    private final MinecraftClient mc = MinecraftClient.getInstance();
-
     private boolean allowDiagonal = true;
     private boolean allowParkour = true;
     private boolean allowDescend = true;
 
+    /**
+     * Creates a movement between two positions
+     */
+    @FunctionalInterface
+    private interface MovementFactory {
+        Movement create(BlockPos src, BlockPos dest);
+    }
+
     /**
      * Get all possible movements from a position
      */
     public List<Movement> getMovements(BlockPos from) {
+        return collect(from, false);
+    }
+
+    /**
+     * Get all possible movements that end at a position (for reverse searches)
+     */
+    public List<Movement> getMovementsInto(BlockPos to) {
+        return collect(to, true);
+    }
+
+    private List<Movement> collect(BlockPos pos, boolean reverse) {
         List<Movement> movements = new ArrayList<>();
 
         // Check if flying - completely different movement set
-        if (mc.player != null && mc.player.getAbilities().flying) {
-            addFlyingMovements(movements, from);
+        if (PathBlocks.isFlying()) {
+            addFlyingMovements(movements, pos, reverse);
             return movements;
         }
 
         // Ground movement
-        addStraightMovements(movements, from);
+        addStraightMovements(movements, pos, reverse);
 
         if (allowDiagonal) {
-            addDiagonalMovements(movements, from);
+            addDiagonalMovements(movements, pos, reverse);
         }
 
-        addAscendMovements(movements, from);
+        addAscendMovements(movements, pos, reverse);
 
         if (allowDescend) {
-            addDescendMovements(movements, from);
+            addDescendMovements(movements, pos, reverse);
         }
 
         if (allowParkour) {
-            addParkourMovements(movements, from);
+            addParkourMovements(movements, pos, reverse);
         }
 
         return movements;
     }
 
-    private void addFlyingMovements(List<Movement> movements, BlockPos from) {
+    /**
+     * Add the movement pos -> pos + offset, or pos - offset -> pos when reversed
+     */
+    private void link(List<Movement> movements, MovementFactory factory, BlockPos pos,
+                      int dx, int dy, int dz, boolean reverse) {
+        if (reverse) {
+            movements.add(factory.create(pos.add(-dx, -dy, -dz), pos));
+        } else {
+            movements.add(factory.create(pos, pos.add(dx, dy, dz)));
+        }
+    }
+
+    private void addFlyingMovements(List<Movement> movements, BlockPos pos, boolean reverse) {
         // Flying allows free 3D movement in all directions
+        // Per-block fallback - PathFinder plans long flights with FlightPlanner first
         // Check nearby positions in a 3D grid
 
         for (int dx = -1; dx <= 1; dx++) {
@@ -55,7 +85,7 @@ public class MovementProvider {
                 for (int dz = -1; dz <= 1; dz++) {
                     if (dx == 0 && dy == 0 && dz == 0) continue;
 
-                    movements.add(new MovementFly(from, from.add(dx, dy, dz)));
+                    link(movements, MovementFly::new, pos, dx, dy, dz, reverse);
                 }
             }
         }
@@ -69,80 +99,80 @@ public class MovementProvider {
         };
 
         for (int[] offset : longDistances) {
-            movements.add(new MovementFly(from, from.add(offset[0], offset[1], offset[2])));
+            link(movements, MovementFly::new, pos, offset[0], offset[1], offset[2], reverse);
         }
     }
 
-    private void addStraightMovements(List<Movement> movements, BlockPos from) {
+    private void addStraightMovements(List<Movement> movements, BlockPos pos, boolean reverse) {
         // Same level
-        movements.add(new MovementStraight(from, from.add(1, 0, 0)));
-        movements.add(new MovementStraight(from, from.add(-1, 0, 0)));
-        movements.add(new MovementStraight(from, from.add(0, 0, 1)));
-        movements.add(new MovementStraight(from, from.add(0, 0, -1)));
+        link(movements, MovementStraight::new, pos, 1, 0, 0, reverse);
+        link(movements, MovementStraight::new, pos, -1, 0, 0, reverse);
+        link(movements, MovementStraight::new, pos, 0, 0, 1, reverse);
+        link(movements, MovementStraight::new, pos, 0, 0, -1, reverse);
     }
 
-    private void addDiagonalMovements(List<Movement> movements, BlockPos from) {
-        movements.add(new MovementDiagonal(from, from.add(1, 0, 1)));
-        movements.add(new MovementDiagonal(from, from.add(1, 0, -1)));
-        movements.add(new MovementDiagonal(from, from.add(-1, 0, 1)));
-        movements.add(new MovementDiagonal(from, from.add(-1, 0, -1)));
+    private void addDiagonalMovements(List<Movement> movements, BlockPos pos, boolean reverse) {
+        link(movements, MovementDiagonal::new, pos, 1, 0, 1, reverse);
+        link(movements, MovementDiagonal::new, pos, 1, 0, -1, reverse);
+        link(movements, MovementDiagonal::new, pos, -1, 0, 1, reverse);
+        link(movements, MovementDiagonal::new, pos, -1, 0, -1, reverse);
     }
 
-    private void addAscendMovements(List<Movement> movements, BlockPos from) {
+    private void addAscendMovements(List<Movement> movements, BlockPos pos, boolean reverse) {
         // REALISTIC: Only 1-2 block jumps (player can't jump higher)
         // For escaping deep holes, pathfinding will chain multiple jumps
 
         for (int height = 1; height <= 2; height++) {
             // Forward + up (most common)
-            movements.add(new MovementAscend(from, from.add(1, height, 0)));
-            movements.add(new MovementAscend(from, from.add(-1, height, 0)));
-            movements.add(new MovementAscend(from, from.add(0, height, 1)));
-            movements.add(new MovementAscend(from, from.add(0, height, -1)));
+            link(movements, MovementAscend::new, pos, 1, height, 0, reverse);
+            link(movements, MovementAscend::new, pos, -1, height, 0, reverse);
+            link(movements, MovementAscend::new, pos, 0, height, 1, reverse);
+            link(movements, MovementAscend::new, pos, 0, height, -1, reverse);
 
             // Diagonal + up
             if (allowDiagonal && height == 1) {
                 // Only allow diagonal for 1 block jumps (2 block diagonal too hard)
-                movements.add(new MovementAscend(from, from.add(1, height, 1)));
-                movements.add(new MovementAscend(from, from.add(1, height, -1)));
-                movements.add(new MovementAscend(from, from.add(-1, height, 1)));
-                movements.add(new MovementAscend(from, from.add(-1, height, -1)));
+                link(movements, MovementAscend::new, pos, 1, height, 1, reverse);
+                link(movements, MovementAscend::new, pos, 1, height, -1, reverse);
+                link(movements, MovementAscend::new, pos, -1, height, 1, reverse);
+                link(movements, MovementAscend::new, pos, -1, height, -1, reverse);
             }
         }
     }
 
-    private void addDescendMovements(List<Movement> movements, BlockPos from) {
+    private void addDescendMovements(List<Movement> movements, BlockPos pos, boolean reverse) {
         // Try falling 1-10 blocks down
         for (int dy = 1; dy <= 10; dy++) {
-            movements.add(new MovementDescend(from, from.add(1, -dy, 0)));
-            movements.add(new MovementDescend(from, from.add(-1, -dy, 0)));
-            movements.add(new MovementDescend(from, from.add(0, -dy, 1)));
-            movements.add(new MovementDescend(from, from.add(0, -dy, -1)));
+            link(movements, MovementDescend::new, pos, 1, -dy, 0, reverse);
+            link(movements, MovementDescend::new, pos, -1, -dy, 0, reverse);
+            link(movements, MovementDescend::new, pos, 0, -dy, 1, reverse);
+            link(movements, MovementDescend::new, pos, 0, -dy, -1, reverse);
 
             // Straight down
-            movements.add(new MovementDescend(from, from.add(0, -dy, 0)));
+            link(movements, MovementDescend::new, pos, 0, -dy, 0, reverse);
         }
     }
 
-    private void addParkourMovements(List<Movement> movements, BlockPos from) {
+    private void addParkourMovements(List<Movement> movements, BlockPos pos, boolean reverse) {
         // 2-4 block parkour jumps
         for (int dist = 2; dist <= 4; dist++) {
             // Same level
-            movements.add(new MovementParkour(from, from.add(dist, 0, 0)));
-            movements.add(new MovementParkour(from, from.add(-dist, 0, 0)));
-            movements.add(new MovementParkour(from, from.add(0, 0, dist)));
-            movements.add(new MovementParkour(from, from.add(0, 0, -dist)));
+            link(movements, MovementParkour::new, pos, dist, 0, 0, reverse);
+            link(movements, MovementParkour::new, pos, -dist, 0, 0, reverse);
+            link(movements, MovementParkour::new, pos, 0, 0, dist, reverse);
+            link(movements, MovementParkour::new, pos, 0, 0, -dist, reverse);
 
             // Up 1 block
-            movements.add(new MovementParkour(from, from.add(dist, 1, 0)));
-            movements.add(new MovementParkour(from, from.add(-dist, 1, 0)));
-            movements.add(new MovementParkour(from, from.add(0, 1, dist)));
-            movements.add(new MovementParkour(from, from.add(0, 1, -dist)));
+            link(movements, MovementParkour::new, pos, dist, 1, 0, reverse);
+            link(movements, MovementParkour::new, pos, -dist, 1, 0, reverse);
+            link(movements, MovementParkour::new, pos, 0, 1, dist, reverse);
+            link(movements, MovementParkour::new, pos, 0, 1, -dist, reverse);
 
             // Down 1 block
-            movements.add(new MovementParkour(from, from.add(dist, -1, 0)));
-            movements.add(new MovementParkour(from, from.add(-dist, -1, 0)));
-            movements.add(new MovementParkour(from, from.add(0, -1, dist)));
-            movements.add(new MovementParkour(from, from.add(0, -1, -dist)));
+            link(movements, MovementParkour::new, pos, dist, -1, 0, reverse);
+            link(movements, MovementParkour::new, pos, -dist, -1, 0, reverse);
+            link(movements, MovementParkour::new, pos, 0, -1, dist, reverse);
+            link(movements, MovementParkour::new, pos, 0, -1, -dist, reverse);
         }
     }
 
@@ -1,11 +1,9 @@
 package com.donut.client.pathfinding.movements;
 
-import com.donut.client.utils.BlockUtils;
-import net.minecraft.client.MinecraftClient;
+import com.donut.client.pathfinding.PathBlocks;
 import net.minecraft.util.math.BlockPos;
 
 public class MovementStraight extends Movement {
-    private static final MinecraftClient mc = MinecraftClient.getInstance();
 
     public MovementStraight(BlockPos src, BlockPos dest) {
         super(src, dest);
@@ -14,7 +12,7 @@ public class MovementStraight extends Movement {
 
     @Override
     public boolean calculate() {
-        if (mc.world == null) {
+        if (!PathBlocks.isReady()) {
             valid = false;
             return false;
         }
@@ -32,22 +30,22 @@ public class MovementStraight extends Movement {
         }
 
         // STRICT: Check destination has NO collision
-        if (BlockUtils.hasCollision(dest)) {
+        if (PathBlocks.hasCollision(dest)) {
             valid = false;
             return false;
         }
 
         // STRICT: Check headroom has NO collision
-        if (BlockUtils.hasCollision(dest.up())) {
+        if (PathBlocks.hasCollision(dest.up())) {
             valid = false;
             return false;
         }
 
         // CRITICAL: Must have solid ground below
         BlockPos below = dest.down();
-        if (!BlockUtils.isSolid(below)) {
+        if (!PathBlocks.isSolid(below)) {
             // Exception: if in water or on ladder, it's okay
-            if (!BlockUtils.isLiquid(dest) && !BlockUtils.isClimbable(dest)) {
+            if (!PathBlocks.isLiquid(dest) && !PathBlocks.isClimbable(dest)) {
                 valid = false;
                 return false;
             }
@@ -72,15 +70,15 @@ public class MovementStraight extends Movement {
     }
 
     private boolean isPassable(BlockPos pos) {
-        if (mc.world == null) return false;
+        if (!PathBlocks.isReady()) return false;
 
         // Air is always passable
-        if (BlockUtils.isAir(pos)) {
+        if (PathBlocks.isAir(pos)) {
             return true;
         }
 
         // Check if passable (plants, torches, etc)
-        if (BlockUtils.isPassable(pos)) {
+        if (PathBlocks.isPassable(pos)) {
             return true;
         }
 
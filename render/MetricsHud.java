@@ -0,0 +1,212 @@
+package com.donut.client.render;
+
+import com.donut.client.macros.Macro;
+import com.donut.client.macros.MacroManager;
+import com.donut.client.metrics.LatencyHistogram;
+import com.donut.client.metrics.Metric;
+import com.donut.client.metrics.MetricRegistry;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.DrawContext;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Live statistics of the running macro
+ * - Reads MetricRegistry snapshots once a second; frames only draw the cached lines
+ * - Cumulative metrics show a total and a rate per hour over the last minute
+ * - Tick cost shows p50/p99 over the last 10 seconds
+ */
+public class MetricsHud {
+
+    private static MetricsHud instance;
+
+    private final MinecraftClient mc = MinecraftClient.getInstance();
+
+    private static final int REFRESH_TICKS = 20;
+    private static final int RATE_WINDOW = 60;          // Samples (one per refresh)
+    private static final int LATENCY_WINDOW = 10;       // Refreshes
+    private static final long MIN_RATE_SPAN_MS = 5000;
+
+    private static final int X = 4;
+    private static final int Y = 4;
+    private static final int LINE_HEIGHT = 10;
+    private static final int PADDING = 3;
+    private static final int BG_COLOR = 0x90000000;
+    private static final int TEXT_COLOR = 0xFFFFFFFF;
+
+    private static final Text[] NO_LINES = new Text[0];
+
+    private boolean enabled = true;
+    private long tick = 0;
+
+    // What the next frames draw
+    private Text[] lines = NO_LINES;
+    private int panelWidth = 0;
+
+    // Sampling state for the tracked macro
+    private Macro tracked = null;
+    private final Map<Metric, Series> series = new IdentityHashMap<>();
+    private final long[][] tickSnapshots = new long[LATENCY_WINDOW + 1][];
+    private int snapshotHead = 0;
+    private int snapshotCount = 0;
+
+    private MetricsHud() {
+        HudRenderCallback.EVENT.register((context, tickCounter) -> render(context));
+        ClientTickEvents.END_CLIENT_TICK.register(client -> onTick());
+    }
+
+    public static MetricsHud getInstance() {
+        if (instance == null) {
+            instance = new MetricsHud();
+        }
+        return instance;
+    }
+
+    private void onTick() {
+        tick++;
+        if (tick % REFRESH_TICKS == 0) {
+            refresh();
+        }
+    }
+
+    private void refresh() {
+        Macro macro = MacroManager.getInstance().getActiveMacro();
+        if (!enabled || macro == null || !macro.isEnabled()) {
+            tracked = null;
+            lines = NO_LINES;
+            return;
+        }
+
+        if (macro != tracked) {
+            tracked = macro;
+            series.clear();
+            snapshotHead = 0;
+            snapshotCount = 0;
+        }
+
+        long now = System.currentTimeMillis();
+        List<Text> built = new ArrayList<>();
+        built.add(Text.literal(macro.getName() + " - " + macro.getRuntimeFormatted()).formatted(Formatting.GOLD));
+
+        LatencyHistogram tickHistogram = macro.getTickHistogram();
+        if (tickHistogram != null) {
+            long[] window = tickWindow(tickHistogram.snapshot());
+            long p50 = LatencyHistogram.percentile(window, 0.50);
+            long p99 = LatencyHistogram.percentile(window, 0.99);
+            if (p50 >= 0) {
+                built.add(Text.literal(String.format("Tick p50 %.2fms | p99 %.2fms", p50 / 1_000_000.0, p99 / 1_000_000.0))
+                        .formatted(p99 > 5_000_000 ? Formatting.RED : Formatting.GRAY));
+            }
+        }
+
+        for (Metric metric : MetricRegistry.getInstance().getMetrics(macro.getName())) {
+            if (metric instanceof LatencyHistogram) continue;
+
+            double value = metric.value();
+            String line = metric.getName() + ": " + formatValue(value);
+
+            if (metric.isCumulative()) {
+                double rate = series.computeIfAbsent(metric, k -> new Series()).sample(now, value);
+                if (rate >= 0) {
+                    line += " (" + formatValue(rate) + "/h)";
+                }
+            }
+            built.add(Text.literal(line));
+        }
+
+        int width = 0;
+        for (Text text : built) {
+            width = Math.max(width, mc.textRenderer.getWidth(text));
+        }
+
+        lines = built.toArray(NO_LINES);
+        panelWidth = width;
+    }
+
+    /**
+     * Push a snapshot and return the samples recorded since the oldest one kept
+     */
+    private long[] tickWindow(long[] snapshot) {
+        long[] oldest = snapshotCount > 0
+                ? tickSnapshots[(snapshotHead - snapshotCount + tickSnapshots.length) % tickSnapshots.length]
+                : null;
+
+        tickSnapshots[snapshotHead] = snapshot;
+        snapshotHead = (snapshotHead + 1) % tickSnapshots.length;
+        snapshotCount = Math.min(snapshotCount + 1, tickSnapshots.length - 1);
+
+        // The histogram restarts with each session; fall back to the whole snapshot
+        if (oldest == null || LatencyHistogram.total(oldest) > LatencyHistogram.total(snapshot)) {
+            return snapshot;
+        }
+        return LatencyHistogram.delta(snapshot, oldest);
+    }
+
+    private void render(DrawContext context) {
+        Text[] current = lines;
+        if (current.length == 0 || mc.options.hudHidden) return;
+
+        context.fill(X - PADDING, Y - PADDING, X + panelWidth + PADDING,
+                Y + current.length * LINE_HEIGHT + PADDING - 2, BG_COLOR);
+
+        for (int i = 0; i < current.length; i++) {
+            context.drawTextWithShadow(mc.textRenderer, current[i], X, Y + i * LINE_HEIGHT, TEXT_COLOR);
+        }
+    }
+
+    private static String formatValue(double value) {
+        if (value == Math.rint(value) || Math.abs(value) >= 1000) {
+            return String.format("%,d", Math.round(value));
+        }
+        return String.format("%,.1f", value);
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            lines = NO_LINES;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Last minute of values of one cumulative metric
+     */
+    private static class Series {
+        final double[] values = new double[RATE_WINDOW + 1];
+        final long[] times = new long[RATE_WINDOW + 1];
+        int head = 0;
+        int size = 0;
+
+        /**
+         * Record a value and return the rate per hour, or -1 if the window is too short
+         */
+        double sample(long now, double value) {
+            // Went down: a new session started
+            if (size > 0 && value < values[(head - 1 + values.length) % values.length]) {
+                size = 0;
+            }
+
+            values[head] = value;
+            times[head] = now;
+            head = (head + 1) % values.length;
+            size = Math.min(size + 1, values.length);
+
+            int oldest = (head - size + values.length) % values.length;
+            long span = now - times[oldest];
+            if (span < MIN_RATE_SPAN_MS) return -1;
+
+            return (value - values[oldest]) * 3_600_000.0 / span;
+        }
+    }
+}
\ No newline at end of file
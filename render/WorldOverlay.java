@@ -0,0 +1,292 @@
+package com.donut.client.render;
+
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.Frustum;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.*;
+
+/**
+ * Shared world highlight layer
+ * - Macros register highlights under an owner key (position, shape, colour, TTL)
+ * - Highlights are bucketed by chunk, so a frame only looks at chunks near the camera
+ * - One render pass: culled, sorted back to front, drawn from a shared unit box
+ */
+public class WorldOverlay {
+
+    private static WorldOverlay instance;
+
+    private final MinecraftClient mc = MinecraftClient.getInstance();
+
+    private static final int MAX_VISIBLE = 1024;
+    private static final int PURGE_INTERVAL = 20;
+    private static final float BEAM_HEIGHT = 64.0f;
+
+    // Unit cube: 6 faces x 4 corners
+    private static final float[] BOX_QUADS = {
+            0, 0, 0,  1, 0, 0,  1, 0, 1,  0, 0, 1,   // Bottom
+            0, 1, 0,  0, 1, 1,  1, 1, 1,  1, 1, 0,   // Top
+            0, 0, 0,  0, 1, 0,  1, 1, 0,  1, 0, 0,   // North
+            1, 0, 1,  1, 1, 1,  0, 1, 1,  0, 0, 1,   // South
+            0, 0, 0,  0, 0, 1,  0, 1, 1,  0, 1, 0,   // West
+            1, 0, 1,  1, 0, 0,  1, 1, 0,  1, 1, 1    // East
+    };
+
+    // Unit cube: 12 edges x 2 ends
+    private static final float[] BOX_EDGES = {
+            0, 0, 0,  1, 0, 0,   1, 0, 0,  1, 0, 1,   1, 0, 1,  0, 0, 1,   0, 0, 1,  0, 0, 0,
+            0, 1, 0,  1, 1, 0,   1, 1, 0,  1, 1, 1,   1, 1, 1,  0, 1, 1,   0, 1, 1,  0, 1, 0,
+            0, 0, 0,  0, 1, 0,   1, 0, 0,  1, 1, 0,   1, 0, 1,  1, 1, 1,   0, 0, 1,  0, 1, 1
+    };
+
+    public enum Shape {
+        BOX,        // Filled translucent box
+        OUTLINE,    // Box edges only
+        BEAM        // Thin filled column rising from the block
+    }
+
+    // Chunk key -> highlights in that chunk column
+    private final Map<Long, List<Highlight>> buckets = new HashMap<>();
+    private final Map<String, List<Highlight>> owners = new HashMap<>();
+
+    private final List<Highlight> visible = new ArrayList<>();
+    private double renderDistance = 64.0;
+    private long tick = 0;
+
+    private ClientWorld cachedWorld = null;
+
+    private WorldOverlay() {
+        WorldRenderEvents.AFTER_TRANSLUCENT.register(this::render);
+        ClientTickEvents.END_CLIENT_TICK.register(client -> onTick());
+    }
+
+    public static WorldOverlay getInstance() {
+        if (instance == null) {
+            instance = new WorldOverlay();
+        }
+        return instance;
+    }
+
+    /**
+     * Add one highlight. ttlTicks <= 0 keeps it until cleared
+     */
+    public void add(String owner, BlockPos pos, Shape shape, int color, int ttlTicks) {
+        long expiresAt = ttlTicks > 0 ? tick + ttlTicks : Long.MAX_VALUE;
+        Highlight highlight = new Highlight(pos.toImmutable(), shape, color, expiresAt);
+
+        buckets.computeIfAbsent(ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4), k -> new ArrayList<>()).add(highlight);
+        owners.computeIfAbsent(owner, k -> new ArrayList<>()).add(highlight);
+    }
+
+    /**
+     * Replace everything an owner has registered with one shape/colour per position
+     */
+    public void setHighlights(String owner, Collection<BlockPos> positions, Shape shape, int color, int ttlTicks) {
+        clear(owner);
+        for (BlockPos pos : positions) {
+            add(owner, pos, shape, color, ttlTicks);
+        }
+    }
+
+    /**
+     * Remove all highlights of an owner
+     */
+    public void clear(String owner) {
+        List<Highlight> highlights = owners.remove(owner);
+        if (highlights == null) return;
+
+        for (Highlight highlight : highlights) {
+            unbucket(highlight);
+        }
+    }
+
+    public void clearAll() {
+        buckets.clear();
+        owners.clear();
+    }
+
+    private void unbucket(Highlight highlight) {
+        long key = ChunkPos.toLong(highlight.pos.getX() >> 4, highlight.pos.getZ() >> 4);
+        List<Highlight> bucket = buckets.get(key);
+        if (bucket == null) return;
+
+        bucket.remove(highlight);
+        if (bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+    }
+
+    private void onTick() {
+        tick++;
+
+        // Highlights belong to the world they were made in
+        if (mc.world != cachedWorld) {
+            clearAll();
+            cachedWorld = mc.world;
+        }
+
+        if (tick % PURGE_INTERVAL == 0) {
+            purgeExpired();
+        }
+    }
+
+    private void purgeExpired() {
+        Iterator<Map.Entry<String, List<Highlight>>> it = owners.entrySet().iterator();
+        while (it.hasNext()) {
+            List<Highlight> highlights = it.next().getValue();
+            highlights.removeIf(highlight -> {
+                if (highlight.expiresAt > tick) return false;
+                unbucket(highlight);
+                return true;
+            });
+            if (highlights.isEmpty()) {
+                it.remove();
+            }
+        }
+    }
+
+    private void render(WorldRenderContext context) {
+        if (buckets.isEmpty() || mc.player == null) return;
+
+        VertexConsumerProvider consumers = context.consumers();
+        if (consumers == null) return;
+
+        Vec3d cameraPos = context.camera().getPos();
+        collectVisible(cameraPos, context.frustum());
+        if (visible.isEmpty()) return;
+
+        MatrixStack.Entry entry = context.matrixStack().peek();
+
+        // Translucent faces: far to near. Lines go in a second batch so each layer is drawn once
+        VertexConsumer quads = consumers.getBuffer(RenderLayer.getDebugQuads());
+        for (int i = visible.size() - 1; i >= 0; i--) {
+            Highlight highlight = visible.get(i);
+            if (highlight.shape == Shape.OUTLINE) continue;
+
+            float x = (float) (highlight.pos.getX() - cameraPos.x);
+            float y = (float) (highlight.pos.getY() - cameraPos.y);
+            float z = (float) (highlight.pos.getZ() - cameraPos.z);
+
+            if (highlight.shape == Shape.BEAM) {
+                emitQuads(quads, entry, x + 0.375f, y, z + 0.375f, 0.25f, BEAM_HEIGHT, 0.25f, highlight.color);
+            } else {
+                emitQuads(quads, entry, x, y, z, 1.0f, 1.0f, 1.0f, highlight.color);
+            }
+        }
+
+        VertexConsumer lines = consumers.getBuffer(RenderLayer.getLines());
+        for (Highlight highlight : visible) {
+            if (highlight.shape != Shape.OUTLINE) continue;
+
+            emitEdges(lines, entry,
+                    (float) (highlight.pos.getX() - cameraPos.x),
+                    (float) (highlight.pos.getY() - cameraPos.y),
+                    (float) (highlight.pos.getZ() - cameraPos.z),
+                    highlight.color);
+        }
+    }
+
+    /**
+     * Fill visible with live highlights near the camera, nearest first
+     */
+    private void collectVisible(Vec3d cameraPos, Frustum frustum) {
+        visible.clear();
+
+        double maxDistanceSq = renderDistance * renderDistance;
+        int radius = (int) Math.ceil(renderDistance / 16.0);
+        int cameraChunkX = (int) Math.floor(cameraPos.x) >> 4;
+        int cameraChunkZ = (int) Math.floor(cameraPos.z) >> 4;
+
+        for (int cx = cameraChunkX - radius; cx <= cameraChunkX + radius; cx++) {
+            for (int cz = cameraChunkZ - radius; cz <= cameraChunkZ + radius; cz++) {
+                List<Highlight> bucket = buckets.get(ChunkPos.toLong(cx, cz));
+                if (bucket == null) continue;
+
+                for (Highlight highlight : bucket) {
+                    if (highlight.expiresAt <= tick) continue;
+
+                    highlight.distanceSq = highlight.pos.getSquaredDistanceFromCenter(cameraPos.x, cameraPos.y, cameraPos.z);
+                    if (highlight.distanceSq > maxDistanceSq) continue;
+                    if (frustum != null && !frustum.isVisible(highlight.bounds)) continue;
+
+                    visible.add(highlight);
+                }
+            }
+        }
+
+        visible.sort(Comparator.comparingDouble(h -> h.distanceSq));
+        if (visible.size() > MAX_VISIBLE) {
+            visible.subList(MAX_VISIBLE, visible.size()).clear();
+        }
+    }
+
+    private void emitQuads(VertexConsumer buffer, MatrixStack.Entry entry, float x, float y, float z,
+                           float sx, float sy, float sz, int color) {
+        for (int i = 0; i < BOX_QUADS.length; i += 3) {
+            buffer.vertex(entry, x + BOX_QUADS[i] * sx, y + BOX_QUADS[i + 1] * sy, z + BOX_QUADS[i + 2] * sz)
+                    .color(color);
+        }
+    }
+
+    private void emitEdges(VertexConsumer buffer, MatrixStack.Entry entry, float x, float y, float z, int color) {
+        for (int i = 0; i < BOX_EDGES.length; i += 6) {
+            float nx = BOX_EDGES[i + 3] - BOX_EDGES[i];
+            float ny = BOX_EDGES[i + 4] - BOX_EDGES[i + 1];
+            float nz = BOX_EDGES[i + 5] - BOX_EDGES[i + 2];
+
+            buffer.vertex(entry, x + BOX_EDGES[i], y + BOX_EDGES[i + 1], z + BOX_EDGES[i + 2])
+                    .color(color)
+                    .normal(entry, nx, ny, nz);
+            buffer.vertex(entry, x + BOX_EDGES[i + 3], y + BOX_EDGES[i + 4], z + BOX_EDGES[i + 5])
+                    .color(color)
+                    .normal(entry, nx, ny, nz);
+        }
+    }
+
+    public void setRenderDistance(double distance) {
+        this.renderDistance = distance;
+    }
+
+    /**
+     * Number of registered highlights (all owners)
+     */
+    public int getCount() {
+        int count = 0;
+        for (List<Highlight> highlights : owners.values()) {
+            count += highlights.size();
+        }
+        return count;
+    }
+
+    private static class Highlight {
+        final BlockPos pos;
+        final Shape shape;
+        final int color;
+        final long expiresAt;
+        final Box bounds;
+
+        // Scratch value for the current frame's sort
+        double distanceSq;
+
+        Highlight(BlockPos pos, Shape shape, int color, long expiresAt) {
+            this.pos = pos;
+            this.shape = shape;
+            this.color = color;
+            this.expiresAt = expiresAt;
+            this.bounds = shape == Shape.BEAM
+                    ? new Box(pos.getX(), pos.getY(), pos.getZ(), pos.getX() + 1, pos.getY() + BEAM_HEIGHT, pos.getZ() + 1)
+                    : new Box(pos);
+        }
+    }
+}
\ No newline at end of file
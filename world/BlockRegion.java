@@ -0,0 +1,194 @@
+package com.donut.client.world;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtHelper;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.nbt.NbtSizeTracker;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Box of block states that can be saved, loaded and edited without a world
+ * - Palette of distinct states + one short index per block
+ * - Saved as compressed NBT, so captures from one session replay in another
+ * Outside the box everything reads as void air.
+ */
+public class BlockRegion {
+
+    private static final BlockState OUTSIDE = Blocks.VOID_AIR.getDefaultState();
+
+    private final int minX, minY, minZ;
+    private final int sizeX, sizeY, sizeZ;
+    private final short[] blocks;
+
+    private final List<BlockState> palette = new ArrayList<>();
+    private final Map<BlockState, Short> paletteIndex = new HashMap<>();
+
+    /**
+     * Empty (all air) region between min and max, inclusive
+     */
+    public BlockRegion(BlockPos min, BlockPos max) {
+        this.minX = Math.min(min.getX(), max.getX());
+        this.minY = Math.min(min.getY(), max.getY());
+        this.minZ = Math.min(min.getZ(), max.getZ());
+        this.sizeX = Math.abs(max.getX() - min.getX()) + 1;
+        this.sizeY = Math.abs(max.getY() - min.getY()) + 1;
+        this.sizeZ = Math.abs(max.getZ() - min.getZ()) + 1;
+        this.blocks = new short[sizeX * sizeY * sizeZ];
+
+        indexOf(Blocks.AIR.getDefaultState());
+    }
+
+    /**
+     * Copy every block between min and max from a live world
+     */
+    public static BlockRegion capture(World world, BlockPos min, BlockPos max) {
+        return capture(world::getBlockState, min, max);
+    }
+
+    /**
+     * Copy every block between min and max through a world view (live or headless)
+     */
+    public static BlockRegion capture(WorldView world, BlockPos min, BlockPos max) {
+        return capture(world::getBlockState, min, max);
+    }
+
+    private static BlockRegion capture(Function<BlockPos, BlockState> world, BlockPos min, BlockPos max) {
+        BlockRegion region = new BlockRegion(min, max);
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+
+        for (int y = 0; y < region.sizeY; y++) {
+            for (int z = 0; z < region.sizeZ; z++) {
+                for (int x = 0; x < region.sizeX; x++) {
+                    pos.set(region.minX + x, region.minY + y, region.minZ + z);
+                    region.blocks[region.index(x, y, z)] = region.indexOf(world.apply(pos));
+                }
+            }
+        }
+        return region;
+    }
+
+    public BlockState getBlockState(BlockPos pos) {
+        return getBlockState(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public BlockState getBlockState(int x, int y, int z) {
+        if (!contains(x, y, z)) return OUTSIDE;
+        return palette.get(blocks[index(x - minX, y - minY, z - minZ)] & 0xFFFF);
+    }
+
+    public void setBlockState(BlockPos pos, BlockState state) {
+        if (!contains(pos.getX(), pos.getY(), pos.getZ())) return;
+        blocks[index(pos.getX() - minX, pos.getY() - minY, pos.getZ() - minZ)] = indexOf(state);
+    }
+
+    /**
+     * Set every block between a and b (inclusive) that lies inside the region
+     */
+    public void fill(BlockPos a, BlockPos b, BlockState state) {
+        short id = indexOf(state);
+        for (int y = Math.max(minY, Math.min(a.getY(), b.getY())); y <= Math.min(minY + sizeY - 1, Math.max(a.getY(), b.getY())); y++) {
+            for (int z = Math.max(minZ, Math.min(a.getZ(), b.getZ())); z <= Math.min(minZ + sizeZ - 1, Math.max(a.getZ(), b.getZ())); z++) {
+                for (int x = Math.max(minX, Math.min(a.getX(), b.getX())); x <= Math.min(minX + sizeX - 1, Math.max(a.getX(), b.getX())); x++) {
+                    blocks[index(x - minX, y - minY, z - minZ)] = id;
+                }
+            }
+        }
+    }
+
+    public boolean contains(int x, int y, int z) {
+        return x >= minX && x < minX + sizeX
+                && y >= minY && y < minY + sizeY
+                && z >= minZ && z < minZ + sizeZ;
+    }
+
+    /**
+     * True if any part of the chunk column lies inside the region
+     */
+    public boolean containsChunk(int chunkX, int chunkZ) {
+        return (chunkX << 4) + 15 >= minX && (chunkX << 4) < minX + sizeX
+                && (chunkZ << 4) + 15 >= minZ && (chunkZ << 4) < minZ + sizeZ;
+    }
+
+    public BlockPos getMin() {
+        return new BlockPos(minX, minY, minZ);
+    }
+
+    public BlockPos getMax() {
+        return new BlockPos(minX + sizeX - 1, minY + sizeY - 1, minZ + sizeZ - 1);
+    }
+
+    public void save(Path file) throws IOException {
+        NbtCompound root = new NbtCompound();
+        root.putIntArray("min", new int[]{minX, minY, minZ});
+        root.putIntArray("size", new int[]{sizeX, sizeY, sizeZ});
+
+        NbtList states = new NbtList();
+        for (BlockState state : palette) {
+            states.add(NbtHelper.fromBlockState(state));
+        }
+        root.put("palette", states);
+
+        // Two indices per int
+        int[] packed = new int[(blocks.length + 1) / 2];
+        for (int i = 0; i < blocks.length; i++) {
+            packed[i >> 1] |= (blocks[i] & 0xFFFF) << ((i & 1) << 4);
+        }
+        root.putIntArray("blocks", packed);
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        NbtIo.writeCompressed(root, file);
+    }
+
+    public static BlockRegion load(Path file) throws IOException {
+        NbtCompound root = NbtIo.readCompressed(file, NbtSizeTracker.ofUnlimitedBytes());
+
+        int[] min = root.getIntArray("min").orElseThrow(() -> new IOException("Region has no min: " + file));
+        int[] size = root.getIntArray("size").orElseThrow(() -> new IOException("Region has no size: " + file));
+        BlockRegion region = new BlockRegion(
+                new BlockPos(min[0], min[1], min[2]),
+                new BlockPos(min[0] + size[0] - 1, min[1] + size[1] - 1, min[2] + size[2] - 1));
+
+        NbtList states = root.getListOrEmpty("palette");
+        short[] remap = new short[states.size()];
+        for (int i = 0; i < states.size(); i++) {
+            remap[i] = region.indexOf(NbtHelper.toBlockState(Registries.BLOCK, states.getCompoundOrEmpty(i)));
+        }
+
+        int[] packed = root.getIntArray("blocks").orElseThrow(() -> new IOException("Region has no blocks: " + file));
+        for (int i = 0; i < region.blocks.length; i++) {
+            int id = (packed[i >> 1] >>> ((i & 1) << 4)) & 0xFFFF;
+            region.blocks[i] = remap[id];
+        }
+        return region;
+    }
+
+    private short indexOf(BlockState state) {
+        Short id = paletteIndex.get(state);
+        if (id == null) {
+            id = (short) palette.size();
+            palette.add(state);
+            paletteIndex.put(state, id);
+        }
+        return id;
+    }
+
+    private int index(int x, int y, int z) {
+        return (y * sizeZ + z) * sizeX + x;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,247 @@
+package com.donut.client.world;
+
+import com.donut.client.metrics.Profiler;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Chunk scan shared by the block indexes (gemstone veins, trees, commission ores)
+ * - Loaded chunks are queued nearest ring first and read a few sections per tick
+ * - Sections whose palette has nothing the filter accepts are skipped without reading a block
+ * - Every accepted block goes to the owner's visitor; the owner keeps its own data
+ * - A world change drops the owner's data through its reset callback and starts over
+ * Headless there are no palettes, so every section in the view's height range is read block by block.
+ */
+public class ChunkScanner {
+
+    private static final int SECTIONS_PER_TICK = 8;
+    private static final int HEADLESS_VIEW_DISTANCE = 32;
+
+    /**
+     * Called for every block the filter accepts. pos is reused between calls
+     */
+    public interface BlockVisitor {
+        void visit(BlockPos pos, BlockState state);
+    }
+
+    private final MinecraftClient mc = MinecraftClient.getInstance();
+
+    private final String name;
+    private final Predicate<BlockState> filter;
+    private final BlockVisitor visitor;
+    private final Runnable reset;
+
+    private final Set<Long> pending = new LinkedHashSet<>();
+    private final Set<Long> scanned = new HashSet<>();
+
+    private boolean active = false;
+    private Object cachedWorld = null;
+
+    /**
+     * name is the profiler section; reset clears the owner's data when the world changes
+     */
+    public ChunkScanner(String name, Predicate<BlockState> filter, BlockVisitor visitor, Runnable reset) {
+        this.name = name;
+        this.filter = filter;
+        this.visitor = visitor;
+        this.reset = reset;
+    }
+
+    /**
+     * Start (queues every loaded chunk) or stop. Either way nothing counts as scanned afterwards
+     */
+    public void setActive(boolean active) {
+        this.active = active;
+        pending.clear();
+        scanned.clear();
+        cachedWorld = currentWorld();
+        if (active) {
+            queueLoadedChunks();
+        }
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * True once the chunk containing pos has been scanned
+     */
+    public boolean isScanned(BlockPos pos) {
+        return scanned.contains(ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4));
+    }
+
+    /**
+     * Reset the owner and requeue when the world (or the installed headless view) changed
+     */
+    public void checkWorld() {
+        Object world = currentWorld();
+        if (world != cachedWorld) {
+            pending.clear();
+            scanned.clear();
+            reset.run();
+            cachedWorld = world;
+            if (active) {
+                queueLoadedChunks();
+            }
+        }
+    }
+
+    /**
+     * Scan queued chunks up to the per-tick section budget. False if there was nothing to scan
+     */
+    public boolean tick() {
+        checkWorld();
+        if (!active || pending.isEmpty()) return false;
+
+        Profiler.push(name);
+        try {
+            scan(SECTIONS_PER_TICK);
+        } finally {
+            Profiler.pop();
+        }
+        return true;
+    }
+
+    /**
+     * Scan every queued chunk now. Replays and benchmarks get no client ticks
+     */
+    public void flush() {
+        checkWorld();
+        if (active) {
+            scan(Integer.MAX_VALUE);
+        }
+    }
+
+    public void onChunkLoad(WorldChunk chunk) {
+        if (!active) return;
+        pending.add(chunk.getPos().toLong());
+    }
+
+    /**
+     * Forget an unloaded chunk. True if it had been scanned, so the owner should drop its blocks
+     */
+    public boolean onChunkUnload(ChunkPos pos) {
+        if (!active) return false;
+
+        long key = pos.toLong();
+        pending.remove(key);
+        return scanned.remove(key);
+    }
+
+    private void scan(int budget) {
+        Iterator<Long> it = pending.iterator();
+        while (budget > 0 && it.hasNext()) {
+            long key = it.next();
+            it.remove();
+            budget -= scanChunk(key);
+        }
+    }
+
+    /**
+     * Visit every accepted block in a loaded chunk. Returns the number of sections read
+     */
+    private int scanChunk(long key) {
+        int chunkX = ChunkPos.getPackedX(key);
+        int chunkZ = ChunkPos.getPackedZ(key);
+        WorldProvider provider = WorldProvider.getInstance();
+        WorldView view = provider.getView();
+        if (!view.isChunkLoaded(chunkX, chunkZ)) return 0;
+
+        int read = provider.isHeadless()
+                ? scanView(view, chunkX, chunkZ)
+                : scanSections(mc.world.getChunk(chunkX, chunkZ), chunkX, chunkZ);
+
+        scanned.add(key);
+        return read;
+    }
+
+    private int scanSections(WorldChunk chunk, int chunkX, int chunkZ) {
+        ChunkSection[] sections = chunk.getSectionArray();
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        int read = 0;
+
+        for (int i = 0; i < sections.length; i++) {
+            ChunkSection section = sections[i];
+            if (section.isEmpty() || !section.getBlockStateContainer().hasAny(filter)) continue;
+
+            read++;
+            int baseY = chunk.sectionIndexToCoord(i) << 4;
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        BlockState state = section.getBlockState(x, y, z);
+                        if (!filter.test(state)) continue;
+
+                        pos.set((chunkX << 4) + x, baseY + y, (chunkZ << 4) + z);
+                        visitor.visit(pos, state);
+                    }
+                }
+            }
+        }
+        return read;
+    }
+
+    private int scanView(WorldView view, int chunkX, int chunkZ) {
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        int read = 0;
+
+        for (int section = view.getBottomY() >> 4; section <= view.getTopY() >> 4; section++) {
+            read++;
+            for (int y = section << 4; y < (section + 1) << 4; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        pos.set((chunkX << 4) + x, y, (chunkZ << 4) + z);
+                        BlockState state = view.getBlockState(pos);
+                        if (filter.test(state)) {
+                            visitor.visit(pos, state);
+                        }
+                    }
+                }
+            }
+        }
+        return read;
+    }
+
+    private void queueLoadedChunks() {
+        WorldProvider provider = WorldProvider.getInstance();
+        WorldView view = provider.getView();
+        if (!view.isReady()) return;
+
+        int radius = provider.isHeadless() ? HEADLESS_VIEW_DISTANCE : mc.options.getClampedViewDistance();
+        BlockPos center = view.getPlayer().getBlockPos();
+        int centerX = center.getX() >> 4;
+        int centerZ = center.getZ() >> 4;
+
+        // Nearest rings first so the area around the player is ready soonest
+        for (int ring = 0; ring <= radius; ring++) {
+            for (int cx = centerX - ring; cx <= centerX + ring; cx++) {
+                for (int cz = centerZ - ring; cz <= centerZ + ring; cz++) {
+                    if (Math.max(Math.abs(cx - centerX), Math.abs(cz - centerZ)) != ring) continue;
+                    if (view.isChunkLoaded(cx, cz)) {
+                        pending.add(ChunkPos.toLong(cx, cz));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Identity of what is being scanned: the installed headless view, else the client world
+     */
+    private Object currentWorld() {
+        WorldProvider provider = WorldProvider.getInstance();
+        if (provider.isHeadless()) return provider.getView();
+        return mc != null ? mc.world : null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,238 @@
+package com.donut.client.world;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.client.option.KeyBinding;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.mob.HostileEntity;
+import net.minecraft.entity.passive.PassiveEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.Hand;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WorldView over the running client
+ */
+public class ClientWorldView implements WorldView {
+
+    private final MinecraftClient mc = MinecraftClient.getInstance();
+    private final LivePlayer player = new LivePlayer();
+
+    @Override
+    public boolean isReady() {
+        return mc.world != null && mc.player != null;
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        return mc.world != null ? mc.world.getBlockState(pos) : Blocks.VOID_AIR.getDefaultState();
+    }
+
+    @Override
+    public boolean isChunkLoaded(int chunkX, int chunkZ) {
+        return mc.world != null && mc.world.getChunkManager().isChunkLoaded(chunkX, chunkZ);
+    }
+
+    @Override
+    public int getBottomY() {
+        return mc.world != null ? mc.world.getBottomY() : 0;
+    }
+
+    @Override
+    public int getTopY() {
+        return mc.world != null ? mc.world.getTopYInclusive() : 0;
+    }
+
+    @Override
+    public PlayerView getPlayer() {
+        return mc.player != null ? player : null;
+    }
+
+    @Override
+    public List<EntityView> getLivingEntities() {
+        List<EntityView> entities = new ArrayList<>();
+        if (mc.world == null) return entities;
+
+        for (Entity entity : mc.world.getEntities()) {
+            if (!(entity instanceof LivingEntity) || entity == mc.player) continue;
+            entities.add(new LiveEntity((LivingEntity) entity));
+        }
+        return entities;
+    }
+
+    @Override
+    public long getTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public void setKey(Key key, boolean pressed) {
+        if (mc.options == null) return;
+
+        KeyBinding binding;
+        switch (key) {
+            case FORWARD: binding = mc.options.forwardKey; break;
+            case BACK: binding = mc.options.backKey; break;
+            case LEFT: binding = mc.options.leftKey; break;
+            case RIGHT: binding = mc.options.rightKey; break;
+            case JUMP: binding = mc.options.jumpKey; break;
+            default: binding = mc.options.sneakKey; break;
+        }
+        binding.setPressed(pressed);
+    }
+
+    @Override
+    public void breakBlock(BlockPos pos) {
+        if (mc.interactionManager == null || mc.player == null) return;
+
+        // Hit the face pointing at the player
+        Vec3d eyes = mc.player.getEyePos();
+        Vec3d center = Vec3d.ofCenter(pos);
+        Direction side = Direction.getFacing((float) (eyes.x - center.x), (float) (eyes.y - center.y), (float) (eyes.z - center.z));
+
+        if (mc.interactionManager.updateBlockBreakingProgress(pos, side)) {
+            mc.player.swingHand(Hand.MAIN_HAND);
+        }
+    }
+
+    private class LivePlayer implements PlayerView {
+        private ClientPlayerEntity entity() {
+            return mc.player;
+        }
+
+        @Override
+        public Vec3d getPos() {
+            return entity().getPos();
+        }
+
+        @Override
+        public Vec3d getEyePos() {
+            return entity().getEyePos();
+        }
+
+        @Override
+        public BlockPos getBlockPos() {
+            return entity().getBlockPos();
+        }
+
+        @Override
+        public Direction getHorizontalFacing() {
+            return entity().getHorizontalFacing();
+        }
+
+        @Override
+        public float getHealth() {
+            return entity().getHealth();
+        }
+
+        @Override
+        public boolean isOnGround() {
+            return entity().isOnGround();
+        }
+
+        @Override
+        public boolean isSprinting() {
+            return entity().isSprinting();
+        }
+
+        @Override
+        public void setSprinting(boolean sprinting) {
+            entity().setSprinting(sprinting);
+        }
+
+        @Override
+        public boolean hasHorizontalCollision() {
+            return entity().horizontalCollision;
+        }
+
+        @Override
+        public float getYaw() {
+            return entity().getYaw();
+        }
+
+        @Override
+        public float getPitch() {
+            return entity().getPitch();
+        }
+
+        @Override
+        public void setYaw(float yaw) {
+            entity().setYaw(yaw);
+        }
+
+        @Override
+        public void setPitch(float pitch) {
+            entity().setPitch(pitch);
+        }
+
+        @Override
+        public int getEmptySlots() {
+            int empty = 0;
+            for (int i = 0; i < 36; i++) {
+                if (entity().getInventory().getStack(i).isEmpty()) {
+                    empty++;
+                }
+            }
+            return empty;
+        }
+    }
+
+    private static class LiveEntity implements EntityView {
+        private final LivingEntity entity;
+
+        LiveEntity(LivingEntity entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        public int getId() {
+            return entity.getId();
+        }
+
+        @Override
+        public String getName() {
+            return entity.getName().getString();
+        }
+
+        @Override
+        public Kind getKind() {
+            if (entity instanceof PlayerEntity) return Kind.PLAYER;
+            if (entity instanceof HostileEntity) return Kind.HOSTILE;
+            if (entity instanceof PassiveEntity) return Kind.PASSIVE;
+            return Kind.OTHER;
+        }
+
+        @Override
+        public Vec3d getPos() {
+            return entity.getPos();
+        }
+
+        @Override
+        public Vec3d getEyePos() {
+            return entity.getEyePos();
+        }
+
+        @Override
+        public BlockPos getBlockPos() {
+            return entity.getBlockPos();
+        }
+
+        @Override
+        public float getHealth() {
+            return entity.getHealth();
+        }
+
+        @Override
+        public boolean isAlive() {
+            return entity.isAlive();
+        }
+    }
+}
\ No newline at end of file
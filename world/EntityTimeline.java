@@ -0,0 +1,148 @@
+package com.donut.client.world;
+
+import net.minecraft.util.math.Vec3d;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Scripted entity events for a headless replay
+ * - spawn / move / damage / remove, each at a fixed tick
+ * - Entity id 0 is the player (damage only)
+ * Text form, one event per line ('#' starts a comment):
+ *   20 spawn 1 HOSTILE Zombie 10.5 64 3.5 20
+ *   40 move 1 11.5 64 3.5
+ *   60 damage 1 5
+ *   80 remove 1
+ */
+public class EntityTimeline {
+
+    public enum Action {
+        SPAWN, MOVE, DAMAGE, REMOVE
+    }
+
+    private final List<Event> events = new ArrayList<>();
+    private boolean sorted = true;
+    private int cursor = 0;
+
+    public EntityTimeline spawn(long tick, int id, EntityView.Kind kind, String name, Vec3d pos, float health) {
+        return add(new Event(tick, Action.SPAWN, id, kind, name, pos, health));
+    }
+
+    public EntityTimeline move(long tick, int id, Vec3d pos) {
+        return add(new Event(tick, Action.MOVE, id, null, null, pos, 0));
+    }
+
+    public EntityTimeline damage(long tick, int id, float amount) {
+        return add(new Event(tick, Action.DAMAGE, id, null, null, null, amount));
+    }
+
+    public EntityTimeline remove(long tick, int id) {
+        return add(new Event(tick, Action.REMOVE, id, null, null, null, 0));
+    }
+
+    private EntityTimeline add(Event event) {
+        if (!events.isEmpty() && events.get(events.size() - 1).tick > event.tick) {
+            sorted = false;
+        }
+        events.add(event);
+        return this;
+    }
+
+    /**
+     * Apply every event scheduled at or before tick that has not run yet
+     */
+    void apply(long tick, HeadlessWorld world) {
+        if (!sorted) {
+            events.sort(Comparator.comparingLong(event -> event.tick));
+            sorted = true;
+        }
+
+        while (cursor < events.size() && events.get(cursor).tick <= tick) {
+            world.apply(events.get(cursor++));
+        }
+    }
+
+    /**
+     * Start from the first event again
+     */
+    public void rewind() {
+        cursor = 0;
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    public static EntityTimeline load(Path file) throws IOException {
+        return parse(Files.readAllLines(file));
+    }
+
+    public static EntityTimeline parse(List<String> lines) {
+        EntityTimeline timeline = new EntityTimeline();
+
+        for (int lineNumber = 1; lineNumber <= lines.size(); lineNumber++) {
+            String line = lines.get(lineNumber - 1);
+            int comment = line.indexOf('#');
+            if (comment >= 0) line = line.substring(0, comment);
+            line = line.trim();
+            if (line.isEmpty()) continue;
+
+            String[] parts = line.split("\\s+");
+            try {
+                long tick = Long.parseLong(parts[0]);
+                Action action = Action.valueOf(parts[1].toUpperCase(Locale.ROOT));
+                int id = Integer.parseInt(parts[2]);
+
+                switch (action) {
+                    case SPAWN:
+                        timeline.spawn(tick, id, EntityView.Kind.valueOf(parts[3].toUpperCase(Locale.ROOT)), parts[4],
+                                vec(parts, 5), Float.parseFloat(parts[8]));
+                        break;
+                    case MOVE:
+                        timeline.move(tick, id, vec(parts, 3));
+                        break;
+                    case DAMAGE:
+                        timeline.damage(tick, id, Float.parseFloat(parts[3]));
+                        break;
+                    case REMOVE:
+                        timeline.remove(tick, id);
+                        break;
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Bad timeline line " + lineNumber + ": " + lines.get(lineNumber - 1), e);
+            }
+        }
+
+        return timeline;
+    }
+
+    private static Vec3d vec(String[] parts, int start) {
+        return new Vec3d(Double.parseDouble(parts[start]), Double.parseDouble(parts[start + 1]), Double.parseDouble(parts[start + 2]));
+    }
+
+    static class Event {
+        final long tick;
+        final Action action;
+        final int id;
+        final EntityView.Kind kind;
+        final String name;
+        final Vec3d pos;
+        final float value;
+
+        Event(long tick, Action action, int id, EntityView.Kind kind, String name, Vec3d pos, float value) {
+            this.tick = tick;
+            this.action = action;
+            this.id = id;
+            this.kind = kind;
+            this.name = name;
+            this.pos = pos;
+            this.value = value;
+        }
+    }
+}
\ No newline at end of file
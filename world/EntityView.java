@@ -0,0 +1,32 @@
+package com.donut.client.world;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * A living entity as seen by macros. Stays valid after the entity dies (isAlive() turns false)
+ */
+public interface EntityView {
+
+    enum Kind {
+        PLAYER, HOSTILE, PASSIVE, OTHER
+    }
+
+    int getId();
+
+    String getName();
+
+    Kind getKind();
+
+    Vec3d getPos();
+
+    Vec3d getEyePos();
+
+    default BlockPos getBlockPos() {
+        return BlockPos.ofFloored(getPos());
+    }
+
+    float getHealth();
+
+    boolean isAlive();
+}
\ No newline at end of file
@@ -0,0 +1,381 @@
+package com.donut.client.world;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WorldView with no client, server or GPU behind it
+ * - Blocks come from a BlockRegion, entities from an EntityTimeline
+ * - The player is a coarse kinematic body: walks with the movement keys, steps up one block
+ *   when jumping into a wall, falls one block per tick. Not Minecraft physics, but deterministic
+ * - Time advances 50 ms per tick()
+ */
+public class HeadlessWorld implements WorldView {
+
+    private static final double WALK_SPEED = 0.216;
+    private static final double SPRINT_SPEED = 0.281;
+    private static final double EYE_HEIGHT = 1.62;
+    private static final double REACH = 6.0;
+
+    private static boolean bootstrapped = false;
+
+    private final BlockRegion region;
+    private final HeadlessPlayer player;
+    private EntityTimeline timeline = new EntityTimeline();
+
+    private final Map<Integer, HeadlessEntity> entities = new LinkedHashMap<>();
+    private final EnumSet<Key> keys = EnumSet.noneOf(Key.class);
+
+    private long tick = 0;
+    private double breakTicksPerHardness = 10.0;
+
+    // Block currently being broken
+    private BlockPos breakingPos = null;
+    private int breakingTicks = 0;
+    private int brokenBlocks = 0;
+
+    public HeadlessWorld(BlockRegion region, Vec3d playerPos) {
+        this.region = region;
+        this.player = new HeadlessPlayer(playerPos);
+    }
+
+    /**
+     * Load Minecraft's registries so block states exist. Needed once per JVM outside the game
+     */
+    public static synchronized void bootstrap() {
+        if (bootstrapped) return;
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+        bootstrapped = true;
+    }
+
+    public void setTimeline(EntityTimeline timeline) {
+        this.timeline = timeline;
+        timeline.rewind();
+    }
+
+    /**
+     * How many ticks of breakBlock() one point of block hardness takes
+     */
+    public void setBreakTicksPerHardness(double ticks) {
+        this.breakTicksPerHardness = ticks;
+    }
+
+    /**
+     * Advance one tick: scripted events first, then player movement
+     */
+    public void tick() {
+        timeline.apply(tick, this);
+        player.move();
+        tick++;
+    }
+
+    void apply(EntityTimeline.Event event) {
+        if (event.id == 0) {
+            if (event.action == EntityTimeline.Action.DAMAGE) {
+                player.health = Math.max(0, player.health - event.value);
+            }
+            return;
+        }
+
+        HeadlessEntity entity = entities.get(event.id);
+        switch (event.action) {
+            case SPAWN:
+                entities.put(event.id, new HeadlessEntity(event.id, event.name, event.kind, event.pos, event.value));
+                break;
+            case MOVE:
+                if (entity != null) entity.pos = event.pos;
+                break;
+            case DAMAGE:
+                if (entity != null) {
+                    entity.health = Math.max(0, entity.health - event.value);
+                    if (entity.health <= 0) kill(entity);
+                }
+                break;
+            case REMOVE:
+                if (entity != null) kill(entity);
+                break;
+        }
+    }
+
+    private void kill(HeadlessEntity entity) {
+        entity.alive = false;
+        entities.remove(entity.id);
+    }
+
+    @Override
+    public boolean isReady() {
+        return true;
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        return region.getBlockState(pos);
+    }
+
+    @Override
+    public boolean isChunkLoaded(int chunkX, int chunkZ) {
+        return region.containsChunk(chunkX, chunkZ);
+    }
+
+    @Override
+    public int getBottomY() {
+        return region.getMin().getY();
+    }
+
+    @Override
+    public int getTopY() {
+        return region.getMax().getY();
+    }
+
+    @Override
+    public PlayerView getPlayer() {
+        return player;
+    }
+
+    @Override
+    public List<EntityView> getLivingEntities() {
+        return new ArrayList<>(entities.values());
+    }
+
+    @Override
+    public long getTimeMillis() {
+        return tick * 50;
+    }
+
+    @Override
+    public void setKey(Key key, boolean pressed) {
+        if (pressed) {
+            keys.add(key);
+        } else {
+            keys.remove(key);
+        }
+    }
+
+    @Override
+    public void breakBlock(BlockPos pos) {
+        BlockState state = region.getBlockState(pos);
+        if (state.isAir() || player.getEyePos().squaredDistanceTo(Vec3d.ofCenter(pos)) > REACH * REACH) return;
+
+        float hardness = state.getBlock().getHardness();
+        if (hardness < 0) return;
+
+        if (!pos.equals(breakingPos)) {
+            breakingPos = pos.toImmutable();
+            breakingTicks = 0;
+        }
+
+        breakingTicks++;
+        if (breakingTicks >= Math.max(1, (int) Math.ceil(hardness * breakTicksPerHardness))) {
+            region.setBlockState(pos, Blocks.AIR.getDefaultState());
+            breakingPos = null;
+            brokenBlocks++;
+        }
+    }
+
+    public BlockRegion getRegion() {
+        return region;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public int getBrokenBlocks() {
+        return brokenBlocks;
+    }
+
+    public void setPlayerEmptySlots(int slots) {
+        player.emptySlots = slots;
+    }
+
+    private boolean blocksMovement(int x, int y, int z) {
+        return region.getBlockState(x, y, z).blocksMovement();
+    }
+
+    private class HeadlessPlayer implements PlayerView {
+        double x, y, z;
+        float yaw, pitch;
+        float health = 20.0f;
+        boolean onGround = false;
+        boolean sprinting = false;
+        boolean horizontalCollision = false;
+        int emptySlots = 36;
+
+        HeadlessPlayer(Vec3d pos) {
+            this.x = pos.x;
+            this.y = pos.y;
+            this.z = pos.z;
+        }
+
+        void move() {
+            double forward = (keys.contains(Key.FORWARD) ? 1 : 0) - (keys.contains(Key.BACK) ? 1 : 0);
+            double strafe = (keys.contains(Key.LEFT) ? 1 : 0) - (keys.contains(Key.RIGHT) ? 1 : 0);
+            horizontalCollision = false;
+
+            if (forward != 0 || strafe != 0) {
+                double length = Math.sqrt(forward * forward + strafe * strafe);
+                double speed = (sprinting ? SPRINT_SPEED : WALK_SPEED) / length;
+                double sin = MathHelper.sin(yaw * MathHelper.RADIANS_PER_DEGREE);
+                double cos = MathHelper.cos(yaw * MathHelper.RADIANS_PER_DEGREE);
+
+                double nx = x + (strafe * cos - forward * sin) * speed;
+                double nz = z + (forward * cos + strafe * sin) * speed;
+                int bx = MathHelper.floor(nx), by = MathHelper.floor(y), bz = MathHelper.floor(nz);
+
+                if (!blocksMovement(bx, by, bz) && !blocksMovement(bx, by + 1, bz)) {
+                    x = nx;
+                    z = nz;
+                } else {
+                    horizontalCollision = true;
+                    if (keys.contains(Key.JUMP) && onGround && !blocksMovement(bx, by + 1, bz)
+                            && !blocksMovement(bx, by + 2, bz) && !blocksMovement(MathHelper.floor(x), by + 2, MathHelper.floor(z))) {
+                        x = nx;
+                        y = by + 1;
+                        z = nz;
+                    }
+                }
+            }
+
+            int bx = MathHelper.floor(x), by = MathHelper.floor(y), bz = MathHelper.floor(z);
+            onGround = blocksMovement(bx, by - 1, bz);
+            if (!onGround && region.contains(bx, by - 1, bz)) {
+                y = by - 1;
+            }
+        }
+
+        @Override
+        public Vec3d getPos() {
+            return new Vec3d(x, y, z);
+        }
+
+        @Override
+        public Vec3d getEyePos() {
+            return new Vec3d(x, y + EYE_HEIGHT, z);
+        }
+
+        @Override
+        public BlockPos getBlockPos() {
+            return BlockPos.ofFloored(x, y, z);
+        }
+
+        @Override
+        public Direction getHorizontalFacing() {
+            return Direction.fromRotation(yaw);
+        }
+
+        @Override
+        public float getHealth() {
+            return health;
+        }
+
+        @Override
+        public boolean isOnGround() {
+            return onGround;
+        }
+
+        @Override
+        public boolean isSprinting() {
+            return sprinting;
+        }
+
+        @Override
+        public void setSprinting(boolean sprinting) {
+            this.sprinting = sprinting;
+        }
+
+        @Override
+        public boolean hasHorizontalCollision() {
+            return horizontalCollision;
+        }
+
+        @Override
+        public float getYaw() {
+            return yaw;
+        }
+
+        @Override
+        public float getPitch() {
+            return pitch;
+        }
+
+        @Override
+        public void setYaw(float yaw) {
+            this.yaw = yaw;
+        }
+
+        @Override
+        public void setPitch(float pitch) {
+            this.pitch = pitch;
+        }
+
+        @Override
+        public int getEmptySlots() {
+            return emptySlots;
+        }
+    }
+
+    private static class HeadlessEntity implements EntityView {
+        final int id;
+        final String name;
+        final Kind kind;
+        Vec3d pos;
+        float health;
+        boolean alive = true;
+
+        HeadlessEntity(int id, String name, Kind kind, Vec3d pos, float health) {
+            this.id = id;
+            this.name = name;
+            this.kind = kind;
+            this.pos = pos;
+            this.health = health;
+        }
+
+        @Override
+        public int getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Kind getKind() {
+            return kind;
+        }
+
+        @Override
+        public Vec3d getPos() {
+            return pos;
+        }
+
+        @Override
+        public Vec3d getEyePos() {
+            return pos.add(0, 1.6, 0);
+        }
+
+        @Override
+        public float getHealth() {
+            return health;
+        }
+
+        @Override
+        public boolean isAlive() {
+            return alive;
+        }
+    }
+}
\ No newline at end of file
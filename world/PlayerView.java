@@ -0,0 +1,49 @@
+package com.donut.client.world;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * The local player as seen by macros
+ */
+public interface PlayerView {
+
+    Vec3d getPos();
+
+    Vec3d getEyePos();
+
+    BlockPos getBlockPos();
+
+    Direction getHorizontalFacing();
+
+    float getHealth();
+
+    boolean isOnGround();
+
+    boolean isSprinting();
+
+    void setSprinting(boolean sprinting);
+
+    /**
+     * True if the last movement was stopped by a wall
+     */
+    boolean hasHorizontalCollision();
+
+    float getYaw();
+
+    float getPitch();
+
+    void setYaw(float yaw);
+
+    void setPitch(float pitch);
+
+    /**
+     * Free main inventory slots (hotbar included)
+     */
+    int getEmptySlots();
+
+    default double distanceTo(EntityView entity) {
+        return getPos().distanceTo(entity.getPos());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.donut.client.world;
+
+import com.donut.client.macros.Macro;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Runs a macro against a HeadlessWorld for a fixed number of ticks
+ * - Installs the world in WorldProvider for the duration of the run
+ * - The macro keeps its own throttle interval, exactly as in game
+ * - Same region + timeline + macro settings = same run, tick for tick
+ * - Reports wall time and bytes allocated by the replay thread
+ */
+public class ReplayHarness {
+
+    private ReplayHarness() {}
+
+    public static Result run(HeadlessWorld world, Macro macro, int ticks) {
+        WorldProvider provider = WorldProvider.getInstance();
+        provider.setOverride(world);
+
+        com.sun.management.ThreadMXBean threads = allocationBean();
+        long threadId = Thread.currentThread().getId();
+
+        try {
+            macro.enable();
+
+            long bytesBefore = threads != null ? threads.getThreadAllocatedBytes(threadId) : -1;
+            long start = System.nanoTime();
+
+            for (int i = 0; i < ticks; i++) {
+                world.tick();
+                macro.tick();
+            }
+
+            long nanos = System.nanoTime() - start;
+            long bytes = threads != null ? threads.getThreadAllocatedBytes(threadId) - bytesBefore : -1;
+            return new Result(ticks, nanos, bytes, world.getBrokenBlocks());
+        } finally {
+            macro.disable();
+            provider.setOverride(null);
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocation = (com.sun.management.ThreadMXBean) bean;
+            if (allocation.isThreadAllocatedMemorySupported()) {
+                allocation.setThreadAllocatedMemoryEnabled(true);
+                return allocation;
+            }
+        }
+        return null;
+    }
+
+    public static class Result {
+        public final int ticks;
+        public final long nanos;
+        public final long allocatedBytes;   // -1 if the JVM can't tell
+        public final int brokenBlocks;
+
+        Result(int ticks, long nanos, long allocatedBytes, int brokenBlocks) {
+            this.ticks = ticks;
+            this.nanos = nanos;
+            this.allocatedBytes = allocatedBytes;
+            this.brokenBlocks = brokenBlocks;
+        }
+
+        public double getTicksPerSecond() {
+            return nanos > 0 ? ticks * 1_000_000_000.0 / nanos : 0;
+        }
+
+        public double getBytesPerTick() {
+            return allocatedBytes >= 0 ? (double) allocatedBytes / ticks : -1;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d ticks in %.1fms (%.0f ticks/s, %.0f B/tick, %d blocks broken)",
+                    ticks, nanos / 1_000_000.0, getTicksPerSecond(), getBytesPerTick(), brokenBlocks);
+        }
+    }
+}
\ No newline at end of file
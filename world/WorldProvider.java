@@ -0,0 +1,39 @@
+package com.donut.client.world;
+
+/**
+ * Hands out the WorldView macros should use
+ * - The live client by default
+ * - A headless world while a replay has installed one
+ */
+public class WorldProvider {
+
+    private static WorldProvider instance;
+
+    private final WorldView client = new ClientWorldView();
+    private volatile WorldView override = null;
+
+    private WorldProvider() {}
+
+    public static WorldProvider getInstance() {
+        if (instance == null) {
+            instance = new WorldProvider();
+        }
+        return instance;
+    }
+
+    public WorldView getView() {
+        WorldView view = override;
+        return view != null ? view : client;
+    }
+
+    /**
+     * Route every macro to the given view; null restores the live client
+     */
+    public void setOverride(WorldView view) {
+        this.override = view;
+    }
+
+    public boolean isHeadless() {
+        return override != null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.donut.client.world;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.List;
+
+/**
+ * What a macro reads from and does to the world
+ * - ClientWorldView forwards to the live client
+ * - HeadlessWorld replays saved regions and scripted entities with no client at all
+ * Macros get the current view from WorldProvider instead of MinecraftClient.
+ */
+public interface WorldView {
+
+    enum Key {
+        FORWARD, BACK, LEFT, RIGHT, JUMP, SNEAK
+    }
+
+    /**
+     * True while there is a world and a player to act on
+     */
+    boolean isReady();
+
+    BlockState getBlockState(BlockPos pos);
+
+    default Block getBlock(BlockPos pos) {
+        return getBlockState(pos).getBlock();
+    }
+
+    boolean isChunkLoaded(int chunkX, int chunkZ);
+
+    /**
+     * Lowest and highest block Y the view holds (inclusive)
+     */
+    int getBottomY();
+
+    int getTopY();
+
+    /**
+     * The local player, or null if not ready
+     */
+    PlayerView getPlayer();
+
+    /**
+     * Living entities other than the local player
+     */
+    List<EntityView> getLivingEntities();
+
+    /**
+     * Clock for cooldowns and intervals. Wall time live, tick time headless
+     */
+    long getTimeMillis();
+
+    void setKey(Key key, boolean pressed);
+
+    default void releaseMovementKeys() {
+        setKey(Key.FORWARD, false);
+        setKey(Key.BACK, false);
+        setKey(Key.LEFT, false);
+        setKey(Key.RIGHT, false);
+        setKey(Key.JUMP, false);
+    }
+
+    /**
+     * Hit the block at pos for one tick of breaking progress
+     */
+    void breakBlock(BlockPos pos);
+}
\ No newline at end of file